@@ -0,0 +1,102 @@
+package com.mafiagame.bench;
+
+import com.mafiagame.logic.archive.GameArchiveQuery;
+import com.mafiagame.logic.archive.GameArchiveWriter;
+import com.mafiagame.logic.common.enums.GameMode;
+import com.mafiagame.logic.common.enums.JobType;
+import com.mafiagame.logic.common.enums.Team;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 게임 보관 파일 질의 벤치마크
+ * 모드, 인원, 직업 구성이 섞인 가상의 끝난 게임 games판을 열 단위 파일로 써 두고
+ * "스파이 모드 10인, 도굴꾼 포함" 팀별 승률 질의 한 번의 시간을 잼 (판/초 처리량은 games / 질의 시간).
+ * 집계가 직접 센 값과 같은지는 GameArchiveQueryTest에서 확인
+ *
+ * 사용법: java -jar jmh/target/benchmarks.jar ArchiveQueryBenchmark -p games=10000000
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArchiveQueryBenchmark {
+
+	private static final Team[] TEAMS = Team.values();
+	private static final GameMode[] MODES = GameMode.values();
+	private static final JobType[] JOBS = JobType.values();
+
+	@Param({ "1000000" })
+	public int games;
+
+	private Path directory;
+	private final GameArchiveQuery query = new GameArchiveQuery(GameMode.SPY, 10, JobType.GRAVEROBBER);
+
+	@Setup
+	public void setUp() throws IOException {
+		directory = Files.createTempDirectory("archive-bench");
+		Random random = new Random(42);
+		byte[] roles = new byte[12];
+		byte[] deathDays = new byte[12];
+		byte[] votes = new byte[3 * 12 * 4];
+		try (GameArchiveWriter writer = new GameArchiveWriter(directory)) {
+			for (int g = 0; g < games; g++) {
+				// 서버 방 생성 순서처럼 모드/인원이 구간별로 몰리도록 함 (색인으로 건너뛸 수 있는 그룹이 생김)
+				GameMode mode = MODES[(g / 50_000) % MODES.length];
+				int players = 8 + (g / 20_000) % 5;
+				byte[] gameRoles = players == roles.length ? roles : new byte[players];
+				byte[] gameDeaths = players == deathDays.length ? deathDays : new byte[players];
+				for (int p = 0; p < players; p++) {
+					gameRoles[p] = (byte) JOBS[random.nextInt(JOBS.length)].ordinal();
+					gameDeaths[p] = random.nextInt(3) == 0 ? (byte) (1 + random.nextInt(4)) : 0;
+				}
+				int days = 1 + random.nextInt(4);
+				int voteLength = 0;
+				for (int d = 1; d <= days; d++) {
+					for (int p = 1; p <= players && voteLength + 3 <= votes.length; p++) {
+						votes[voteLength++] = (byte) d;
+						votes[voteLength++] = (byte) p;
+						votes[voteLength++] = (byte) random.nextInt(players + 1);
+					}
+				}
+				int winner = random.nextInt(TEAMS.length + 1); // 0 = 승리 팀 없음
+				writer.append(mode, winner == 0 ? null : TEAMS[winner - 1], days, gameRoles, gameDeaths, votes, voteLength);
+			}
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			for (Path file : (Iterable<Path>) files::iterator) {
+				Files.delete(file);
+			}
+		}
+		Files.delete(directory);
+	}
+
+	@Benchmark
+	public GameArchiveQuery.QueryResult query() throws IOException {
+		return query.run(directory);
+	}
+}
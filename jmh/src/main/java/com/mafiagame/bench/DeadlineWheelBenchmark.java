@@ -0,0 +1,90 @@
+package com.mafiagame.bench;
+
+import com.mafiagame.logic.common.enums.GamePhase;
+import com.mafiagame.logic.game.PhaseDeadline;
+import com.mafiagame.logic.game.PhaseDeadlineService;
+import com.mafiagame.logic.game.Player;
+import com.mafiagame.logic.timer.TimerWheel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 페이즈 마감 시간 등록/취소 비용 측정
+ * 다른 방의 마감 시간 pendingRooms개가 계층형 타이머 휠에 올라가 있는 상태에서 방 하나의 토론 마감 시간을 열고
+ * 조기 종료(finish) 또는 전원 준비 완료(markReady)로 끝내는 비용을 잼.
+ * 만료 시점과 잘못된 실행이 없는지는 PhaseDeadlineServiceTest에서 확인
+ *
+ * 사용법: java -jar jmh/target/benchmarks.jar DeadlineWheelBenchmark -prof gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DeadlineWheelBenchmark {
+
+	private static final int PLAYERS_PER_ROOM = 8;
+	private static final long DEADLINE_MILLIS = TimeUnit.MINUTES.toMillis(10); // 측정 중에는 만료되지 않도록 길게
+	private static final int ROOM_IDS = 1024; // 측정용 방 번호 순환 범위
+
+	@Param({ "0", "50000" })
+	public int pendingRooms;
+
+	private TimerWheel wheel;
+	private PhaseDeadlineService service;
+	private List<Player> participants;
+	private long next;
+
+	@Setup
+	public void setUp() {
+		participants = new ArrayList<>(PLAYERS_PER_ROOM);
+		for (int i = 0; i < PLAYERS_PER_ROOM; i++) {
+			participants.add(new Player("플레이어 " + (i + 1), i + 1, null));
+		}
+		wheel = new TimerWheel("deadline-bench");
+		service = new PhaseDeadlineService(wheel);
+		service.setDeadline(GamePhase.DAY_DISCUSSION, DEADLINE_MILLIS);
+		for (int room = 0; room < pendingRooms; room++) {
+			service.open(ROOM_IDS + room, GamePhase.DAY_DISCUSSION, participants, null);
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		wheel.close();
+	}
+
+	@Benchmark
+	public boolean openAndFinish() {
+		long roomId = next++ % ROOM_IDS;
+		PhaseDeadline deadline = service.open(roomId, GamePhase.DAY_DISCUSSION, participants, null);
+		return service.finish(roomId) && deadline != null;
+	}
+
+	@Benchmark
+	public boolean openAndMarkReady() {
+		long roomId = next++ % ROOM_IDS;
+		service.open(roomId, GamePhase.DAY_DISCUSSION, participants, null);
+		boolean closed = false;
+		for (int p = 0; p < PLAYERS_PER_ROOM; p++) {
+			closed = service.markReady(roomId, p);
+		}
+		return closed;
+	}
+}
@@ -0,0 +1,123 @@
+package com.mafiagame.bench;
+
+import com.mafiagame.logic.common.enums.GameMode;
+import com.mafiagame.logic.common.enums.GamePhase;
+import com.mafiagame.logic.common.enums.Team;
+import com.mafiagame.logic.game.GameManager;
+import com.mafiagame.logic.game.GameSnapshot;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * GameManager 핵심 경로 벤치마크 (게임 모드 x 플레이어 수 4~12)
+ *
+ * 공개 API만 사용하여 게임 설정(직업 목록 생성과 배정), 밤 능력 사용 페이즈(밤 결과 처리 포함),
+ * 추방 페이즈(투표 집계, 승리 조건 판정 포함), 스냅숏/복원, 헤드리스 게임 한 판을 측정하여 처리량과 할당량 회귀를 확인.
+ * 페이즈 측정은 헤드리스로 진행해 그 페이즈에 도달한 게임의 스냅숏을 호출마다 복원한 뒤 runNextPhase() 한 번을 잼
+ * (복원 비용이 포함되므로 restore 결과를 빼면 페이즈만의 비용)
+ *
+ * 간첩 모드는 9명부터라 게임 모드와 인원을 "모드/인원" 한 매개변수로 나열함
+ * 사용법: java -jar jmh/target/benchmarks.jar GameEngineBenchmark -p game=CLASSIC/8,SPY/12 -prof gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameEngineBenchmark {
+
+	private static final int MAX_DAYS = 30;
+	private static final int MAX_ATTEMPTS = 100; // 페이즈에 도달하기 전에 끝나는 게임을 건너뛸 시드 수
+
+	@Param({ "CLASSIC/4", "CLASSIC/5", "CLASSIC/6", "CLASSIC/7", "CLASSIC/8", "CLASSIC/9", "CLASSIC/10", "CLASSIC/11", "CLASSIC/12",
+			"SPY/9", "SPY/10", "SPY/11", "SPY/12" })
+	public String game;
+
+	private GameMode gameMode;
+	private int playerCount;
+	private final Random random = new Random(42);
+	private GameSnapshot night;		// 밤 능력 사용 페이즈 시작 시점
+	private GameSnapshot execution;	// 추방 페이즈 시작 시점
+	private GameManager phaseGame;	// 페이즈 측정용 (호출마다 스냅숏을 복원)
+	private GameManager snapshotGame;	// 추방 페이즈 상태를 유지하는 게임 (snapshot 측정용)
+
+	@Setup
+	public void setUp() {
+		String[] parts = game.split("/");
+		gameMode = GameMode.valueOf(parts[0]);
+		playerCount = Integer.parseInt(parts[1]);
+		night = snapshotAt(GamePhase.NIGHT_ABILITY_USE);
+		execution = snapshotAt(GamePhase.DAY_EXECUTION);
+		phaseGame = GameManager.fromSnapshot(execution, 42L);
+		snapshotGame = GameManager.fromSnapshot(execution, 42L);
+	}
+
+	@Benchmark
+	public GameManager setupGame() {
+		GameManager gameManager = new GameManager(true, random);
+		gameManager.setupGame(playerCount, gameMode);
+		return gameManager;
+	}
+
+	@Benchmark
+	public boolean nightAbilityPhase() {
+		phaseGame.restore(night);
+		return phaseGame.runNextPhase();
+	}
+
+	@Benchmark
+	public boolean executionPhase() {
+		phaseGame.restore(execution);
+		return phaseGame.runNextPhase();
+	}
+
+	@Benchmark
+	public GameSnapshot snapshot() {
+		return snapshotGame.snapshot();
+	}
+
+	@Benchmark
+	public GameManager restore() {
+		phaseGame.restore(execution);
+		return phaseGame;
+	}
+
+	@Benchmark
+	public Team playHeadless() {
+		GameManager gameManager = new GameManager(true, random);
+		gameManager.setupGame(playerCount, gameMode);
+		return gameManager.playHeadless(MAX_DAYS);
+	}
+
+	/**
+	 * 헤드리스로 진행해 phase가 시작되는 시점의 스냅숏 (그 전에 끝나는 게임은 다른 시드로 다시 시도)
+	 */
+	private GameSnapshot snapshotAt(GamePhase phase) {
+		for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+			GameManager gameManager = new GameManager(true, new Random(attempt));
+			gameManager.setupGame(playerCount, gameMode);
+			gameManager.beginGame();
+			while (gameManager.getCurrentPhase() != phase && gameManager.getDayCount() <= MAX_DAYS) {
+				if (!gameManager.runNextPhase()) break;
+			}
+			if (!gameManager.isGameOver() && gameManager.getCurrentPhase() == phase) {
+				return gameManager.snapshot();
+			}
+		}
+		throw new IllegalStateException(phase + "에 도달한 게임이 없습니다 [" + game + "]");
+	}
+}
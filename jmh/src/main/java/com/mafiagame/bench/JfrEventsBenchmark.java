@@ -0,0 +1,61 @@
+package com.mafiagame.bench;
+
+import com.mafiagame.logic.metrics.VoteTallyEvent;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 게임 엔진 JFR 이벤트 비용 측정 (녹화가 꺼져 있을 때 begin/end/shouldCommit 한 번)
+ *
+ * GameManager는 이벤트 객체를 방마다 하나씩 두고 다시 쓰므로 reusedEvent가 실제 방식이고,
+ * newEvent는 호출마다 new로 만드는 이전 방식의 참고 값. 이 벤치마크처럼 이벤트가 메서드 밖으로 나가지 않으면
+ * 탈출 분석이 할당을 없앨 수 있어 -prof gc의 할당이 0으로 보일 수 있지만, 인라인되지 않는 큰 페이즈 처리 메서드에서는 할당이 남음.
+ * 녹화 중 필드 기록과 재사용 시 할당 0은 GameEventsJfrTest에서 확인
+ *
+ * 사용법: java -jar jmh/target/benchmarks.jar JfrEventsBenchmark -prof gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JfrEventsBenchmark {
+
+	private final VoteTallyEvent event = new VoteTallyEvent();
+	private int voters;
+
+	@Benchmark
+	public boolean reusedEvent() {
+		return emit(event);
+	}
+
+	@Benchmark
+	public boolean newEvent() {
+		return emit(new VoteTallyEvent());
+	}
+
+	/**
+	 * GameManager와 같은 순서로 이벤트 하나를 보냄
+	 */
+	private boolean emit(VoteTallyEvent tallyEvent) {
+		tallyEvent.begin();
+		tallyEvent.end();
+		if (tallyEvent.shouldCommit()) {
+			tallyEvent.voters = voters++;
+			tallyEvent.commit();
+			return true;
+		}
+		return false;
+	}
+}
@@ -0,0 +1,107 @@
+package com.mafiagame.bench;
+
+import com.mafiagame.logic.common.enums.DecisionType;
+import com.mafiagame.logic.common.enums.GameMode;
+import com.mafiagame.logic.common.enums.GamePhase;
+import com.mafiagame.logic.game.Player;
+import com.mafiagame.server.GameJournal;
+import com.mafiagame.server.RoomJournal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 게임 저널 추가 비용 측정
+ * 방 rooms개의 결정(밤 능력 대상, 투표)과 페이즈 전환을 돌아가며 작은 세그먼트에 기록함.
+ * 방마다 DECISIONS_PER_GAME번 결정한 뒤 종료하고 새 게임을 시작하므로 세그먼트 넘김과 끝난 세그먼트 삭제가 함께 일어남
+ * (SampleTime 모드라 p99 등 추가 지연 분포가 나옴). 종료하지 않은 방의 복구는 GameJournalTest에서 확인
+ *
+ * 사용법: java -jar jmh/target/benchmarks.jar JournalBenchmark -prof gc
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JournalBenchmark {
+
+	private static final int PLAYERS_PER_ROOM = 8;
+	private static final int SEGMENT_BYTES = 4 * 1024 * 1024; // 세그먼트 넘김과 삭제가 일어나도록 작게
+	private static final int DECISIONS_PER_GAME = 64;
+
+	@Param({ "1000" })
+	public int rooms;
+
+	private Path directory;
+	private GameJournal journal;
+	private RoomJournal[] roomJournals;
+	private int[] decisions;	// 방별 이번 게임의 결정 수
+	private Player[] players;
+	private int next;
+
+	@Setup
+	public void setUp() throws IOException {
+		players = new Player[PLAYERS_PER_ROOM];
+		for (int i = 0; i < PLAYERS_PER_ROOM; i++) {
+			players[i] = new Player("플레이어 " + (i + 1), i + 1, null);
+		}
+		directory = Files.createTempDirectory("journal-bench");
+		journal = GameJournal.open(directory, SEGMENT_BYTES, GameJournal.DEFAULT_SYNC_INTERVAL_MILLIS);
+		roomJournals = new RoomJournal[rooms];
+		decisions = new int[rooms];
+		for (int room = 0; room < rooms; room++) {
+			roomJournals[room] = journal.forRoom(room + 1);
+			roomJournals[room].onGameSetup(room * 31L, GameMode.SPY, PLAYERS_PER_ROOM);
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		journal.close();
+		try (Stream<Path> files = Files.list(directory)) {
+			for (Path file : (Iterable<Path>) files::iterator) {
+				Files.delete(file);
+			}
+		}
+		Files.delete(directory);
+	}
+
+	/**
+	 * 결정 하나 기록 (방마다 4번째 결정 뒤에는 페이즈 전환, 게임이 끝나면 종료와 새 게임 시작도 함께 기록)
+	 */
+	@Benchmark
+	public void decision() {
+		int room = next++ % rooms;
+		if (next == rooms) next = 0;
+		RoomJournal roomJournal = roomJournals[room];
+		int d = decisions[room]++;
+		boolean vote = (d / 4) % 2 == 1;
+		Player target = (room + d) % 7 == 0 ? null : players[(room + d) % PLAYERS_PER_ROOM]; // 가끔 기권
+		roomJournal.onDecision(vote ? DecisionType.VOTE : DecisionType.NIGHT_TARGET, players[d % PLAYERS_PER_ROOM], target);
+		if (d % 4 == 3) {
+			roomJournal.onPhaseTransition(vote ? GamePhase.NIGHT_JOB_CONFIRM_ABILITY : GamePhase.DAY_DISCUSSION, d / 8 + 1);
+		}
+		if (d + 1 == DECISIONS_PER_GAME) {
+			roomJournal.onGameOver(null, null);
+			roomJournal.onGameSetup(room * 31L + d, GameMode.SPY, PLAYERS_PER_ROOM);
+			decisions[room] = 0;
+		}
+	}
+}
@@ -0,0 +1,98 @@
+package com.mafiagame.bench;
+
+import com.mafiagame.logic.bot.MctsDecisionMaker;
+import com.mafiagame.logic.common.enums.DecisionType;
+import com.mafiagame.logic.common.enums.GameMode;
+import com.mafiagame.logic.common.enums.GamePhase;
+import com.mafiagame.logic.game.GameManager;
+import com.mafiagame.logic.game.Player;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * MCTS 봇 결정 지연 벤치마크
+ * 고전 모드 playerCount명 게임의 투표 페이즈 시작 시점에서 살아 있는 첫 플레이어의 투표 대상 결정 한 번을 잼
+ * (SampleTime 모드라 예산 대비 p50/p99/최대 지연이 나옴). 작업 스레드는 서버처럼 공유 풀을 씀
+ *
+ * 사용법: java -jar jmh/target/benchmarks.jar MctsBotBenchmark -p budgetMillis=40 -p workers=4
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MctsBotBenchmark {
+
+	private static final int MAX_DAYS = 30;
+	private static final int MAX_ATTEMPTS = 100; // 투표 페이즈에 도달하기 전에 끝나는 게임을 건너뛸 시드 수
+
+	@Param({ "12" })
+	public int playerCount;
+
+	@Param({ "40" })
+	public long budgetMillis;
+
+	@Param({ "2" })
+	public int workers;
+
+	private ExecutorService pool;
+	private MctsDecisionMaker bot;
+	private GameManager gameManager;
+	private Player chooser;
+	private List<Player> candidates;
+
+	@Setup
+	public void setUp() {
+		pool = MctsDecisionMaker.newWorkerPool(workers);
+		bot = new MctsDecisionMaker(budgetMillis, pool, workers, 42);
+		gameManager = votePhaseGame();
+		candidates = gameManager.getLivingPlayers();
+		chooser = candidates.get(0);
+	}
+
+	@TearDown
+	public void tearDown() {
+		bot.close();
+		pool.shutdownNow();
+	}
+
+	@Benchmark
+	public Player vote() {
+		return bot.choose(DecisionType.VOTE, chooser, candidates, gameManager);
+	}
+
+	/**
+	 * 헤드리스로 진행해 투표 페이즈가 시작되는 시점의 게임 (그 전에 끝나는 게임은 다른 시드로 다시 시도)
+	 */
+	private GameManager votePhaseGame() {
+		for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+			GameManager game = new GameManager(true, new Random(attempt));
+			game.setupGame(playerCount, GameMode.CLASSIC);
+			game.beginGame();
+			while (game.getCurrentPhase() != GamePhase.DAY_VOTE && game.getDayCount() <= MAX_DAYS) {
+				if (!game.runNextPhase()) break;
+			}
+			if (!game.isGameOver() && game.getCurrentPhase() == GamePhase.DAY_VOTE) {
+				return game;
+			}
+		}
+		throw new IllegalStateException(GamePhase.DAY_VOTE + "에 도달한 게임이 없습니다 [" + playerCount + "명]");
+	}
+}
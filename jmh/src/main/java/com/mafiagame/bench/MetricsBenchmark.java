@@ -0,0 +1,80 @@
+package com.mafiagame.bench;
+
+import com.mafiagame.logic.metrics.EngineCounter;
+import com.mafiagame.logic.metrics.EngineMetrics;
+import com.mafiagame.logic.metrics.EngineTimer;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 엔진 계측 기록 비용 측정
+ * 단계 기록(EngineMetrics.record(), 끝 시각 읽기 포함)과 카운터 증가의 호출당 시간을 잼.
+ * GameManager처럼 앞 기록이 돌려준 끝 시각을 다음 기록의 시작 시각으로 쓰므로 기록 하나에 시각 읽기 한 번이 포함됨
+ * (System.nanoTime() 단독 비용은 nanoTime 결과로 따로 보여 줌)
+ *
+ * 계측 객체는 모든 스레드가 공유하므로 -t 4처럼 스레드 수를 늘리면 경합 시의 비용이 나옴.
+ * 할당 0과 기록 수 일치는 EngineMetricsTest에서 확인
+ *
+ * 사용법: java -jar jmh/target/benchmarks.jar MetricsBenchmark -t 4 -prof gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsBenchmark {
+
+	private static final EngineTimer[] TIMERS = EngineTimer.values();
+	private static final EngineCounter[] COUNTERS = EngineCounter.values();
+
+	/**
+	 * 모든 스레드가 공유하는 계측 객체
+	 */
+	@State(Scope.Benchmark)
+	public static class Shared {
+		final EngineMetrics metrics = new EngineMetrics();
+	}
+
+	/**
+	 * 스레드별 진행 상태 (다음 기록의 시작 시각, 순환 위치)
+	 */
+	@State(Scope.Thread)
+	public static class Cursor {
+		long now;
+		int index;
+
+		@Setup
+		public void setUp() {
+			now = System.nanoTime();
+		}
+	}
+
+	@Benchmark
+	public long nanoTime() {
+		return System.nanoTime();
+	}
+
+	@Benchmark
+	public long record(Shared shared, Cursor cursor) {
+		int i = cursor.index++;
+		cursor.now = shared.metrics.record(TIMERS[(i & Integer.MAX_VALUE) % TIMERS.length], cursor.now); // 끝 시각이 다음 기록의 시작 시각
+		return cursor.now;
+	}
+
+	@Benchmark
+	public void increment(Shared shared, Cursor cursor) {
+		int i = cursor.index++;
+		shared.metrics.increment(COUNTERS[(i & Integer.MAX_VALUE) % COUNTERS.length]);
+	}
+}
@@ -0,0 +1,91 @@
+package com.mafiagame.bench;
+
+import com.mafiagame.logic.common.enums.GameMode;
+import com.mafiagame.logic.game.GameManager;
+import com.mafiagame.logic.io.NoOpPlayerIO;
+import com.mafiagame.logic.replay.GameLogReader;
+import com.mafiagame.logic.replay.GameRecorder;
+import com.mafiagame.logic.replay.GameReplayer;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 게임 기록/재현 벤치마크
+ * 헤드리스 게임 LOGS개를 기록해 두고, 게임 하나의 기록 해석(결정 이벤트 끝까지 읽기)과 재현 시간을 잼.
+ * 재현이 원본과 같은지는 GameReplayerTest에서 확인
+ *
+ * 사용법: java -jar jmh/target/benchmarks.jar ReplayBenchmark -p game=SPY/12 -prof gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ReplayBenchmark {
+
+	private static final int MAX_DAYS = 30;
+	private static final int LOGS = 1024;
+
+	@Param({ "CLASSIC/8" })
+	public String game;
+
+	private byte[][] logs;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		String[] parts = game.split("/");
+		GameMode mode = GameMode.valueOf(parts[0]);
+		int playerCount = Integer.parseInt(parts[1]);
+		Random seeds = new Random(42);
+		logs = new byte[LOGS][];
+		for (int i = 0; i < LOGS; i++) {
+			GameManager gameManager = new GameManager(NoOpPlayerIO.INSTANCE, true, seeds.nextLong());
+			GameRecorder recorder = new GameRecorder();
+			gameManager.setRecordListener(recorder);
+			gameManager.setupGame(playerCount, mode);
+			gameManager.playHeadless(MAX_DAYS);
+			logs[i] = recorder.toByteArray();
+		}
+	}
+
+	/**
+	 * 기록 하나의 결정 이벤트를 끝까지 읽음
+	 *
+	 * @return 결정 이벤트 수
+	 */
+	@Benchmark
+	public int decode() {
+		GameLogReader reader = new GameLogReader(nextLog());
+		int events = 0;
+		while (reader.nextDecision()) {
+			events++;
+		}
+		return events;
+	}
+
+	@Benchmark
+	public GameReplayer.ReplayResult replay() {
+		return GameReplayer.replay(nextLog());
+	}
+
+	private byte[] nextLog() {
+		byte[] log = logs[next];
+		next = (next + 1) % LOGS;
+		return log;
+	}
+}
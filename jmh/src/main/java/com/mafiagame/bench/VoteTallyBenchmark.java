@@ -0,0 +1,100 @@
+package com.mafiagame.bench;
+
+import com.mafiagame.logic.game.Player;
+import com.mafiagame.logic.game.VoteTally;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 투표 집계 마이크로벤치마크
+ * 기존 방식(살아있는 대상 x 투표 기록 이중 순회 + HashMap 집계)과 VoteTally 1회 순회를 12, 100, 1000명에서 비교
+ *
+ * 사용법: java -jar jmh/target/benchmarks.jar VoteTallyBenchmark -prof gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class VoteTallyBenchmark {
+
+	@Param({ "12", "100", "1000" })
+	public int playerCount;
+
+	private List<Player> players;
+	private Map<Player, Player> voteRecords;
+	private VoteTally tally;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		players = new ArrayList<>(playerCount);
+		for (int i = 0; i < playerCount; i++) {
+			players.add(new Player("플레이어 " + (i + 1), i + 1, null));
+		}
+		voteRecords = new HashMap<>();
+		for (Player voter : players) {
+			voteRecords.put(voter, players.get(random.nextInt(playerCount)));
+		}
+		tally = new VoteTally(playerCount);
+	}
+
+	@Benchmark
+	public int voteTally() {
+		tally.reset();
+		for (Map.Entry<Player, Player> entry : voteRecords.entrySet()) {
+			Player voter = entry.getKey();
+			int weight = voter.getJob() != null ? voter.getJob().getVoteWeight() : 1;
+			tally.addVote(entry.getValue().getPlayerNumber() - 1, weight);
+		}
+		return tally.getWinnerIndex();
+	}
+
+	/**
+	 * 기존 GameManager.processDayExecutionPhase()의 집계 방식 (비교 기준)
+	 */
+	@Benchmark
+	public int legacyTally() {
+		Map<Player, Integer> voteCounts = new HashMap<>();
+		int maxVotes = 0;
+		for (Player targetPlayer : players) {
+			int currentVotesForTarget = 0;
+			for (Map.Entry<Player, Player> entry : voteRecords.entrySet()) {
+				if (entry.getValue().equals(targetPlayer)) {
+					currentVotesForTarget += (entry.getKey().getJob() instanceof com.mafiagame.logic.job.Politician) ? 2 : 1;
+				}
+			}
+			voteCounts.put(targetPlayer, currentVotesForTarget);
+			if (currentVotesForTarget > maxVotes) {
+				maxVotes = currentVotesForTarget;
+			}
+		}
+		List<Player> mostVotedPlayers = new ArrayList<>();
+		if (maxVotes > 0) {
+			for (Map.Entry<Player, Integer> entry : voteCounts.entrySet()) {
+				if (entry.getValue() == maxVotes) {
+					mostVotedPlayers.add(entry.getKey());
+				}
+			}
+		}
+		return mostVotedPlayers.size() == 1 ? mostVotedPlayers.get(0).getPlayerNumber() - 1 : -1;
+	}
+}
@@ -0,0 +1,45 @@
+package com.mafiagame.logic.archive;
+
+/**
+ * 게임 보관 파일(열 단위 형식)의 레이아웃 상수
+ *
+ * 파일 하나에 끝난 게임 여러 판을 열(column)별로 모아 저장하며, 모든 정수는 빅 엔디언
+ * - 헤더: magic, 버전, 게임 수, 그룹 크기, 그룹 수
+ * - 색인: 파일 요약 1개 + 그룹(groupSize판)별 요약. 요약 = 모드 비트, 승리 팀 비트, 직업 구성 OR/AND, 최소/최대 인원
+ * - 열 위치표: 열마다 파일 안 시작 위치
+ * - 열: 모드, 인원, 승리 팀, 일차, 직업 구성 비트 (각 게임당 고정 크기) + 직업 배정, 사망 일차, 투표 (가변 길이, 위치 배열 포함)
+ *
+ * 질의는 색인으로 파일과 그룹을 건너뛰고, 필요한 고정 크기 열만 읽어 게임 객체를 만들지 않고 집계함
+ */
+final class GameArchiveFormat {
+
+	static final int MAGIC = 0x4D474131; // "MGA1"
+	static final int VERSION = 1;
+
+	static final int HEADER_BYTES = 20;	// magic, 버전, 게임 수, 그룹 크기, 그룹 수
+	static final int SUMMARY_BYTES = 20;	// 모드 비트, 승리 팀 비트, 직업 OR, 직업 AND, 최소 인원(short), 최대 인원(short)
+
+	// 열 번호
+	static final int COL_MODE = 0;			// byte[게임 수]: GameMode ordinal
+	static final int COL_PLAYERS = 1;		// byte[게임 수]: 인원
+	static final int COL_WINNER = 2;		// byte[게임 수]: Team ordinal + 1 (0 = 승리 팀 없음)
+	static final int COL_DAYS = 3;			// byte[게임 수]: 종료 일차
+	static final int COL_ROLE_SET = 4;		// int[게임 수]: 배정된 직업 종류 비트 (JobType ordinal)
+	static final int COL_ROLE_OFFSETS = 5;	// int[게임 수 + 1]: 직업 배정/사망 일차 열의 게임별 시작 위치
+	static final int COL_ROLES = 6;			// byte[플레이어 수 합]: 플레이어 번호 순 JobType ordinal
+	static final int COL_DEATH_DAYS = 7;	// byte[플레이어 수 합]: 사망 일차 (0 = 생존)
+	static final int COL_VOTE_OFFSETS = 8;	// int[게임 수 + 1]: 투표 열의 게임별 시작 위치
+	static final int COL_VOTES = 9;			// byte[투표 수 * 3]: (일차, 투표자 번호, 대상 번호, 0 = 기권)
+	static final int COLUMN_COUNT = 10;
+
+	private GameArchiveFormat() {
+	}
+
+	static String fileName(int index) {
+		return String.format("games-%08d.col", index);
+	}
+
+	static int indexOf(String fileName) {
+		return Integer.parseInt(fileName.substring("games-".length(), fileName.length() - ".col".length()));
+	}
+}
@@ -0,0 +1,218 @@
+package com.mafiagame.logic.archive;
+
+import com.mafiagame.logic.common.enums.GameMode;
+import com.mafiagame.logic.common.enums.JobType;
+import com.mafiagame.logic.common.enums.Team;
+
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 보관된 게임의 승리 팀 집계 질의 (예: 스파이 모드 10인, 도굴꾼 포함 게임의 팀별 승률)
+ *
+ * 파일/그룹 색인으로 조건에 맞는 게임이 없는 부분을 건너뛰고, 그룹의 모든 게임이 조건에 맞으면 승리 팀 열만 세며,
+ * 그 밖에는 모드, 인원, 직업 구성, 승리 팀 열만 읽어 집계함 (직업 배정, 투표 등 가변 길이 열은 읽지 않음)
+ */
+public class GameArchiveQuery {
+
+	private static final Team[] TEAMS = Team.values();
+
+	private final GameMode gameMode;	// 모드 조건 (null이면 모든 모드)
+	private final int playerCount;		// 인원 조건 (0이면 모든 인원)
+	private final int requiredRoles;	// 반드시 포함해야 하는 직업 비트
+
+	/**
+	 * @param gameMode      모드 조건 (null이면 모든 모드)
+	 * @param playerCount   인원 조건 (0이면 모든 인원)
+	 * @param requiredRoles 게임에 배정되어 있어야 하는 직업
+	 */
+	public GameArchiveQuery(GameMode gameMode, int playerCount, JobType... requiredRoles) {
+		this.gameMode = gameMode;
+		this.playerCount = playerCount;
+		int roles = 0;
+		for (JobType role : requiredRoles) {
+			roles |= 1 << role.ordinal();
+		}
+		this.requiredRoles = roles;
+	}
+
+	/**
+	 * 디렉터리의 모든 보관 파일에 질의 실행
+	 *
+	 * @param directory GameArchiveWriter가 쓴 디렉터리
+	 * @return 집계 결과
+	 */
+	public QueryResult run(Path directory) throws IOException {
+		QueryResult result = new QueryResult();
+		long start = System.nanoTime();
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "games-*.col")) {
+			for (Path file : stream) {
+				scanFile(file, result);
+			}
+		}
+		result.elapsedNanos = System.nanoTime() - start;
+		return result;
+	}
+
+	private void scanFile(Path file, QueryResult result) throws IOException {
+		MappedByteBuffer buffer;
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+		if (buffer.getInt(0) != GameArchiveFormat.MAGIC || buffer.getInt(4) != GameArchiveFormat.VERSION) {
+			throw new IOException("보관 파일 형식이 아닙니다: " + file);
+		}
+		int n = buffer.getInt(8);
+		int groupSize = buffer.getInt(12);
+		int groupCount = buffer.getInt(16);
+		result.files++;
+		int summaries = GameArchiveFormat.HEADER_BYTES;
+		if (!mayMatch(buffer, summaries)) {
+			result.filesSkipped++;
+			result.gamesSkipped += n;
+			return;
+		}
+
+		int columnTable = summaries + (groupCount + 1) * GameArchiveFormat.SUMMARY_BYTES;
+		int modeAt = buffer.getInt(columnTable + GameArchiveFormat.COL_MODE * 4);
+		int playersAt = buffer.getInt(columnTable + GameArchiveFormat.COL_PLAYERS * 4);
+		int winnerAt = buffer.getInt(columnTable + GameArchiveFormat.COL_WINNER * 4);
+		int roleSetAt = buffer.getInt(columnTable + GameArchiveFormat.COL_ROLE_SET * 4);
+
+		byte[] modes = new byte[groupSize];
+		byte[] players = new byte[groupSize];
+		byte[] winners = new byte[groupSize];
+		int[] roleSets = new int[groupSize];
+		IntBuffer roleSetColumn = buffer.slice(roleSetAt, n * 4).asIntBuffer();
+		int targetMode = gameMode != null ? gameMode.ordinal() : -1;
+
+		for (int group = 0; group < groupCount; group++) {
+			int summary = summaries + (group + 1) * GameArchiveFormat.SUMMARY_BYTES;
+			int from = group * groupSize;
+			int count = Math.min(groupSize, n - from);
+			if (!mayMatch(buffer, summary)) {
+				result.groupsSkipped++;
+				result.gamesSkipped += count;
+				continue;
+			}
+			buffer.get(winnerAt + from, winners, 0, count);
+			result.gamesScanned += count;
+			if (allMatch(buffer, summary)) { // 그룹 전체가 조건에 맞으면 승리 팀만 셈
+				for (int i = 0; i < count; i++) {
+					result.winners[winners[i]]++;
+				}
+				continue;
+			}
+			buffer.get(modeAt + from, modes, 0, count);
+			buffer.get(playersAt + from, players, 0, count);
+			roleSetColumn.get(from, roleSets, 0, count);
+			for (int i = 0; i < count; i++) {
+				if ((targetMode < 0 || modes[i] == targetMode)
+						&& (playerCount == 0 || players[i] == playerCount)
+						&& (roleSets[i] & requiredRoles) == requiredRoles) {
+					result.winners[winners[i]]++;
+				}
+			}
+		}
+	}
+
+	/**
+	 * 요약 범위에 조건에 맞는 게임이 있을 수 있는지
+	 */
+	private boolean mayMatch(MappedByteBuffer buffer, int summary) {
+		int modeBits = buffer.getInt(summary);
+		int roleOr = buffer.getInt(summary + 8);
+		int minPlayers = buffer.getShort(summary + 16);
+		int maxPlayers = buffer.getShort(summary + 18);
+		return (gameMode == null || (modeBits & (1 << gameMode.ordinal())) != 0)
+				&& (playerCount == 0 || (minPlayers <= playerCount && playerCount <= maxPlayers))
+				&& (roleOr & requiredRoles) == requiredRoles;
+	}
+
+	/**
+	 * 요약 범위의 모든 게임이 조건에 맞는지
+	 */
+	private boolean allMatch(MappedByteBuffer buffer, int summary) {
+		int modeBits = buffer.getInt(summary);
+		int roleAnd = buffer.getInt(summary + 12);
+		int minPlayers = buffer.getShort(summary + 16);
+		int maxPlayers = buffer.getShort(summary + 18);
+		return (gameMode == null || modeBits == 1 << gameMode.ordinal())
+				&& (playerCount == 0 || (minPlayers == playerCount && maxPlayers == playerCount))
+				&& (roleAnd & requiredRoles) == requiredRoles;
+	}
+
+	/**
+	 * 질의 결과 (팀별 승리 수, 무승부 수, 건너뛴 파일/그룹 수)
+	 */
+	public static class QueryResult {
+		private final long[] winners = new long[TEAMS.length + 1]; // [0] = 승리 팀 없음, [ordinal + 1] = 팀
+		private int files;
+		private int filesSkipped;
+		private int groupsSkipped;
+		private long gamesScanned;
+		private long gamesSkipped;
+		private long elapsedNanos;
+
+		/**
+		 * 조건에 맞는 게임 수
+		 */
+		public long getGames() {
+			long total = 0;
+			for (long count : winners) {
+				total += count;
+			}
+			return total;
+		}
+
+		public long getWins(Team team) {
+			return winners[team.ordinal() + 1];
+		}
+
+		public long getDraws() {
+			return winners[0];
+		}
+
+		/**
+		 * 팀 승률 (조건에 맞는 게임이 없으면 0)
+		 */
+		public double getWinRate(Team team) {
+			long games = getGames();
+			return games == 0 ? 0 : (double) getWins(team) / games;
+		}
+
+		public int getFiles() { return files; }
+
+		public int getFilesSkipped() { return filesSkipped; }
+
+		public int getGroupsSkipped() { return groupsSkipped; }
+
+		/**
+		 * 색인으로 건너뛰지 않고 읽은 게임 수
+		 */
+		public long getGamesScanned() { return gamesScanned; }
+
+		public long getGamesSkipped() { return gamesSkipped; }
+
+		public long getElapsedNanos() { return elapsedNanos; }
+
+		@Override
+		public String toString() {
+			StringBuilder sb = new StringBuilder();
+			long games = getGames();
+			sb.append(String.format("조건에 맞는 게임 %d판 (파일 %d개 중 %d개, 그룹 %d개 건너뜀, %.1f ms)%n",
+					games, files, filesSkipped, groupsSkipped, elapsedNanos / 1_000_000.0));
+			for (Team team : TEAMS) {
+				sb.append(String.format("  %s 승리: %d판 (%.1f%%)%n", team, getWins(team), getWinRate(team) * 100));
+			}
+			sb.append(String.format("  무승부: %d판%n", getDraws()));
+			return sb.toString();
+		}
+	}
+}
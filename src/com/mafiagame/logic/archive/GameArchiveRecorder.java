@@ -0,0 +1,107 @@
+package com.mafiagame.logic.archive;
+
+import com.mafiagame.logic.common.enums.DecisionType;
+import com.mafiagame.logic.common.enums.GameMode;
+import com.mafiagame.logic.common.enums.GamePhase;
+import com.mafiagame.logic.common.enums.Team;
+import com.mafiagame.logic.game.GameManager;
+import com.mafiagame.logic.game.GameRecordListener;
+import com.mafiagame.logic.game.Player;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 게임 한 판의 모드, 직업 배정, 일차별 사망, 투표, 승리 팀을 모아 끝나면 GameArchiveWriter에 넘기는 수신자
+ *
+ * 직업 배정은 배정 직후(첫 결정이나 페이즈 전환 시점) 한 번 읽어 두므로 도굴 등으로 바뀐 직업이 아닌 처음 직업이 남음.
+ * 시작(onGameSetup)을 받지 못한 게임(저널에서 복구한 방 등)은 기록이 불완전하므로 보관하지 않음
+ *
+ * 사용 예: gameManager.setRecordListener(new GameArchiveRecorder(writer, gameManager));
+ */
+public class GameArchiveRecorder implements GameRecordListener {
+
+	private final GameArchiveWriter writer;
+	private final GameManager gameManager;
+
+	private GameMode gameMode;
+	private byte[] roles;		// 처음 배정된 직업 (null이면 아직 읽지 않음)
+	private byte[] deathDays;	// 사망 일차 (0 = 생존)
+	private byte[] votes = new byte[96];
+	private int voteLength;
+	private int dayCount = 1;	// 진행 중인 페이즈의 일차
+
+	/**
+	 * @param writer      끝난 게임을 넘길 기록기 (여러 게임이 공유)
+	 * @param gameManager 기록할 게임 (직업과 생존 여부 확인용)
+	 */
+	public GameArchiveRecorder(GameArchiveWriter writer, GameManager gameManager) {
+		this.writer = writer;
+		this.gameManager = gameManager;
+	}
+
+	@Override
+	public void onGameSetup(long seed, GameMode gameMode, int playerCount) {
+		this.gameMode = gameMode;
+		this.roles = null;
+		this.deathDays = new byte[playerCount];
+		this.voteLength = 0;
+		this.dayCount = 1;
+	}
+
+	@Override
+	public void onDecision(DecisionType type, Player chooser, Player chosen) {
+		if (gameMode == null) return;
+		captureRoles();
+		if (type != DecisionType.VOTE || chooser == null) return;
+		if (voteLength + 3 > votes.length) {
+			votes = Arrays.copyOf(votes, votes.length * 2);
+		}
+		votes[voteLength++] = (byte) dayCount;
+		votes[voteLength++] = (byte) chooser.getPlayerNumber();
+		votes[voteLength++] = (byte) (chosen != null ? chosen.getPlayerNumber() : 0); // 0 = 기권
+	}
+
+	@Override
+	public void onPhaseTransition(GamePhase nextPhase, int nextDayCount) {
+		if (gameMode == null) return;
+		captureRoles();
+		captureDeaths();
+		this.dayCount = nextDayCount;
+	}
+
+	@Override
+	public void onGameOver(GameManager gameManager, Team winningTeam) {
+		if (gameMode == null) return;
+		captureRoles();
+		captureDeaths();
+		try {
+			writer.append(gameMode, winningTeam, gameManager.getDayCount(), roles, deathDays, votes, voteLength);
+		} catch (RuntimeException e) { // 보관은 분석용이므로 실패해도 방의 게임 진행에는 영향을 주지 않음
+			System.err.println("오류: 끝난 게임을 보관할 수 없습니다 - " + e);
+		}
+		gameMode = null; // 한 판만 기록
+	}
+
+	private void captureRoles() {
+		if (roles != null) return;
+		List<Player> players = gameManager.getAllPlayers();
+		roles = new byte[players.size()];
+		for (int i = 0; i < roles.length; i++) {
+			Player p = players.get(i);
+			roles[i] = (byte) (p.getJob() != null ? p.getJob().getJobType().ordinal() : 0);
+		}
+	}
+
+	/**
+	 * 지난 확인 이후 새로 사망한 플레이어를 진행 중인 일차에 사망한 것으로 기록
+	 */
+	private void captureDeaths() {
+		List<Player> players = gameManager.getAllPlayers();
+		for (int i = 0; i < deathDays.length && i < players.size(); i++) {
+			if (deathDays[i] == 0 && !players.get(i).isAlive()) {
+				deathDays[i] = (byte) dayCount;
+			}
+		}
+	}
+}
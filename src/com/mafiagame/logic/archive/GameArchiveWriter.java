@@ -0,0 +1,419 @@
+package com.mafiagame.logic.archive;
+
+import com.mafiagame.logic.common.enums.GameMode;
+import com.mafiagame.logic.common.enums.Team;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 끝난 게임을 열 단위 보관 파일로 모아 쓰는 기록기 (여러 방에서 동시에 append 가능)
+ *
+ * 게임을 메모리의 열 버퍼에 모았다가 gamesPerFile판이 차거나 flush()/close() 시 가득 찬 버퍼를 전용 쓰기 스레드에 넘기고,
+ * 쓰기 스레드가 파일 하나로 씀 (append는 잠금 안에서 열 버퍼에 복사만 하며 직렬화, force()를 기다리지 않음).
+ * 쓰기를 기다리는 버퍼는 MAX_PENDING_FILES개까지만 두어 메모리를 제한하고, 디스크가 그만큼 밀리면 append가 기다림.
+ * 파일은 임시 이름으로 쓴 뒤 이름을 바꾸므로 질의는 완성된 파일만 읽고, 한 번 쓴 파일은 바뀌지 않음.
+ * 쓰기 실패는 쓰기 스레드가 System.err에 남기고 그 파일의 게임을 버리며, 다음 flush()/close()가 IOException으로 알림
+ */
+public class GameArchiveWriter implements AutoCloseable {
+
+	public static final int DEFAULT_GAMES_PER_FILE = 1 << 20;
+	public static final int DEFAULT_GROUP_SIZE = 4096;
+	public static final int MAX_PENDING_FILES = 2; // 쓰기 스레드에 넘겼지만 아직 쓰지 않은 버퍼 수 상한
+
+	private final Path directory;
+	private final int gamesPerFile;
+	private final int groupSize;
+	private int nextFileIndex;		// 다음에 넘길 버퍼의 파일 번호 (lock: this)
+	private ColumnBuffer current;	// 모으는 중인 버퍼 (lock: this)
+	private boolean closed;			// (lock: this)
+
+	private final BlockingQueue<ColumnBuffer> pending = new ArrayBlockingQueue<>(MAX_PENDING_FILES); // 쓸 버퍼 (파일 번호 순)
+	private final BlockingQueue<ColumnBuffer> spare = new ArrayBlockingQueue<>(MAX_PENDING_FILES + 1); // 다 쓴 버퍼 (재사용)
+	private final Thread writerThread;
+	private final Object enqueueLock = new Object();
+	private int enqueuedFileIndex;	// 다음에 쓰기 스레드에 넘길 파일 번호 (lock: enqueueLock)
+
+	// 쓰기 진행 (lock: progress)
+	private final Object progress = new Object();
+	private int writtenFileIndex;	// 쓰기를 마친(실패 포함) 다음 파일 번호
+	private IOException failure;	// 마지막 flush() 이후 쓰기 실패 (없으면 null)
+
+	/**
+	 * 기본 설정(파일당 1,048,576판, 그룹당 4,096판)으로 생성
+	 *
+	 * @param directory 보관 파일 디렉터리 (없으면 생성)
+	 */
+	public GameArchiveWriter(Path directory) throws IOException {
+		this(directory, DEFAULT_GAMES_PER_FILE, DEFAULT_GROUP_SIZE);
+	}
+
+	/**
+	 * @param directory    보관 파일 디렉터리 (없으면 생성, 기존 파일 다음 번호부터 씀)
+	 * @param gamesPerFile 파일 하나에 모을 게임 수
+	 * @param groupSize    색인 그룹 하나의 게임 수 (질의가 건너뛸 수 있는 단위)
+	 */
+	public GameArchiveWriter(Path directory, int gamesPerFile, int groupSize) throws IOException {
+		if (gamesPerFile <= 0 || groupSize <= 0) {
+			throw new IllegalArgumentException("파일당 게임 수와 그룹 크기는 1 이상이어야 합니다.");
+		}
+		this.directory = directory;
+		this.gamesPerFile = gamesPerFile;
+		this.groupSize = groupSize;
+		Files.createDirectories(directory);
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "games-*.col")) {
+			for (Path file : stream) {
+				nextFileIndex = Math.max(nextFileIndex, GameArchiveFormat.indexOf(file.getFileName().toString()) + 1);
+			}
+		}
+		this.enqueuedFileIndex = nextFileIndex;
+		this.writtenFileIndex = nextFileIndex;
+		this.current = new ColumnBuffer(Math.min(gamesPerFile, 4096));
+		this.writerThread = new Thread(this::writeLoop, "game-archive-writer");
+		this.writerThread.setDaemon(true);
+		this.writerThread.start();
+	}
+
+	/**
+	 * 끝난 게임 한 판 추가 (버퍼가 차면 쓰기 스레드에 넘김, 쓰기를 기다리는 버퍼가 MAX_PENDING_FILES개면 자리가 날 때까지 기다림)
+	 *
+	 * @param gameMode    게임 모드
+	 * @param winningTeam 승리 팀 (무승부면 null)
+	 * @param dayCount    종료 일차
+	 * @param roles       플레이어 번호 순 처음 배정된 직업 (JobType ordinal, 길이 = 인원)
+	 * @param deathDays   플레이어 번호 순 사망 일차 (0 = 생존, 길이 = 인원)
+	 * @param votes       투표 기록 (일차, 투표자 번호, 대상 번호) 반복
+	 * @param voteLength  votes에서 사용할 바이트 수 (3의 배수)
+	 * @throws IllegalStateException 기록기가 닫힌 경우
+	 */
+	public void append(GameMode gameMode, Team winningTeam, int dayCount, byte[] roles, byte[] deathDays,
+			byte[] votes, int voteLength) {
+		ColumnBuffer full;
+		synchronized (this) {
+			if (closed) throw new IllegalStateException("게임 보관 기록기가 닫혔습니다.");
+			current.add(gameMode, winningTeam, dayCount, roles, deathDays, votes, voteLength, gamesPerFile);
+			if (current.gameCount < gamesPerFile) return;
+			full = seal();
+		}
+		enqueue(full);
+	}
+
+	/**
+	 * 모으는 중인 버퍼에 파일 번호를 붙여 떼어 내고 새(또는 재사용) 버퍼로 바꿈 (lock: this)
+	 */
+	private ColumnBuffer seal() {
+		ColumnBuffer full = current;
+		full.fileIndex = nextFileIndex++;
+		ColumnBuffer next = spare.poll();
+		current = next != null ? next : new ColumnBuffer(Math.min(gamesPerFile, 4096));
+		return full;
+	}
+
+	/**
+	 * 쓰기 스레드에 버퍼를 넘김 (this 잠금 밖에서 기다리며, 파일 번호 순서를 지키도록 넘기는 쪽끼리는 enqueueLock으로 줄 세움)
+	 * 게임을 버리지 않도록 인터럽트되어도 넘길 때까지 기다린 뒤 인터럽트 상태를 되돌림
+	 */
+	private void enqueue(ColumnBuffer full) {
+		boolean interrupted = false;
+		synchronized (enqueueLock) {
+			while (true) {
+				try {
+					if (enqueuedFileIndex != full.fileIndex) {
+						enqueueLock.wait();
+						continue;
+					}
+					pending.put(full);
+					break;
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			enqueuedFileIndex++;
+			enqueueLock.notifyAll();
+		}
+		if (interrupted) Thread.currentThread().interrupt();
+	}
+
+	/**
+	 * 쓰기 스레드: 넘겨받은 버퍼를 순서대로 파일로 쓰고 재사용 목록에 돌려줌 (실패는 기록하고 계속)
+	 */
+	private void writeLoop() {
+		while (true) {
+			ColumnBuffer buffer;
+			try {
+				buffer = pending.take();
+			} catch (InterruptedException e) {
+				return; // close(): 남은 버퍼를 모두 쓴 뒤에만 인터럽트됨
+			}
+			IOException error = null;
+			try {
+				write(buffer);
+			} catch (IOException | RuntimeException e) {
+				error = e instanceof IOException ? (IOException) e : new IOException(e);
+				System.err.println("오류: 게임 보관 파일을 쓸 수 없어 " + buffer.gameCount + "판을 버립니다 - " + e);
+			}
+			int fileIndex = buffer.fileIndex;
+			buffer.clear();
+			spare.offer(buffer);
+			synchronized (progress) {
+				writtenFileIndex = fileIndex + 1;
+				if (error != null) failure = error;
+				progress.notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * 모아 둔 게임을 쓰기 스레드에 넘기고 지금까지 넘긴 버퍼가 모두 파일로 써질 때까지 기다림
+	 *
+	 * @throws IOException 마지막 flush() 이후 쓰기에 실패한 파일이 있는 경우 (그 파일의 게임은 버려짐)
+	 */
+	public void flush() throws IOException {
+		ColumnBuffer full = null;
+		int target;
+		synchronized (this) {
+			if (current.gameCount > 0) {
+				full = seal();
+			}
+			target = nextFileIndex;
+		}
+		if (full != null) {
+			enqueue(full);
+		}
+		synchronized (progress) {
+			while (writtenFileIndex < target) {
+				try {
+					progress.wait();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new InterruptedIOException("게임 보관 파일 쓰기를 기다리는 중 인터럽트되었습니다.");
+				}
+			}
+			IOException error = failure;
+			failure = null;
+			if (error != null) throw error;
+		}
+	}
+
+	/**
+	 * 버퍼 하나를 파일로 씀 (쓰기 스레드)
+	 * 헤더, 색인, 열 위치표와 int 열만 빅 엔디언으로 변환하고 byte 열은 버퍼 배열을 그대로 모아 씀(gather write)
+	 */
+	private void write(ColumnBuffer b) throws IOException {
+		int n = b.gameCount;
+		int groupCount = (n + groupSize - 1) / groupSize;
+
+		int columnsStart = GameArchiveFormat.HEADER_BYTES + (groupCount + 1) * GameArchiveFormat.SUMMARY_BYTES
+				+ GameArchiveFormat.COLUMN_COUNT * 4;
+		int[] columnBytes = new int[GameArchiveFormat.COLUMN_COUNT];
+		columnBytes[GameArchiveFormat.COL_MODE] = n;
+		columnBytes[GameArchiveFormat.COL_PLAYERS] = n;
+		columnBytes[GameArchiveFormat.COL_WINNER] = n;
+		columnBytes[GameArchiveFormat.COL_DAYS] = n;
+		columnBytes[GameArchiveFormat.COL_ROLE_SET] = n * 4;
+		columnBytes[GameArchiveFormat.COL_ROLE_OFFSETS] = (n + 1) * 4;
+		columnBytes[GameArchiveFormat.COL_ROLES] = b.roleBytes;
+		columnBytes[GameArchiveFormat.COL_DEATH_DAYS] = b.roleBytes;
+		columnBytes[GameArchiveFormat.COL_VOTE_OFFSETS] = (n + 1) * 4;
+		columnBytes[GameArchiveFormat.COL_VOTES] = b.voteBytes;
+		long total = columnsStart;
+		for (int bytes : columnBytes) {
+			total += bytes;
+		}
+		if (total > Integer.MAX_VALUE) {
+			throw new IOException("보관 파일이 너무 큽니다. 파일당 게임 수를 줄이세요.");
+		}
+
+		ByteBuffer head = ByteBuffer.allocate(columnsStart);
+		head.putInt(GameArchiveFormat.MAGIC).putInt(GameArchiveFormat.VERSION).putInt(n).putInt(groupSize).putInt(groupCount);
+		putSummary(head, b, 0, n);
+		for (int group = 0; group < groupCount; group++) {
+			putSummary(head, b, group * groupSize, Math.min(n, (group + 1) * groupSize));
+		}
+		int offset = columnsStart;
+		for (int bytes : columnBytes) {
+			head.putInt(offset);
+			offset += bytes;
+		}
+		head.flip();
+		ByteBuffer[] parts = {
+				head,
+				ByteBuffer.wrap(b.modes, 0, n),
+				ByteBuffer.wrap(b.playerCounts, 0, n),
+				ByteBuffer.wrap(b.winners, 0, n),
+				ByteBuffer.wrap(b.days, 0, n),
+				intColumn(b.roleSets, n),
+				intColumn(b.roleOffsets, n + 1),
+				ByteBuffer.wrap(b.roles, 0, b.roleBytes),
+				ByteBuffer.wrap(b.deathDays, 0, b.roleBytes),
+				intColumn(b.voteOffsets, n + 1),
+				ByteBuffer.wrap(b.votes, 0, b.voteBytes),
+		};
+
+		Path file = directory.resolve(GameArchiveFormat.fileName(b.fileIndex));
+		Path temp = directory.resolve(file.getFileName() + ".tmp");
+		try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			long remaining = total;
+			while (remaining > 0) {
+				remaining -= channel.write(parts);
+			}
+			channel.force(false);
+		}
+		Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private static ByteBuffer intColumn(int[] values, int length) {
+		ByteBuffer buffer = ByteBuffer.allocate(length * 4);
+		buffer.asIntBuffer().put(values, 0, length);
+		return buffer;
+	}
+
+	/**
+	 * [from, to) 범위 게임의 색인 요약 기록
+	 */
+	private static void putSummary(ByteBuffer buffer, ColumnBuffer b, int from, int to) {
+		int modeBits = 0;
+		int winnerBits = 0;
+		int roleOr = 0;
+		int roleAnd = -1;
+		int minPlayers = Integer.MAX_VALUE;
+		int maxPlayers = 0;
+		for (int g = from; g < to; g++) {
+			modeBits |= 1 << b.modes[g];
+			winnerBits |= 1 << b.winners[g];
+			roleOr |= b.roleSets[g];
+			roleAnd &= b.roleSets[g];
+			minPlayers = Math.min(minPlayers, b.playerCounts[g]);
+			maxPlayers = Math.max(maxPlayers, b.playerCounts[g]);
+		}
+		buffer.putInt(modeBits).putInt(winnerBits).putInt(roleOr).putInt(roleAnd)
+				.putShort((short) minPlayers).putShort((short) maxPlayers);
+	}
+
+	/**
+	 * 아직 파일로 쓰지 않은 게임 수 (모으는 중인 게임 + 쓰기를 기다리는 버퍼의 게임, 쓰는 중인 버퍼 제외)
+	 */
+	public int getPendingCount() {
+		int count;
+		synchronized (this) {
+			count = current.gameCount;
+		}
+		for (ColumnBuffer buffer : pending) {
+			count += buffer.gameCount;
+		}
+		return count;
+	}
+
+	public Path getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * 모아 둔 게임을 모두 쓰고 쓰기 스레드를 멈춤 (이후 append는 IllegalStateException)
+	 */
+	@Override
+	public void close() throws IOException {
+		synchronized (this) {
+			if (closed) return;
+			closed = true;
+		}
+		try {
+			flush();
+		} finally {
+			writerThread.interrupt();
+		}
+	}
+
+	/**
+	 * 파일 하나 분량의 열 버퍼 (모으는 동안은 GameArchiveWriter 잠금, 넘긴 뒤에는 쓰기 스레드만 사용)
+	 */
+	private static final class ColumnBuffer {
+		private int fileIndex;
+		private int gameCount;
+		private byte[] modes;
+		private byte[] playerCounts;
+		private byte[] winners;
+		private byte[] days;
+		private int[] roleSets;
+		private int[] roleOffsets;
+		private byte[] roles = new byte[1024];
+		private byte[] deathDays = new byte[1024];
+		private int roleBytes;
+		private int[] voteOffsets;
+		private byte[] votes = new byte[4096];
+		private int voteBytes;
+
+		ColumnBuffer(int initialGames) {
+			this.modes = new byte[initialGames];
+			this.playerCounts = new byte[initialGames];
+			this.winners = new byte[initialGames];
+			this.days = new byte[initialGames];
+			this.roleSets = new int[initialGames];
+			this.roleOffsets = new int[initialGames + 1];
+			this.voteOffsets = new int[initialGames + 1];
+		}
+
+		void add(GameMode gameMode, Team winningTeam, int dayCount, byte[] roles, byte[] deathDays, byte[] votes, int voteLength,
+				int maxGames) {
+			int playerCount = roles.length;
+			ensureGameCapacity(maxGames);
+			int g = gameCount;
+			modes[g] = (byte) gameMode.ordinal();
+			playerCounts[g] = (byte) playerCount;
+			winners[g] = (byte) (winningTeam != null ? winningTeam.ordinal() + 1 : 0);
+			days[g] = (byte) Math.min(dayCount, 255);
+			int roleSet = 0;
+			for (byte role : roles) {
+				roleSet |= 1 << role;
+			}
+			roleSets[g] = roleSet;
+
+			if (roleBytes + playerCount > this.roles.length) {
+				int size = Math.max(this.roles.length * 2, roleBytes + playerCount);
+				this.roles = Arrays.copyOf(this.roles, size);
+				this.deathDays = Arrays.copyOf(this.deathDays, size);
+			}
+			System.arraycopy(roles, 0, this.roles, roleBytes, playerCount);
+			System.arraycopy(deathDays, 0, this.deathDays, roleBytes, playerCount);
+			roleBytes += playerCount;
+			roleOffsets[g + 1] = roleBytes;
+
+			if (voteBytes + voteLength > this.votes.length) {
+				this.votes = Arrays.copyOf(this.votes, Math.max(this.votes.length * 2, voteBytes + voteLength));
+			}
+			System.arraycopy(votes, 0, this.votes, voteBytes, voteLength);
+			voteBytes += voteLength;
+			voteOffsets[g + 1] = voteBytes;
+
+			gameCount++;
+		}
+
+		private void ensureGameCapacity(int maxGames) {
+			if (gameCount < modes.length) return;
+			int size = Math.min(maxGames, modes.length * 2);
+			modes = Arrays.copyOf(modes, size);
+			playerCounts = Arrays.copyOf(playerCounts, size);
+			winners = Arrays.copyOf(winners, size);
+			days = Arrays.copyOf(days, size);
+			roleSets = Arrays.copyOf(roleSets, size);
+			roleOffsets = Arrays.copyOf(roleOffsets, size + 1);
+			voteOffsets = Arrays.copyOf(voteOffsets, size + 1);
+		}
+
+		void clear() {
+			gameCount = 0;
+			roleBytes = 0;
+			voteBytes = 0;
+		}
+	}
+}
@@ -0,0 +1,383 @@
+package com.mafiagame.logic.bot;
+
+import com.mafiagame.logic.common.enums.DecisionType;
+import com.mafiagame.logic.common.enums.GamePhase;
+import com.mafiagame.logic.common.enums.JobType;
+import com.mafiagame.logic.common.enums.Team;
+import com.mafiagame.logic.game.BeliefTracker;
+import com.mafiagame.logic.game.DecisionMaker;
+import com.mafiagame.logic.game.GameManager;
+import com.mafiagame.logic.game.GameSnapshot;
+import com.mafiagame.logic.game.PackedGameState;
+import com.mafiagame.logic.game.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 시간 제한 몬테카를로 트리 탐색(MCTS) 봇
+ *
+ * 결정마다 GameManager.snapshot()을 떠서 작업 스레드 풀에 넘기고, 각 작업 스레드는 자신의 GameManager에 스냅숏을 복원하며
+ * 후보별로 실제 규칙대로 게임 끝까지 무작위 진행(롤아웃)을 반복. 루트 후보 선택은 UCB1, 통계는 스레드별로 따로 쌓았다가
+ * 마감 후 합산(루트 병렬화)하고 가장 많이 시도된 후보를 선택
+ *
+ * 숨겨진 정보: 롤아웃마다 선택하는 플레이어가 모르는 플레이어들의 직업을 생존 여부와 관계없이 한꺼번에 무작위로 섞어서 진행하므로
+ * 실제 직업을 엿보지 않음 (생존자끼리, 사망자끼리 섞으면 모르는 직업이 생존/사망 중 어느 쪽에 있는지가 새어 나감).
+ * 아는 플레이어는 자신, 마피아/간첩 팀이면 같은 팀 동료, 그리고 직업 추정(GameManager.getBeliefTracker())을 켠 게임에서는
+ * 선택하는 플레이어가 확정한 직업(정체 공개, 기자 취재, 경찰 조사 등)이며 이들의 직업은 고정
+ *
+ * 모든 플레이어의 결정을 맡을 수 있으며(GameManager.setDecisionMaker), 결정은 게임 진행 스레드에서 호출됨.
+ * 작업 스레드 풀은 봇마다 만들 수도 있지만(close()로 종료), 봇이 여럿이면 newWorkerPool()로 만든 풀 하나를 생성자에 넘겨 공유
+ */
+public class MctsDecisionMaker implements DecisionMaker, AutoCloseable {
+
+	public static final long DEFAULT_BUDGET_MILLIS = 40;	// 12명 기준 50ms 안에 결정하도록 여유를 둔 기본 예산
+	private static final double EXPLORATION = Math.sqrt(2);	// UCB1 탐색 상수 (보상 범위 0 ~ 1)
+	private static final int MAX_ROLLOUT_DAYS = 30;			// 롤아웃 최대 일차 (초과 시 무승부)
+
+	private final long budgetNanos;		// 결정당 시간 예산
+	private final int workerCount;		// 작업 스레드 수
+	private final ExecutorService workers;
+	private final boolean ownsWorkers;	// 작업 스레드 풀을 이 봇이 만들었는지 (close()에서 종료)
+	private final long seed;			// 롤아웃 시드 기준값
+	private long decisionCount;			// 지금까지 내린 결정 수 (시드 분산용)
+	private SearchStats lastStats;		// 마지막 결정의 탐색 통계
+
+	/**
+	 * 기본 설정 (예산 40ms, 작업 스레드 = 코어 수 - 1)
+	 */
+	public MctsDecisionMaker() {
+		this(DEFAULT_BUDGET_MILLIS, Math.max(1, Runtime.getRuntime().availableProcessors() - 1), System.nanoTime());
+	}
+
+	/**
+	 * 생성자
+	 *
+	 * @param budgetMillis 결정당 시간 예산 (ms)
+	 * @param workerCount  작업 스레드 수
+	 * @param seed         롤아웃 무작위 시드
+	 */
+	public MctsDecisionMaker(long budgetMillis, int workerCount, long seed) {
+		this(budgetMillis, newWorkerPool(workerCount), Math.max(1, workerCount), seed, true);
+	}
+
+	/**
+	 * 공유 작업 스레드 풀을 사용하는 생성자 (풀은 호출한 쪽에서 종료, close()는 풀을 종료하지 않음)
+	 *
+	 * @param budgetMillis 결정당 시간 예산 (ms)
+	 * @param workers      작업 스레드 풀 (여러 봇이 공유 가능)
+	 * @param workerCount  결정마다 풀에 넘길 탐색 작업 수
+	 * @param seed         롤아웃 무작위 시드
+	 */
+	public MctsDecisionMaker(long budgetMillis, ExecutorService workers, int workerCount, long seed) {
+		this(budgetMillis, workers, Math.max(1, workerCount), seed, false);
+	}
+
+	private MctsDecisionMaker(long budgetMillis, ExecutorService workers, int workerCount, long seed, boolean ownsWorkers) {
+		if (workers == null) {
+			throw new IllegalArgumentException("작업 스레드 풀이 없습니다.");
+		}
+		this.budgetNanos = budgetMillis * 1_000_000L;
+		this.workerCount = workerCount;
+		this.workers = workers;
+		this.ownsWorkers = ownsWorkers;
+		this.seed = seed;
+	}
+
+	/**
+	 * 여러 봇이 공유할 수 있는 작업 스레드 풀 생성 (데몬 스레드, 사용이 끝나면 shutdown() 필요)
+	 *
+	 * @param threads 스레드 수
+	 * @return 새 풀
+	 */
+	public static ExecutorService newWorkerPool(int threads) {
+		AtomicInteger threadNumber = new AtomicInteger();
+		return Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+			Thread thread = new Thread(runnable, "mcts-worker-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true); // 풀이 종료되지 않아도 JVM 종료를 막지 않음
+			return thread;
+		});
+	}
+
+	@Override
+	public Player choose(DecisionType type, Player chooser, List<Player> candidates, GameManager gameManager) {
+		if (candidates.size() == 1) return candidates.get(0);
+
+		long deadline = System.nanoTime() + budgetNanos;
+		GameSnapshot snapshot = gameManager.snapshot();
+		int[] candidateNumbers = new int[candidates.size()];
+		for (int i = 0; i < candidateNumbers.length; i++) {
+			candidateNumbers[i] = candidates.get(i).getPlayerNumber();
+		}
+		Team team = chooser.getCurrentTeam();
+		boolean[] known = knownPlayers(snapshot, chooser.getPlayerNumber() - 1, team, gameManager.getBeliefTracker());
+		long decisionSeed = seed + 0x9E3779B97F4A7C15L * ++decisionCount;
+
+		// 1. 작업 스레드마다 독립적인 탐색 (루트 병렬화)
+		List<Future<RootStats>> futures = new ArrayList<>(workerCount);
+		for (int w = 0; w < workerCount; w++) {
+			long workerSeed = decisionSeed ^ (w * 0xBF58476D1CE4E5B9L);
+			futures.add(workers.submit(() -> search(snapshot, type, chooser.getPlayerNumber(), team, known, candidateNumbers, deadline, workerSeed)));
+		}
+
+		// 2. 통계 합산 후 가장 많이 시도된 후보 선택 (동률이면 평균 보상이 높은 후보)
+		RootStats merged = new RootStats(candidateNumbers.length);
+		for (Future<RootStats> future : futures) {
+			try {
+				merged.merge(future.get());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			} catch (ExecutionException e) {
+				System.err.println("오류: MCTS 작업이 실패했습니다 - " + e.getCause());
+			}
+		}
+		int best = merged.mostVisited();
+		lastStats = new SearchStats(merged.totalVisits(), System.nanoTime() - (deadline - budgetNanos), merged.visits.clone(), merged.rewards.clone());
+		return candidates.get(best);
+	}
+
+	/**
+	 * 작업 스레드 하나의 탐색: 마감까지 UCB1로 후보를 골라 롤아웃 반복
+	 */
+	private static RootStats search(GameSnapshot snapshot, DecisionType type, int chooserNumber, Team team, boolean[] known,
+			int[] candidateNumbers, long deadline, long workerSeed) {
+		Random random = new Random(workerSeed);
+		RootStats stats = new RootStats(candidateNumbers.length);
+		RolloutPolicy policy = new RolloutPolicy(snapshot, type, chooserNumber, random);
+		GameManager game = GameManager.fromSnapshot(snapshot, workerSeed);
+		game.setDecisionMaker(policy);
+		PackedGameState base = snapshot.getState();
+		PackedGameState determinized = base.copy();
+
+		while (System.nanoTime() < deadline) {
+			int arm = stats.select();
+
+			// 모르는 직업을 다시 섞은 가상 상태에서 시작
+			determinized.copyFrom(base);
+			shuffleHiddenRoles(determinized, known, random);
+			game.restore(snapshot.withState(determinized));
+			policy.reset(candidateNumbers[arm]);
+
+			int lastDay = snapshot.getDayCount() + MAX_ROLLOUT_DAYS;
+			while (game.runNextPhase()) {
+				if (game.getDayCount() > lastDay) break;
+			}
+			Team winner = game.getWinningTeam();
+			stats.record(arm, winner == null ? 0 : (winner == team ? 1 : 0));
+		}
+		return stats;
+	}
+
+	/**
+	 * 선택하는 플레이어가 직업을 아는 플레이어 (자신, 마피아/간첩 팀이면 같은 팀 동료, 모두에게 공개된 플레이어, 직업 추정기에서 확정된 플레이어)
+	 * 공개된 직업은 스냅숏에 기록되므로 직업 추정기가 없어도 고정됨
+	 * 직업 추정기는 스레드 안전하지 않으므로 게임 진행 스레드에서 호출
+	 *
+	 * @param tracker 직업 추정기 (추적하지 않으면 null, 개인적으로 알게 된 직업만 놓침)
+	 */
+	private static boolean[] knownPlayers(GameSnapshot snapshot, int chooserIndex, Team team, BeliefTracker tracker) {
+		PackedGameState state = snapshot.getState();
+		boolean[] known = new boolean[state.getPlayerCount()];
+		known[chooserIndex] = true;
+		for (int i = 0; i < known.length; i++) {
+			if ((team == Team.MAFIA || team == Team.SPY) && state.getTeam(i) == team) known[i] = true;
+			if (snapshot.isPubliclyRevealed(i)) known[i] = true;
+			if (tracker != null && tracker.isKnown(chooserIndex, i)) known[i] = true;
+		}
+		return known;
+	}
+
+	/**
+	 * 모르는 플레이어 전체의 (직업, 팀, 능력 사용 여부)를 생존 여부와 관계없이 섞음 (Fisher-Yates)
+	 * 아는 플레이어의 직업을 뺀 나머지 직업 구성을 모르는 자리에 균등하게 다시 배정하는 것과 같음
+	 */
+	private static void shuffleHiddenRoles(PackedGameState state, boolean[] known, Random random) {
+		int[] hidden = new int[known.length];
+		int count = 0;
+		for (int i = 0; i < known.length; i++) {
+			if (!known[i]) hidden[count++] = i;
+		}
+		for (int i = count - 1; i > 0; i--) {
+			int a = hidden[i];
+			int b = hidden[random.nextInt(i + 1)];
+			if (a == b) continue;
+			JobType job = state.getJobType(a);
+			Team team = state.getTeam(a);
+			boolean used = state.isAbilityUsed(a);
+			state.setJobType(a, state.getJobType(b));
+			state.setTeam(a, state.getTeam(b));
+			state.setAbilityUsed(a, state.isAbilityUsed(b));
+			state.setJobType(b, job);
+			state.setTeam(b, team);
+			state.setAbilityUsed(b, used);
+		}
+	}
+
+	/**
+	 * 롤아웃 중 모든 선택을 대신하는 정책
+	 *
+	 * 스냅숏을 뜬 페이즈 안에서는 이미 기록된 투표/밤 능력 대상을 그대로 재사용하고, 탐색 중인 결정은 지정된 후보로 고정하며,
+	 * 그 외의 선택은 균등 무작위로 함
+	 */
+	private static final class RolloutPolicy implements DecisionMaker {
+		private final GameSnapshot snapshot;
+		private final DecisionType forcedType;
+		private final int forcedChooserNumber;
+		private final GamePhase firstPhase;
+		private final int firstDay;
+		private final Random random;
+		private int forcedTargetNumber;
+		private boolean forcedUsed;
+
+		RolloutPolicy(GameSnapshot snapshot, DecisionType forcedType, int forcedChooserNumber, Random random) {
+			this.snapshot = snapshot;
+			this.forcedType = forcedType;
+			this.forcedChooserNumber = forcedChooserNumber;
+			this.firstPhase = snapshot.getPhase();
+			this.firstDay = snapshot.getDayCount();
+			this.random = random;
+		}
+
+		void reset(int targetNumber) {
+			this.forcedTargetNumber = targetNumber;
+			this.forcedUsed = false;
+		}
+
+		@Override
+		public Player choose(DecisionType type, Player chooser, List<Player> candidates, GameManager gameManager) {
+			if (gameManager.getCurrentPhase() == firstPhase && gameManager.getDayCount() == firstDay) {
+				int chooserIndex = chooser.getPlayerNumber() - 1;
+				if (!forcedUsed && type == forcedType && chooser.getPlayerNumber() == forcedChooserNumber) {
+					forcedUsed = true;
+					Player forced = findByNumber(candidates, forcedTargetNumber);
+					if (forced != null) return forced;
+				}
+				int recorded = type == DecisionType.VOTE ? snapshot.getVoteTargetIndex(chooserIndex)
+						: type == DecisionType.NIGHT_TARGET ? snapshot.getNightTargetIndex(chooserIndex) : -1;
+				if (recorded >= 0) {
+					Player previous = findByNumber(candidates, recorded + 1);
+					if (previous != null) return previous;
+				}
+			}
+			return candidates.get(random.nextInt(candidates.size()));
+		}
+
+		private static Player findByNumber(List<Player> candidates, int playerNumber) {
+			for (int i = 0; i < candidates.size(); i++) {
+				if (candidates.get(i).getPlayerNumber() == playerNumber) return candidates.get(i);
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * 루트 후보별 시도 횟수와 보상 합
+	 */
+	private static final class RootStats {
+		private final long[] visits;
+		private final double[] rewards;
+		private long total;
+
+		RootStats(int arms) {
+			this.visits = new long[arms];
+			this.rewards = new double[arms];
+		}
+
+		/**
+		 * UCB1: 시도하지 않은 후보를 먼저, 이후 평균 보상 + 탐색 항이 가장 큰 후보
+		 */
+		int select() {
+			int best = 0;
+			double bestScore = Double.NEGATIVE_INFINITY;
+			double logTotal = Math.log(Math.max(1, total));
+			for (int i = 0; i < visits.length; i++) {
+				if (visits[i] == 0) return i;
+				double score = rewards[i] / visits[i] + EXPLORATION * Math.sqrt(logTotal / visits[i]);
+				if (score > bestScore) {
+					bestScore = score;
+					best = i;
+				}
+			}
+			return best;
+		}
+
+		void record(int arm, double reward) {
+			visits[arm]++;
+			rewards[arm] += reward;
+			total++;
+		}
+
+		void merge(RootStats other) {
+			for (int i = 0; i < visits.length; i++) {
+				visits[i] += other.visits[i];
+				rewards[i] += other.rewards[i];
+			}
+			total += other.total;
+		}
+
+		int mostVisited() {
+			int best = 0;
+			for (int i = 1; i < visits.length; i++) {
+				if (visits[i] > visits[best] || (visits[i] == visits[best] && mean(i) > mean(best))) {
+					best = i;
+				}
+			}
+			return best;
+		}
+
+		long totalVisits() {
+			return total;
+		}
+
+		private double mean(int i) {
+			return visits[i] == 0 ? 0 : rewards[i] / visits[i];
+		}
+	}
+
+	/**
+	 * 마지막 결정의 탐색 통계
+	 */
+	public SearchStats getLastSearchStats() {
+		return lastStats;
+	}
+
+	/**
+	 * 결정 하나의 탐색 통계 (롤아웃 수, 소요 시간, 후보별 시도 횟수와 보상 합)
+	 */
+	public static final class SearchStats {
+		private final long rollouts;
+		private final long elapsedNanos;
+		private final long[] visits;
+		private final double[] rewards;
+
+		SearchStats(long rollouts, long elapsedNanos, long[] visits, double[] rewards) {
+			this.rollouts = rollouts;
+			this.elapsedNanos = elapsedNanos;
+			this.visits = visits;
+			this.rewards = rewards;
+		}
+
+		public long getRollouts() { return rollouts; }
+
+		public long getElapsedNanos() { return elapsedNanos; }
+
+		public long getVisits(int candidate) { return visits[candidate]; }
+
+		public double getMeanReward(int candidate) { return visits[candidate] == 0 ? 0 : rewards[candidate] / visits[candidate]; }
+	}
+
+	/**
+	 * 이 봇이 만든 작업 스레드 풀 종료 (생성자로 받은 공유 풀은 종료하지 않음)
+	 */
+	@Override
+	public void close() {
+		if (ownsWorkers) workers.shutdownNow();
+	}
+}
@@ -0,0 +1,15 @@
+package com.mafiagame.logic.common.enums;
+
+/**
+ * 플레이어가 대상을 고르는 결정의 종류
+ */
+public enum DecisionType {
+    // 밤 능력 대상 선택
+    NIGHT_TARGET,
+
+    // 낮 투표 대상 선택
+    VOTE,
+
+    // 테러리스트 동반 탈락 대상 선택
+    TERROR;
+}
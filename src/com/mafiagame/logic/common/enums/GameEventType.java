@@ -0,0 +1,45 @@
+package com.mafiagame.logic.common.enums;
+
+/**
+ * 게임 이벤트 종류 (공개 공지, 개인 결과)
+ */
+public enum GameEventType {
+    // 사망 (대상, 원인 직업: 마피아/늑대인간/테러리스트)
+    DEATH,
+
+    // 치료 성공 (공개: 공격받은 대상 생존, 개인: 의사에게 결과)
+    SAVE,
+
+    // 치료 실패 (치료 대상이 이미 사망, 의사 개인 결과)
+    SAVE_FAILED,
+
+    // 치료 대상이 공격받지 않음 (의사 개인 결과)
+    NOT_ATTACKED,
+
+    // 군인 방어 (대상, 공격한 직업, 직업 공개)
+    BLOCK,
+
+    // 간첩 포섭 (성공 여부, 간첩에게는 대상 직업 포함)
+    RECRUIT,
+
+    // 직업 공개 (기자 취재, 테러로 탈락한 마피아)
+    REVEAL,
+
+    // 기자 사망으로 취재 무효
+    REPORT_VOID,
+
+    // 도굴 (공개: 발생 사실, 개인: 도굴한 직업)
+    GRAVE_ROB,
+
+    // 건달 협박 (건달과 대상에게)
+    INTIMIDATION,
+
+    // 장의사 부검 (장의사에게 사망자의 직업)
+    AUTOPSY,
+
+    // 탐정 추리 (탐정에게 대상이 밤에 지목한 플레이어, 지목하지 않았으면 실패)
+    DETECTION,
+
+    // 직업이 직접 남긴 개인 결과 (GameManager.recordPrivateNightResult)
+    NOTE;
+}
@@ -0,0 +1,18 @@
+package com.mafiagame.logic.common.enums;
+
+/**
+ * 밤 능력 처리 우선순위 (선언 순서대로 처리)
+ */
+public enum NightActionPriority {
+    // 보호 (의사 치료 등)
+    PROTECT,
+
+    // 공격 (마피아, 늑대인간)
+    ATTACK,
+
+    // 상태 변경 (건달 협박, 간첩 포섭)
+    STATUS,
+
+    // 정보 (기자 취재, 장의사 부검 등)
+    INFO;
+}
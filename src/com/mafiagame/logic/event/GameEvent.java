@@ -0,0 +1,57 @@
+package com.mafiagame.logic.event;
+
+import com.mafiagame.logic.common.enums.GameEventType;
+import com.mafiagame.logic.common.enums.JobType;
+
+/**
+ * 게임 이벤트 하나 (GameEventBus 링 버퍼의 슬롯)
+ *
+ * 플레이어는 객체 대신 인덱스(플레이어 번호 - 1)로 가리키며, 해당 없는 값은 -1 또는 null.
+ * 슬롯은 재사용되므로 수신자는 onEvent() 안에서만 읽고 참조를 보관하지 않아야 함
+ */
+public final class GameEvent {
+
+	/** 공개 채널 (모든 플레이어에게 발표) */
+	public static final int PUBLIC = -1;
+
+	long sequence;			// 발행 순번 (0부터 증가)
+	GameEventType type;		// 이벤트 종류
+	int channel;			// 받을 플레이어 인덱스 (공개면 PUBLIC)
+	int actor;				// 행동한 플레이어 인덱스 (의사, 건달, 간첩, 테러리스트 등)
+	int target;				// 대상 플레이어 인덱스
+	JobType jobType;		// 관련 직업 (사망/방어 원인, 공개/포섭/도굴된 직업)
+	boolean success;		// 성공 여부 (포섭)
+	Object payload;			// 직업이 직접 남긴 결과 정보 (NOTE)
+
+	GameEvent() {
+	}
+
+	void set(long sequence, int channel, GameEventType type, int actor, int target, JobType jobType, boolean success, Object payload) {
+		this.sequence = sequence;
+		this.channel = channel;
+		this.type = type;
+		this.actor = actor;
+		this.target = target;
+		this.jobType = jobType;
+		this.success = success;
+		this.payload = payload;
+	}
+
+	public long getSequence() { return sequence; }
+
+	public GameEventType getType() { return type; }
+
+	public int getChannel() { return channel; }
+
+	public boolean isPublic() { return channel == PUBLIC; }
+
+	public int getActor() { return actor; }
+
+	public int getTarget() { return target; }
+
+	public JobType getJobType() { return jobType; }
+
+	public boolean isSuccess() { return success; }
+
+	public Object getPayload() { return payload; }
+}
@@ -0,0 +1,270 @@
+package com.mafiagame.logic.event;
+
+import com.mafiagame.logic.common.enums.GameEventType;
+import com.mafiagame.logic.common.enums.JobType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 게임 이벤트 링 버퍼와 구독 채널
+ *
+ * 이벤트는 미리 할당한 GameEvent 슬롯에 순번대로 기록되고, 채널(공개, 플레이어별)마다 읽은 위치(커서)를 따로 가짐.
+ * 모든 채널이 읽고 지나간 슬롯만 재사용하며, 아직 읽지 않은 이벤트로 버퍼가 가득 차면 덮어쓰지 않고 용량을 두 배로 늘리므로
+ * 같은 플레이어에게 여러 결과가 생겨도 사라지지 않음
+ *
+ * 전달 시점
+ * - 전체 구독자(subscribeAll): 발행 즉시, 발행 순서대로 (분석, 기록용)
+ * - 공개 채널 구독자: dispatchPublic() 호출 시 (낮 공개 발표)
+ * - 플레이어 채널 구독자: dispatchPrivate() 호출 시 (밤 개인 결과 확인)
+ *
+ * 스레드 안전하지 않음 (게임 진행 스레드에서만 사용)
+ */
+public class GameEventBus {
+
+	private static final int DEFAULT_CAPACITY = 64;
+
+	private GameEvent[] ring;		// 이벤트 슬롯 (길이는 2의 거듭제곱)
+	private int mask;				// ring.length - 1
+	private long head;				// 다음에 기록할 순번
+	private long tail;				// 아직 보관 중인 가장 오래된 순번
+	private long publicCursor;		// 공개 채널이 다음에 읽을 순번
+	private long[] privateCursors;	// 플레이어 채널별로 다음에 읽을 순번
+
+	private final List<GameEventListener> allListeners = new ArrayList<>();
+	private final List<GameEventListener> publicListeners = new ArrayList<>();
+	private final List<List<GameEventListener>> playerListeners = new ArrayList<>();
+
+	public GameEventBus() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param capacity 초기 슬롯 수 (2의 거듭제곱으로 올림)
+	 */
+	public GameEventBus(int capacity) {
+		int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+		this.ring = new GameEvent[size];
+		for (int i = 0; i < size; i++) {
+			ring[i] = new GameEvent();
+		}
+		this.mask = size - 1;
+		this.privateCursors = new long[0];
+	}
+
+	/**
+	 * 새 게임 시작: 보관 중인 이벤트를 모두 버리고 플레이어 채널 수를 맞춤 (구독자는 유지)
+	 */
+	public void reset(int playerCount) {
+		for (long seq = tail; seq < head; seq++) {
+			ring[(int) (seq & mask)].payload = null;
+		}
+		head = 0;
+		tail = 0;
+		publicCursor = 0;
+		if (privateCursors.length == playerCount) {
+			Arrays.fill(privateCursors, 0);
+		} else {
+			privateCursors = new long[playerCount];
+		}
+	}
+
+	// --- 구독 ---
+
+	/**
+	 * 모든 이벤트를 발행 즉시 받음
+	 */
+	public void subscribeAll(GameEventListener listener) {
+		allListeners.add(listener);
+	}
+
+	/**
+	 * 공개 이벤트를 발표 시점에 받음
+	 */
+	public void subscribePublic(GameEventListener listener) {
+		publicListeners.add(listener);
+	}
+
+	/**
+	 * 해당 플레이어의 개인 이벤트를 확인 시점에 받음
+	 *
+	 * @param playerIndex 플레이어 인덱스 (플레이어 번호 - 1)
+	 */
+	public void subscribe(int playerIndex, GameEventListener listener) {
+		while (playerListeners.size() <= playerIndex) {
+			playerListeners.add(new ArrayList<>());
+		}
+		playerListeners.get(playerIndex).add(listener);
+	}
+
+	public void unsubscribe(GameEventListener listener) {
+		allListeners.remove(listener);
+		publicListeners.remove(listener);
+		for (List<GameEventListener> listeners : playerListeners) {
+			listeners.remove(listener);
+		}
+	}
+
+	// --- 발행 ---
+
+	/**
+	 * 이벤트 발행
+	 *
+	 * @param channel 받을 플레이어 인덱스 (공개면 GameEvent.PUBLIC)
+	 * @param type    이벤트 종류
+	 * @param actor   행동한 플레이어 인덱스 (없으면 -1)
+	 * @param target  대상 플레이어 인덱스 (없으면 -1)
+	 * @param jobType 관련 직업 (없으면 null)
+	 * @param success 성공 여부
+	 */
+	public void publish(int channel, GameEventType type, int actor, int target, JobType jobType, boolean success) {
+		append(channel, type, actor, target, jobType, success, null, true);
+	}
+
+	/**
+	 * 직업이 직접 남긴 개인 결과 발행 (NOTE)
+	 */
+	public void publishNote(int channel, int actor, Object payload) {
+		append(channel, GameEventType.NOTE, actor, -1, null, false, payload, true);
+	}
+
+	/**
+	 * 상태 복원용 발행: 아직 전달되지 않은 이벤트를 다시 넣으며 전체 구독자에게는 알리지 않음
+	 */
+	public void restorePending(int channel, GameEventType type, int actor, int target, JobType jobType, boolean success, Object payload) {
+		append(channel, type, actor, target, jobType, success, payload, false);
+	}
+
+	private void append(int channel, GameEventType type, int actor, int target, JobType jobType, boolean success, Object payload, boolean notify) {
+		if (channel >= privateCursors.length) {
+			int oldLength = privateCursors.length;
+			privateCursors = Arrays.copyOf(privateCursors, channel + 1);
+			Arrays.fill(privateCursors, oldLength, privateCursors.length, tail); // 새 채널은 보관 중인 가장 오래된 이벤트부터 읽음
+		}
+		if (head - tail == ring.length) {
+			reclaim();
+			if (head - tail == ring.length) grow();
+		}
+		GameEvent event = ring[(int) (head & mask)];
+		event.set(head, channel, type, actor, target, jobType, success, payload);
+		head++;
+		if (notify) {
+			for (int i = 0; i < allListeners.size(); i++) {
+				allListeners.get(i).onEvent(event);
+			}
+		}
+	}
+
+	// --- 전달 ---
+
+	/**
+	 * 아직 전달하지 않은 공개 이벤트를 발행 순서대로 공개 채널 구독자와 sink에 전달
+	 *
+	 * @param sink 추가 수신자 (없으면 null)
+	 * @return 전달한 이벤트 수
+	 */
+	public int dispatchPublic(GameEventListener sink) {
+		int delivered = 0;
+		for (long seq = publicCursor; seq < head; seq++) {
+			GameEvent event = ring[(int) (seq & mask)];
+			if (event.channel != GameEvent.PUBLIC) continue;
+			deliver(event, publicListeners, sink);
+			delivered++;
+		}
+		publicCursor = head;
+		return delivered;
+	}
+
+	/**
+	 * 아직 전달하지 않은 해당 플레이어의 개인 이벤트를 발행 순서대로 전달
+	 *
+	 * @param playerIndex 플레이어 인덱스
+	 * @param sink        추가 수신자 (없으면 null)
+	 * @return 전달한 이벤트 수
+	 */
+	public int dispatchPrivate(int playerIndex, GameEventListener sink) {
+		if (playerIndex >= privateCursors.length) return 0;
+		List<GameEventListener> listeners = playerIndex < playerListeners.size() ? playerListeners.get(playerIndex) : null;
+		int delivered = 0;
+		for (long seq = privateCursors[playerIndex]; seq < head; seq++) {
+			GameEvent event = ring[(int) (seq & mask)];
+			if (event.channel != playerIndex) continue;
+			deliver(event, listeners, sink);
+			delivered++;
+		}
+		privateCursors[playerIndex] = head;
+		return delivered;
+	}
+
+	private static void deliver(GameEvent event, List<GameEventListener> listeners, GameEventListener sink) {
+		if (listeners != null) {
+			for (int i = 0; i < listeners.size(); i++) {
+				listeners.get(i).onEvent(event);
+			}
+		}
+		if (sink != null) sink.onEvent(event);
+	}
+
+	/**
+	 * 아직 해당 채널에 전달되지 않은 이벤트를 발행 순서대로 visitor에 넘김 (커서는 그대로, 스냅숏용)
+	 */
+	public void forEachPending(GameEventListener visitor) {
+		for (long seq = tail; seq < head; seq++) {
+			GameEvent event = ring[(int) (seq & mask)];
+			if (isPending(event)) visitor.onEvent(event);
+		}
+	}
+
+	/**
+	 * 아직 전달되지 않은 이벤트 수
+	 */
+	public int pendingCount() {
+		int count = 0;
+		for (long seq = tail; seq < head; seq++) {
+			if (isPending(ring[(int) (seq & mask)])) count++;
+		}
+		return count;
+	}
+
+	private boolean isPending(GameEvent event) {
+		long cursor = event.channel == GameEvent.PUBLIC ? publicCursor : privateCursors[event.channel];
+		return event.sequence >= cursor;
+	}
+
+	// --- 슬롯 관리 ---
+
+	/**
+	 * 모든 채널이 읽고 지나간 슬롯을 해제 (tail 전진)
+	 */
+	private void reclaim() {
+		long oldest = Math.min(publicCursor, head);
+		for (long cursor : privateCursors) {
+			oldest = Math.min(oldest, cursor);
+		}
+		for (long seq = tail; seq < oldest; seq++) {
+			ring[(int) (seq & mask)].payload = null;
+		}
+		tail = Math.max(tail, oldest);
+	}
+
+	/**
+	 * 읽지 않은 이벤트가 가득 찼으면 순서를 유지한 채 용량을 두 배로
+	 */
+	private void grow() {
+		GameEvent[] larger = new GameEvent[ring.length * 2];
+		int largerMask = larger.length - 1;
+		for (long seq = tail; seq < head; seq++) {
+			larger[(int) (seq & largerMask)] = ring[(int) (seq & mask)];
+		}
+		for (int i = 0; i < larger.length; i++) {
+			if (larger[i] == null) larger[i] = new GameEvent();
+		}
+		ring = larger;
+		mask = largerMask;
+	}
+
+	public int getCapacity() {
+		return ring.length;
+	}
+}
@@ -0,0 +1,14 @@
+package com.mafiagame.logic.event;
+
+/**
+ * 게임 이벤트 수신자 (공개 채널, 플레이어별 채널, 전체 구독)
+ */
+public interface GameEventListener {
+
+	/**
+	 * 이벤트 전달 (같은 채널 안에서는 발행 순서대로 호출)
+	 *
+	 * @param event 이벤트 (슬롯이 재사용되므로 호출 밖에서 보관하지 말 것)
+	 */
+	void onEvent(GameEvent event);
+}
@@ -0,0 +1,309 @@
+package com.mafiagame.logic.game;
+
+import com.mafiagame.logic.common.enums.JobType;
+import com.mafiagame.logic.common.enums.Team;
+import com.mafiagame.logic.job.JobDefinition;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 관찰자(플레이어)별 직업 추정 행렬
+ *
+ * 관찰자마다 [플레이어][직업 종류] 확률 행렬을 float 배열 하나에 이어 붙여 보관. 각 행(플레이어)의 합은 1이고,
+ * 각 열(직업 종류)의 합은 공개된 직업 구성의 기대 인원수가 되도록 정규화(Sinkhorn 반복)함
+ *
+ * 공개 정보(사망, 군인/정치인/테러리스트 정체 공개, 기자 취재, 테러로 탈락한 마피아), 개인 정보(경찰 조사, 간첩 접선/포섭, 도굴),
+ * 투표 기록이 들어올 때마다 해당 행만 조정한 뒤 정규화하며, 모든 갱신은 생성 시 할당한 배열만 사용하므로 객체를 만들지 않음.
+ * copyFrom()으로 같은 인원수의 다른 추정기에 배열 복사만으로 옮길 수 있어 롤아웃마다 추정을 들고 다니기에도 가벼움
+ * 스레드 안전하지 않음 (GameManager와 같은 스레드에서 사용)
+ */
+public class BeliefTracker {
+
+	private static final JobType[] JOB_TYPES = JobType.values();
+	private static final int JOB_TYPE_COUNT = JOB_TYPES.length;
+	private static final Team[] JOB_TEAMS = new Team[JOB_TYPE_COUNT];	// 직업 종류 -> 기본 팀
+	private static final int NORMALIZE_ITERATIONS = 3;	// Sinkhorn 반복 횟수 (행/열 정규화 교대)
+	private static final float VOTE_SIGNAL = 0.25f;		// 투표 한 번이 투표자의 팀 추정을 움직이는 정도
+	private static final float EPSILON = 1e-6f;
+
+	static {
+		for (JobType jobType : JOB_TYPES) {
+			JOB_TEAMS[jobType.ordinal()] = JobDefinition.of(jobType).getTeam();
+		}
+	}
+
+	private final int playerCount;
+	private final float[] beliefs;		// [관찰자][플레이어][직업 종류] 확률
+	private final boolean[] known;		// [관찰자][플레이어] 직업 확정 여부
+	private final float[] knownMass;	// [관찰자][직업 종류] 확정된 플레이어 수
+	private final float[] columnMass;	// [직업 종류] 공개된 직업 구성의 기대 인원수
+	private final float[] columnScale;	// 정규화용 작업 배열 (재사용)
+
+	/**
+	 * 생성자 (reset() 전에는 모든 확률이 0)
+	 *
+	 * @param playerCount 플레이어 수
+	 */
+	public BeliefTracker(int playerCount) {
+		this.playerCount = playerCount;
+		this.beliefs = new float[playerCount * playerCount * JOB_TYPE_COUNT];
+		this.known = new boolean[playerCount * playerCount];
+		this.knownMass = new float[playerCount * JOB_TYPE_COUNT];
+		this.columnMass = new float[JOB_TYPE_COUNT];
+		this.columnScale = new float[JOB_TYPE_COUNT];
+	}
+
+	/**
+	 * 직업 배정 직후 상태로 초기화
+	 *
+	 * 열 합은 모두가 아는 구성만 반영: 마피아/경찰/의사/시민/간첩 수는 그대로, 보조 직업(정보원/늑대인간) 1명은 반반,
+	 * 특수 시민 수는 특수 시민 직업 전체에 고르게 나눔. 각 관찰자는 자신의 직업을, 마피아는 다른 마피아를 알고 시작
+	 *
+	 * @param players 배정이 끝난 플레이어 목록 (플레이어 번호 순)
+	 */
+	public void reset(List<Player> players) {
+		Arrays.fill(columnMass, 0);
+		int supporters = 0;
+		int specialCitizens = 0;
+		JobType[] specialTypes = GameManager.getSpecialCitizenJobTypes();
+		for (int i = 0; i < playerCount; i++) {
+			JobType jobType = players.get(i).getJob().getJobType();
+			if (jobType == JobType.INFORMANT || jobType == JobType.WAREWOLF) {
+				supporters++;
+			} else if (isSpecialCitizen(jobType, specialTypes)) {
+				specialCitizens++;
+			} else {
+				columnMass[jobType.ordinal()]++;
+			}
+		}
+		columnMass[JobType.INFORMANT.ordinal()] += supporters * 0.5f;
+		columnMass[JobType.WAREWOLF.ordinal()] += supporters * 0.5f;
+		for (JobType jobType : specialTypes) {
+			columnMass[jobType.ordinal()] += (float) specialCitizens / specialTypes.length;
+		}
+
+		Arrays.fill(known, false);
+		Arrays.fill(knownMass, 0);
+		for (int observer = 0; observer < playerCount; observer++) {
+			for (int target = 0; target < playerCount; target++) {
+				System.arraycopy(columnMass, 0, beliefs, cell(observer, target, 0), JOB_TYPE_COUNT);
+			}
+			JobType own = players.get(observer).getJob().getJobType();
+			fix(observer, observer, own);
+			if (own == JobType.MAFIA) {
+				for (int target = 0; target < playerCount; target++) {
+					if (players.get(target).getJob().getJobType() == JobType.MAFIA) fix(observer, target, JobType.MAFIA);
+				}
+			}
+			normalize(observer);
+		}
+	}
+
+	/**
+	 * 다른 추정기의 상태를 그대로 복사 (인원수가 같아야 함, 할당 없음)
+	 */
+	public void copyFrom(BeliefTracker other) {
+		if (other.playerCount != playerCount) {
+			throw new IllegalArgumentException("플레이어 수가 다른 추정기는 복사할 수 없습니다.");
+		}
+		System.arraycopy(other.beliefs, 0, beliefs, 0, beliefs.length);
+		System.arraycopy(other.known, 0, known, 0, known.length);
+		System.arraycopy(other.knownMass, 0, knownMass, 0, knownMass.length);
+		System.arraycopy(other.columnMass, 0, columnMass, 0, columnMass.length);
+	}
+
+	// --- 공개 정보 (모든 관찰자) ---
+
+	/**
+	 * 모두에게 직업이 공개됨 (군인 방어, 정치인 처세, 테러리스트, 기자 취재, 테러로 탈락한 마피아)
+	 */
+	public void observePublicReveal(int target, JobType jobType) {
+		for (int observer = 0; observer < playerCount; observer++) {
+			observePrivateReveal(observer, target, jobType);
+		}
+	}
+
+	/**
+	 * 모두가 대상이 해당 팀인지 여부를 알게 됨 (마피아 공격 사망자는 마피아 팀 아님, 테러 탈락자는 마피아 공개 여부)
+	 *
+	 * @param member true면 대상의 기본 팀이 team, false면 아님
+	 */
+	public void observePublicTeamCheck(int target, Team team, boolean member) {
+		for (int observer = 0; observer < playerCount; observer++) {
+			observeTeamCheck(observer, target, team, member);
+		}
+	}
+
+	/**
+	 * 투표 기록 반영: 투표자가 관찰자 기준으로 같은 팀일 가능성이 높은 대상을 지목할수록 투표자가 마피아 팀일 가능성을 낮추고,
+	 * 시민일 가능성이 높은 대상을 지목할수록 높임
+	 */
+	public void observeVote(int voter, int target) {
+		for (int observer = 0; observer < playerCount; observer++) {
+			if (observer == voter || known[observer * playerCount + voter]) continue;
+			float targetMafia = teamBelief(observer, target, Team.MAFIA);
+			float factor = 1 + VOTE_SIGNAL * (1 - 2 * targetMafia);
+			int row = cell(observer, voter, 0);
+			for (int j = 0; j < JOB_TYPE_COUNT; j++) {
+				if (JOB_TEAMS[j] == Team.MAFIA) beliefs[row + j] *= factor;
+			}
+			normalize(observer);
+		}
+	}
+
+	// --- 개인 정보 (관찰자 한 명) ---
+
+	/**
+	 * 관찰자가 대상의 직업을 알게 됨 (간첩 접선/포섭 결과, 도굴, 장의사 부검 등)
+	 */
+	public void observePrivateReveal(int observer, int target, JobType jobType) {
+		int index = observer * playerCount + target;
+		if (known[index]) {
+			knownMass[observer * JOB_TYPE_COUNT + argMax(observer, target)]--;
+			known[index] = false;
+		}
+		fix(observer, target, jobType);
+		normalize(observer);
+	}
+
+	/**
+	 * 관찰자가 대상이 해당 팀인지 여부를 알게 됨 (경찰 조사 등)
+	 *
+	 * @param member true면 대상의 기본 팀이 team, false면 아님
+	 */
+	public void observeTeamCheck(int observer, int target, Team team, boolean member) {
+		if (known[observer * playerCount + target]) return;
+		int row = cell(observer, target, 0);
+		for (int j = 0; j < JOB_TYPE_COUNT; j++) {
+			if ((JOB_TEAMS[j] == team) != member) beliefs[row + j] = 0;
+		}
+		normalize(observer);
+	}
+
+	// --- 조회 ---
+
+	/**
+	 * 관찰자가 추정한, 대상이 해당 직업일 확률
+	 */
+	public float getBelief(int observer, int target, JobType jobType) {
+		return beliefs[cell(observer, target, jobType.ordinal())];
+	}
+
+	/**
+	 * 관찰자가 추정한, 대상의 기본 팀이 해당 팀일 확률
+	 */
+	public float teamBelief(int observer, int target, Team team) {
+		int row = cell(observer, target, 0);
+		float sum = 0;
+		for (int j = 0; j < JOB_TYPE_COUNT; j++) {
+			if (JOB_TEAMS[j] == team) sum += beliefs[row + j];
+		}
+		return sum;
+	}
+
+	/**
+	 * 관찰자가 대상의 직업을 확정적으로 알고 있는지 여부
+	 */
+	public boolean isKnown(int observer, int target) {
+		return known[observer * playerCount + target];
+	}
+
+	public int getPlayerCount() {
+		return playerCount;
+	}
+
+	// --- 내부 처리 ---
+
+	private int cell(int observer, int target, int job) {
+		return (observer * playerCount + target) * JOB_TYPE_COUNT + job;
+	}
+
+	/**
+	 * 대상 행을 해당 직업 하나로 확정
+	 */
+	private void fix(int observer, int target, JobType jobType) {
+		int index = observer * playerCount + target;
+		if (known[index]) return;
+		int row = cell(observer, target, 0);
+		Arrays.fill(beliefs, row, row + JOB_TYPE_COUNT, 0);
+		beliefs[row + jobType.ordinal()] = 1;
+		known[index] = true;
+		knownMass[observer * JOB_TYPE_COUNT + jobType.ordinal()]++;
+	}
+
+	private int argMax(int observer, int target) {
+		int row = cell(observer, target, 0);
+		int best = 0;
+		for (int j = 1; j < JOB_TYPE_COUNT; j++) {
+			if (beliefs[row + j] > beliefs[row + best]) best = j;
+		}
+		return best;
+	}
+
+	/**
+	 * 확정되지 않은 행들을 행 합 1, 열 합 (기대 인원수 - 확정 인원수)로 번갈아 맞춤
+	 */
+	private void normalize(int observer) {
+		int massBase = observer * JOB_TYPE_COUNT;
+		int knownBase = observer * playerCount;
+		int matrixBase = cell(observer, 0, 0);
+		for (int iteration = 0; iteration < NORMALIZE_ITERATIONS; iteration++) {
+			// 열 합을 행 순서대로 한 번에 누적 (배열을 연속으로 읽음)
+			Arrays.fill(columnScale, 0);
+			for (int t = 0, row = matrixBase; t < playerCount; t++, row += JOB_TYPE_COUNT) {
+				if (known[knownBase + t]) continue;
+				for (int j = 0; j < JOB_TYPE_COUNT; j++) {
+					columnScale[j] += beliefs[row + j];
+				}
+			}
+			for (int j = 0; j < JOB_TYPE_COUNT; j++) {
+				float target = Math.max(0, columnMass[j] - knownMass[massBase + j]);
+				columnScale[j] = columnScale[j] > EPSILON ? target / columnScale[j] : 0;
+			}
+			for (int t = 0, row = matrixBase; t < playerCount; t++, row += JOB_TYPE_COUNT) {
+				if (known[knownBase + t]) continue;
+				for (int j = 0; j < JOB_TYPE_COUNT; j++) {
+					beliefs[row + j] *= columnScale[j];
+				}
+			}
+			normalizeRows(observer);
+		}
+	}
+
+	private void normalizeRows(int observer) {
+		for (int t = 0; t < playerCount; t++) {
+			if (known[observer * playerCount + t]) continue;
+			int row = cell(observer, t, 0);
+			float sum = 0;
+			for (int j = 0; j < JOB_TYPE_COUNT; j++) {
+				sum += beliefs[row + j];
+			}
+			if (sum > EPSILON) {
+				float scale = 1 / sum;
+				for (int j = 0; j < JOB_TYPE_COUNT; j++) {
+					float value = beliefs[row + j] * scale;
+					beliefs[row + j] = value < EPSILON ? 0 : value; // 비정규 float로 작아져 연산이 느려지지 않도록 버림
+				}
+			} else {
+				// 모순된 정보로 행이 비면 남은 구성으로 다시 시작
+				for (int j = 0; j < JOB_TYPE_COUNT; j++) {
+					beliefs[row + j] = Math.max(0, columnMass[j] - knownMass[observer * JOB_TYPE_COUNT + j]);
+					sum += beliefs[row + j];
+				}
+				if (sum > EPSILON) {
+					for (int j = 0; j < JOB_TYPE_COUNT; j++) {
+						beliefs[row + j] /= sum;
+					}
+				}
+			}
+		}
+	}
+
+	private static boolean isSpecialCitizen(JobType jobType, JobType[] specialTypes) {
+		for (JobType special : specialTypes) {
+			if (special == jobType) return true;
+		}
+		return false;
+	}
+}
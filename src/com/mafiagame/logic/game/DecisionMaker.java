@@ -0,0 +1,23 @@
+package com.mafiagame.logic.game;
+
+import com.mafiagame.logic.common.enums.DecisionType;
+
+import java.util.List;
+
+/**
+ * 플레이어 입력 대신 대상을 결정하는 인터페이스 (리플레이, 봇 등)
+ * GameManager.selectPlayer()에 설정되면 콘솔 입력이나 무작위 선택 대신 사용
+ */
+public interface DecisionMaker {
+
+	/**
+	 * 후보 중 한 명을 선택
+	 *
+	 * @param type        결정 종류 (밤 능력, 투표, 테러)
+	 * @param chooser     선택하는 플레이어
+	 * @param candidates  선택 가능한 플레이어 목록 (비어 있지 않음)
+	 * @param gameManager 게임 매니저 객체 (게임 상태 접근용)
+	 * @return 선택된 플레이어 (candidates 중 하나, 투표에서 null이면 마감 시간이 지난 것으로 보고 남은 투표를 끝냄)
+	 */
+	Player choose(DecisionType type, Player chooser, List<Player> candidates, GameManager gameManager);
+}
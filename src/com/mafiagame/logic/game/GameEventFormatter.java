@@ -0,0 +1,110 @@
+package com.mafiagame.logic.game;
+
+import com.mafiagame.logic.common.enums.JobType;
+import com.mafiagame.logic.event.GameEvent;
+import com.mafiagame.logic.io.PlayerIO;
+import com.mafiagame.logic.job.JobDefinition;
+import com.mafiagame.logic.message.MessageKey;
+
+import java.util.List;
+
+/**
+ * 게임 이벤트를 메시지 템플릿 ID와 인자로 변환해 입출력에 넘김
+ * 문장은 입출력 구현체가 실제로 표시할 때만 만들어지며, 헤드리스 실행에서는 호출하지 않음
+ */
+final class GameEventFormatter {
+
+	private GameEventFormatter() {
+	}
+
+	/**
+	 * 이벤트 표시
+	 *
+	 * @param event     이벤트
+	 * @param players   전체 플레이어 리스트 (이름 조회용)
+	 * @param io        입출력
+	 * @param recipient 받을 플레이어 (null이면 전체 공지)
+	 */
+	static void present(GameEvent event, List<Player> players, PlayerIO io, Player recipient) {
+		String target = event.getTarget() >= 0 ? players.get(event.getTarget()).getName() : null;
+		String actor = event.getActor() >= 0 ? players.get(event.getActor()).getName() : null;
+
+		switch (event.getType()) {
+		case DEATH:
+			if (event.getJobType() == JobType.TERRORIST) {
+				emit(io, recipient, MessageKey.EVENT_DEATH_TERROR, actor, target);
+			} else if (event.getJobType() == JobType.WAREWOLF) {
+				emit(io, recipient, MessageKey.EVENT_DEATH_WAREWOLF, target, null);
+			} else {
+				emit(io, recipient, MessageKey.EVENT_DEATH_MAFIA, target, null);
+			}
+			break;
+		case SAVE:
+			emit(io, recipient, event.isPublic() ? MessageKey.EVENT_SAVE : MessageKey.EVENT_HEALED, target, null);
+			break;
+		case SAVE_FAILED:
+			emit(io, recipient, MessageKey.EVENT_HEAL_FAILED, target, null);
+			break;
+		case NOT_ATTACKED:
+			emit(io, recipient, MessageKey.EVENT_NOT_ATTACKED, target, null);
+			break;
+		case BLOCK:
+			emit(io, recipient, event.getJobType() == JobType.WAREWOLF ? MessageKey.EVENT_BLOCK_WAREWOLF : MessageKey.EVENT_BLOCK_MAFIA, target, null);
+			break;
+		case RECRUIT:
+			if (event.isPublic()) {
+				emit(io, recipient, event.isSuccess() ? MessageKey.EVENT_RECRUIT_SUCCESS : MessageKey.EVENT_RECRUIT_FAIL, null, null);
+			} else if (event.getChannel() == event.getTarget()) {
+				emit(io, recipient, MessageKey.EVENT_YOU_WERE_RECRUITED, actor, null);
+			} else {
+				emit(io, recipient, event.isSuccess() ? MessageKey.EVENT_RECRUITED_BY_SPY : MessageKey.EVENT_RECRUIT_REJECTED, target, jobName(event.getJobType()));
+			}
+			break;
+		case REVEAL:
+			// 행동한 플레이어가 없으면 룰에 따른 공개 (테러로 탈락한 마피아)
+			emit(io, recipient, event.getActor() < 0 ? MessageKey.EVENT_RULE_REVEAL : MessageKey.EVENT_REPORT, target, jobName(event.getJobType()));
+			break;
+		case REPORT_VOID:
+			emit(io, recipient, MessageKey.EVENT_REPORT_VOID, null, null);
+			break;
+		case GRAVE_ROB:
+			if (event.isPublic()) {
+				emit(io, recipient, MessageKey.EVENT_GRAVE_ROB, null, null);
+			} else {
+				emit(io, recipient, MessageKey.EVENT_GRAVE_ROBBED, target, jobName(event.getJobType()));
+			}
+			break;
+		case INTIMIDATION:
+			emit(io, recipient, event.getChannel() == event.getTarget() ? MessageKey.EVENT_YOU_WERE_INTIMIDATED : MessageKey.EVENT_INTIMIDATED_BY_YOU, target, null);
+			break;
+		case AUTOPSY:
+			emit(io, recipient, MessageKey.EVENT_AUTOPSY, target, jobName(event.getJobType()));
+			break;
+		case DETECTION:
+			emit(io, recipient, event.isSuccess() ? MessageKey.EVENT_DETECTED : MessageKey.EVENT_DETECTED_NONE, actor, target);
+			break;
+		case NOTE:
+		default:
+			// 직업이 직접 남긴 결과는 템플릿 없이 그대로 표시
+			String message = String.valueOf(event.getPayload());
+			if (recipient == null) {
+				io.announce(message);
+			} else {
+				io.display(recipient, message);
+			}
+			break;
+		}
+	}
+
+	private static void emit(PlayerIO io, Player recipient, MessageKey key, Object arg0, Object arg1) {
+		if (recipient == null) {
+			io.announce(key, arg0, arg1);
+		} else {
+			io.display(recipient, key, arg0, arg1);
+		}
+	}
+
+	private static String jobName(JobType jobType) {
+		return jobType == null ? "?" : JobDefinition.of(jobType).getJobName();
+	}
+}
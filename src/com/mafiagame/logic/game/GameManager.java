@@ -6,15 +6,36 @@ import com.mafiagame.logic.common.enums.*;
 // job 패키지 임포트
 import com.mafiagame.logic.job.*;
 
+// 이벤트 패키지 임포트
+import com.mafiagame.logic.event.GameEvent;
+import com.mafiagame.logic.event.GameEventBus;
+import com.mafiagame.logic.event.GameEventListener;
+
+// 입출력 패키지 임포트
+import com.mafiagame.logic.io.ConsolePlayerIO;
+import com.mafiagame.logic.io.NoOpPlayerIO;
+import com.mafiagame.logic.io.PlayerIO;
+
+// 메시지 패키지 임포트
+import com.mafiagame.logic.message.MessageKey;
+
+// 계측 패키지 임포트
+import com.mafiagame.logic.metrics.EngineCounter;
+import com.mafiagame.logic.metrics.EngineMetrics;
+import com.mafiagame.logic.metrics.EngineTimer;
+import com.mafiagame.logic.metrics.NightResolutionEvent;
+import com.mafiagame.logic.metrics.PhaseEvent;
+import com.mafiagame.logic.metrics.VoteTallyEvent;
+
 // 자바 라이브러리 임포트
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Scanner;
 import java.util.Random;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * 마피아 게임의 전체 진행을 관리하는 클래스
@@ -23,7 +44,11 @@ import java.util.stream.Collectors;
 public class GameManager {
 
 	private List<Player> players;	// 전체 플레이어 리스트
+	private LivingPlayerSet livingPlayers; // 생존 플레이어 집합 (플레이어 번호 기준 비트셋)
+	private RoleIndex roleIndex;	// 직업 종류별 생존 플레이어 색인
+	private TeamCounters teamCounters;	// 팀별, (팀 x 직업 종류)별 생존자 수 (승리 조건 판정용)
 	private int playerCount;		// 전체 플레이어 숫자
+	private List<String> playerNames = List.of(); // 플레이어 이름 (번호 순, 스냅숏과 공유하는 불변 목록)
 	private GameMode gameMode;		// 게임 모드
 	private GamePhase currentPhase;	// 현재 페이즈
 	private int dayCount;			// 현재 날짜
@@ -31,8 +56,26 @@ public class GameManager {
 	private Team winningTeam;		// 승리 팀
 	private int currentPlayerIndex; // 현재 턴을 진행 중인 플레이어의 인덱스 (텍스트용)
 
-	private Scanner scanner;		// 자바 스캐너 (텍스트용)
+	private final PlayerIO io;		// 플레이어 입출력 (콘솔, 메모리, 출력 없음 등)
 	private Random random;			// 직업 랜덤 배정 등에 사용
+	private final long seed;		// random 시드 (외부에서 Random을 받은 경우 NO_SEED)
+	private final boolean headless;	// 헤드리스(시뮬레이션) 모드 여부: 콘솔 입출력, 딜레이 없이 진행
+	private DecisionMaker decisionMaker;		// 대상 선택을 대신할 결정자 (리플레이, 봇 등, 없으면 입력/무작위)
+	private GameRecordListener recordListener;	// 게임 기록 수신자 (리플레이 기록 등)
+	private boolean beliefTrackingEnabled;		// 플레이어별 직업 추정 행렬 유지 여부
+	private BeliefTracker beliefTracker;		// 플레이어별 직업 추정 행렬 (추적하지 않으면 null)
+	private long publicRevealMask;				// 모두에게 직업이 공개된 플레이어 (인덱스 비트, 스냅숏에 포함)
+	private PhasePacer phasePacer;				// 페이즈 사이 간격 (헤드리스는 간격 없음)
+	private PhaseDeadlineService deadlineService;	// 토론/투표 마감 시간 (없으면 null, 입력으로 진행)
+	private long roomId;						// 방 번호 (마감 시간 서비스 등록, JFR 이벤트, 방이 없으면 0)
+	private PhaseDeadline activeDeadline;		// 가장 최근에 시작한 마감 시간
+	private EngineMetrics metrics = EngineMetrics.global();	// 단계별 지연 시간, 게임 결과 카운터
+	// JFR 이벤트 (GameManager마다 하나씩 두고 begin()부터 다시 써서 페이즈마다 할당하지 않음, 녹화가 꺼져 있으면 기록되지 않음)
+	private final PhaseEvent phaseEvent = new PhaseEvent();
+	private final NightResolutionEvent nightEvent = new NightResolutionEvent();
+	private final VoteTallyEvent tallyEvent = new VoteTallyEvent();
+
+	public static final long NO_SEED = Long.MIN_VALUE; // 시드를 알 수 없는 Random을 사용하는 경우
 
 	// 게임 상태 기록 Maps & Lists
 	
@@ -40,15 +83,20 @@ public class GameManager {
 	// Player 객체 자체를 키로 사용하기 위해 Player 클래스의 equals()와 hashCode() 사용
 	private Map<Player, Player> nightAbilityTargets;
 	
-	// 밤 동안의 능력 사용 결과를 저장 (개인 결과 확인 페이즈에서 사용)
-	// Key: 결과를 확인하려는 Player, Value: 해당 Player와 관련된 밤 행동 결과 정보 (Map 또는 사용자 정의 객체)
-	private Map<Player, Object> nightResultsForPrivateConfirmation;
+	// 게임 이벤트 버스 (공개 이벤트는 낮 공개 발표 페이즈, 개인 결과는 밤 개인 결과 확인 페이즈에 전달)
+	// 같은 플레이어에게 결과가 여러 개 생겨도 발행 순서대로 모두 전달됨
+	private final GameEventBus eventBus = new GameEventBus();
+	private final GameEventListener publicAnnouncer; // 공개 발표 출력 (헤드리스 제외)
+	private final PrivateResultPresenter privateResultPresenter = new PrivateResultPresenter(); // 개인 결과 출력 (헤드리스 제외, 재사용)
 	
 	// 투표 기록 (투표자, 투표 대상)
 	private Map<Player, Player> voteRecords;
 	
-	// 다음 날 낮에 공개될 이벤트 로그
-	private List<String> publicAnnouncements;
+	// 투표 집계기 (플레이어 인덱스 기반, 매일 재사용)
+	private VoteTally voteTally;
+	
+	// 직업 종류별 밤 능력 처리기 분배 테이블
+	private final NightActionDispatcher nightActionDispatcher = NightActionDispatcher.createDefault();
 	
 	// 건달에게 협박당한 플레이어 목록 (다음 날 투표 금지)
 	private List<Player> intimidatedPlayers;
@@ -56,20 +104,70 @@ public class GameManager {
 	// 오늘 낮에 추방된 플레이어 목록 (테러리스트 등 처리용)
 	private List<Player> executedPlayersToday;
 
+	// 선택 가능한 모든 특수 시민 직업 종류
+	// (추가) 새로운 특수 직업 추가 시 여기에 추가
+	private static final JobType[] SPECIAL_CITIZEN_JOB_TYPES = {
+			JobType.SOLDIER, JobType.POLITICIAN, JobType.UNDERTAKER, JobType.GANGSTER,
+			JobType.REPORTER, JobType.DETECTIVE, JobType.GRAVEROBBER, JobType.TERRORIST };
+
 	public GameManager() {
+		this(new ConsolePlayerIO(), false, new Random().nextLong());
+	}
+
+	/**
+	 * 생성자 (헤드리스 모드 지정)
+	 * 
+	 * 헤드리스 모드에서는 콘솔 입출력과 페이즈 간 딜레이가 없고, 모든 선택은 random으로 결정
+	 * 
+	 * @param headless 헤드리스(시뮬레이션) 모드 여부
+	 * @param random   직업 배정 및 선택에 사용할 Random 객체
+	 */
+	public GameManager(boolean headless, Random random) {
+		this(headless ? NoOpPlayerIO.INSTANCE : new ConsolePlayerIO(), headless, random);
+	}
+
+	/**
+	 * 생성자 (입출력 구현체 지정)
+	 * 
+	 * @param io       플레이어 입출력 구현체
+	 * @param headless 헤드리스(시뮬레이션) 모드 여부
+	 * @param random   직업 배정 및 선택에 사용할 Random 객체
+	 */
+	public GameManager(PlayerIO io, boolean headless, Random random) {
+		this(io, headless, random, NO_SEED);
+	}
+
+	/**
+	 * 생성자 (시드 지정, 기록된 게임 재현 가능)
+	 * 
+	 * @param io       플레이어 입출력 구현체
+	 * @param headless 헤드리스(시뮬레이션) 모드 여부
+	 * @param seed     직업 배정 및 선택에 사용할 Random 시드
+	 */
+	public GameManager(PlayerIO io, boolean headless, long seed) {
+		this(io, headless, new Random(seed), seed);
+	}
+
+	private GameManager(PlayerIO io, boolean headless, Random random, long seed) {
+		this.io = io;
+		this.seed = seed;
+		this.headless = headless;
 		this.players = new ArrayList<>();
-		this.nightResultsForPrivateConfirmation = new HashMap<>();
+		this.publicAnnouncer = event -> GameEventFormatter.present(event, players, io, null);
+		this.livingPlayers = new LivingPlayerSet(players);
+		this.roleIndex = new RoleIndex();
+		this.teamCounters = new TeamCounters();
 		this.nightAbilityTargets = new HashMap<>();
 		this.voteRecords = new HashMap<>();
-		this.publicAnnouncements = new ArrayList<>();
+		this.voteTally = new VoteTally(0);
 		this.intimidatedPlayers = new ArrayList<>();
 		this.executedPlayersToday = new ArrayList<>();
 		this.dayCount = 1; // 1일차부터 시작
 		this.isGameOver = false;
 		this.currentPlayerIndex = 0; // 첫 번째 플레이어부터 시작
 
-		this.scanner = new Scanner(System.in);
-		this.random = new Random();
+		this.random = random;
+		this.phasePacer = headless ? PhasePacer.NONE : PhasePacer.of(PhasePacer.DEFAULT_DELAY_MILLIS);
 	}
 
 	/**
@@ -79,14 +177,37 @@ public class GameManager {
 	 * @param gameMode    게임 모드 (CLASSIC, SPY)
 	 */
 	public void setupGame(int playerCount, GameMode gameMode) {
-		this.playerCount = playerCount;
+		// TODO 플레이어 이름 입력받는 로직 필요 (이름은 "플레이어 1", "플레이어 2" 등으로 초기 설정)
+		setupGame(defaultPlayerNames(playerCount), gameMode);
+	}
+
+	/**
+	 * 게임 설정, 플레이어 생성, 직업 배정 (플레이어 이름 지정)
+	 * 
+	 * @param playerNames 플레이어 이름 (플레이어 번호 순, 목록 크기가 플레이어 수)
+	 * @param gameMode    게임 모드 (CLASSIC, SPY)
+	 */
+	public void setupGame(List<String> playerNames, GameMode gameMode) {
+		this.playerCount = playerNames.size();
+		this.playerNames = List.copyOf(playerNames);
 		this.gameMode = gameMode;
 		this.players.clear(); // 기존 플레이어 정보 초기화
+		if (recordListener != null) {
+			recordListener.onGameSetup(seed, gameMode, this.playerNames);
+		}
 
-		// 1. 플레이어 객체 생성 (이름은 "플레이어 1", "플레이어 2" 등으로 초기 설정)
+		// 1. 플레이어 객체 생성
 		for (int i = 0; i < playerCount; i++) {
-			// TODO 플레이어 이름 입력받는 로직 필요
-			this.players.add(new Player("플레이어 " + (i + 1), i + 1, null));
+			this.players.add(new Player(this.playerNames.get(i), i + 1, null));
+		}
+		this.livingPlayers = new LivingPlayerSet(players);
+		this.roleIndex = new RoleIndex();
+		this.teamCounters = new TeamCounters();
+		this.voteTally = new VoteTally(playerCount);
+		this.eventBus.reset(playerCount);
+		this.publicRevealMask = 0;
+		for (Player player : this.players) {
+			player.attachTo(this); // 사망, 직업 변경 등 상태 변경을 전달받도록 연결 (이후 직업 배정부터 색인에 반영)
 		}
 
 		// 2. 직업 목록 생성 및 배정
@@ -98,11 +219,17 @@ public class GameManager {
 				player.getJob().onAssigned(player, this);
 			}
 		}
+		if (beliefTrackingEnabled) {
+			beliefTracker = new BeliefTracker(playerCount);
+			beliefTracker.reset(players);
+		}
 
-		System.out.println("게임 설정이 완료되었습니다. 총 " + playerCount + "명의 플레이어, 모드: " + gameMode);
+		if (headless) return;
+		io.announce(MessageKey.GAME_SETUP_DONE, playerCount, gameMode);
 		for (Player p : players) {
-			System.out.println(p.toString()); // 배정된 직업 확인용 (디버깅)
+			io.announce(p.toString()); // 배정된 직업 확인용 (디버깅)
 		}
+		io.flush();
 	}
 
 	/**
@@ -141,7 +268,7 @@ public class GameManager {
 				this.players.get(i).setJob(jobsToAssign.get(i));
 			}
 		}
-		System.out.println("모든 플레이어에게 직업이 성공적으로 배정되었습니다.");
+		announce(MessageKey.JOBS_ASSIGNED);
 	}
 
 	/**
@@ -210,33 +337,25 @@ public class GameManager {
 		}
 
 		// 필수 직업 추가 (경찰, 의사 - 각 1명)
-		jobs.add(new Police());
-		jobs.add(new Doctor());
+		jobs.add(JobFactory.create(JobType.POLICE));
+		jobs.add(JobFactory.create(JobType.DOCTOR));
 
 		// 마피아 추가
 		for (int i = 0; i < mafiaCount; i++) {
-			jobs.add(new Mafia());
+			jobs.add(JobFactory.create(JobType.MAFIA));
 		}
 
 		// 보조 직업 추가 (정보원 또는 늑대인간 중 랜덤 1명)
 		if (supporterCount > 0) {
-			if (this.random.nextBoolean()) {
-				jobs.add(new Informant());
-			} else {
-				jobs.add(new Warewolf());
-			}
+			jobs.add(JobFactory.create(this.random.nextBoolean() ? JobType.INFORMANT : JobType.WAREWOLF));
 		}
 
 		// 특수 시민 직업 추가 (랜덤, 중복 없이)
-		List<Job> availableSpecialJobs = getAllSpecialCitizenJobs();
-		Collections.shuffle(availableSpecialJobs, this.random);
-		for (int i = 0; i < specialCitizenCount && i < availableSpecialJobs.size(); i++) {
-			jobs.add(availableSpecialJobs.get(i));
-		}
+		addRandomSpecialCitizenJobs(jobs, specialCitizenCount);
 
 		// 일반 시민 추가
 		for (int i = 0; i < normalCitizenCount; i++) {
-			jobs.add(new Citizen());
+			jobs.add(JobFactory.create(JobType.CITIZEN));
 		}
 
 		return jobs;
@@ -289,60 +408,54 @@ public class GameManager {
 		}
 
 		// 필수 직업 추가 (경찰, 의사 - 각 1명)
-		jobs.add(new Police());
-		jobs.add(new Doctor());
+		jobs.add(JobFactory.create(JobType.POLICE));
+		jobs.add(JobFactory.create(JobType.DOCTOR));
 
 		// 마피아 추가
 		for (int i = 0; i < mafiaCount; i++) {
-			jobs.add(new Mafia());
+			jobs.add(JobFactory.create(JobType.MAFIA));
 		}
 
 		// 보조 직업 추가
 		if (supporterCount > 0) {
-			if (this.random.nextBoolean()) {
-				jobs.add(new Informant());
-			} else {
-				jobs.add(new Warewolf());
-			}
+			jobs.add(JobFactory.create(this.random.nextBoolean() ? JobType.INFORMANT : JobType.WAREWOLF));
 		}
 
 		// 특수 시민 직업 추가
-		List<Job> availableSpecialJobs = getAllSpecialCitizenJobs();
-		Collections.shuffle(availableSpecialJobs, this.random);
-		for (int i = 0; i < specialCitizenCount && i < availableSpecialJobs.size(); i++) {
-			jobs.add(availableSpecialJobs.get(i));
-		}
+		addRandomSpecialCitizenJobs(jobs, specialCitizenCount);
 
 		// 일반 시민 추가
 		for (int i = 0; i < normalCitizenCount; i++) {
-			jobs.add(new Citizen());
+			jobs.add(JobFactory.create(JobType.CITIZEN));
 		}
 
 		// 간첩 추가
 		for (int i = 0; i < spyCount; i++) {
-			jobs.add(new Spy());
+			jobs.add(JobFactory.create(JobType.SPY));
 		}
 
 		return jobs;
 	}
 
 	/**
-	 * 선택 가능한 모든 특수 시민 직업 객체 리스트 반환
+	 * 특수 시민 직업 중 count개를 중복 없이 무작위로 골라 직업 목록에 추가
 	 * 
-	 * @return 특수 시민 Job 객체 리스트
+	 * 고른 직업만 생성하므로 선택되지 않은 직업 객체는 만들지 않음
+	 * 
+	 * @param jobs  직업을 추가할 목록
+	 * @param count 추가할 특수 시민 직업 수
 	 */
-	private List<Job> getAllSpecialCitizenJobs() {
-		List<Job> specialJobs = new ArrayList<>();
-		specialJobs.add(new Soldier());
-		specialJobs.add(new Politician());
-		specialJobs.add(new Undertaker());
-		specialJobs.add(new Gangster());
-		specialJobs.add(new Reporter());
-		specialJobs.add(new Detective());
-		specialJobs.add(new GraveRobber());
-		specialJobs.add(new Terrorist());
-		// (추가) 새로운 특수 직업 추가 시 여기에 추가
-		return specialJobs;
+	private void addRandomSpecialCitizenJobs(List<Job> jobs, int count) {
+		JobType[] candidates = SPECIAL_CITIZEN_JOB_TYPES.clone();
+		int picks = Math.min(count, candidates.length);
+		for (int i = 0; i < picks; i++) {
+			// 부분 Fisher-Yates 셔플: 앞에서부터 i번째 자리에 남은 후보 중 하나를 가져옴
+			int j = i + random.nextInt(candidates.length - i);
+			JobType picked = candidates[j];
+			candidates[j] = candidates[i];
+			candidates[i] = picked;
+			jobs.add(JobFactory.create(picked));
+		}
 	}
 
 	/**
@@ -353,64 +466,184 @@ public class GameManager {
 			System.err.println("오류: 게임이 설정되지 않았습니다. setupGame()을 먼저 호출해주세요.");
 			return;
 		}
-		System.out.println("\n마피아 게임을 시작합니다!");
-		this.currentPhase = GamePhase.NIGHT_JOB_CONFIRM_ABILITY;
-		this.isGameOver = false;
+		try {
+			startGameAsync().join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+			throw e;
+		}
+	}
 
-		while (!isGameOver) {
-			System.out.println("\n--- " + (dayCount + 1) + "일차 " + getPhaseName(currentPhase) + " 시작 ---");
-			switch (currentPhase) {
-			case NIGHT_JOB_CONFIRM_ABILITY:
-				processNightJobConfirmAbilityPhase();
-				proceedToNextPhase();
-				break;
-			case NIGHT_ABILITY_USE:
-				processNightAbilityUsePhase();
-				proceedToNextPhase();
-				break;
-			case NIGHT_PRIVATE_CONFIRM:
-				processNightPrivateConfirmPhase();
-				proceedToNextPhase();
-				break;
-			case DAY_PUBLIC_ANNOUNCEMENT:
-				processDayPublicAnnouncementPhase();
-				if (checkWinConditions())
-					break; // 승리 조건 확인
-				proceedToNextPhase();
-				break;
-			case DAY_DISCUSSION:
-				processDayDiscussionPhase();
-				proceedToNextPhase();
-				break;
-			case DAY_VOTE:
-				processDayVotePhase();
-				proceedToNextPhase();
-				break;
-			case DAY_EXECUTION:
-				processDayExecutionPhase();
-				if (checkWinConditions())
-					break; // 승리 조건 확인
-				proceedToNextPhase(); // 다음 페이즈 NIGHT_ABILITY_USE (새로운 밤)
-				break;
-			case GAME_OVER:
-				announceWinner();
-				isGameOver = true; // 루프 종료
-				break;
-			default:
-				System.out.println("알 수 없는 게임 단계입니다. 게임을 종료합니다.");
-				isGameOver = true; // 예외 상황 시 종료
-				break;
+	/**
+	 * 게임을 시작하고 페이즈 간격(PhasePacer)에 맞춰 비동기로 진행
+	 * 
+	 * 간격이 있으면 페이즈 하나를 처리할 때마다 다음 페이즈를 타이머 휠에 예약하고 스레드를 반납하므로,
+	 * 여러 방이 기다리는 동안 스레드를 점유하지 않음. 간격이 없으면 호출한 스레드에서 끝까지 진행
+	 * 
+	 * @return 게임이 끝나면 승리 팀(무승부면 null)으로 완료되는 future (입력 대기 중단 등 예외로 끝나면 예외 완료)
+	 */
+	public CompletableFuture<Team> startGameAsync() {
+		CompletableFuture<Team> completion = new CompletableFuture<>();
+		if (players.isEmpty()) {
+			System.err.println("오류: 게임이 설정되지 않았습니다. setupGame()을 먼저 호출해주세요.");
+			completion.complete(null);
+			return completion;
+		}
+		announce(MessageKey.GAME_START);
+		beginGame();
+		return resumeGameAsync(completion);
+	}
+
+	/**
+	 * 현재 페이즈부터 게임을 이어서 비동기로 진행 (restore()로 되살린 게임 등, 시작 안내와 beginGame() 없음)
+	 * 
+	 * @return 게임이 끝나면 승리 팀(무승부면 null)으로 완료되는 future
+	 */
+	public CompletableFuture<Team> resumeGameAsync() {
+		return resumeGameAsync(new CompletableFuture<>());
+	}
+
+	private CompletableFuture<Team> resumeGameAsync(CompletableFuture<Team> completion) {
+		if (phasePacer.isImmediate()) {
+			runPacedPhases(completion);
+		} else {
+			phasePacer.schedule(() -> runPacedPhases(completion));
+		}
+		return completion;
+	}
+
+	/**
+	 * 페이즈를 진행하고, 간격이 있으면 다음 페이즈를 예약한 뒤 반환
+	 */
+	private void runPacedPhases(CompletableFuture<Team> completion) {
+		try {
+			boolean running = runNextPhase();
+			while (running) {
+				PhaseDeadline deadline = activeDeadline;
+				if (deadline != null && !deadline.isDone()) {
+					deadline.whenDone(() -> runPacedPhases(completion)); // 토론 마감 또는 전원 준비 후 진행
+					return;
+				}
+				if (!phasePacer.isImmediate()) {
+					phasePacer.schedule(() -> runPacedPhases(completion));
+					return;
+				}
+				running = runNextPhase();
 			}
+			announce(MessageKey.GAME_END);
+			io.close();
+			completion.complete(winningTeam);
+		} catch (Throwable t) {
+			completion.completeExceptionally(t);
+		}
+	}
 
-			// 간단한 딜레이 (텍스트 게임 가독성)
-			try {
-				Thread.sleep(500); // 0.5초 딜레이
-			} catch (InterruptedException e) {
-				Thread.currentThread().interrupt();
+	/**
+	 * 헤드리스 모드로 게임을 처음부터 끝까지 진행 (딜레이, 콘솔 입출력 없음)
+	 * 
+	 * 무승부 없이 끝나지 않는 게임을 막기 위해 최대 일차를 넘기면 승리팀 없이 종료
+	 * 
+	 * @param maxDays 최대 진행 일차
+	 * @return 승리 팀 (최대 일차 초과 시 null)
+	 */
+	public Team playHeadless(int maxDays) {
+		beginGame();
+		while (runNextPhase()) {
+			if (dayCount > maxDays) {
+				this.isGameOver = true;
+				this.currentPhase = GamePhase.GAME_OVER;
+				if (recordListener != null) recordListener.onGameOver(this, winningTeam);
+				break;
 			}
 		}
-		System.out.println("\n마피아 게임이 종료되었습니다.");
-		scanner.close();
+		return winningTeam;
+	}
+
+	/**
+	 * 첫날 밤 페이즈로 설정하여 runNextPhase()로 진행할 수 있게 함 (setupGame() 이후 호출)
+	 */
+	public void beginGame() {
+		this.currentPhase = GamePhase.NIGHT_JOB_CONFIRM_ABILITY;
+		this.isGameOver = false;
+	}
+
+	/**
+	 * 현재 페이즈 하나를 처리하고 다음 페이즈로 진행
+	 * 
+	 * @return 게임이 계속 진행 중이면 true, 종료되었으면 false
+	 */
+	public boolean runNextPhase() {
+		if (isGameOver) return false;
+		if (!headless) {
+			io.announce(MessageKey.PHASE_START, dayCount + 1, getPhaseName(currentPhase));
+		}
+		phaseEvent.begin();
+		GamePhase phase = currentPhase;
+		int phaseDay = dayCount;
+		long phaseStart = System.nanoTime();
+		long phaseEnd; // 페이즈 처리 끝 시각 (페이즈 전환 측정의 시작 시각으로 다시 씀)
+		switch (currentPhase) {
+		case NIGHT_JOB_CONFIRM_ABILITY:
+			processNightJobConfirmAbilityPhase();
+			phaseEnd = metrics.record(EngineTimer.NIGHT_JOB_CONFIRM_ABILITY_PHASE, phaseStart);
+			proceedToNextPhase(phaseEnd);
+			break;
+		case NIGHT_ABILITY_USE:
+			processNightAbilityUsePhase();
+			phaseEnd = metrics.record(EngineTimer.NIGHT_ABILITY_USE_PHASE, phaseStart);
+			proceedToNextPhase(phaseEnd);
+			break;
+		case NIGHT_PRIVATE_CONFIRM:
+			processNightPrivateConfirmPhase();
+			phaseEnd = metrics.record(EngineTimer.NIGHT_PRIVATE_CONFIRM_PHASE, phaseStart);
+			proceedToNextPhase(phaseEnd);
+			break;
+		case DAY_PUBLIC_ANNOUNCEMENT:
+			processDayPublicAnnouncementPhase();
+			phaseEnd = metrics.record(EngineTimer.DAY_PUBLIC_ANNOUNCEMENT_PHASE, phaseStart);
+			if (checkWinConditions())
+				break; // 승리 조건 확인
+			proceedToNextPhase(phaseEnd);
+			break;
+		case DAY_DISCUSSION:
+			processDayDiscussionPhase();
+			phaseEnd = metrics.record(EngineTimer.DAY_DISCUSSION_PHASE, phaseStart);
+			proceedToNextPhase(phaseEnd);
+			break;
+		case DAY_VOTE:
+			processDayVotePhase();
+			phaseEnd = metrics.record(EngineTimer.DAY_VOTE_PHASE, phaseStart);
+			proceedToNextPhase(phaseEnd);
+			break;
+		case DAY_EXECUTION:
+			processDayExecutionPhase();
+			phaseEnd = metrics.record(EngineTimer.DAY_EXECUTION_PHASE, phaseStart);
+			if (checkWinConditions())
+				break; // 승리 조건 확인
+			proceedToNextPhase(phaseEnd); // 다음 페이즈 NIGHT_ABILITY_USE (새로운 밤)
+			break;
+		case GAME_OVER:
+			announceWinner();
+			isGameOver = true; // 루프 종료
+			if (recordListener != null) recordListener.onGameOver(this, winningTeam);
+			break;
+		default:
+			announce(MessageKey.UNKNOWN_PHASE);
+			isGameOver = true; // 예외 상황 시 종료
+			break;
+		}
+		if (!isGameOver && recordListener != null) {
+			recordListener.onPhaseTransition(currentPhase, dayCount);
+		}
+		phaseEvent.end();
+		if (phaseEvent.shouldCommit()) {
+			phaseEvent.roomId = roomId;
+			phaseEvent.phase = phase.name();
+			phaseEvent.day = phaseDay;
+			phaseEvent.commit();
+		}
+		io.flush(); // 페이즈 하나의 출력을 한 번에 내보냄
+		return !isGameOver;
 	}
 
 	// TODO 초기 페이즈 순서 수정 필요 -> 직업 확인 후 능력 바로 사용
@@ -419,8 +652,15 @@ public class GameManager {
 	 * 다음 게임 단계로 진행 (페이즈 순서 관리)
 	 * 
 	 * 현재 페이즈의 모든 작업이 완료 후 호출
+	 * 
+	 * @param phaseEnd 페이즈 처리 끝 시각 (metrics.record()가 돌려준 값, 전환 측정의 시작 시각)
 	 */
-	private void proceedToNextPhase() {
+	private void proceedToNextPhase(long phaseEnd) {
+		advancePhase();
+		metrics.record(EngineTimer.PROCEED_TO_NEXT_PHASE, phaseEnd);
+	}
+
+	private void advancePhase() {
 		if (isGameOver) {
 			this.currentPhase = GamePhase.GAME_OVER;
 			return;
@@ -468,7 +708,7 @@ public class GameManager {
 	 * 첫날 밤: 직업 확인 및 즉시 능력 사용 페이즈
 	 */
 	private void processNightJobConfirmAbilityPhase() {
-		System.out.println("첫날 밤입니다. 각자 직업을 확인하고 직업 확인 후 바로 개인 능력을 사용합니다.");
+		announce(MessageKey.FIRST_NIGHT);
 		nightAbilityTargets.clear();
 
 		for (int i = 0; i < players.size(); i++) {
@@ -478,16 +718,16 @@ public class GameManager {
 			if (!currentPlayer.isAlive()) continue; // 죽은 플레이어 통과
 
 			// 1. 직업 확인 메시지
-			displayMessageToPlayer(currentPlayer, "당신의 차례입니다. 화면을 확인하세요.");
+			displayMessageToPlayer(currentPlayer, MessageKey.YOUR_TURN);
 			Job currentJob = currentPlayer.getJob();
-			displayMessageToPlayer(currentPlayer, "당신의 직업은 [" + currentJob.getJobName() + "] 입니다.");
+			displayMessageToPlayer(currentPlayer, MessageKey.YOUR_JOB, currentJob.getJobName());
 
 			// 마피아 동료 확인은 Job의 onAssigned에서 처리되도록 위임
             // GameManager는 setupGame에서 onAssigned를 호출
 			
 			handlePlayerNightActionTurn(currentPlayer);
 
-            getPlayerInput(currentPlayer, "확인 후 Enter 키를 누르고 다음 사람에게 넘기세요.");
+            getPlayerInput(currentPlayer, MessageKey.CONFIRM_AND_PASS);
             clearConsole();
         }
         applyNightActionsAndResults();
@@ -497,7 +737,7 @@ public class GameManager {
 	 * (일반) 밤 능력 사용 페이즈
 	 */
 	private void processNightAbilityUsePhase() {
-		System.out.println("밤입니다. 능력을 사용할 플레이어는 차례대로 진행합니다.");
+		announce(MessageKey.NIGHT_START);
 		nightAbilityTargets.clear(); // 밤 능력 대상 기록 초기화
 
 		for (int i = 0; i < players.size(); i++) {
@@ -508,7 +748,7 @@ public class GameManager {
 
 			handlePlayerNightActionTurn(currentPlayer);
 
-            getPlayerInput(currentPlayer, "선택이 완료되었습니다. Enter 키를 누르고 다음 사람에게 넘기세요.");
+            getPlayerInput(currentPlayer, MessageKey.NIGHT_CHOICE_DONE);
             clearConsole();
         }
         applyNightActionsAndResults();
@@ -525,229 +765,274 @@ public class GameManager {
                 displayMessageToPlayer(currentPlayer, currentPlayer.getNightActionPrompt());
                 currentPlayer.performNightAction(this);
             } else {
-                String cantUseMessage = currentPlayer.getName() + "님은 이번 밤에 능력을 사용할 수 없습니다.";
+                MessageKey cantUseMessage = MessageKey.ABILITY_UNAVAILABLE;
                 if (currentPlayer.getJob().isOneTimeAbility() && currentPlayer.getJob().hasUsedOneTimeAbility()) {
-                    cantUseMessage += " (이미 사용)";
+                    cantUseMessage = MessageKey.ABILITY_UNAVAILABLE_USED;
                 } else if (currentPlayer.getJob() instanceof Reporter && this.dayCount == 1) {
-                    cantUseMessage += " (엠바고)";
+                    cantUseMessage = MessageKey.ABILITY_UNAVAILABLE_EMBARGO;
                 }
-                displayMessageToPlayer(currentPlayer, cantUseMessage);
+                displayMessageToPlayer(currentPlayer, cantUseMessage, currentPlayer.getName());
             }
         } else {
-            displayMessageToPlayer(currentPlayer, "사용할 수 있는 밤 능력이 없습니다.");
+            displayMessageToPlayer(currentPlayer, MessageKey.NO_NIGHT_ABILITY);
         }
     }
 	
 	/**
      * 밤 동안 사용된 능력들의 결과를 종합하고 플레이어 상태 업데이트
-     * 각 기능별 private 메서드를 순서대로 호출하여 전체 흐름 제어
+     * 직업별 처리기를 우선순위 순서대로 실행한 뒤 판정 결과를 정리하여 전체 흐름 제어
      */
     private void applyNightActionsAndResults() {
+        long start = System.nanoTime();
+        nightEvent.begin();
         // 0. 필요한 정보 저장을 위한 임시 컨테이너 생성
         NightActionContext context = new NightActionContext();
 
-        // 1. 밤 능력 사용 기록 분석 및 컨텍스트 준비
-        analyzeNightAbilityRecords(context);
-
-        // 2. 방어/보호 능력 우선 적용 (예: 군인)
-        handleDefensiveAbilities(context);
+        // 1. 직업별 능력 판정 (의사 치료 -> 마피아 공격/군인 방어 -> 늑대인간 살육 -> 건달 협박, 간첩 포섭 -> 기자 취재, 장의사 부검, 탐정 추리)
+        resolveNightAbilities(context);
 
-        // 3. 공격 능력 처리 및 사망자 결정 (마피아, 늑대인간)
-        handleAttackAbilities(context);
+        // 2. 판정 후 결과 처리 (공격이 없었던 밤의 의사 결과, 도굴꾼)
+        finishNightResults(context);
 
-        // 4. 기타 능력 결과 적용 (건달, 간첩, 기자, 장의사, 도굴꾼 등)
-        handleOtherAbilities(context);
+        nightEvent.end();
+        if (nightEvent.shouldCommit()) {
+            nightEvent.roomId = roomId;
+            nightEvent.day = dayCount;
+            nightEvent.actions = nightAbilityTargets.size();
+            nightEvent.deaths = context.diedThisNight.size();
+            nightEvent.commit();
+        }
 
         // 밤 능력 대상 기록 초기화
         nightAbilityTargets.clear();
+        metrics.record(EngineTimer.APPLY_NIGHT_ACTIONS, start);
     }
 	
-	/**
-     * 밤 동안의 행동 결과를 담는 내부 헬퍼 클래스
-     * 각 처리 메서드 간에 정보를 전달하기 위해 사용
+    /**
+     * 1. 밤 능력 기록(nightAbilityTargets)을 직업 종류별로 모아, 등록된 처리기를 우선순위(보호 -> 공격 -> 상태 -> 정보) 순서대로 실행
+     * 
+     * @param context 밤 행동 결과를 저장하고 전달할 컨텍스트 객체
      */
-    private static class NightActionContext {
-        Map<Player, Boolean> isHealedMap = new HashMap<>();
-        Map<Player, Boolean> isProtectedBySoldierMap = new HashMap<>();
-        Player mafiaAttackTarget = null;
-        Player warewolfAttackTarget = null;
-        Map<Player, Player> gangsterTargets = new HashMap<>();
-        Map<Player, Player> spyRecruitTargets = new HashMap<>();
-        Player reporterTarget = null;
-        String reporterOriginalJob = null;
-        Player undertakerTarget = null; // 장의사 대상은 아직 분석 로직에 없었지만 추가
-        String undertakerOriginalJob = null; // 장의사 결과 저장용
-        List<Player> diedThisNight = new ArrayList<>();
+    private void resolveNightAbilities(NightActionContext context) {
+        nightActionDispatcher.dispatch(nightAbilityTargets, context, this);
     }
-    
+
     /**
-     * 1. nightAbilityTargets 맵을 분석하여 밤 동안의 능력 사용 기록을 NightActionContext 객체에 정리
+     * 의사 치료: 치료 대상을 기록해 두고 공격 판정에서 확인
      * 
-     * @param context 밤 행동 결과를 저장하고 전달할 컨텍스트 객체
+     * @param doctors 치료 능력을 사용한 의사
+     * @param context 밤 행동 결과 컨텍스트
      */
-    private void analyzeNightAbilityRecords(NightActionContext context) {
-        // nightAbilityTargets에는 (능력 사용자, 능력 대상)이 기록되어 있음.
-        for (Map.Entry<Player, Player> entry : nightAbilityTargets.entrySet()) {
-            Player user = entry.getKey();
-            Player target = entry.getValue();
-
-            if (user.getJob() instanceof Doctor) {
-                context.isHealedMap.put(target, true);
-            } else if (user.getJob() instanceof Mafia && ((Mafia) user.getJob()).isAttackCommander(user, this)) {
-                context.mafiaAttackTarget = target;
-            } else if (user.getJob() instanceof Warewolf && ((Warewolf) user.getJob()).canUseMassacre(this)) {
-                context.warewolfAttackTarget = target;
-            } else if (user.getJob() instanceof Gangster) {
-                context.gangsterTargets.put(user, target);
-            } else if (user.getJob() instanceof Spy && user.getJob().canUseAbility(user, dayCount, this)) {
-                context.spyRecruitTargets.put(user, target);
-            } else if (user.getJob() instanceof Reporter && user.getJob().canUseAbility(user, dayCount, this)) {
-                context.reporterTarget = target;
-                if (context.reporterTarget != null) context.reporterOriginalJob = context.reporterTarget.getJob().getJobName();
-            }
-            // TODO ... 장의사, 탐정 등 기타 다른 직업들의 능력 사용 기록 분석 추가 ...
+    void resolveHeals(List<Player> doctors, NightActionContext context) {
+        for (Player doctor : doctors) {
+            context.healedBy.put(nightAbilityTargets.get(doctor), doctor);
         }
     }
-    
+
     /**
-     * 2. 방어/보호 능력을 처리합니다. (예: 군인)
-     * @param context 밤 행동 결과가 담긴 컨텍스트 객체
+     * 마피아 공격: 공격 지휘자가 고른 대상을 공격 (군인 방어 -> 의사 치료 순으로 확인 후 사망 처리)
+     * 
+     * @param mafias  밤 능력을 사용한 마피아
+     * @param context 밤 행동 결과 컨텍스트
      */
-    private void handleDefensiveAbilities(NightActionContext context) {
-        // 마피아 공격 대상이 군인이고, 군인이 방어 능력을 사용하지 않았다면 방어 발동.
-        if (context.mafiaAttackTarget != null && context.mafiaAttackTarget.getJob() instanceof Soldier) {
-            Soldier soldierJob = (Soldier) context.mafiaAttackTarget.getJob();
-            if (soldierJob.tryActivateDefense(context.mafiaAttackTarget)) { // Soldier 클래스에 이런 메서드가 있다고 가정
-                context.isProtectedBySoldierMap.put(context.mafiaAttackTarget, true);
-                publicAnnouncements.add(context.mafiaAttackTarget.getName() + "님이 마피아의 공격을 받았으나, 군인의 방어 능력으로 막아냈습니다! 직업은 [군인]입니다.");
+    void resolveMafiaAttack(List<Player> mafias, NightActionContext context) {
+        Player target = null;
+        for (Player mafia : mafias) {
+            if (((Mafia) mafia.getJob()).isAttackCommander(mafia, this)) {
+                target = nightAbilityTargets.get(mafia);
             }
         }
-        // 늑대인간 공격에 대한 군인 방어는 handleAttackAbilities 에서 직접 처리 (공격 종류에 따라 다를 수 있으므로)
+        context.mafiaAttackTarget = target;
+        if (target == null || !target.isAlive()) return;
+
+        boolean blocked = tryBlockAttack(target, JobType.MAFIA, context);
+        Player doctor = context.healedBy.get(target);
+        if (doctor != null) {
+            publishPublic(GameEventType.SAVE, doctor, target, JobType.MAFIA, true);
+            publishPrivate(doctor, GameEventType.SAVE, doctor, target, JobType.MAFIA, true);
+            metrics.increment(EngineCounter.DOCTOR_SAVE);
+            return;
+        }
+        if (blocked) return; // 군인 방어 메시지는 tryBlockAttack에서 이미 발행됨
+
+        target.die();
+        context.diedThisNight.add(target);
+        publishPublic(GameEventType.DEATH, null, target, JobType.MAFIA, true);
+        if (beliefTracker != null) beliefTracker.observePublicTeamCheck(target.getPlayerNumber() - 1, Team.MAFIA, false);
     }
 
     /**
-     * 3. 공격 능력(마피아, 늑대인간)을 처리하고 사망자를 결정합니다.
-     * @param context 밤 행동 결과가 담긴 컨텍스트 객체
+     * 늑대인간 살육: 치료를 무시하고 대상을 공격 (군인 방어만 확인, 마피아 공격에 이미 방어를 썼으면 사망)
+     * 
+     * @param warewolves 밤 능력을 사용한 늑대인간
+     * @param context    밤 행동 결과 컨텍스트
      */
-    private void handleAttackAbilities(NightActionContext context) {
-        // 3.1. 마피아 공격 처리
-        if (context.mafiaAttackTarget != null && context.mafiaAttackTarget.isAlive()) {
-            boolean saved = false;
-            if (context.isHealedMap.getOrDefault(context.mafiaAttackTarget, false)) {
-                publicAnnouncements.add(context.mafiaAttackTarget.getName() + "님이 마피아의 공격을 받았지만, 의사의 치료로 생존했습니다!");
-                recordPrivateNightResult(getDoctorPlayer(), context.mafiaAttackTarget.getName() + "님을 성공적으로 치료했습니다.");
-                saved = true;
-            } else if (context.isProtectedBySoldierMap.getOrDefault(context.mafiaAttackTarget, false)) {
-                saved = true; // 군인 방어 메시지는 handleDefensiveAbilities에서 이미 추가됨
-            }
-
-            if (!saved) {
-                context.mafiaAttackTarget.die();
-                context.diedThisNight.add(context.mafiaAttackTarget);
-                publicAnnouncements.add(context.mafiaAttackTarget.getName() + "님이 밤 사이 마피아의 공격으로 사망했습니다.");
-                if (getDoctorPlayer() != null && nightAbilityTargets.get(getDoctorPlayer()) == context.mafiaAttackTarget) {
-                     recordPrivateNightResult(getDoctorPlayer(), context.mafiaAttackTarget.getName() + "님을 치료하려 했으나, 이미 사망했습니다.");
-                }
+    void resolveMassacre(List<Player> warewolves, NightActionContext context) {
+        Player target = null;
+        for (Player warewolf : warewolves) {
+            if (((Warewolf) warewolf.getJob()).canUseMassacre(this)) {
+                target = nightAbilityTargets.get(warewolf);
             }
-        } else if (context.mafiaAttackTarget == null && getDoctorPlayer() != null && nightAbilityTargets.containsKey(getDoctorPlayer())) {
-            Player healedTargetByDoctor = nightAbilityTargets.get(getDoctorPlayer());
-            if (healedTargetByDoctor != null) recordPrivateNightResult(getDoctorPlayer(), healedTargetByDoctor.getName() + "님은 공격받지 않았습니다.");
         }
+        if (target == null || !target.isAlive()) return;
+        if (tryBlockAttack(target, JobType.WAREWOLF, context)) return;
 
-        // 3.2. 늑대인간 살육 처리 (치료 무시)
-        if (context.warewolfAttackTarget != null && context.warewolfAttackTarget.isAlive()) {
-            boolean savedBySoldier = false;
-            if (context.warewolfAttackTarget.getJob() instanceof Soldier) {
-                Soldier soldierJob = (Soldier) context.warewolfAttackTarget.getJob();
-                // isProtectedBySoldierMap을 체크하여 군인 방어가 이미 마피아 공격에 사용되었는지 확인 가능
-                if (!context.isProtectedBySoldierMap.containsKey(context.warewolfAttackTarget) && soldierJob.tryActivateDefense(context.warewolfAttackTarget)) {
-                    context.isProtectedBySoldierMap.put(context.warewolfAttackTarget, true);
-                    publicAnnouncements.add(context.warewolfAttackTarget.getName() + "님이 늑대인간의 공격을 받았으나, 군인의 방어 능력으로 막아냈습니다! 직업은 [군인]입니다.");
-                    savedBySoldier = true;
-                }
-            }
+        target.die();
+        context.diedThisNight.add(target);
+        publishPublic(GameEventType.DEATH, null, target, JobType.WAREWOLF, true);
+        metrics.increment(EngineCounter.WEREWOLF_KILL);
+    }
 
-            if (!savedBySoldier) {
-                context.warewolfAttackTarget.die();
-                context.diedThisNight.add(context.warewolfAttackTarget);
-                publicAnnouncements.add(context.warewolfAttackTarget.getName() + "님이 밤 사이 늑대인간의 공격으로 사망했습니다. (치료 불가)");
-            }
+    /**
+     * 공격 대상이 군인이면 1회성 방어를 발동 (이번 밤에 이미 방어했으면 다시 발동하지 않음)
+     * 
+     * @param target   공격 대상
+     * @param attacker 공격한 직업
+     * @param context  밤 행동 결과 컨텍스트
+     * @return 방어에 성공했으면 true
+     */
+    private boolean tryBlockAttack(Player target, JobType attacker, NightActionContext context) {
+        if (target.getJob().getJobType() != JobType.SOLDIER || context.isProtectedBySoldierMap.containsKey(target)
+                || !target.getJob().tryActivateConditionalOneTimeAbility()) {
+            return false;
         }
+        context.isProtectedBySoldierMap.put(target, true);
+        publishPublic(GameEventType.BLOCK, null, target, attacker, true);
+        metrics.increment(EngineCounter.SOLDIER_BLOCK);
+        revealPublicly(target, JobType.SOLDIER);
+        return true;
     }
 
     /**
-     * 4. 건달, 간첩, 기자, 장의사, 도굴꾼 등 기타 능력들을 처리합니다.
-     * @param context 밤 행동 결과가 담긴 컨텍스트 객체
+     * 건달 협박: 살아 있는 대상은 다음 날 투표하지 못함
+     * 
+     * @param gangsters 밤 능력을 사용한 건달
+     * @param context   밤 행동 결과 컨텍스트
      */
-    private void handleOtherAbilities(NightActionContext context) {
-        // 4.1. 건달 협박 적용
-        for (Map.Entry<Player, Player> entry : context.gangsterTargets.entrySet()) {
-            Player gangsterUser = entry.getKey();
-            Player intimidatedTarget = entry.getValue();
-            if (intimidatedTarget != null && intimidatedTarget.isAlive()) {
-                intimidatedTarget.setCanVoteToday(false);
-                recordPrivateNightResult(gangsterUser, intimidatedTarget.getName() + "님을 협박했습니다.");
-                recordPrivateNightResult(intimidatedTarget, "당신은 건달에게 협박당해 오늘 투표할 수 없습니다.");
+    void resolveIntimidation(List<Player> gangsters, NightActionContext context) {
+        for (Player gangster : gangsters) {
+            Player target = nightAbilityTargets.get(gangster);
+            if (target.isAlive()) {
+                target.setCanVoteToday(false);
+                publishPrivate(gangster, GameEventType.INTIMIDATION, gangster, target, null, true);
+                publishPrivate(target, GameEventType.INTIMIDATION, gangster, target, null, true);
             }
         }
+    }
 
-        // 4.2. 간첩 포섭 처리
-        for (Map.Entry<Player, Player> entry : context.spyRecruitTargets.entrySet()) {
-            Player spy = entry.getKey();
-            Player targetToRecruit = entry.getValue();
-
-            if (targetToRecruit != null && targetToRecruit.isAlive()) {
-                boolean recruitSuccess = false;
-                if (!(targetToRecruit.getJob() instanceof Mafia) && !(targetToRecruit.getJob() instanceof Soldier)) {
-                    if (targetToRecruit.getCurrentTeam() != Team.SPY) {
-                        targetToRecruit.setCurrentTeam(Team.SPY);
-                        recruitSuccess = true;
-                    }
-                }
+    /**
+     * 간첩 포섭: 마피아와 군인을 제외한 살아 있는 대상을 간첩 팀으로 만듦 (성공 여부와 관계없이 대상의 직업을 알게 됨)
+     * 
+     * @param spies   밤 능력을 사용한 간첩
+     * @param context 밤 행동 결과 컨텍스트
+     */
+    void resolveRecruitment(List<Player> spies, NightActionContext context) {
+        for (Player spy : spies) {
+            Player target = nightAbilityTargets.get(spy);
+            if (!target.isAlive()) continue;
+
+            JobType targetJobType = target.getJob().getJobType();
+            boolean recruitSuccess = targetJobType != JobType.MAFIA && targetJobType != JobType.SOLDIER
+                    && target.getCurrentTeam() != Team.SPY;
+            if (recruitSuccess) target.setCurrentTeam(Team.SPY);
+
+            publishPrivate(spy, GameEventType.RECRUIT, spy, target, targetJobType, recruitSuccess);
+            if (recruitSuccess) publishPrivate(target, GameEventType.RECRUIT, spy, target, JobType.SPY, true);
+            publishPublic(GameEventType.RECRUIT, null, null, null, recruitSuccess);
+            metrics.increment(recruitSuccess ? EngineCounter.RECRUIT_SUCCESS : EngineCounter.RECRUIT_FAILURE);
+            if (beliefTracker != null) {
+                // 간첩은 포섭 결과로 대상의 직업을, 포섭된 대상은 간첩의 정체를 알게 됨
+                beliefTracker.observePrivateReveal(spy.getPlayerNumber() - 1, target.getPlayerNumber() - 1, targetJobType);
+                if (recruitSuccess) beliefTracker.observePrivateReveal(target.getPlayerNumber() - 1, spy.getPlayerNumber() - 1, JobType.SPY);
+            }
+        }
+    }
 
-                String recruitResultMessageForSpy, recruitResultMessageForTarget = null, publicRecruitAnnouncement;
-                if (recruitSuccess) {
-                    recruitResultMessageForSpy = targetToRecruit.getName() + "님(" + targetToRecruit.getJob().getJobName() + ")을 성공적으로 포섭했습니다.";
-                    recruitResultMessageForTarget = "당신은 간첩에게 포섭되었습니다. 이제부터 간첩 팀 소속입니다. 당신을 포섭한 간첩은 " + spy.getName() + " 입니다.";
-                    publicRecruitAnnouncement = "간첩이 포섭에 성공했습니다.";
-                } else {
-                    recruitResultMessageForSpy = targetToRecruit.getName() + "님(" + targetToRecruit.getJob().getJobName() + ") 포섭에 실패했습니다.";
-                    publicRecruitAnnouncement = "간첩이 포섭에 실패했습니다.";
-                }
-                recordPrivateNightResult(spy, recruitResultMessageForSpy);
-                if (recruitSuccess && recruitResultMessageForTarget != null) recordPrivateNightResult(targetToRecruit, recruitResultMessageForTarget);
-                publicAnnouncements.add(publicRecruitAnnouncement);
+    /**
+     * 기자 취재: 기자가 살아 있으면 대상의 직업을 낮에 공개, 이번 밤에 사망했으면 취재 무효
+     * 
+     * @param reporters 밤 능력을 사용한 기자
+     * @param context   밤 행동 결과 컨텍스트
+     */
+    void resolveReport(List<Player> reporters, NightActionContext context) {
+        for (Player reporter : reporters) {
+            Player target = nightAbilityTargets.get(reporter);
+            if (reporter.isAlive()) {
+                JobType revealedJob = target.getJob().getJobType();
+                publishPublic(GameEventType.REVEAL, reporter, target, revealedJob, true);
+                revealPublicly(target, revealedJob);
+            } else {
+                publishPublic(GameEventType.REPORT_VOID, null, target, null, false);
             }
         }
+    }
 
-        // 4.3. 정보 수집 능력은 개인 결과 확인 페이즈에서 처리되므로, 여기서는 별도 처리 불필요.
+    /**
+     * 장의사 부검: 살아 있는 장의사에게 사망자의 직업을 알려줌
+     * 
+     * @param undertakers 밤 능력을 사용한 장의사
+     * @param context     밤 행동 결과 컨텍스트
+     */
+    void resolveAutopsy(List<Player> undertakers, NightActionContext context) {
+        for (Player undertaker : undertakers) {
+            if (!undertaker.isAlive()) continue;
+            Player corpse = nightAbilityTargets.get(undertaker);
+            JobType corpseJob = corpse.getJob().getJobType();
+            publishPrivate(undertaker, GameEventType.AUTOPSY, undertaker, corpse, corpseJob, true);
+            if (beliefTracker != null) beliefTracker.observePrivateReveal(undertaker.getPlayerNumber() - 1, corpse.getPlayerNumber() - 1, corpseJob);
+        }
+    }
 
-        // 4.4. 접선 처리도 Job의 performNightAction에서 recordPrivateNightResult로 처리.
+    /**
+     * 탐정 추리: 살아 있는 탐정에게 대상이 이번 밤에 능력으로 지목한 플레이어를 알려줌 (지목하지 않았으면 실패)
+     * 
+     * @param detectives 밤 능력을 사용한 탐정
+     * @param context    밤 행동 결과 컨텍스트
+     */
+    void resolveDetection(List<Player> detectives, NightActionContext context) {
+        for (Player detective : detectives) {
+            if (!detective.isAlive()) continue;
+            Player suspect = nightAbilityTargets.get(detective);
+            Player suspectTarget = nightAbilityTargets.get(suspect);
+            publishPrivate(detective, GameEventType.DETECTION, suspect, suspectTarget, null, suspectTarget != null);
+        }
+    }
 
-        // 4.5. 기자 취재 결과 (낮에 공개될 내용 준비)
-        if (context.reporterTarget != null && context.reporterOriginalJob != null) {
-            Player reporterPlayer = getPlayerByJob(Reporter.class);
-            if (reporterPlayer != null && reporterPlayer.isAlive()) {
-                 publicAnnouncements.add("기자의 취재 결과, " + context.reporterTarget.getName() + "님의 직업은 [" + context.reporterOriginalJob + "] 입니다.");
-            } else {
-                 publicAnnouncements.add("기자가 취재를 시도했으나, 밤 사이 사망하여 취재 결과가 무효화되었습니다.");
+    /**
+     * 2. 모든 능력을 판정한 뒤의 결과 처리 (공격이 없었던 밤의 의사 결과, 첫날 밤 도굴꾼)
+     * 정보 수집 능력과 접선은 개인 결과 확인 페이즈에서, 장의사 부검과 탐정 추리는 정보 처리기(resolveAutopsy, resolveDetection)에서 처리
+     * 
+     * @param context 밤 행동 결과가 담긴 컨텍스트 객체
+     */
+    private void finishNightResults(NightActionContext context) {
+        // 2.1. 마피아 공격이 없었던 밤에는 치료한 의사에게 알림
+        if (context.mafiaAttackTarget == null) {
+            for (Map.Entry<Player, Player> entry : context.healedBy.entrySet()) {
+                Player doctor = entry.getValue();
+                publishPrivate(doctor, GameEventType.NOT_ATTACKED, doctor, entry.getKey(), null, false);
             }
         }
-        // 장의사 부검도 유사하게 처리
 
-        // 5. 도굴꾼 능력 처리 (첫날 밤)
-        if (dayCount == 0 && !context.diedThisNight.isEmpty()) {
-            Player graveRobber = getPlayerByJob(GraveRobber.class);
+        // 2.2. 도굴꾼 능력 처리 (첫날 밤)
+        if (dayCount == 1 && !context.diedThisNight.isEmpty()) {
+            Player graveRobber = getPlayerByJobType(JobType.GRAVEROBBER);
             if (graveRobber != null && graveRobber.isAlive()) {
                 Player firstDeadByAttack = context.diedThisNight.stream()
                         .filter(p -> nightAbilityTargets.containsValue(p))
                         .findFirst().orElse(null);
 
                 if (firstDeadByAttack != null) {
-                    Job stolenJob = firstDeadByAttack.getJob();
+                    // 사망자의 직업 객체를 공유하지 않고 새로 만들어, 규칙상 이어받는 1회성 능력 사용 여부만 옮김
+                    Job deadJob = firstDeadByAttack.getJob();
+                    Job stolenJob = JobFactory.create(deadJob.getJobType());
+                    stolenJob.setOneTimeAbilityUsed(deadJob.hasUsedOneTimeAbility());
                     graveRobber.setJob(stolenJob);
-                    recordPrivateNightResult(graveRobber, "당신은 " + firstDeadByAttack.getName() + "님의 직업 [" + stolenJob.getJobName() + "]을 도굴했습니다.");
-                    publicAnnouncements.add("도굴꾼이 밤 사이 누군가의 직업을 도굴한 것 같습니다...");
+                    publishPrivate(graveRobber, GameEventType.GRAVE_ROB, graveRobber, firstDeadByAttack, stolenJob.getJobType(), true);
+                    if (beliefTracker != null) {
+                        beliefTracker.observePrivateReveal(graveRobber.getPlayerNumber() - 1, firstDeadByAttack.getPlayerNumber() - 1, stolenJob.getJobType());
+                        beliefTracker.observePrivateReveal(graveRobber.getPlayerNumber() - 1, graveRobber.getPlayerNumber() - 1, stolenJob.getJobType());
+                    }
+                    publishPublic(GameEventType.GRAVE_ROB, null, null, null, true);
                 }
             }
         }
@@ -757,7 +1042,7 @@ public class GameManager {
 	 * 밤 개인 결과 확인 페이즈
 	 */
 	private void processNightPrivateConfirmPhase() {
-		System.out.println("밤 동안의 개인 결과를 확인합니다.");
+		announce(MessageKey.PRIVATE_RESULTS_START);
 		for (int i = 0; i < players.size(); i++) {
 			currentPlayerIndex = i;
 			Player currentPlayer = players.get(currentPlayerIndex);
@@ -765,45 +1050,37 @@ public class GameManager {
 			if (!currentPlayer.isAlive())
 				continue;
 
-			displayMessageToPlayer(currentPlayer, "당신의 차례입니다. 화면을 확인하세요.");
-
-			// GameManager에 저장된 해당 플레이어의 밤 결과 정보를 가져옴
-			Object resultInfo = nightResultsForPrivateConfirmation.get(currentPlayer);
+			if (headless) {
+				eventBus.dispatchPrivate(i, null); // 구독자에게만 전달 (문장 생성 없음)
+				continue;
+			}
 
-			// Job 객체를 통해 개인 결과 메시지 가져오기
-			// 이제 getPrivateNightResultMessage에 결과 정보를 전달
-			// String privateMessage = currentPlayer.getPrivateNightResultMessage(null,
-			// this); // 아직 target 전달 안됨. target도 결과 정보에 포함되거나 다른 방식으로 전달 필요
-			// **더 나은 호출 방식:** (위는 이전 버전)
-			String privateMessage = currentPlayer.getJob().getPrivateNightResultMessage(currentPlayer, resultInfo,
-					this); // Job에서 직접 메시지 생성
+			displayMessageToPlayer(currentPlayer, MessageKey.YOUR_TURN);
 
-			if (privateMessage != null && !privateMessage.isEmpty()) {
-				displayMessageToPlayer(currentPlayer, privateMessage);
-			} else {
-				displayMessageToPlayer(currentPlayer, "특별한 개인 결과가 없습니다.");
+			// 이 플레이어에게 쌓인 개인 결과를 발행 순서대로 모두 표시
+			// 직업이 메시지를 직접 만들면(getPrivateNightResultMessage) 그 메시지를, 아니면 기본 문장을 사용
+			privateResultPresenter.player = currentPlayer;
+			if (eventBus.dispatchPrivate(i, privateResultPresenter) == 0) {
+				displayMessageToPlayer(currentPlayer, MessageKey.NO_PRIVATE_RESULT);
 			}
 
-			getPlayerInput(currentPlayer, "확인 후 Enter 키를 누르고 다음 사람에게 넘기세요.");
+			getPlayerInput(currentPlayer, MessageKey.CONFIRM_AND_PASS);
 			clearConsole();
 		}
-		nightResultsForPrivateConfirmation.clear(); // 확인 후 초기화
-
+		// 확인하지 못한 (사망한) 플레이어의 결과도 구독자에게 전달하고 비움
+		for (int i = 0; i < players.size(); i++) {
+			eventBus.dispatchPrivate(i, null);
+		}
 	}
 
 	/**
 	 * 낮 공개 결과 발표 페이즈
 	 */
 	private void processDayPublicAnnouncementPhase() {
-		System.out.println("낮이 밝았습니다. 밤 동안의 공개 결과입니다.");
-		if (publicAnnouncements.isEmpty()) {
-			System.out.println("밤 사이 아무 일도 일어나지 않았습니다.");
-		} else {
-			for (String announcement : publicAnnouncements) {
-				System.out.println(announcement);
-			}
+		announce(MessageKey.DAY_START);
+		if (eventBus.dispatchPublic(headless ? null : publicAnnouncer) == 0) {
+			announce(MessageKey.QUIET_NIGHT);
 		}
-		publicAnnouncements.clear(); // 발표 후 초기화
 		executedPlayersToday.clear(); // 새 날이므로 초기화
 	}
 
@@ -811,57 +1088,82 @@ public class GameManager {
 	 * 낮 토론 페이즈
 	 */
 	private void processDayDiscussionPhase() {
-		System.out.println("토론 시간입니다. 자유롭게 토론하세요.");
+		announce(MessageKey.DISCUSSION_START);
+		if (deadlineService != null && deadlineService.hasDeadline(GamePhase.DAY_DISCUSSION)) {
+			// 입력을 기다리지 않고 반환, startGameAsync()가 마감 시간이 지나거나 전원이 준비되면 다음 페이즈를 진행
+			activeDeadline = deadlineService.open(roomId, GamePhase.DAY_DISCUSSION, getLivingPlayers(), null);
+			announce(MessageKey.DISCUSSION_DEADLINE, activeDeadline.getDurationMillis() / 1000);
+			return;
+		}
 		// 텍스트 기반에서는 실제 토론은 플레이어들이 하고, 앱은 시간 제한 정도만 둘 수 있음
 		// 여기서는 간단히 메시지만 출력하고 넘어감
-		getPlayerInput(null, "토론이 끝나면 Enter 키를 누르세요."); // 대표로 한명만 입력받는 방식
+		getPlayerInput(null, MessageKey.DISCUSSION_END_PROMPT); // 대표로 한명만 입력받는 방식
 	}
 
 	/**
 	 * 낮 투표 페이즈
 	 */
 	private void processDayVotePhase() {
-		System.out.println("투표 시간입니다. 처형할 사람을 지목해주세요.");
+		announce(MessageKey.VOTE_START);
 		voteRecords.clear(); // 투표 기록 초기화
 
 		List<Player> livingVoters = getLivingPlayers();
-		for (Player voter : livingVoters) {
+		PhaseDeadline voteDeadline = null;
+		boolean timed = deadlineService != null && deadlineService.hasDeadline(GamePhase.DAY_VOTE);
+		long inputDeadline = timed ? io.beginDeadline() : 0; // 입출력의 마감 시간 번호 (늦게 실행된 마감 콜백이 다음 입력을 끊지 않도록 구분)
+		if (timed) {
+			voteDeadline = deadlineService.open(roomId, GamePhase.DAY_VOTE, livingVoters, () -> io.interruptInput(inputDeadline));
+			activeDeadline = voteDeadline;
+			announce(MessageKey.VOTE_DEADLINE, voteDeadline.getDurationMillis() / 1000);
+		}
+		for (int v = 0; v < livingVoters.size(); v++) {
+			Player voter = livingVoters.get(v);
+			if (voteDeadline != null && voteDeadline.isExpired()) {
+				announce(MessageKey.VOTE_DEADLINE_PASSED); // 남은 사람은 기권
+				recordVoteClosed(livingVoters, v);
+				break;
+			}
 			if (!voter.canVoteToday()) {
-				displayMessageToPlayer(voter, "당신은 오늘 투표할 수 없습니다 (건달 협박).");
-				getPlayerInput(voter, "확인 후 Enter 키를 누르고 넘기세요.");
+				displayMessageToPlayer(voter, MessageKey.VOTE_BLOCKED);
+				getPlayerInput(voter, MessageKey.CONFIRM_AND_PASS_SHORT);
 				clearConsole();
 				continue;
 			}
 
 			currentPlayerIndex = players.indexOf(voter); // 현재 투표자 인덱스 설정
-			displayMessageToPlayer(voter, voter.getName() + "님, 투표할 대상을 선택하세요.");
-			List<Player> voteTargets = getLivingPlayers();
-
-			for (int i = 0; i < voteTargets.size(); i++) {
-				displayMessageToPlayer(voter, (i + 1) + ". " + voteTargets.get(i).getName());
-			}
-
-			int choice = -1;
-			while (true) {
-				String input = getPlayerInput(voter, "번호를 입력하세요: ");
-				try {
-					choice = Integer.parseInt(input) - 1;
-					if (choice >= 0 && choice < voteTargets.size()) {
-						break;
-					} else {
-						displayMessageToPlayer(voter, "잘못된 번호입니다. 다시 입력하세요.");
-					}
-				} catch (NumberFormatException e) {
-					displayMessageToPlayer(voter, "숫자로 입력해주세요.");
-				}
+			displayMessageToPlayer(voter, MessageKey.VOTE_CHOOSE, voter.getName());
+			Player votedPlayer = selectPlayer(voter, getLivingPlayers(), MessageKey.ENTER_NUMBER);
+			if (votedPlayer == null) { // 입력 중 마감 시간 경과
+				announce(MessageKey.VOTE_DEADLINE_PASSED);
+				break;
 			}
-			Player votedPlayer = voteTargets.get(choice);
-			voteRecords.put(voter, votedPlayer);
-			displayMessageToPlayer(voter, votedPlayer.getName() + "님에게 투표했습니다.");
+			recordVote(voter, votedPlayer);
+			displayMessageToPlayer(voter, MessageKey.VOTED_FOR, votedPlayer.getName());
 
-			getPlayerInput(voter, "투표 완료. Enter 키를 누르고 넘기세요.");
+			getPlayerInput(voter, MessageKey.VOTE_DONE);
 			clearConsole();
 		}
+		if (voteDeadline != null) {
+			voteDeadline.finish(); // 마감 전에 모두 투표했으면 타이머 취소
+			io.endDeadline(inputDeadline);
+		}
+	}
+
+	/**
+	 * 투표 차례 사이(또는 확인 입력 중)에 마감 시간이 지나 투표를 끝낼 때, 다음 차례 투표자의 기권을 기록
+	 * 재현 시 그 투표자의 선택이 기권(null)으로 돌아와 같은 위치에서 투표가 끝나도록 함 (남은 투표자가 모두 투표 금지면 기록하지 않음)
+	 * 
+	 * @param voters 투표 순서
+	 * @param from   다음 차례의 순번
+	 */
+	private void recordVoteClosed(List<Player> voters, int from) {
+		if (recordListener == null) return;
+		for (int i = from; i < voters.size(); i++) {
+			if (voters.get(i).canVoteToday()) {
+				recordListener.onDecision(DecisionType.VOTE, voters.get(i), null);
+				return;
+			}
+		}
 	}
 
 	/**
@@ -869,71 +1171,59 @@ public class GameManager {
 	 */
 	private void processDayExecutionPhase() {
 		if (voteRecords.isEmpty()) {
-			System.out.println("투표가 진행되지 않았습니다.");
+			announce(MessageKey.NO_VOTES);
 			return;
 		}
 
-		// 투표 결과 집계
-		Map<Player, Integer> voteCounts = new HashMap<>();
-		
-		voteCounts.clear(); // 다시 계산
-		int maxVotes = 0;
-		
-		for (Player targetPlayer : getLivingPlayers()) { // 모든 살아있는 플레이어를 대상으로 득표수 계산
-			int currentVotesForTarget = 0;
-			for (Map.Entry<Player, Player> entry : voteRecords.entrySet()) {
-				Player voter = entry.getKey();
-				Player votedTarget = entry.getValue();
-				if (votedTarget.equals(targetPlayer)) { // 투표 대상이 현재 정확한지 확인
-					if (voter.getJob() instanceof com.mafiagame.logic.job.Politician) { // 정치인 논객 능력 고려 (Politician 클래스
-																						// 직접 참조)
-						currentVotesForTarget += 2;
-					} else {
-						currentVotesForTarget += 1;
-					}
-				}
-			}
-			voteCounts.put(targetPlayer, currentVotesForTarget);
-			if (currentVotesForTarget > maxVotes) {
-				maxVotes = currentVotesForTarget;
-			}
+		// 투표 결과 집계 (투표 기록 1회 순회, 최다 득표/동점은 누적과 동시에 계산)
+		tallyEvent.begin();
+		voteTally.reset();
+		for (Map.Entry<Player, Player> entry : voteRecords.entrySet()) {
+			Player votedTarget = entry.getValue();
+			if (!votedTarget.isAlive()) continue; // 살아있는 플레이어만 득표 대상
+			voteTally.addVote(votedTarget.getPlayerNumber() - 1, entry.getKey().getJob().getVoteWeight()); // 정치인 논객 능력 등 직업별 투표력
 		}
-
-		List<Player> mostVotedPlayers = new ArrayList<>();
-		if (maxVotes > 0) { // 아무도 투표 안 받은 경우 제외
-			for (Map.Entry<Player, Integer> entry : voteCounts.entrySet()) {
-				if (entry.getValue() == maxVotes) {
-					mostVotedPlayers.add(entry.getKey());
-				}
-			}
+		tallyEvent.end();
+		if (tallyEvent.shouldCommit()) {
+			tallyEvent.roomId = roomId;
+			tallyEvent.day = dayCount;
+			tallyEvent.voters = voteRecords.size();
+			tallyEvent.candidates = voteTally.getVotedCount();
+			tallyEvent.tie = voteTally.isTied();
+			tallyEvent.commit();
 		}
 
-		System.out.println("\n--- 투표 결과 ---");
-		for (Map.Entry<Player, Integer> entry : voteCounts.entrySet()) {
-			if (entry.getValue() > 0) { // 0표는 표시 안함 (선택)
-				System.out.println(entry.getKey().getName() + ": " + entry.getValue() + "표");
+		if (!headless) {
+			announce(MessageKey.VOTE_RESULT_HEADER);
+			for (int i = 0; i < voteTally.getVotedCount(); i++) {
+				int index = voteTally.getVotedIndex(i);
+				announce(MessageKey.VOTE_RESULT_LINE, players.get(index).getName(), voteTally.getVotes(index));
 			}
 		}
 
-		if (mostVotedPlayers.size() == 1) {
-			Player executedPlayer = mostVotedPlayers.get(0);
-			System.out.println("\n투표 결과, " + executedPlayer.getName() + "님이 최다 득표하였습니다.");
+		int winnerIndex = voteTally.getWinnerIndex();
+		if (winnerIndex >= 0) {
+			Player executedPlayer = players.get(winnerIndex);
+			if (!headless) announce(MessageKey.VOTE_TOP, executedPlayer.getName());
 
 			// 정치인 처세 능력 확인
 			if (executedPlayer.getJob() instanceof com.mafiagame.logic.job.Politician) {
 				Politician politicianJob = (Politician) executedPlayer.getJob(); // 타입 캐스팅
 				if (politicianJob.canEvadeExecutionByInfluence()) { // 정치인의 특화된 메서드 호출
-					System.out.println(executedPlayer.getName() + "님은 정치인의 처세 능력으로 추방을 면했습니다! 직업은 [정치인] 입니다.");
+					if (!headless) announce(MessageKey.POLITICIAN_EVADED, executedPlayer.getName());
+					metrics.increment(EngineCounter.POLITICIAN_EVASION);
+					revealPublicly(executedPlayer, JobType.POLITICIAN);
 					// 정체 공개, 추방되지 않음
 				}
 			} else {
 				processExecution(executedPlayer);
 			}
 
-		} else if (mostVotedPlayers.size() > 1) {
-			System.out.println("\n최다 득표자가 " + mostVotedPlayers.size() + "명으로 동점이므로, 아무도 추방되지 않습니다.");
+		} else if (voteTally.isTied()) {
+			if (!headless) announce(MessageKey.VOTE_TIE, voteTally.getLeaderCount());
+			metrics.increment(EngineCounter.TIED_VOTE);
 		} else { // maxVotes == 0 인 경우 (아무도 투표 안했거나, 모든 투표가 0표)
-			System.out.println("\n투표 결과, 아무도 추방되지 않았습니다.");
+			announce(MessageKey.NOBODY_EXECUTED);
 		}
 		voteRecords.clear(); // 투표 기록 초기화
 	}
@@ -944,7 +1234,7 @@ public class GameManager {
 	 * @param executedPlayer 추방될 플레이어
 	 */
 	private void processExecution(Player executedPlayer) {
-		System.out.println(executedPlayer.getName() + "님이 추방되어 게임에서 탈락합니다.");
+		if (!headless) announce(MessageKey.EXECUTED, executedPlayer.getName());
 		// executedPlayer.die(); // die()는 사망 메시지까지 출력하므로, 여기서는 상태만 변경하거나 메시지 조정
 
 		// 테러리스트 능력 확인 및 처리
@@ -952,39 +1242,25 @@ public class GameManager {
 			// TODO Terrorist 클래스에 selectTargetForTerror(List<Player> livingPlayers,
 			// GameManager gm) 같은 메서드 필요
 			// 임시로 로직 구현
-			System.out.println(executedPlayer.getName() + "님은 테러리스트입니다! 동반 탈락할 대상을 선택합니다.");
+			if (!headless) announce(MessageKey.TERRORIST_EXECUTED, executedPlayer.getName());
+			revealPublicly(executedPlayer, JobType.TERRORIST);
 			List<Player> terrorTargets = new ArrayList<>(getLivingPlayers());
 			terrorTargets.remove(executedPlayer); // 자신 제외
 
 			if (!terrorTargets.isEmpty()) {
-				for (int i = 0; i < terrorTargets.size(); i++) {
-					displayMessageToPlayer(executedPlayer, (i + 1) + ". " + terrorTargets.get(i).getName());
-				}
-				int choice = -1;
-				while (true) {
-					String input = getPlayerInput(executedPlayer, "동반 탈락시킬 대상의 번호를 입력하세요: ");
-					try {
-						choice = Integer.parseInt(input) - 1;
-						if (choice >= 0 && choice < terrorTargets.size()) {
-							break;
-						} else {
-							displayMessageToPlayer(executedPlayer, "잘못된 번호입니다. 다시 입력하세요.");
-						}
-					} catch (NumberFormatException e) {
-						displayMessageToPlayer(executedPlayer, "숫자로 입력해주세요.");
-					}
-				}
-				Player terrorTarget = terrorTargets.get(choice);
-				System.out.println(executedPlayer.getName() + "님의 테러로 " + terrorTarget.getName() + "님이 함께 탈락합니다!");
+				Player terrorTarget = selectPlayer(executedPlayer, terrorTargets, MessageKey.TERROR_PROMPT);
+				if (!headless) announce(MessageKey.TERROR_NOW, executedPlayer.getName(), terrorTarget.getName());
 				terrorTarget.die();
-				publicAnnouncements
-						.add(executedPlayer.getName() + "님의 테러로 " + terrorTarget.getName() + "님이 함께 탈락했습니다.");
-				if (terrorTarget.getJob().getInitialTeam() == Team.MAFIA) { // 룰: 마피아일 경우 직업 공개
-					System.out.println(terrorTarget.getName() + "님의 직업은 [마피아]였습니다.");
-					publicAnnouncements.add(terrorTarget.getName() + "님의 직업은 [마피아]였습니다.");
+				publishPublic(GameEventType.DEATH, executedPlayer, terrorTarget, JobType.TERRORIST, true);
+				boolean mafiaRevealed = terrorTarget.getJob().getInitialTeam() == Team.MAFIA;
+				if (mafiaRevealed) { // 룰: 마피아일 경우 직업 공개
+					if (!headless) announce(MessageKey.EVENT_RULE_REVEAL, terrorTarget.getName(), JobDefinition.of(JobType.MAFIA).getJobName());
+					publishPublic(GameEventType.REVEAL, null, terrorTarget, JobType.MAFIA, true);
+					publicRevealMask |= 1L << (terrorTarget.getPlayerNumber() - 1); // 팀만 드러나므로 직업 추정기에는 아래 팀 확인으로 전달
 				}
+				if (beliefTracker != null) beliefTracker.observePublicTeamCheck(terrorTarget.getPlayerNumber() - 1, Team.MAFIA, mafiaRevealed);
 			} else {
-				System.out.println("테러할 대상이 없습니다.");
+				announce(MessageKey.NO_TERROR_TARGET);
 			}
 		}
 
@@ -998,25 +1274,36 @@ public class GameManager {
 	 * @return 게임이 종료되었으면 true, 아니면 false
 	 */
 	private boolean checkWinConditions() {
-		// TODO: 룰에 정의된 각 팀의 승리 조건 판정 로직 구현
-		// 1. 생존한 각 팀 인원수 계산 (마피아팀, 시민팀, 간첩팀)
-		// 2. 마피아팀 승리 조건 확인 (정치인/건달 패널티 포함)
-		// 3. 시민팀 승리 조건 확인 (클래식/간첩 모드별)
-		// 4. 간첩팀 승리 조건 확인
-		// 5. 승리팀 발생 시 isGameOver = true, winningTeam 설정. 승리 우선순위 적용.
-
-		// 임시 로직: 모든 마피아가 죽으면 시민 승리 (매우 단순화)
-		// List<Player> livingMafia = players.stream()
-		// .filter(p -> p.isAlive() && p.getCurrentTeam() == Team.MAFIA)
-		// .collect(Collectors.toList());
-		// if (livingMafia.isEmpty() && players.stream().anyMatch(p -> p.isAlive() &&
-		// p.getCurrentTeam() == Team.CITIZEN)) {
-		// winningTeam = Team.CITIZEN;
-		// isGameOver = true;
-		// currentPhase = GamePhase.GAME_OVER;
-		// return true;
-		// }
-		return false; // 임시 반환
+		// 1. 생존한 각 팀 인원수 (TeamCounters가 사망/직업 변경/포섭 시 갱신하므로 순회 없이 조회)
+		int mafia = teamCounters.living(Team.MAFIA);
+		int citizen = teamCounters.living(Team.CITIZEN);
+		int spy = teamCounters.living(Team.SPY);
+
+		// 2. 정치인/건달 패널티: 시민 팀에 정치인이 살아 있으면 2표를 행사하므로 1명, 건달이 살아 있으면 투표를 막을 수 있으므로 1명을 더해 계산
+		int citizenStrength = citizen
+				+ teamCounters.living(Team.CITIZEN, JobType.POLITICIAN)
+				+ teamCounters.living(Team.CITIZEN, JobType.GANGSTER);
+
+		// 3. 승리 우선순위: 마피아 -> 간첩 -> 시민
+		Team winner = null;
+		if (mafia > 0 && mafia >= citizenStrength + spy) {
+			winner = Team.MAFIA; // 마피아 팀 인원이 나머지 팀 (패널티 포함) 이상
+		} else if (gameMode == GameMode.SPY && spy > 0 && mafia == 0 && spy >= citizenStrength) {
+			winner = Team.SPY; // 간첩 모드: 마피아 전멸 후 간첩 팀 인원이 시민 팀 (패널티 포함) 이상
+		} else if (mafia == 0 && spy == 0 && citizen > 0) {
+			winner = Team.CITIZEN; // 마피아 팀 (간첩 모드에서는 간첩 팀도) 전멸
+		} else if (mafia == 0 && spy == 0 && citizen == 0) {
+			currentPhase = GamePhase.GAME_OVER; // 모두 사망: 승리 팀 없이 종료
+			return true;
+		}
+
+		if (winner == null) {
+			return false;
+		}
+		// 4. 승리 팀 설정 후 GAME_OVER 페이즈로 전환 (다음 runNextPhase()에서 발표 및 종료)
+		winningTeam = winner;
+		currentPhase = GamePhase.GAME_OVER;
+		return true;
 	}
 
 	/**
@@ -1024,14 +1311,10 @@ public class GameManager {
 	 */
 	private void announceWinner() {
 		if (winningTeam != null) {
-			System.out.println("\n===================================");
-			System.out.println("         게임 종료! 승리: " + winningTeam + " 팀!");
-			System.out.println("===================================");
+			announce(MessageKey.WINNER, winningTeam);
 			// 추가적으로 최종 생존자 및 직업 공개 등을 할 수 있음
 		} else {
-			System.out.println("\n===================================");
-			System.out.println("         게임 종료! (무승부 또는 오류)"); // 이 경우는 거의 없음
-			System.out.println("===================================");
+			announce(MessageKey.NO_WINNER); // 이 경우는 거의 없음
 		}
 	}
 
@@ -1047,48 +1330,250 @@ public class GameManager {
 
 	// --- 헬퍼(유틸리티) 메서드 ---
 
+	/**
+	 * 생존 플레이어 목록 반환 (플레이어 번호 순, 읽기 전용)
+	 * 다음 사망이 발생할 때까지 같은 목록을 재사용하므로 수정이 필요하면 복사해서 사용
+	 */
 	public List<Player> getLivingPlayers() {
-		List<Player> living = new ArrayList<>();
-		for (Player p : players) {
-			if (p.isAlive()) {
-				living.add(p);
-			}
+		return livingPlayers.asList();
+	}
+
+	/**
+	 * 생존 플레이어 집합 반환 (객체 생성 없는 순회, O(1) 인원수 조회용)
+	 */
+	public LivingPlayerSet getLivingPlayerSet() {
+		return livingPlayers;
+	}
+
+	public int getLivingPlayerCount() {
+		return livingPlayers.size();
+	}
+
+	/**
+	 * 플레이어 사망 시 Player.die()에서 호출되어 관련 상태를 갱신
+	 * 
+	 * @param player 사망한 플레이어
+	 */
+	void onPlayerDied(Player player) {
+		livingPlayers.remove(player);
+		roleIndex.onDied(player, jobTypeOf(player.getJob()));
+		teamCounters.add(player.getCurrentTeam(), jobTypeOf(player.getJob()), -1);
+	}
+
+	/**
+	 * 플레이어 직업 변경 시 Player.setJob()에서 호출되어 직업 색인을 갱신 (직업 배정, 도굴)
+	 * 
+	 * @param player  직업이 바뀐 플레이어
+	 * @param oldJob  이전 직업 (처음 배정이면 null)
+	 * @param oldTeam 직업 변경 전 현재 팀 (처음 배정이면 null)
+	 */
+	void onPlayerJobChanged(Player player, Job oldJob, Team oldTeam) {
+		roleIndex.onJobChanged(player, jobTypeOf(oldJob), jobTypeOf(player.getJob()));
+		if (player.isAlive()) {
+			teamCounters.add(oldTeam, jobTypeOf(oldJob), -1);
+			teamCounters.add(player.getCurrentTeam(), jobTypeOf(player.getJob()), +1);
+		}
+	}
+
+	/**
+	 * 플레이어 팀 변경 시 Player.setCurrentTeam()에서 호출되어 팀 인원수를 갱신 (간첩 포섭)
+	 * 
+	 * @param player  팀이 바뀐 플레이어
+	 * @param oldTeam 이전 팀
+	 */
+	void onPlayerTeamChanged(Player player, Team oldTeam) {
+		if (player.isAlive()) {
+			JobType jobType = jobTypeOf(player.getJob());
+			teamCounters.add(oldTeam, jobType, -1);
+			teamCounters.add(player.getCurrentTeam(), jobType, +1);
+		}
+	}
+
+	public TeamCounters getTeamCounters() {
+		return teamCounters;
+	}
+
+	private static JobType jobTypeOf(Job job) {
+		return job != null ? job.getJobType() : null;
+	}
+
+	/**
+	 * 특수 시민 직업 종류 목록 반환 (복사본, 정확 계산기 등에서 배정 가능한 조합 열거용)
+	 */
+	public static JobType[] getSpecialCitizenJobTypes() {
+		return SPECIAL_CITIZEN_JOB_TYPES.clone();
+	}
+
+	/**
+	 * 이름을 지정하지 않은 플레이어의 기본 이름 ("플레이어 1", "플레이어 2" 등)
+	 * 
+	 * @param playerNumber 플레이어 번호 (1부터)
+	 */
+	public static String defaultPlayerName(int playerNumber) {
+		return "플레이어 " + playerNumber;
+	}
+
+	/**
+	 * 기본 이름 목록 ("플레이어 1" ~ "플레이어 playerCount")
+	 */
+	public static List<String> defaultPlayerNames(int playerCount) {
+		String[] names = new String[playerCount];
+		for (int i = 0; i < playerCount; i++) {
+			names[i] = defaultPlayerName(i + 1);
 		}
-		return living;
+		return List.of(names);
 	}
 
 	public int getDayCount() {
 		return dayCount;
 	}
+
+	public GamePhase getCurrentPhase() {
+		return currentPhase;
+	}
+
+	public GameMode getGameMode() {
+		return gameMode;
+	}
+
+	public boolean isGameOver() {
+		return isGameOver;
+	}
+
+	public Team getWinningTeam() {
+		return winningTeam;
+	}
+
+	public boolean isHeadless() {
+		return headless;
+	}
+
+	public PlayerIO getPlayerIO() {
+		return io;
+	}
+
+	public long getSeed() {
+		return seed;
+	}
+
+	public void setDecisionMaker(DecisionMaker decisionMaker) {
+		this.decisionMaker = decisionMaker;
+	}
+
+	/**
+	 * 플레이어별 직업 추정 행렬 유지 여부 설정 (다음 setupGame()부터 적용)
+	 * 경찰 조사처럼 Job에서 처리하는 개인 결과는 getBeliefTracker()로 직접 반영
+	 */
+	public void setBeliefTrackingEnabled(boolean beliefTrackingEnabled) {
+		this.beliefTrackingEnabled = beliefTrackingEnabled;
+	}
+
+	/**
+	 * 플레이어별 직업 추정 행렬 (추적하지 않으면 null)
+	 */
+	public BeliefTracker getBeliefTracker() {
+		return beliefTracker;
+	}
+
+	/**
+	 * 게임 이벤트 버스 (공개/플레이어별 채널 구독용)
+	 */
+	public GameEventBus getEventBus() {
+		return eventBus;
+	}
+
+	/**
+	 * 토론/투표 마감 시간 사용 설정 (게임 서버의 방)
+	 * 토론은 입력 대신 마감 시간이나 전원 준비 완료(PhaseDeadlineService.markReady)로 끝나고,
+	 * 투표는 마감 시간이 지나면 남은 사람을 기권 처리함. 토론 대기는 startGameAsync()로 진행할 때만 적용됨
+	 *
+	 * 방 번호는 마감 시간 서비스 등록과 JFR 이벤트(단계, 밤 결과, 투표 집계)에 함께 쓰임 (GameRoom이 생성 시 한 번 호출)
+	 *
+	 * @param deadlineService 마감 시간 서비스 (null이면 사용 안 함, 방 번호는 JFR 이벤트에 그대로 쓰임)
+	 * @param roomId          방 번호
+	 */
+	public void setPhaseDeadlines(PhaseDeadlineService deadlineService, long roomId) {
+		this.deadlineService = deadlineService;
+		this.roomId = roomId;
+	}
+
+	public PhaseDeadline getActiveDeadline() {
+		return activeDeadline;
+	}
+
+	private boolean isVoteDeadlinePassed() {
+		PhaseDeadline deadline = activeDeadline;
+		return deadline != null && currentPhase == GamePhase.DAY_VOTE && deadline.getPhase() == GamePhase.DAY_VOTE && deadline.isExpired();
+	}
+
+	/**
+	 * 페이즈 사이 간격 설정 (startGame() 전에 호출, 시뮬레이션은 PhasePacer.NONE)
+	 */
+	public void setPhasePacer(PhasePacer phasePacer) {
+		this.phasePacer = phasePacer;
+	}
+
+	public PhasePacer getPhasePacer() {
+		return phasePacer;
+	}
+
+	/**
+	 * 단계별 지연 시간과 게임 결과를 기록할 계측 설정 (기본값은 JVM 공유 EngineMetrics.global())
+	 */
+	public void setMetrics(EngineMetrics metrics) {
+		this.metrics = metrics;
+	}
+
+	public EngineMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * 방 번호 (setPhaseDeadlines()로 설정, 기본값 0)
+	 */
+	public long getRoomId() {
+		return roomId;
+	}
+
+	public void setRecordListener(GameRecordListener recordListener) {
+		this.recordListener = recordListener;
+	}
 	
-	private Player getDoctorPlayer() {
-        for (Player p : players) {
-            if (p.isAlive() && p.getJob() instanceof Doctor) {
-                return p;
-            }
-        }
-        return null;
+    /**
+     * 해당 직업을 가진 생존 플레이어 반환 (직업 색인 조회, O(1))
+     * 
+     * @param jobType 직업 종류
+     * @return 생존 보유자 중 번호가 가장 빠른 플레이어, 없으면 null
+     */
+    public Player getPlayerByJobType(JobType jobType) {
+        return roleIndex.first(jobType);
     }
 
-    private Player getPlayerByJob(Class<? extends Job> jobClass) {
-        for (Player p : players) {
-            if (p.isAlive() && jobClass.isInstance(p.getJob())) {
-                return p;
-            }
-        }
-        return null;
+    public RoleIndex getRoleIndex() {
+        return roleIndex;
     }
 
 	/**
 	 * (텍스트 기반) 특정 플레이어에게 메시지를 보여줍니다. 실제 앱에서는 UI 업데이트로 대체됩니다.
 	 */
 	public void displayMessageToPlayer(Player player, String message) {
-		// player가 null이면 전체 공지로 처리하거나, 특정 플레이어 턴이 아닐 때
-		if (player != null) {
-			System.out.println("[" + player.getName() + "님께] " + message);
-		} else if (player == null) { // player가 null인 경우로 변경, 단 추후 앱 단계에서 앱에 맞게 최적화 필요
-			System.out.println("[전체] " + message); // 또는 다른 방식으로 처리
-		}
+		// player가 null이면 전체 공지로 처리 (출력 형식은 PlayerIO 구현체가 결정)
+		io.display(player, message);
+	}
+
+	/**
+	 * 특정 플레이어에게 템플릿 메시지를 보여줍니다. 문장은 PlayerIO 구현체가 실제로 표시할 때 만듭니다.
+	 */
+	private void displayMessageToPlayer(Player player, MessageKey key) {
+		io.display(player, key, null, null);
+	}
+
+	private void displayMessageToPlayer(Player player, MessageKey key, Object arg0) {
+		io.display(player, key, arg0, null);
+	}
+
+	private void displayMessageToPlayer(Player player, MessageKey key, Object arg0, Object arg1) {
+		io.display(player, key, arg0, arg1);
 	}
 
 	/**
@@ -1099,12 +1584,110 @@ public class GameManager {
 	 * @return 사용자 입력 문자열
 	 */
 	public String getPlayerInput(Player currentPlayer, String prompt) {
-		if (currentPlayer != null) {
-			System.out.print("[" + currentPlayer.getName() + "님] " + prompt);
+		return io.readInput(currentPlayer, prompt);
+	}
+
+	private String getPlayerInput(Player currentPlayer, MessageKey prompt) {
+		return io.readInput(currentPlayer, prompt);
+	}
+
+	/**
+	 * 후보 목록 중 한 명을 선택받습니다. (밤 능력 대상, 투표, 테러 대상 선택 등)
+	 * 
+	 * 결정자(DecisionMaker)가 설정되어 있으면 결정자가, 헤드리스 모드에서는 random이, 그 외에는 플레이어 입력으로 선택합니다.
+	 * 모든 선택은 기록 수신자에게 전달되므로, 직업의 밤 능력도 대상 선택 시 이 메서드를 사용해야 재현이 가능합니다.
+	 * 
+	 * @param chooser    선택하는 플레이어
+	 * @param candidates 선택 가능한 플레이어 목록 (비어 있지 않아야 함)
+	 * @param prompt     입력 안내 메시지
+	 * @return 선택된 플레이어 (투표 중 마감 시간이 지나면 null)
+	 */
+	public Player selectPlayer(Player chooser, List<Player> candidates, String prompt) {
+		return selectPlayer(chooser, candidates, null, prompt);
+	}
+
+	/**
+	 * 후보 목록 중 한 명을 선택받습니다. (입력 안내를 템플릿으로 지정)
+	 */
+	private Player selectPlayer(Player chooser, List<Player> candidates, MessageKey prompt) {
+		return selectPlayer(chooser, candidates, prompt, null);
+	}
+
+	private Player selectPlayer(Player chooser, List<Player> candidates, MessageKey promptKey, String prompt) {
+		DecisionType type = getCurrentDecisionType();
+		Player chosen;
+		if (decisionMaker != null) {
+			chosen = decisionMaker.choose(type, chooser, candidates, this);
+		} else if (headless) {
+			chosen = candidates.get(random.nextInt(candidates.size()));
 		} else {
-			System.out.print(prompt);
+			chosen = readPlayerChoice(chooser, candidates, promptKey, prompt); // 투표 마감 시간 경과 시 null (기권)
 		}
-		return scanner.nextLine().trim();
+		if (recordListener != null) { // 기권(null)도 기록해야 재현 시 같은 투표 순서가 됨
+			recordListener.onDecision(type, chooser, chosen);
+		}
+		return chosen;
+	}
+
+	/**
+	 * 현재 페이즈에서 이루어지는 선택의 종류
+	 */
+	private DecisionType getCurrentDecisionType() {
+		switch (currentPhase) {
+		case DAY_VOTE:
+			return DecisionType.VOTE;
+		case DAY_EXECUTION:
+		case DAY_TERROR:
+			return DecisionType.TERROR;
+		default:
+			return DecisionType.NIGHT_TARGET;
+		}
+	}
+
+	/**
+	 * (텍스트 기반) 후보 목록을 보여주고 번호 입력을 받아 선택된 플레이어를 반환합니다.
+	 */
+	private Player readPlayerChoice(Player chooser, List<Player> candidates, MessageKey promptKey, String prompt) {
+		for (int i = 0; i < candidates.size(); i++) {
+			displayMessageToPlayer(chooser, MessageKey.CANDIDATE_LINE, i + 1, candidates.get(i).getName());
+		}
+		while (true) {
+			String input = promptKey != null ? getPlayerInput(chooser, promptKey) : getPlayerInput(chooser, prompt);
+			if (isVoteDeadlinePassed()) return null;
+			try {
+				int choice = Integer.parseInt(input) - 1;
+				if (choice >= 0 && choice < candidates.size()) {
+					return candidates.get(choice);
+				}
+				displayMessageToPlayer(chooser, MessageKey.INVALID_NUMBER);
+			} catch (NumberFormatException e) {
+				displayMessageToPlayer(chooser, MessageKey.NOT_A_NUMBER);
+			}
+		}
+	}
+
+	/**
+	 * 전체 공지 메시지를 출력합니다. 실제 출력 방식은 PlayerIO 구현체가 결정합니다.
+	 * 
+	 * @param message 출력할 메시지
+	 */
+	private void announce(String message) {
+		io.announce(message);
+	}
+
+	/**
+	 * 전체 공지 템플릿 메시지를 출력합니다. 문장은 PlayerIO 구현체가 실제로 표시할 때 만듭니다.
+	 */
+	private void announce(MessageKey key) {
+		io.announce(key, null, null);
+	}
+
+	private void announce(MessageKey key, Object arg0) {
+		io.announce(key, arg0, null);
+	}
+
+	private void announce(MessageKey key, Object arg0, Object arg1) {
+		io.announce(key, arg0, arg1);
 	}
 
 	/**
@@ -1112,36 +1695,32 @@ public class GameManager {
 	 * 합니다.
 	 */
 	private void clearConsole() {
-		// 간단히 여러 줄을 출력하여 이전 내용을 밀어 올림
-		for (int i = 0; i < 30; i++) { // 화면 크기에 따라 조절
-			System.out.println();
-		}
-		System.out.println("--- (화면이 전환되었습니다) ---");
+		io.clearScreen();
 	}
 
 	/**
-	 * GamePhase Enum 값을 사람이 읽기 쉬운 문자열로 변환합니다. (디버깅/로그용)
+	 * GamePhase Enum 값을 사람이 읽기 쉬운 이름으로 변환합니다. (메시지 인자로 넘기면 출력 언어에 맞게 표시됨)
 	 */
-	private String getPhaseName(GamePhase phase) {
+	private Object getPhaseName(GamePhase phase) {
 		if (phase == null)
-			return "알수없음";
+			return MessageKey.PHASE_UNKNOWN;
 		switch (phase) {
 		case NIGHT_JOB_CONFIRM_ABILITY:
-			return "첫날 밤: 직업 확인 및 능력 사용";
+			return MessageKey.PHASE_NIGHT_JOB_CONFIRM_ABILITY;
 		case NIGHT_ABILITY_USE:
-			return "밤: 능력 사용";
+			return MessageKey.PHASE_NIGHT_ABILITY_USE;
 		case NIGHT_PRIVATE_CONFIRM:
-			return "밤: 개인 결과 확인";
+			return MessageKey.PHASE_NIGHT_PRIVATE_CONFIRM;
 		case DAY_PUBLIC_ANNOUNCEMENT:
-			return "낮: 공개 결과 발표";
+			return MessageKey.PHASE_DAY_PUBLIC_ANNOUNCEMENT;
 		case DAY_DISCUSSION:
-			return "낮: 토론";
+			return MessageKey.PHASE_DAY_DISCUSSION;
 		case DAY_VOTE:
-			return "낮: 투표";
+			return MessageKey.PHASE_DAY_VOTE;
 		case DAY_EXECUTION:
-			return "낮: 처형";
+			return MessageKey.PHASE_DAY_EXECUTION;
 		case GAME_OVER:
-			return "게임 종료";
+			return MessageKey.PHASE_GAME_OVER;
 		default:
 			return phase.name(); // Enum 이름 그대로 반환
 		}
@@ -1174,15 +1753,233 @@ public class GameManager {
 		}
 	}
 
+	/**
+	 * 낮 투표를 기록합니다. (같은 투표자가 다시 투표하면 마지막 투표로 교체)
+	 * 
+	 * @param voter  투표한 플레이어
+	 * @param target 투표 대상 플레이어
+	 */
+	private void recordVote(Player voter, Player target) {
+		if (voter != null && target != null) {
+			voteRecords.put(voter, target);
+			if (beliefTracker != null) beliefTracker.observeVote(voter.getPlayerNumber() - 1, target.getPlayerNumber() - 1);
+		}
+	}
+
+	/**
+	 * 오늘 투표 기록에서 투표자가 지목한 대상 반환 (없으면 null)
+	 */
+	Player getVoteTarget(Player voter) {
+		return voteRecords.get(voter);
+	}
+
+	/**
+	 * 현재 게임 상태의 불변 스냅숏을 만듭니다. (플레이어, 밤 능력 기록, 투표 기록, 공지, 페이즈)
+	 * 
+	 * 객체 그래프를 깊이 복사하지 않고 압축 상태와 인덱스 배열만 만들기 때문에 가볍습니다.
+	 * 게임을 진행하는 스레드(예: DecisionMaker.choose() 안)에서 호출하고, 반환된 토큰은 여러 스레드에 넘겨도 안전합니다.
+	 * Random 상태는 포함하지 않으므로 복원 후의 무작위 선택은 복원한 GameManager의 Random을 따릅니다.
+	 * 
+	 * @return 상태 토큰
+	 */
+	public GameSnapshot snapshot() {
+		PackedGameState state = PackedGameState.capture(this);
+
+		int[] nightTargets = new int[nightAbilityTargets.size() * 2];
+		int n = 0;
+		for (Map.Entry<Player, Player> entry : nightAbilityTargets.entrySet()) {
+			nightTargets[n++] = entry.getKey().getPlayerNumber() - 1;
+			nightTargets[n++] = entry.getValue().getPlayerNumber() - 1;
+		}
+
+		// 아직 전달되지 않은 이벤트 (공개 발표 전, 개인 확인 전)
+		int pending = eventBus.pendingCount();
+		int[] events = new int[pending * GameSnapshot.EVENT_FIELDS];
+		Object[] payloads = new Object[pending];
+		int[] cursor = {0};
+		eventBus.forEachPending(event -> {
+			int e = cursor[0]++;
+			GameSnapshot.packEvent(events, e, event);
+			payloads[e] = event.getPayload();
+		});
+		return new GameSnapshot(state, playerNames, nightTargets, events, payloads, currentPlayerIndex, publicRevealMask);
+	}
+
+	/**
+	 * 스냅숏 시점의 상태로 되돌립니다.
+	 * 
+	 * 다른 GameManager에서 만든 스냅숏도 적용할 수 있으므로, 병렬 탐색에서는 작업 스레드마다 자신의 GameManager
+	 * (fromSnapshot()으로 생성)에 같은 토큰을 반복해서 복원하며 사용합니다. GameManager 자체는 스레드 안전하지 않습니다.
+	 * 
+	 * @param snapshot snapshot()이 반환한 토큰
+	 */
+	public void restore(GameSnapshot snapshot) {
+		restoreFrom(snapshot.packedState(), snapshot.playerNames());
+		for (int i = 0; i < snapshot.nightTargetCount(); i++) {
+			nightAbilityTargets.put(players.get(snapshot.nightTargetUser(i)), players.get(snapshot.nightTargetTarget(i)));
+		}
+		for (int i = 0; i < snapshot.pendingEventCount(); i++) {
+			snapshot.restorePendingEvent(i, eventBus);
+		}
+		this.currentPlayerIndex = snapshot.currentPlayerIndex();
+		this.publicRevealMask = snapshot.publicRevealMask();
+	}
+
+	/**
+	 * 스냅숏에서 시작하는 헤드리스 GameManager 생성 (가상 진행용, 출력 없음)
+	 * 
+	 * @param snapshot 시작 상태
+	 * @param seed     이후 무작위 선택에 사용할 시드
+	 * @return 새 GameManager
+	 */
+	public static GameManager fromSnapshot(GameSnapshot snapshot, long seed) {
+		GameManager gameManager = new GameManager(NoOpPlayerIO.INSTANCE, true, seed);
+		gameManager.restore(snapshot);
+		return gameManager;
+	}
+
+	/**
+	 * 압축 상태(PackedGameState)를 이 게임에 적용합니다.
+	 * 
+	 * 플레이어 수가 다르면 플레이어를 새로 만들고, 직업 종류가 바뀐 플레이어에게만 새 Job 객체를 배정합니다.
+	 * 밤 능력 기록, 공지, 개인 결과처럼 페이즈 안에서만 쓰이는 기록은 비웁니다.
+	 * 
+	 * @param state 적용할 상태
+	 */
+	void restoreFrom(PackedGameState state) {
+		restoreFrom(state, playerNames);
+	}
+
+	/**
+	 * 압축 상태를 적용하며 플레이어 이름도 맞춥니다. (이름이 다르면 플레이어를 새로 만듦, 이름 수가 맞지 않으면 기본 이름)
+	 */
+	private void restoreFrom(PackedGameState state, List<String> names) {
+		int count = state.getPlayerCount();
+		if (names.size() != count) {
+			names = defaultPlayerNames(count);
+		}
+		if (players.size() != count || (names != playerNames && !names.equals(playerNames))) {
+			players.clear();
+			for (int i = 0; i < count; i++) {
+				Player player = new Player(names.get(i), i + 1, null);
+				player.attachTo(this);
+				players.add(player);
+			}
+			this.livingPlayers = new LivingPlayerSet(players);
+			this.voteTally = new VoteTally(count);
+		}
+		this.playerNames = names;
+		this.playerCount = count;
+		this.gameMode = state.getGameMode();
+		this.dayCount = state.getDayCount();
+		this.currentPhase = state.getPhase();
+		this.isGameOver = state.isGameOver();
+		this.winningTeam = state.getWinningTeam();
+
+		for (int i = 0; i < count; i++) {
+			Player player = players.get(i);
+			JobType jobType = state.getJobType(i);
+			Job job = player.getJob();
+			if (jobType == null) {
+				job = null;
+			} else if (job == null || job.getJobType() != jobType) {
+				job = JobFactory.create(jobType);
+			}
+			if (job != null) {
+				job.setOneTimeAbilityUsed(state.isAbilityUsed(i));
+			}
+			player.restoreState(job, state.getTeam(i), state.isAlive(i), state.canVoteToday(i));
+		}
+
+		voteRecords.clear();
+		for (int i = 0; i < count; i++) {
+			int target = state.getVoteTarget(i);
+			if (target >= 0) {
+				voteRecords.put(players.get(i), players.get(target));
+			}
+		}
+		nightAbilityTargets.clear();
+		eventBus.reset(count);
+		intimidatedPlayers.clear();
+		executedPlayersToday.clear();
+		publicRevealMask = 0;
+		rebuildPlayerIndices();
+		if (beliefTracker != null && beliefTracker.getPlayerCount() != count) {
+			beliefTracker = null; // 직업 추정은 스냅숏에 포함되지 않으므로 다른 인원수의 게임이면 버림
+		}
+	}
+
+	/**
+	 * 플레이어 상태를 직접 바꾼 뒤 (상태 복원 등) 생존자 집합, 직업 색인, 팀 인원수를 다시 계산
+	 */
+	private void rebuildPlayerIndices() {
+		livingPlayers.reload(); // 같은 플레이어 목록이므로 기존 객체를 재사용 (반복 복원 시 할당 최소화)
+		roleIndex.clear();
+		teamCounters.clear();
+		for (Player player : players) {
+			JobType jobType = jobTypeOf(player.getJob());
+			roleIndex.onJobChanged(player, null, jobType); // 생존자만 색인에 추가됨
+			if (player.isAlive()) {
+				teamCounters.add(player.getCurrentTeam(), jobType, +1);
+			}
+		}
+	}
+
 	/**
 	 * 밤 능력 사용 후 개인에게 전달할 결과 정보를 기록합니다. Job 클래스의 performNightAction 내부에서 호출될 수 있습니다.
+	 * 같은 플레이어에게 여러 번 기록해도 덮어쓰지 않고 NOTE 이벤트로 순서대로 모두 전달됩니다.
 	 * 
 	 * @param player     결과를 확인할 플레이어
 	 * @param resultInfo 해당 플레이어에게 전달할 결과 정보 (문자열, Map, 사용자 정의 객체 등)
 	 */
 	public void recordPrivateNightResult(Player player, Object resultInfo) {
 		if (player != null) {
-			nightResultsForPrivateConfirmation.put(player, resultInfo);
+			eventBus.publishNote(player.getPlayerNumber() - 1, -1, resultInfo);
+		}
+	}
+
+	/**
+	 * 공개 이벤트 발행 (다음 낮 공개 발표 페이즈에 전달)
+	 */
+	private void publishPublic(GameEventType type, Player actor, Player target, JobType jobType, boolean success) {
+		eventBus.publish(GameEvent.PUBLIC, type, indexOf(actor), indexOf(target), jobType, success);
+	}
+
+	/**
+	 * 모두에게 직업이 공개된 플레이어 기록 (직업 추정기 사용 여부와 관계없이 스냅숏에 남아 탐색 봇이 다시 섞지 않음)
+	 */
+	private void revealPublicly(Player player, JobType jobType) {
+		publicRevealMask |= 1L << (player.getPlayerNumber() - 1);
+		if (beliefTracker != null) beliefTracker.observePublicReveal(player.getPlayerNumber() - 1, jobType);
+	}
+
+	/**
+	 * 개인 이벤트 발행 (밤 개인 결과 확인 페이즈에 receiver에게 전달)
+	 */
+	private void publishPrivate(Player receiver, GameEventType type, Player actor, Player target, JobType jobType, boolean success) {
+		if (receiver != null) {
+			eventBus.publish(indexOf(receiver), type, indexOf(actor), indexOf(target), jobType, success);
+		}
+	}
+
+	private static int indexOf(Player player) {
+		return player == null ? -1 : player.getPlayerNumber() - 1;
+	}
+
+	/**
+	 * 개인 결과를 확인 중인 플레이어에게 표시 (직업이 만든 메시지 우선, 없으면 기본 문장)
+	 */
+	private final class PrivateResultPresenter implements GameEventListener {
+		private Player player; // 결과를 확인 중인 플레이어
+
+		@Override
+		public void onEvent(GameEvent event) {
+			String message = player.getJob().getPrivateNightResultMessage(player, event, GameManager.this);
+			if (message == null || message.isEmpty()) {
+				GameEventFormatter.present(event, players, io, player);
+			} else {
+				displayMessageToPlayer(player, message);
+			}
 		}
 	}
 
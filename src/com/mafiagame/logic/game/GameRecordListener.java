@@ -0,0 +1,95 @@
+package com.mafiagame.logic.game;
+
+import com.mafiagame.logic.common.enums.DecisionType;
+import com.mafiagame.logic.common.enums.GameMode;
+import com.mafiagame.logic.common.enums.GamePhase;
+import com.mafiagame.logic.common.enums.Team;
+
+import java.util.List;
+
+/**
+ * 게임 재현에 필요한 정보(시드, 모든 결정, 종료 상태)를 전달받는 인터페이스
+ */
+public interface GameRecordListener {
+
+	/**
+	 * 게임 설정 시작 시 호출 (직업 배정 전)
+	 *
+	 * @param seed        직업 배정 등에 사용되는 Random 시드
+	 * @param gameMode    게임 모드
+	 * @param playerCount 플레이어 수
+	 */
+	void onGameSetup(long seed, GameMode gameMode, int playerCount);
+
+	/**
+	 * 게임 설정 시작 시 호출 (직업 배정 전, GameManager가 호출하는 쪽)
+	 * 플레이어 이름이 필요한 수신자(저널 등)만 재정의하며, 기본 구현은 인원수만 받는 onGameSetup()에 전달
+	 *
+	 * @param playerNames 플레이어 이름 (플레이어 번호 순)
+	 */
+	default void onGameSetup(long seed, GameMode gameMode, List<String> playerNames) {
+		onGameSetup(seed, gameMode, playerNames.size());
+	}
+
+	/**
+	 * 플레이어가 대상을 선택할 때마다 호출 (밤 능력, 투표, 테러)
+	 *
+	 * @param chosen 선택된 플레이어 (투표 마감 시간이 지나 기권하면 null)
+	 */
+	void onDecision(DecisionType type, Player chooser, Player chosen);
+
+	/**
+	 * 페이즈 하나가 끝나고 다음 페이즈로 넘어갈 때마다 호출 (게임 종료 시에는 onGameOver만 호출)
+	 *
+	 * @param nextPhase 다음 페이즈
+	 * @param dayCount  다음 페이즈의 일차
+	 */
+	default void onPhaseTransition(GamePhase nextPhase, int dayCount) {
+	}
+
+	/**
+	 * 게임 종료 시 호출
+	 *
+	 * @param gameManager 종료된 게임 (최종 상태 확인용)
+	 * @param winningTeam 승리 팀 (무승부면 null)
+	 */
+	void onGameOver(GameManager gameManager, Team winningTeam);
+
+	/**
+	 * 이 수신자와 next에 차례로 전달하는 수신자 (저널과 보관 기록을 함께 설정할 때 등)
+	 */
+	default GameRecordListener andThen(GameRecordListener next) {
+		GameRecordListener first = this;
+		return new GameRecordListener() {
+			@Override
+			public void onGameSetup(long seed, GameMode gameMode, int playerCount) {
+				first.onGameSetup(seed, gameMode, playerCount);
+				next.onGameSetup(seed, gameMode, playerCount);
+			}
+
+			@Override
+			public void onGameSetup(long seed, GameMode gameMode, List<String> playerNames) {
+				first.onGameSetup(seed, gameMode, playerNames);
+				next.onGameSetup(seed, gameMode, playerNames);
+			}
+
+			@Override
+			public void onDecision(DecisionType type, Player chooser, Player chosen) {
+				first.onDecision(type, chooser, chosen);
+				next.onDecision(type, chooser, chosen);
+			}
+
+			@Override
+			public void onPhaseTransition(GamePhase nextPhase, int dayCount) {
+				first.onPhaseTransition(nextPhase, dayCount);
+				next.onPhaseTransition(nextPhase, dayCount);
+			}
+
+			@Override
+			public void onGameOver(GameManager gameManager, Team winningTeam) {
+				first.onGameOver(gameManager, winningTeam);
+				next.onGameOver(gameManager, winningTeam);
+			}
+		};
+	}
+}
@@ -0,0 +1,168 @@
+package com.mafiagame.logic.game;
+
+import com.mafiagame.logic.common.enums.GameEventType;
+import com.mafiagame.logic.common.enums.GamePhase;
+import com.mafiagame.logic.common.enums.JobType;
+import com.mafiagame.logic.event.GameEvent;
+import com.mafiagame.logic.event.GameEventBus;
+
+import java.util.List;
+
+/**
+ * GameManager.snapshot()이 반환하는 불변 상태 토큰
+ *
+ * 플레이어 상태, 투표 기록, 페이즈/일차는 PackedGameState(long 최대 5개)로, 밤 능력 기록은 플레이어 인덱스 쌍으로,
+ * 아직 전달되지 않은 게임 이벤트는 int 필드 배열로 담음. 객체 그래프를 깊이 복사하지 않으므로 스냅숏 비용은 플레이어 수에 비례하는 작은 배열 복사뿐이고,
+ * 생성 후 바뀌지 않으므로 여러 작업 스레드가 같은 토큰을 각자의 GameManager에 restore()해도 안전
+ */
+public final class GameSnapshot {
+
+	static final int EVENT_FIELDS = 6;		// 이벤트 하나의 int 필드 수 (채널, 종류, 행동자, 대상, 직업, 성공)
+	private static final GameEventType[] EVENT_TYPES = GameEventType.values();
+	private static final JobType[] JOB_TYPES = JobType.values();
+
+	private final PackedGameState state;		// 플레이어, 투표 기록, 페이즈, 일차 (생성 후 변경 없음)
+	private final List<String> playerNames;	// 플레이어 이름 (GameManager와 공유하는 불변 목록)
+	private final int[] nightTargets;			// 밤 능력 기록 (사용자 인덱스, 대상 인덱스) 쌍
+	private final int[] pendingEvents;			// 아직 전달되지 않은 이벤트 (EVENT_FIELDS개씩, 발행 순서)
+	private final Object[] pendingPayloads;		// 이벤트별 NOTE 결과 정보 (참조 복사)
+	private final int currentPlayerIndex;		// 현재 턴 플레이어 인덱스
+	private final long publicRevealMask;		// 모두에게 직업이 공개된 플레이어 (인덱스 비트)
+
+	GameSnapshot(PackedGameState state, List<String> playerNames, int[] nightTargets, int[] pendingEvents, Object[] pendingPayloads,
+			int currentPlayerIndex, long publicRevealMask) {
+		this.state = state;
+		this.playerNames = playerNames;
+		this.nightTargets = nightTargets;
+		this.pendingEvents = pendingEvents;
+		this.pendingPayloads = pendingPayloads;
+		this.currentPlayerIndex = currentPlayerIndex;
+		this.publicRevealMask = publicRevealMask;
+	}
+
+	/**
+	 * 압축 상태 복사본 반환 (탐색 중 수정해도 토큰에는 영향 없음)
+	 */
+	public PackedGameState getState() {
+		return state.copy();
+	}
+
+	public int getPlayerCount() {
+		return state.getPlayerCount();
+	}
+
+	public int getDayCount() {
+		return state.getDayCount();
+	}
+
+	public GamePhase getPhase() {
+		return state.getPhase();
+	}
+
+	public long zobristHash() {
+		return state.zobristHash();
+	}
+
+	/**
+	 * 스냅숏 시점에 기록된 밤 능력 대상 인덱스
+	 *
+	 * @param userIndex 능력 사용자 인덱스 (플레이어 번호 - 1)
+	 * @return 대상 인덱스, 기록이 없으면 -1
+	 */
+	public int getNightTargetIndex(int userIndex) {
+		for (int i = 0; i < nightTargets.length; i += 2) {
+			if (nightTargets[i] == userIndex) return nightTargets[i + 1];
+		}
+		return -1;
+	}
+
+	/**
+	 * 스냅숏 시점에 기록된 투표 대상 인덱스
+	 *
+	 * @param voterIndex 투표자 인덱스 (플레이어 번호 - 1)
+	 * @return 대상 인덱스, 투표하지 않았으면 -1
+	 */
+	public int getVoteTargetIndex(int voterIndex) {
+		return state.getVoteTarget(voterIndex);
+	}
+
+	/**
+	 * 스냅숏 시점까지 모두에게 직업이 공개되었는지 (기자 취재, 군인 방어, 정치인 처세, 테러리스트 추방, 테러로 드러난 마피아)
+	 *
+	 * @param index 플레이어 인덱스 (플레이어 번호 - 1)
+	 */
+	public boolean isPubliclyRevealed(int index) {
+		return (publicRevealMask & (1L << index)) != 0;
+	}
+
+	/**
+	 * 플레이어 상태만 바꾼 스냅숏 생성 (밤 능력 기록, 이벤트 등은 공유)
+	 * 탐색 봇이 모르는 직업을 무작위로 다시 배정한 가상 상태를 만들 때 사용
+	 *
+	 * @param newState 새 압축 상태 (복사하여 보관)
+	 * @return 새 스냅숏
+	 */
+	public GameSnapshot withState(PackedGameState newState) {
+		if (newState.getPlayerCount() != state.getPlayerCount()) {
+			throw new IllegalArgumentException("플레이어 수가 다른 상태로 바꿀 수 없습니다.");
+		}
+		return new GameSnapshot(newState.copy(), playerNames, nightTargets, pendingEvents, pendingPayloads, currentPlayerIndex, publicRevealMask);
+	}
+
+	// --- GameManager.restore()용 ---
+
+	PackedGameState packedState() {
+		return state;
+	}
+
+	List<String> playerNames() {
+		return playerNames;
+	}
+
+	int nightTargetCount() {
+		return nightTargets.length / 2;
+	}
+
+	int nightTargetUser(int i) {
+		return nightTargets[2 * i];
+	}
+
+	int nightTargetTarget(int i) {
+		return nightTargets[2 * i + 1];
+	}
+
+	int pendingEventCount() {
+		return pendingPayloads.length;
+	}
+
+	/**
+	 * i번째 미전달 이벤트를 버스에 다시 넣음
+	 */
+	void restorePendingEvent(int i, GameEventBus bus) {
+		int base = i * EVENT_FIELDS;
+		int job = pendingEvents[base + 4];
+		bus.restorePending(pendingEvents[base], EVENT_TYPES[pendingEvents[base + 1]], pendingEvents[base + 2], pendingEvents[base + 3],
+				job < 0 ? null : JOB_TYPES[job], pendingEvents[base + 5] != 0, pendingPayloads[i]);
+	}
+
+	/**
+	 * 이벤트를 int 필드 배열의 i번째 자리에 기록 (payload 제외)
+	 */
+	static void packEvent(int[] events, int i, GameEvent event) {
+		int base = i * EVENT_FIELDS;
+		events[base] = event.getChannel();
+		events[base + 1] = event.getType().ordinal();
+		events[base + 2] = event.getActor();
+		events[base + 3] = event.getTarget();
+		events[base + 4] = event.getJobType() == null ? -1 : event.getJobType().ordinal();
+		events[base + 5] = event.isSuccess() ? 1 : 0;
+	}
+
+	int currentPlayerIndex() {
+		return currentPlayerIndex;
+	}
+
+	long publicRevealMask() {
+		return publicRevealMask;
+	}
+}
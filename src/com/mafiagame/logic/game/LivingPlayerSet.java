@@ -0,0 +1,131 @@
+package com.mafiagame.logic.game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 생존 플레이어 집합 (플레이어 번호 기준 비트셋)
+ *
+ * Player.die() 시 GameManager를 통해 갱신되며, 생존자 수 조회는 O(1),
+ * 순회는 객체 생성 없이 비트 연산으로 처리. 목록이 필요한 경우 다음 사망 전까지 캐시된 읽기 전용 목록 반환
+ */
+public class LivingPlayerSet {
+
+	private final Player[] playersByIndex;	// 인덱스(플레이어 번호 - 1) -> 플레이어
+	private final long[] aliveBits;			// 생존 여부 비트 (1 = 생존)
+	private int livingCount;				// 생존자 수
+	private List<Player> cachedView;		// 읽기 전용 생존자 목록 캐시 (사망 발생 시 무효화)
+
+	/**
+	 * 생성자
+	 *
+	 * @param players 전체 플레이어 목록 (플레이어 번호는 1부터 연속)
+	 */
+	LivingPlayerSet(List<Player> players) {
+		this.playersByIndex = new Player[players.size()];
+		this.aliveBits = new long[(players.size() + 63) >>> 6];
+		for (Player p : players) {
+			int index = p.getPlayerNumber() - 1;
+			playersByIndex[index] = p;
+			if (p.isAlive()) {
+				aliveBits[index >>> 6] |= 1L << index;
+				livingCount++;
+			}
+		}
+	}
+
+	/**
+	 * 플레이어를 생존 집합에서 제거 (사망 처리 시 호출)
+	 *
+	 * @param player 사망한 플레이어
+	 */
+	void remove(Player player) {
+		int index = player.getPlayerNumber() - 1;
+		long bit = 1L << index;
+		if ((aliveBits[index >>> 6] & bit) != 0) {
+			aliveBits[index >>> 6] &= ~bit;
+			livingCount--;
+			cachedView = null;
+		}
+	}
+
+	/**
+	 * 플레이어 생존 여부를 다시 읽어 집합을 재구성 (상태 복원 시, 같은 플레이어 목록)
+	 */
+	void reload() {
+		Arrays.fill(aliveBits, 0);
+		livingCount = 0;
+		cachedView = null;
+		for (int index = 0; index < playersByIndex.length; index++) {
+			if (playersByIndex[index].isAlive()) {
+				aliveBits[index >>> 6] |= 1L << index;
+				livingCount++;
+			}
+		}
+	}
+
+	/**
+	 * 생존자 수 (O(1))
+	 */
+	public int size() {
+		return livingCount;
+	}
+
+	public boolean isEmpty() {
+		return livingCount == 0;
+	}
+
+	public boolean contains(Player player) {
+		int index = player.getPlayerNumber() - 1;
+		return index >= 0 && index < playersByIndex.length && (aliveBits[index >>> 6] & (1L << index)) != 0;
+	}
+
+	/**
+	 * fromIndex 이상인 첫 번째 생존자 인덱스 반환 (객체 생성 없는 순회용)
+	 *
+	 * 사용 예: for (int i = set.nextIndex(0); i >= 0; i = set.nextIndex(i + 1)) { set.get(i); }
+	 *
+	 * @param fromIndex 검색 시작 인덱스 (플레이어 번호 - 1)
+	 * @return 생존자 인덱스, 없으면 -1
+	 */
+	public int nextIndex(int fromIndex) {
+		if (fromIndex >= playersByIndex.length) return -1;
+		int word = fromIndex >>> 6;
+		long bits = aliveBits[word] & (-1L << fromIndex);
+		while (true) {
+			if (bits != 0) {
+				return (word << 6) + Long.numberOfTrailingZeros(bits);
+			}
+			if (++word == aliveBits.length) return -1;
+			bits = aliveBits[word];
+		}
+	}
+
+	/**
+	 * 인덱스에 해당하는 플레이어 반환
+	 *
+	 * @param index 플레이어 인덱스 (플레이어 번호 - 1)
+	 */
+	public Player get(int index) {
+		return playersByIndex[index];
+	}
+
+	/**
+	 * 생존자 읽기 전용 목록 반환 (플레이어 번호 순)
+	 * 다음 사망이 발생할 때까지 같은 목록을 재사용
+	 */
+	public List<Player> asList() {
+		List<Player> view = cachedView;
+		if (view == null) {
+			List<Player> living = new ArrayList<>(livingCount);
+			for (int i = nextIndex(0); i >= 0; i = nextIndex(i + 1)) {
+				living.add(playersByIndex[i]);
+			}
+			view = Collections.unmodifiableList(living);
+			cachedView = view;
+		}
+		return view;
+	}
+}
@@ -0,0 +1,17 @@
+package com.mafiagame.logic.game;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 밤 동안의 행동 결과를 담는 헬퍼 클래스
+ * 직업별 밤 능력 처리기 사이에 (앞선 우선순위의 판정 결과를 뒤의 처리기가 확인하도록) 정보를 전달하기 위해 사용
+ */
+class NightActionContext {
+    Map<Player, Player> healedBy = new HashMap<>(); // 치료 대상 -> 치료한 의사
+    Map<Player, Boolean> isProtectedBySoldierMap = new HashMap<>();
+    Player mafiaAttackTarget = null; // 마피아 공격 지휘자가 고른 대상 (공격이 없었으면 null)
+    List<Player> diedThisNight = new ArrayList<>();
+}
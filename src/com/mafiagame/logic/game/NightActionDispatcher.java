@@ -0,0 +1,106 @@
+package com.mafiagame.logic.game;
+
+import com.mafiagame.logic.common.enums.JobType;
+import com.mafiagame.logic.common.enums.NightActionPriority;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 직업 종류별 밤 능력 처리기 분배 테이블
+ *
+ * 직업 종류(JobType)마다 처리기와 우선순위(보호 -> 공격 -> 상태 -> 정보)를 한 번 등록해 두고,
+ * 밤 능력 기록을 직업 종류별로 모은 뒤 미리 정렬해 둔 순서대로 처리기를 한 번씩 호출. 새 직업은 register() 한 줄로 추가
+ *
+ * 처리기 호출은 밤마다 능력을 쓴 직업 종류당 한 번뿐이고, 플레이어별 판정은 각 처리기 안에서 이루어짐
+ * (여러 처리기 구현을 거치는 호출 지점이 플레이어 수만큼 반복되지 않음)
+ */
+class NightActionDispatcher {
+
+	private static final JobType[] JOB_TYPES = JobType.values();
+
+	private final NightActionHandler[] handlers = new NightActionHandler[JOB_TYPES.length];		// 직업 종류 -> 처리기
+	private final NightActionPriority[] priorities = new NightActionPriority[JOB_TYPES.length];	// 직업 종류 -> 우선순위
+	private final List<JobType> registered = new ArrayList<>();									// 등록 순서
+	private JobType[] order = new JobType[0];													// 처리 순서 (우선순위 순, 같으면 등록 순)
+	private final List<List<Player>> usersByJob = new ArrayList<>(JOB_TYPES.length);				// 직업 종류별 능력 사용자 (재사용)
+
+	NightActionDispatcher() {
+		for (int i = 0; i < JOB_TYPES.length; i++) {
+			usersByJob.add(new ArrayList<>());
+		}
+	}
+
+	/**
+	 * 기본 직업들의 처리기가 등록된 분배기 생성
+	 */
+	static NightActionDispatcher createDefault() {
+		NightActionDispatcher dispatcher = new NightActionDispatcher();
+
+		dispatcher.register(JobType.DOCTOR, NightActionPriority.PROTECT, (users, context, gm) -> gm.resolveHeals(users, context));
+
+		// 마피아 공격 후 늑대인간 살육 (같은 군인을 노리면 마피아 공격에 방어를 씀)
+		dispatcher.register(JobType.MAFIA, NightActionPriority.ATTACK, (users, context, gm) -> gm.resolveMafiaAttack(users, context));
+		dispatcher.register(JobType.WAREWOLF, NightActionPriority.ATTACK, (users, context, gm) -> gm.resolveMassacre(users, context));
+
+		dispatcher.register(JobType.GANGSTER, NightActionPriority.STATUS, (users, context, gm) -> gm.resolveIntimidation(users, context));
+		dispatcher.register(JobType.SPY, NightActionPriority.STATUS, (users, context, gm) -> gm.resolveRecruitment(users, context));
+
+		dispatcher.register(JobType.REPORTER, NightActionPriority.INFO, (users, context, gm) -> gm.resolveReport(users, context));
+		dispatcher.register(JobType.UNDERTAKER, NightActionPriority.INFO, (users, context, gm) -> gm.resolveAutopsy(users, context));
+		// 탐정은 이번 밤의 모든 지목이 기록된 뒤 확인하므로 기록 순서와 관계없이 대상의 지목을 알 수 있음
+		dispatcher.register(JobType.DETECTIVE, NightActionPriority.INFO, (users, context, gm) -> gm.resolveDetection(users, context));
+
+		return dispatcher;
+	}
+
+	/**
+	 * 직업 종류에 처리기 등록 (같은 직업 종류로 다시 등록하면 교체)
+	 *
+	 * @param jobType  직업 종류
+	 * @param priority 처리 우선순위
+	 * @param handler  처리기
+	 */
+	void register(JobType jobType, NightActionPriority priority, NightActionHandler handler) {
+		if (handlers[jobType.ordinal()] == null) {
+			registered.add(jobType);
+		}
+		handlers[jobType.ordinal()] = handler;
+		priorities[jobType.ordinal()] = priority;
+		order = registered.toArray(new JobType[0]);
+		Arrays.sort(order, Comparator.comparing(type -> priorities[type.ordinal()])); // 안정 정렬이라 같은 우선순위는 등록 순
+	}
+
+	/**
+	 * 밤 능력 기록을 직업 종류별로 모아 처리 순서대로 처리기에 전달
+	 *
+	 * 능력 사용 가능 여부(canUseAbility)는 기록 시점(GameManager.handlePlayerNightActionTurn)에서 이미 확인되었으므로 다시 검사하지 않음
+	 *
+	 * @param nightAbilityTargets 밤 능력 기록 (능력 사용자, 능력 대상)
+	 * @param context             밤 행동 결과 컨텍스트
+	 * @param gameManager         게임 매니저 객체
+	 */
+	void dispatch(Map<Player, Player> nightAbilityTargets, NightActionContext context, GameManager gameManager) {
+		for (Map.Entry<Player, Player> entry : nightAbilityTargets.entrySet()) {
+			int job = entry.getKey().getJob().getJobType().ordinal();
+			if (entry.getValue() != null && handlers[job] != null) {
+				usersByJob.get(job).add(entry.getKey());
+			}
+		}
+		try {
+			for (JobType jobType : order) {
+				List<Player> users = usersByJob.get(jobType.ordinal());
+				if (!users.isEmpty()) {
+					handlers[jobType.ordinal()].resolve(users, context, gameManager);
+				}
+			}
+		} finally {
+			for (JobType jobType : order) {
+				usersByJob.get(jobType.ordinal()).clear();
+			}
+		}
+	}
+}
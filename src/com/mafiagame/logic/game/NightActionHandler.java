@@ -0,0 +1,18 @@
+package com.mafiagame.logic.game;
+
+import java.util.List;
+
+/**
+ * 직업 하나의 밤 능력을 판정하고 결과(사망, 상태 변경, 이벤트 발행)를 적용하는 처리기
+ * NightActionDispatcher에 직업 종류별로 등록하며, 밤마다 그 직업으로 능력을 사용한 플레이어 전원을 한 번에 받음
+ */
+@FunctionalInterface
+interface NightActionHandler {
+
+	/**
+	 * @param users       이 직업으로 대상을 고른 플레이어 (기록 순서, 비어 있지 않음)
+	 * @param context     밤 행동 결과 컨텍스트 (앞선 우선순위 처리기의 판정 결과 포함)
+	 * @param gameManager 게임 매니저 객체 (능력 대상, 게임 상태 접근용)
+	 */
+	void resolve(List<Player> users, NightActionContext context, GameManager gameManager);
+}
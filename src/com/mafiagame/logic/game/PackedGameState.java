@@ -0,0 +1,386 @@
+package com.mafiagame.logic.game;
+
+import com.mafiagame.logic.common.enums.GameMode;
+import com.mafiagame.logic.common.enums.GamePhase;
+import com.mafiagame.logic.common.enums.JobType;
+import com.mafiagame.logic.common.enums.Team;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * long 몇 개로 압축한 게임 상태 (탐색 봇의 가상 진행, 상태 비교용)
+ *
+ * words[0]은 진행 정보(인원, 모드, 페이즈, 종료 여부, 승리 팀, 일차), words[1..]은 플레이어 4명씩 16비트로 저장.
+ * 플레이어 16비트: [0..3] 직업 종류 + 1, [4..5] 현재 팀 + 1, [6] 생존, [7] 오늘 투표 가능, [8] 1회성 능력 사용, [9..13] 투표 대상 번호
+ * (0은 없음을 뜻함)
+ *
+ * 복사는 최대 5개 long 배열 복제이고, Zobrist 해시는 필드를 바꿀 때마다 바뀐 값만 XOR하여 갱신.
+ * GameManager와는 capture()/restoreInto()로 변환하며, 공지/개인 결과 메시지와 Random 상태는 포함하지 않음
+ */
+public final class PackedGameState {
+
+	public static final int MAX_PLAYERS = 16;
+
+	private static final int PLAYERS_PER_WORD = 4;
+	private static final int PLAYER_BITS = 16;
+
+	// 플레이어 필드 (시프트, 폭)
+	private static final int JOB_SHIFT = 0, JOB_WIDTH = 4;
+	private static final int TEAM_SHIFT = 4, TEAM_WIDTH = 2;
+	private static final int ALIVE_SHIFT = 6;
+	private static final int VOTE_SHIFT = 7;
+	private static final int USED_SHIFT = 8;
+	private static final int TARGET_SHIFT = 9, TARGET_WIDTH = 5;
+
+	// 진행 정보 필드
+	private static final int COUNT_SHIFT = 0, COUNT_WIDTH = 5;
+	private static final int MODE_SHIFT = 5, MODE_WIDTH = 2;
+	private static final int PHASE_SHIFT = 7, PHASE_WIDTH = 4;
+	private static final int OVER_SHIFT = 11;
+	private static final int WINNER_SHIFT = 12, WINNER_WIDTH = 2;
+	private static final int DAY_SHIFT = 16, DAY_WIDTH = 16;
+
+	private static final JobType[] JOB_TYPES = JobType.values();
+	private static final Team[] TEAMS = Team.values();
+	private static final GameMode[] MODES = GameMode.values();
+	private static final GamePhase[] PHASES = GamePhase.values();
+
+	// Zobrist 난수표 (고정 시드로 생성하므로 실행마다 같은 해시)
+	private static final int FIELD_JOB = 0, FIELD_TEAM = 16, FIELD_ALIVE = 20, FIELD_VOTE = 22, FIELD_USED = 24, FIELD_TARGET = 26;
+	private static final int FIELDS_PER_PLAYER = FIELD_TARGET + (1 << TARGET_WIDTH);
+	private static final long[] Z_PLAYER = new long[MAX_PLAYERS * FIELDS_PER_PLAYER];	// (플레이어, 필드 값) -> 난수
+	private static final long[] Z_HEADER = new long[4 * 32];							// (진행 정보 필드, 값) -> 난수
+	private static final int H_COUNT = 0, H_MODE = 32, H_PHASE = 64, H_OVER_WINNER = 96;
+	private static final long[] Z_DAY = new long[64];									// 일차 (64 주기) -> 난수
+
+	static {
+		long seed = 0x4D41464941L; // "MAFIA"
+		for (int i = 0; i < Z_PLAYER.length; i++) Z_PLAYER[i] = seed = splitMix(seed);
+		for (int i = 0; i < Z_HEADER.length; i++) Z_HEADER[i] = seed = splitMix(seed);
+		for (int i = 0; i < Z_DAY.length; i++) Z_DAY[i] = seed = splitMix(seed);
+	}
+
+	private final long[] words;
+	private long hash;
+
+	private PackedGameState(long[] words, long hash) {
+		this.words = words;
+		this.hash = hash;
+	}
+
+	/**
+	 * 빈 상태 생성 (모든 플레이어 직업/팀 없음, 사망)
+	 *
+	 * @param playerCount 플레이어 수 (1 ~ MAX_PLAYERS)
+	 * @param gameMode    게임 모드
+	 */
+	public PackedGameState(int playerCount, GameMode gameMode) {
+		if (playerCount < 1 || playerCount > MAX_PLAYERS) {
+			throw new IllegalArgumentException("플레이어 수는 1 ~ " + MAX_PLAYERS + "명이어야 합니다: " + playerCount);
+		}
+		this.words = new long[1 + (playerCount + PLAYERS_PER_WORD - 1) / PLAYERS_PER_WORD];
+		words[0] = put(words[0], COUNT_SHIFT, COUNT_WIDTH, playerCount);
+		words[0] = put(words[0], MODE_SHIFT, MODE_WIDTH, gameMode != null ? gameMode.ordinal() + 1 : 0);
+		this.hash = computeHash();
+	}
+
+	/**
+	 * GameManager의 현재 상태를 압축
+	 *
+	 * @param gameManager 게임 매니저 (setupGame() 이후)
+	 * @return 압축 상태
+	 */
+	public static PackedGameState capture(GameManager gameManager) {
+		List<Player> players = gameManager.getAllPlayers();
+		PackedGameState state = new PackedGameState(players.size(), gameManager.getGameMode());
+		long header = state.words[0];
+		header = put(header, PHASE_SHIFT, PHASE_WIDTH, ordinalOrZero(gameManager.getCurrentPhase()));
+		header = put(header, OVER_SHIFT, 1, gameManager.isGameOver() ? 1 : 0);
+		header = put(header, WINNER_SHIFT, WINNER_WIDTH, ordinalOrZero(gameManager.getWinningTeam()));
+		header = put(header, DAY_SHIFT, DAY_WIDTH, gameManager.getDayCount());
+		state.words[0] = header;
+
+		for (int i = 0; i < players.size(); i++) {
+			Player player = players.get(i);
+			int bits = 0;
+			if (player.getJob() != null) {
+				bits |= (player.getJob().getJobType().ordinal() + 1) << JOB_SHIFT;
+				bits |= (player.getJob().hasUsedOneTimeAbility() ? 1 : 0) << USED_SHIFT;
+			}
+			bits |= ordinalOrZero(player.getCurrentTeam()) << TEAM_SHIFT;
+			bits |= (player.isAlive() ? 1 : 0) << ALIVE_SHIFT;
+			bits |= (player.canVoteToday() ? 1 : 0) << VOTE_SHIFT;
+			Player voteTarget = gameManager.getVoteTarget(player);
+			bits |= (voteTarget != null ? voteTarget.getPlayerNumber() : 0) << TARGET_SHIFT;
+			state.setPlayerBits(i, bits);
+		}
+		state.hash = state.computeHash();
+		return state;
+	}
+
+	/**
+	 * 이 상태를 GameManager에 적용 (플레이어 수가 다르면 플레이어를 새로 만듦)
+	 *
+	 * @param gameManager 상태를 적용할 게임 매니저
+	 */
+	public void restoreInto(GameManager gameManager) {
+		gameManager.restoreFrom(this);
+	}
+
+	/**
+	 * 복사본 생성 (long 최대 5개 복제)
+	 */
+	public PackedGameState copy() {
+		return new PackedGameState(words.clone(), hash);
+	}
+
+	/**
+	 * 다른 상태의 내용을 이 객체에 덮어씀 (같은 인원수, 객체 생성 없음)
+	 */
+	public void copyFrom(PackedGameState other) {
+		if (other.words.length != words.length) {
+			throw new IllegalArgumentException("플레이어 수가 다른 상태는 복사할 수 없습니다.");
+		}
+		System.arraycopy(other.words, 0, words, 0, words.length);
+		hash = other.hash;
+	}
+
+	/**
+	 * 압축 배열을 그대로 감싼 상태 생성 (toLongArray()의 역변환)
+	 */
+	public static PackedGameState fromLongArray(long[] packed) {
+		PackedGameState state = new PackedGameState(packed.clone(), 0);
+		state.hash = state.computeHash();
+		return state;
+	}
+
+	public long[] toLongArray() {
+		return words.clone();
+	}
+
+	/**
+	 * Zobrist 해시 (필드 변경 시 증분 갱신)
+	 */
+	public long zobristHash() {
+		return hash;
+	}
+
+	// --- 진행 정보 ---
+
+	public int getPlayerCount() {
+		return get(words[0], COUNT_SHIFT, COUNT_WIDTH);
+	}
+
+	public GameMode getGameMode() {
+		int v = get(words[0], MODE_SHIFT, MODE_WIDTH);
+		return v == 0 ? null : MODES[v - 1];
+	}
+
+	public GamePhase getPhase() {
+		int v = get(words[0], PHASE_SHIFT, PHASE_WIDTH);
+		return v == 0 ? null : PHASES[v - 1];
+	}
+
+	public void setPhase(GamePhase phase) {
+		setHeader(PHASE_SHIFT, PHASE_WIDTH, ordinalOrZero(phase));
+	}
+
+	public int getDayCount() {
+		return get(words[0], DAY_SHIFT, DAY_WIDTH);
+	}
+
+	public void setDayCount(int dayCount) {
+		int old = getDayCount();
+		words[0] = put(words[0], DAY_SHIFT, DAY_WIDTH, dayCount);
+		hash ^= Z_DAY[old & 63] ^ Z_DAY[dayCount & 63];
+	}
+
+	public boolean isGameOver() {
+		return get(words[0], OVER_SHIFT, 1) != 0;
+	}
+
+	public void setGameOver(boolean gameOver) {
+		setHeader(OVER_SHIFT, 1, gameOver ? 1 : 0);
+	}
+
+	public Team getWinningTeam() {
+		int v = get(words[0], WINNER_SHIFT, WINNER_WIDTH);
+		return v == 0 ? null : TEAMS[v - 1];
+	}
+
+	public void setWinningTeam(Team team) {
+		setHeader(WINNER_SHIFT, WINNER_WIDTH, ordinalOrZero(team));
+	}
+
+	// --- 플레이어 (인덱스 = 플레이어 번호 - 1) ---
+
+	public JobType getJobType(int index) {
+		int v = get(playerBits(index), JOB_SHIFT, JOB_WIDTH);
+		return v == 0 ? null : JOB_TYPES[v - 1];
+	}
+
+	public void setJobType(int index, JobType jobType) {
+		setPlayerField(index, JOB_SHIFT, JOB_WIDTH, ordinalOrZero(jobType), FIELD_JOB);
+	}
+
+	public Team getTeam(int index) {
+		int v = get(playerBits(index), TEAM_SHIFT, TEAM_WIDTH);
+		return v == 0 ? null : TEAMS[v - 1];
+	}
+
+	public void setTeam(int index, Team team) {
+		setPlayerField(index, TEAM_SHIFT, TEAM_WIDTH, ordinalOrZero(team), FIELD_TEAM);
+	}
+
+	public boolean isAlive(int index) {
+		return get(playerBits(index), ALIVE_SHIFT, 1) != 0;
+	}
+
+	public void setAlive(int index, boolean alive) {
+		setPlayerField(index, ALIVE_SHIFT, 1, alive ? 1 : 0, FIELD_ALIVE);
+	}
+
+	public boolean canVoteToday(int index) {
+		return get(playerBits(index), VOTE_SHIFT, 1) != 0;
+	}
+
+	public void setCanVoteToday(int index, boolean canVote) {
+		setPlayerField(index, VOTE_SHIFT, 1, canVote ? 1 : 0, FIELD_VOTE);
+	}
+
+	public boolean isAbilityUsed(int index) {
+		return get(playerBits(index), USED_SHIFT, 1) != 0;
+	}
+
+	public void setAbilityUsed(int index, boolean used) {
+		setPlayerField(index, USED_SHIFT, 1, used ? 1 : 0, FIELD_USED);
+	}
+
+	/**
+	 * 오늘 투표 대상 인덱스 (투표하지 않았으면 -1)
+	 */
+	public int getVoteTarget(int index) {
+		return get(playerBits(index), TARGET_SHIFT, TARGET_WIDTH) - 1;
+	}
+
+	public void setVoteTarget(int index, int targetIndex) {
+		setPlayerField(index, TARGET_SHIFT, TARGET_WIDTH, targetIndex + 1, FIELD_TARGET);
+	}
+
+	// --- 내부 처리 ---
+
+	private int playerBits(int index) {
+		checkIndex(index);
+		return (int) (words[1 + index / PLAYERS_PER_WORD] >>> ((index % PLAYERS_PER_WORD) * PLAYER_BITS)) & 0xFFFF;
+	}
+
+	private void setPlayerBits(int index, int bits) {
+		int word = 1 + index / PLAYERS_PER_WORD;
+		int shift = (index % PLAYERS_PER_WORD) * PLAYER_BITS;
+		words[word] = (words[word] & ~(0xFFFFL << shift)) | ((long) bits << shift);
+	}
+
+	private void setPlayerField(int index, int shift, int width, int value, int zobristField) {
+		int bits = playerBits(index);
+		int old = get(bits, shift, width);
+		if (old == value) return;
+		setPlayerBits(index, (int) put(bits, shift, width, value));
+		int base = index * FIELDS_PER_PLAYER + zobristField;
+		hash ^= Z_PLAYER[base + old] ^ Z_PLAYER[base + value];
+	}
+
+	private void setHeader(int shift, int width, int value) {
+		int old = get(words[0], shift, width);
+		if (old == value) return;
+		words[0] = put(words[0], shift, width, value);
+		hash ^= headerKey(shift, old) ^ headerKey(shift, value);
+	}
+
+	private static long headerKey(int shift, int value) {
+		switch (shift) {
+		case COUNT_SHIFT: return Z_HEADER[H_COUNT + value];
+		case MODE_SHIFT: return Z_HEADER[H_MODE + value];
+		case PHASE_SHIFT: return Z_HEADER[H_PHASE + value];
+		case OVER_SHIFT: return Z_HEADER[H_OVER_WINNER + value];
+		case WINNER_SHIFT: return Z_HEADER[H_OVER_WINNER + 2 + value];
+		default: throw new IllegalArgumentException("알 수 없는 필드입니다: " + shift);
+		}
+	}
+
+	/**
+	 * 모든 필드로부터 해시를 새로 계산 (증분 갱신 결과와 항상 같음)
+	 */
+	private long computeHash() {
+		long h = 0;
+		long header = words[0];
+		h ^= headerKey(COUNT_SHIFT, get(header, COUNT_SHIFT, COUNT_WIDTH));
+		h ^= headerKey(MODE_SHIFT, get(header, MODE_SHIFT, MODE_WIDTH));
+		h ^= headerKey(PHASE_SHIFT, get(header, PHASE_SHIFT, PHASE_WIDTH));
+		h ^= headerKey(OVER_SHIFT, get(header, OVER_SHIFT, 1));
+		h ^= headerKey(WINNER_SHIFT, get(header, WINNER_SHIFT, WINNER_WIDTH));
+		h ^= Z_DAY[get(header, DAY_SHIFT, DAY_WIDTH) & 63];
+		int count = getPlayerCount();
+		for (int i = 0; i < count; i++) {
+			int bits = playerBits(i);
+			int base = i * FIELDS_PER_PLAYER;
+			h ^= Z_PLAYER[base + FIELD_JOB + get(bits, JOB_SHIFT, JOB_WIDTH)];
+			h ^= Z_PLAYER[base + FIELD_TEAM + get(bits, TEAM_SHIFT, TEAM_WIDTH)];
+			h ^= Z_PLAYER[base + FIELD_ALIVE + get(bits, ALIVE_SHIFT, 1)];
+			h ^= Z_PLAYER[base + FIELD_VOTE + get(bits, VOTE_SHIFT, 1)];
+			h ^= Z_PLAYER[base + FIELD_USED + get(bits, USED_SHIFT, 1)];
+			h ^= Z_PLAYER[base + FIELD_TARGET + get(bits, TARGET_SHIFT, TARGET_WIDTH)];
+		}
+		return h;
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= getPlayerCount()) {
+			throw new IndexOutOfBoundsException("플레이어 인덱스 범위를 벗어났습니다: " + index);
+		}
+	}
+
+	private static int get(long bits, int shift, int width) {
+		return (int) (bits >>> shift) & ((1 << width) - 1);
+	}
+
+	private static long put(long bits, int shift, int width, int value) {
+		long mask = ((1L << width) - 1) << shift;
+		return (bits & ~mask) | (((long) value << shift) & mask);
+	}
+
+	private static int ordinalOrZero(Enum<?> value) {
+		return value == null ? 0 : value.ordinal() + 1;
+	}
+
+	private static long splitMix(long z) {
+		z += 0x9E3779B97F4A7C15L;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (!(o instanceof PackedGameState)) return false;
+		return Arrays.equals(words, ((PackedGameState) o).words);
+	}
+
+	@Override
+	public int hashCode() {
+		return (int) (hash ^ (hash >>> 32));
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(String.format("%s %d일차 %s%s", getGameMode(), getDayCount(), getPhase(),
+				isGameOver() ? " (종료, 승리: " + getWinningTeam() + ")" : ""));
+		for (int i = 0; i < getPlayerCount(); i++) {
+			sb.append(String.format("%n  %d. %s/%s %s%s%s", i + 1, getJobType(i), getTeam(i), isAlive(i) ? "생존" : "사망",
+					canVoteToday(i) ? "" : " 투표금지", isAbilityUsed(i) ? " 능력사용" : ""));
+		}
+		return sb.toString();
+	}
+}
@@ -0,0 +1,149 @@
+package com.mafiagame.logic.game;
+
+import com.mafiagame.logic.common.enums.GamePhase;
+import com.mafiagame.logic.timer.TimerWheel;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 방 하나의 페이즈 마감 시간 (토론, 투표)
+ *
+ * 마감 시간이 지나거나(EXPIRED), 참여자 전원이 준비 완료를 누르거나 진행이 먼저 끝나면(FINISHED) 한 번만 종료됨.
+ * 종료되면 타이머를 취소하고 등록된 후속 작업(다음 페이즈 진행, 입력 대기 중단)을 타이머 휠의 실행기에서 실행
+ */
+public final class PhaseDeadline {
+
+	private static final int OPEN = 0;
+	private static final int FINISHED = 1;
+	private static final int EXPIRED = 2;
+
+	private final PhaseDeadlineService service;
+	private final long roomId;
+	private final GamePhase phase;
+	private final long durationMillis;
+	private final long[] participantBits;		// 참여자 (플레이어 인덱스 비트셋)
+	private final AtomicLongArray readyBits;	// 준비 완료한 참여자
+	private final AtomicInteger readyCount = new AtomicInteger();
+	private final int participantCount;
+	private final AtomicInteger state = new AtomicInteger(OPEN);
+	private volatile TimerWheel.Timeout timeout;	// 마감 타이머
+	private volatile Runnable onExpire;			// 마감 시간이 지났을 때 바로 실행할 작업 (입력 대기 중단 등)
+	private Runnable continuation;				// 종료 후 실행할 작업 (lock: this)
+
+	PhaseDeadline(PhaseDeadlineService service, long roomId, GamePhase phase, long durationMillis, List<Player> participants) {
+		this.service = service;
+		this.roomId = roomId;
+		this.phase = phase;
+		this.durationMillis = durationMillis;
+		int maxIndex = 0;
+		for (Player p : participants) {
+			maxIndex = Math.max(maxIndex, p.getPlayerNumber() - 1);
+		}
+		this.participantBits = new long[(maxIndex >>> 6) + 1];
+		for (Player p : participants) {
+			int index = p.getPlayerNumber() - 1;
+			participantBits[index >>> 6] |= 1L << index;
+		}
+		this.readyBits = new AtomicLongArray(participantBits.length);
+		this.participantCount = participants.size();
+	}
+
+	void arm(TimerWheel wheel) {
+		this.timeout = wheel.schedule(this::expire, durationMillis);
+	}
+
+	/**
+	 * 참여자 한 명의 준비 완료 (전원이 준비되면 마감 전에 종료)
+	 *
+	 * @param playerIndex 플레이어 인덱스 (플레이어 번호 - 1)
+	 * @return 이번 호출로 새로 준비 완료 처리되었으면 true
+	 */
+	public boolean markReady(int playerIndex) {
+		int word = playerIndex >>> 6;
+		long bit = 1L << playerIndex;
+		if (playerIndex < 0 || word >= participantBits.length || (participantBits[word] & bit) == 0) return false;
+		if ((readyBits.getAndAccumulate(word, bit, (prev, x) -> prev | x) & bit) != 0) return false;
+		if (readyCount.incrementAndGet() >= participantCount) finish();
+		return true;
+	}
+
+	/**
+	 * 마감 전에 종료 (전원 준비, 투표 완료 등). 타이머는 O(1)로 취소됨
+	 *
+	 * @return 이번 호출로 종료되었으면 true
+	 */
+	public boolean finish() {
+		if (!state.compareAndSet(OPEN, FINISHED)) return false;
+		TimerWheel.Timeout t = timeout;
+		if (t != null) t.cancel();
+		complete();
+		return true;
+	}
+
+	private void expire() {
+		if (!state.compareAndSet(OPEN, EXPIRED)) return;
+		Runnable action = onExpire;
+		if (action != null) action.run();
+		complete();
+	}
+
+	private void complete() {
+		service.closed(this);
+		Runnable next;
+		synchronized (this) {
+			next = continuation;
+			continuation = null;
+		}
+		if (next != null) service.dispatch(next);
+	}
+
+	/**
+	 * 마감 시간이 지났을 때 실행할 작업 설정 (finish()로 끝나면 실행하지 않음)
+	 */
+	void setOnExpire(Runnable onExpire) {
+		this.onExpire = onExpire;
+	}
+
+	/**
+	 * 종료 후 실행할 작업 등록 (이미 종료되었으면 바로 실행기에 넘김)
+	 */
+	void whenDone(Runnable next) {
+		synchronized (this) {
+			if (state.get() == OPEN) {
+				continuation = next;
+				return;
+			}
+		}
+		service.dispatch(next);
+	}
+
+	public boolean isDone() {
+		return state.get() != OPEN;
+	}
+
+	public boolean isExpired() {
+		return state.get() == EXPIRED;
+	}
+
+	public long getRoomId() {
+		return roomId;
+	}
+
+	public GamePhase getPhase() {
+		return phase;
+	}
+
+	public long getDurationMillis() {
+		return durationMillis;
+	}
+
+	public int getReadyCount() {
+		return readyCount.get();
+	}
+
+	public int getParticipantCount() {
+		return participantCount;
+	}
+}
@@ -0,0 +1,117 @@
+package com.mafiagame.logic.game;
+
+import com.mafiagame.logic.common.enums.GamePhase;
+import com.mafiagame.logic.timer.TimerWheel;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 여러 방이 공유하는 페이즈 마감 시간 관리 (토론, 투표)
+ *
+ * 모든 방의 마감 시간을 계층형 타이머 휠 하나에 올려 두므로 방마다 스레드나 ScheduledFuture를 두지 않음.
+ * 등록/취소는 O(1)이고, 방 번호로 현재 마감 시간을 찾아 준비 완료나 조기 종료를 전달할 수 있음
+ *
+ * 마감 시간은 GamePhase별로 설정하며, 설정하지 않은(0) 페이즈는 마감 시간 없이 기존처럼 진행
+ */
+public class PhaseDeadlineService {
+
+	private final TimerWheel wheel;
+	private final AtomicLongArray deadlineMillis = new AtomicLongArray(GamePhase.values().length); // 페이즈별 마감 시간 (0이면 없음)
+	private final ConcurrentHashMap<Long, PhaseDeadline> active = new ConcurrentHashMap<>();	// 방 번호 -> 진행 중인 마감 시간
+
+	/**
+	 * 공유 타이머 휠을 사용하는 생성자
+	 */
+	public PhaseDeadlineService() {
+		this(TimerWheel.shared());
+	}
+
+	/**
+	 * @param wheel 마감 시간을 올릴 타이머 휠
+	 */
+	public PhaseDeadlineService(TimerWheel wheel) {
+		this.wheel = wheel;
+	}
+
+	/**
+	 * 페이즈별 마감 시간 설정
+	 *
+	 * @param phase  페이즈 (DAY_DISCUSSION, DAY_VOTE 등)
+	 * @param millis 마감 시간 (밀리초, 0이면 마감 시간 없음)
+	 */
+	public void setDeadline(GamePhase phase, long millis) {
+		deadlineMillis.set(phase.ordinal(), Math.max(0, millis));
+	}
+
+	public long getDeadline(GamePhase phase) {
+		return deadlineMillis.get(phase.ordinal());
+	}
+
+	public boolean hasDeadline(GamePhase phase) {
+		return deadlineMillis.get(phase.ordinal()) > 0;
+	}
+
+	/**
+	 * 방의 페이즈 마감 시간 시작 (진행 중인 이전 마감 시간은 종료)
+	 *
+	 * @param roomId       방 번호
+	 * @param phase        페이즈
+	 * @param participants 준비 완료를 기다릴 플레이어
+	 * @param onExpire     마감 시간이 지났을 때 바로 실행할 작업 (없으면 null)
+	 * @return 마감 시간 (페이즈에 마감 시간이 설정되지 않았으면 null)
+	 */
+	public PhaseDeadline open(long roomId, GamePhase phase, List<Player> participants, Runnable onExpire) {
+		long millis = getDeadline(phase);
+		if (millis <= 0) return null;
+		PhaseDeadline deadline = new PhaseDeadline(this, roomId, phase, millis, participants);
+		deadline.setOnExpire(onExpire);
+		PhaseDeadline previous = active.put(roomId, deadline);
+		if (previous != null) previous.finish();
+		deadline.arm(wheel);
+		return deadline;
+	}
+
+	/**
+	 * 방의 현재 마감 시간에 플레이어 준비 완료 전달
+	 *
+	 * @return 진행 중인 마감 시간이 있고 새로 준비 완료 처리되었으면 true
+	 */
+	public boolean markReady(long roomId, int playerIndex) {
+		PhaseDeadline deadline = active.get(roomId);
+		return deadline != null && deadline.markReady(playerIndex);
+	}
+
+	/**
+	 * 방의 현재 마감 시간을 바로 종료 (다음 페이즈로 진행)
+	 *
+	 * @return 진행 중인 마감 시간이 있었으면 true
+	 */
+	public boolean finish(long roomId) {
+		PhaseDeadline deadline = active.get(roomId);
+		return deadline != null && deadline.finish();
+	}
+
+	public PhaseDeadline getActive(long roomId) {
+		return active.get(roomId);
+	}
+
+	/**
+	 * 진행 중인 마감 시간 수 (모든 방)
+	 */
+	public int activeCount() {
+		return active.size();
+	}
+
+	void closed(PhaseDeadline deadline) {
+		active.remove(deadline.getRoomId(), deadline);
+	}
+
+	/**
+	 * 종료 후 작업을 휠의 실행기에서 실행 (준비 완료를 보낸 요청 스레드에서 게임을 진행하지 않도록)
+	 */
+	void dispatch(Runnable task) {
+		wheel.schedule(task, 0);
+	}
+}
@@ -0,0 +1,60 @@
+package com.mafiagame.logic.game;
+
+import com.mafiagame.logic.timer.TimerWheel;
+
+/**
+ * 페이즈 사이 간격 설정 (방마다 지정)
+ *
+ * 간격이 0이면 다음 페이즈를 같은 스레드에서 바로 이어서 진행하고(시뮬레이션),
+ * 0보다 크면 타이머 휠에 다음 페이즈를 예약해 두고 스레드를 반납함 (라이브 게임). 기다리는 동안 방은 스레드를 점유하지 않음
+ */
+public final class PhasePacer {
+
+	/** 간격 없음 (헤드리스, 시뮬레이션) */
+	public static final PhasePacer NONE = new PhasePacer(0, null);
+
+	/** 기본 간격 (텍스트 게임 가독성) */
+	public static final long DEFAULT_DELAY_MILLIS = 500;
+
+	private final long delayMillis;	// 페이즈 사이 간격 (밀리초)
+	private final TimerWheel wheel;	// 다음 페이즈를 예약할 휠 (간격이 0이면 null)
+
+	private PhasePacer(long delayMillis, TimerWheel wheel) {
+		this.delayMillis = delayMillis;
+		this.wheel = wheel;
+	}
+
+	/**
+	 * 공유 타이머 휠을 사용하는 간격 설정
+	 *
+	 * @param delayMillis 페이즈 사이 간격 (밀리초, 0이면 NONE)
+	 */
+	public static PhasePacer of(long delayMillis) {
+		return delayMillis <= 0 ? NONE : new PhasePacer(delayMillis, TimerWheel.shared());
+	}
+
+	/**
+	 * 지정한 타이머 휠을 사용하는 간격 설정
+	 *
+	 * @param delayMillis 페이즈 사이 간격 (밀리초, 0이면 NONE)
+	 * @param wheel       다음 페이즈를 예약할 휠
+	 */
+	public static PhasePacer of(long delayMillis, TimerWheel wheel) {
+		return delayMillis <= 0 ? NONE : new PhasePacer(delayMillis, wheel);
+	}
+
+	public boolean isImmediate() {
+		return wheel == null;
+	}
+
+	public long getDelayMillis() {
+		return delayMillis;
+	}
+
+	/**
+	 * 다음 단계 예약 (간격 후 휠의 실행기에서 실행)
+	 */
+	TimerWheel.Timeout schedule(Runnable next) {
+		return wheel.schedule(next, delayMillis);
+	}
+}
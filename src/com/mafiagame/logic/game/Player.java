@@ -17,6 +17,7 @@ public class Player {
     private Team initialTeam;          // 플레이어에게 처음 배정된 팀
     private Team currentTeam;          // 현재 소속된 팀 (간첩 포섭으로 변경 가능)
     private boolean canVoteToday;      // 오늘 투표 가능 여부 (건달 협박 시 false)
+    private GameManager gameManager;   // 상태 변경(사망 등)을 알릴 게임 매니저 (setupGame에서 연결)
 
     // 밤 능력 결과 처리를 위한 임시 상태 변수 (GameManager가 밤 결과 계산 시 사용, 매일 밤 시작 전에 초기화)
     private boolean targetedByMafiaAttack; // 마피아의 공격 대상이 되었는지
@@ -65,16 +66,53 @@ public class Player {
      * @param job 할당할 직업 객체
      */
     public final void setJob(Job job) {
+        Job oldJob = this.job;
+        Team oldTeam = this.currentTeam;
         this.job = job;
         if (job != null) {
             // 직업이 처음 할당되거나 변경될 때, 현재 팀은 초기 팀과 동일하게 설정
             this.initialTeam = job.getInitialTeam();
             this.currentTeam = job.getInitialTeam();
         }
+        if (gameManager != null) {
+            gameManager.onPlayerJobChanged(this, oldJob, oldTeam); // 직업 색인, 팀 인원수 갱신 (도굴 포함)
+        }
     }
 
     public void die() {
+        if (!this.isAlive) return; // 이미 사망한 경우 변경 없음
         this.isAlive = false;
+        if (gameManager != null) {
+            gameManager.onPlayerDied(this); // 생존자 집합, 직업 색인, 팀 인원수 갱신
+        }
+    }
+
+    /**
+     * 이 플레이어의 상태 변경을 전달받을 게임 매니저 연결
+     * 
+     * @param gameManager 게임 매니저 객체
+     */
+    void attachTo(GameManager gameManager) {
+        this.gameManager = gameManager;
+    }
+
+    /**
+     * 저장된 상태로 되돌림 (PackedGameState 복원용)
+     * 
+     * 게임 매니저에 알리지 않으므로 호출 후 GameManager가 생존자 집합, 직업 색인, 팀 인원수를 다시 계산
+     *
+     * @param job 직업 객체
+     * @param currentTeam 현재 팀
+     * @param alive 생존 여부
+     * @param canVoteToday 오늘 투표 가능 여부
+     */
+    void restoreState(Job job, Team currentTeam, boolean alive, boolean canVoteToday) {
+        this.job = job;
+        this.initialTeam = (job != null) ? job.getInitialTeam() : null;
+        this.currentTeam = currentTeam;
+        this.isAlive = alive;
+        this.canVoteToday = canVoteToday;
+        resetNightStatus();
     }
 
     /**
@@ -89,7 +127,11 @@ public class Player {
     	if (newTeam == null || this.currentTeam == newTeam) {
             return false; // 변경할 필요가 없거나 잘못된 요청
         }
+        Team oldTeam = this.currentTeam;
         this.currentTeam = newTeam;
+        if (gameManager != null) {
+            gameManager.onPlayerTeamChanged(this, oldTeam); // 팀 인원수 갱신 (간첩 포섭)
+        }
         return true;
     }
 	
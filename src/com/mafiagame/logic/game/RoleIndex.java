@@ -0,0 +1,93 @@
+package com.mafiagame.logic.game;
+
+import com.mafiagame.logic.common.enums.JobType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+
+/**
+ * 직업 종류별 생존 플레이어 색인
+ *
+ * Player.setJob()(도굴 포함), Player.die() 시 GameManager를 통해 갱신되며,
+ * 밤 결과 처리 중 직업 보유자 조회를 전체 플레이어 순회나 instanceof 검사 없이 처리
+ * (간첩 포섭은 팀만 바꾸고 직업은 유지하므로 색인에 영향 없음)
+ */
+public class RoleIndex {
+
+	private final EnumMap<JobType, List<Player>> livingHolders = new EnumMap<>(JobType.class); // 직업 종류 -> 생존 보유자 (번호 순)
+
+	RoleIndex() {
+		for (JobType jobType : JobType.values()) {
+			livingHolders.put(jobType, new ArrayList<>(2));
+		}
+	}
+
+	/**
+	 * 플레이어 직업 변경 반영
+	 *
+	 * @param player  직업이 바뀐 플레이어
+	 * @param oldType 이전 직업 종류 (처음 배정이면 null)
+	 * @param newType 새 직업 종류 (직업 해제면 null)
+	 */
+	void onJobChanged(Player player, JobType oldType, JobType newType) {
+		if (oldType != null) {
+			livingHolders.get(oldType).remove(player);
+		}
+		if (newType != null && player.isAlive()) {
+			insertInOrder(livingHolders.get(newType), player);
+		}
+	}
+
+	/**
+	 * 색인 비우기 (상태 복원 후 다시 채울 때)
+	 */
+	void clear() {
+		for (List<Player> holders : livingHolders.values()) {
+			holders.clear();
+		}
+	}
+
+	/**
+	 * 플레이어 사망 반영
+	 *
+	 * @param player  사망한 플레이어
+	 * @param jobType 사망 시점의 직업 종류
+	 */
+	void onDied(Player player, JobType jobType) {
+		if (jobType != null) {
+			livingHolders.get(jobType).remove(player);
+		}
+	}
+
+	/**
+	 * 해당 직업의 생존 보유자 중 번호가 가장 빠른 플레이어 반환
+	 *
+	 * @param jobType 직업 종류
+	 * @return 생존 보유자, 없으면 null
+	 */
+	public Player first(JobType jobType) {
+		List<Player> holders = livingHolders.get(jobType);
+		return holders.isEmpty() ? null : holders.get(0);
+	}
+
+	/**
+	 * 해당 직업의 생존 보유자 목록 반환 (읽기 전용)
+	 */
+	public List<Player> all(JobType jobType) {
+		return Collections.unmodifiableList(livingHolders.get(jobType));
+	}
+
+	public int count(JobType jobType) {
+		return livingHolders.get(jobType).size();
+	}
+
+	private static void insertInOrder(List<Player> holders, Player player) {
+		int i = holders.size();
+		while (i > 0 && holders.get(i - 1).getPlayerNumber() > player.getPlayerNumber()) {
+			i--;
+		}
+		holders.add(i, player);
+	}
+}
@@ -0,0 +1,55 @@
+package com.mafiagame.logic.game;
+
+import com.mafiagame.logic.common.enums.JobType;
+import com.mafiagame.logic.common.enums.Team;
+
+import java.util.Arrays;
+
+/**
+ * 팀별, (팀 x 직업 종류)별 생존자 수
+ *
+ * 직업 배정/도굴(Player.setJob), 사망(Player.die), 간첩 포섭(Player.setCurrentTeam) 시 GameManager를 통해 증감되므로
+ * 승리 조건 판정 시 플레이어를 순회하지 않고 상수 시간에 조회 가능
+ */
+public class TeamCounters {
+
+	private static final int JOB_TYPE_COUNT = JobType.values().length;
+
+	private final int[] livingByTeam = new int[Team.values().length];					// 팀 -> 생존자 수
+	private final int[] livingByTeamAndJob = new int[Team.values().length * JOB_TYPE_COUNT];	// (팀, 직업 종류) -> 생존자 수
+
+	/**
+	 * 생존자 한 명을 (팀, 직업 종류)에 더하거나 뺌
+	 *
+	 * @param team    소속 팀 (null이면 무시)
+	 * @param jobType 직업 종류 (null이면 무시)
+	 * @param delta   +1 또는 -1
+	 */
+	void add(Team team, JobType jobType, int delta) {
+		if (team == null || jobType == null) return;
+		livingByTeam[team.ordinal()] += delta;
+		livingByTeamAndJob[team.ordinal() * JOB_TYPE_COUNT + jobType.ordinal()] += delta;
+	}
+
+	/**
+	 * 모든 인원수를 0으로 초기화 (상태 복원 후 다시 셀 때)
+	 */
+	void clear() {
+		Arrays.fill(livingByTeam, 0);
+		Arrays.fill(livingByTeamAndJob, 0);
+	}
+
+	/**
+	 * 해당 팀의 생존자 수
+	 */
+	public int living(Team team) {
+		return livingByTeam[team.ordinal()];
+	}
+
+	/**
+	 * 해당 팀에 속한 해당 직업의 생존자 수
+	 */
+	public int living(Team team, JobType jobType) {
+		return livingByTeamAndJob[team.ordinal() * JOB_TYPE_COUNT + jobType.ordinal()];
+	}
+}
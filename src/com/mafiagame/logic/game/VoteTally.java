@@ -0,0 +1,109 @@
+package com.mafiagame.logic.game;
+
+/**
+ * 투표 집계기 (플레이어 인덱스 기반 int 배열)
+ *
+ * 투표 기록을 한 번만 순회하며 득표수를 누적하고, 최다 득표수와 동점 여부를 누적과 동시에 갱신.
+ * 득표가 있었던 인덱스만 기억해 두었다가 초기화하므로 대규모 인원에서도 재사용 비용이 작음
+ */
+public class VoteTally {
+
+	private final int[] votes;		// 인덱스(플레이어 번호 - 1) -> 득표수
+	private final int[] votedIndices;	// 득표가 발생한 인덱스 (첫 득표 순서)
+	private int votedCount;			// votedIndices에 기록된 개수
+	private int maxVotes;			// 현재 최다 득표수
+	private int leaderIndex;		// 최다 득표자 인덱스 (동점이면 마지막으로 최다에 도달한 인덱스)
+	private int leaderCount;		// 최다 득표수를 가진 인원 수
+
+	/**
+	 * 생성자
+	 *
+	 * @param capacity 최대 플레이어 수
+	 */
+	public VoteTally(int capacity) {
+		this.votes = new int[capacity];
+		this.votedIndices = new int[capacity];
+		this.leaderIndex = -1;
+	}
+
+	/**
+	 * 다음 집계를 위해 초기화 (득표가 있었던 칸만 지움)
+	 */
+	public void reset() {
+		for (int i = 0; i < votedCount; i++) {
+			votes[votedIndices[i]] = 0;
+		}
+		votedCount = 0;
+		maxVotes = 0;
+		leaderIndex = -1;
+		leaderCount = 0;
+	}
+
+	/**
+	 * 표 추가
+	 *
+	 * @param targetIndex 투표 대상 인덱스 (플레이어 번호 - 1)
+	 * @param weight      표의 가중치 (투표자 직업의 투표력)
+	 */
+	public void addVote(int targetIndex, int weight) {
+		if (weight <= 0) return;
+		int before = votes[targetIndex];
+		if (before == 0) {
+			votedIndices[votedCount++] = targetIndex;
+		}
+		int after = before + weight;
+		votes[targetIndex] = after;
+
+		// 득표수는 증가만 하므로 최다 득표/동점을 누적과 동시에 갱신 가능
+		if (after > maxVotes) {
+			maxVotes = after;
+			leaderIndex = targetIndex;
+			leaderCount = 1;
+		} else if (after == maxVotes && before < maxVotes) {
+			leaderCount++;
+			leaderIndex = targetIndex;
+		}
+	}
+
+	public int getVotes(int index) {
+		return votes[index];
+	}
+
+	public int getMaxVotes() {
+		return maxVotes;
+	}
+
+	/**
+	 * 최다 득표자 수 (0이면 투표 없음, 2 이상이면 동점)
+	 */
+	public int getLeaderCount() {
+		return leaderCount;
+	}
+
+	public boolean isTied() {
+		return leaderCount > 1;
+	}
+
+	/**
+	 * 단독 최다 득표자 인덱스 반환
+	 *
+	 * @return 단독 최다 득표자 인덱스, 투표가 없거나 동점이면 -1
+	 */
+	public int getWinnerIndex() {
+		return leaderCount == 1 ? leaderIndex : -1;
+	}
+
+	/**
+	 * 득표가 발생한 인원 수
+	 */
+	public int getVotedCount() {
+		return votedCount;
+	}
+
+	/**
+	 * i번째로 득표한 플레이어의 인덱스 (결과 출력용)
+	 */
+	public int getVotedIndex(int i) {
+		return votedIndices[i];
+	}
+}
@@ -0,0 +1,73 @@
+package com.mafiagame.logic.io;
+
+import com.mafiagame.logic.game.Player;
+
+import java.io.PrintStream;
+import java.util.Scanner;
+
+/**
+ * 콘솔(텍스트) 입출력 구현체
+ * 메시지를 버퍼에 모았다가 페이즈 종료 또는 입력 대기 시점에 한 번에 출력
+ */
+public class ConsolePlayerIO implements PlayerIO {
+
+	private static final int CLEAR_LINE_COUNT = 30; // 화면 전환 시 밀어 올릴 줄 수 (화면 크기에 따라 조절)
+
+	private final Scanner scanner;		// 콘솔 입력
+	private final PrintStream out;		// 콘솔 출력
+	private final StringBuilder buffer;	// 아직 출력하지 않은 메시지
+
+	public ConsolePlayerIO() {
+		this.scanner = new Scanner(System.in);
+		this.out = System.out;
+		this.buffer = new StringBuilder(4096);
+	}
+
+	@Override
+	public void display(Player player, String message) {
+		if (player != null) {
+			buffer.append('[').append(player.getName()).append("님께] ");
+		} else {
+			buffer.append("[전체] ");
+		}
+		buffer.append(message).append('\n');
+	}
+
+	@Override
+	public void announce(String message) {
+		buffer.append(message).append('\n');
+	}
+
+	@Override
+	public String readInput(Player player, String prompt) {
+		if (player != null) {
+			buffer.append('[').append(player.getName()).append("님] ");
+		}
+		buffer.append(prompt);
+		flush(); // 입력 대기 전에 안내 메시지까지 모두 출력
+		return scanner.nextLine().trim();
+	}
+
+	@Override
+	public void clearScreen() {
+		// 간단히 여러 줄을 출력하여 이전 내용을 밀어 올림
+		for (int i = 0; i < CLEAR_LINE_COUNT; i++) {
+			buffer.append('\n');
+		}
+		buffer.append("--- (화면이 전환되었습니다) ---\n");
+	}
+
+	@Override
+	public void flush() {
+		if (buffer.length() == 0) return;
+		out.print(buffer); // 한 번의 쓰기로 출력
+		out.flush();
+		buffer.setLength(0);
+	}
+
+	@Override
+	public void close() {
+		flush();
+		scanner.close();
+	}
+}
@@ -0,0 +1,68 @@
+package com.mafiagame.logic.io;
+
+import com.mafiagame.logic.game.Player;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 메모리 입출력 구현체
+ * 출력은 목록에 기록하고, 입력은 미리 넣어 둔 응답을 순서대로 반환 (테스트, 다른 프론트엔드 연동용)
+ */
+public class MemoryPlayerIO implements PlayerIO {
+
+	private final List<String> output = new ArrayList<>();		// 기록된 출력 메시지
+	private final Deque<String> pendingInputs = new ArrayDeque<>();	// 반환할 입력 대기열
+
+	/**
+	 * 다음 readInput 호출 시 반환할 입력을 추가
+	 *
+	 * @param input 입력 문자열
+	 */
+	public void addInput(String input) {
+		pendingInputs.addLast(input);
+	}
+
+	/**
+	 * 지금까지 기록된 출력 메시지 반환
+	 */
+	public List<String> getOutput() {
+		return Collections.unmodifiableList(output);
+	}
+
+	public void clearOutput() {
+		output.clear();
+	}
+
+	@Override
+	public void display(Player player, String message) {
+		output.add(player != null ? "[" + player.getName() + "님께] " + message : "[전체] " + message);
+	}
+
+	@Override
+	public void announce(String message) {
+		output.add(message);
+	}
+
+	@Override
+	public String readInput(Player player, String prompt) {
+		String input = pendingInputs.pollFirst();
+		if (input == null) {
+			throw new IllegalStateException("입력 대기열이 비어 있습니다: " + prompt);
+		}
+		return input.trim();
+	}
+
+	@Override
+	public void clearScreen() {
+		// 메모리 구현에서는 화면 전환 없음
+	}
+
+	@Override
+	public void flush() {
+		// 즉시 기록하므로 별도 처리 없음
+	}
+}
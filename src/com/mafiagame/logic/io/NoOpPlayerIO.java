@@ -0,0 +1,51 @@
+package com.mafiagame.logic.io;
+
+import com.mafiagame.logic.game.Player;
+import com.mafiagame.logic.message.MessageKey;
+
+/**
+ * 아무것도 출력하지 않는 입출력 구현체 (헤드리스 시뮬레이션용)
+ * 상태가 없으므로 하나의 인스턴스를 모든 게임이 공유
+ * 템플릿 메시지도 받기만 하고 문장을 만들지 않음
+ */
+public final class NoOpPlayerIO implements PlayerIO {
+
+	public static final NoOpPlayerIO INSTANCE = new NoOpPlayerIO();
+
+	private NoOpPlayerIO() {
+	}
+
+	@Override
+	public void display(Player player, String message) {
+	}
+
+	@Override
+	public void announce(String message) {
+	}
+
+	@Override
+	public void display(Player player, MessageKey key, Object arg0, Object arg1) {
+	}
+
+	@Override
+	public void announce(MessageKey key, Object arg0, Object arg1) {
+	}
+
+	@Override
+	public String readInput(Player player, String prompt) {
+		return "";
+	}
+
+	@Override
+	public String readInput(Player player, MessageKey key) {
+		return "";
+	}
+
+	@Override
+	public void clearScreen() {
+	}
+
+	@Override
+	public void flush() {
+	}
+}
@@ -0,0 +1,125 @@
+package com.mafiagame.logic.io;
+
+import com.mafiagame.logic.game.Player;
+import com.mafiagame.logic.message.MessageCatalog;
+import com.mafiagame.logic.message.MessageKey;
+
+import java.util.Locale;
+
+/**
+ * GameManager가 사용하는 플레이어 입출력 인터페이스
+ * 콘솔, 메모리(테스트/서버), 출력 없음(시뮬레이션) 등 프론트엔드를 교체할 수 있도록 분리
+ */
+public interface PlayerIO {
+
+	/**
+	 * 특정 플레이어에게 메시지 표시
+	 *
+	 * @param player  메시지를 받을 플레이어 (null이면 전체 공지)
+	 * @param message 표시할 메시지
+	 */
+	void display(Player player, String message);
+
+	/**
+	 * 전체 공지 메시지 표시 (페이즈 안내, 공개 결과 등)
+	 *
+	 * @param message 표시할 메시지
+	 */
+	void announce(String message);
+
+	/**
+	 * 플레이어로부터 한 줄 입력을 받음
+	 * 구현체는 입력 대기 전에 쌓인 출력을 먼저 내보내야 함
+	 *
+	 * @param player 입력할 플레이어 (null이면 일반적인 입력 대기)
+	 * @param prompt 입력 안내 메시지
+	 * @return 앞뒤 공백이 제거된 입력 문자열
+	 */
+	String readInput(Player player, String prompt);
+
+	/**
+	 * 메시지 언어 (기본 한국어)
+	 */
+	default Locale getLocale() {
+		return Locale.KOREAN;
+	}
+
+	/**
+	 * 템플릿 메시지를 특정 플레이어에게 표시
+	 * 문장은 여기서 처음 만들어지므로, 출력하지 않는 구현체는 이 메서드를 비워 두어 문자열 생성을 건너뛸 수 있음
+	 *
+	 * @param player 메시지를 받을 플레이어 (null이면 전체 공지)
+	 * @param key    템플릿 ID
+	 * @param arg0   {0} 인자 (없으면 null)
+	 * @param arg1   {1} 인자 (없으면 null)
+	 */
+	default void display(Player player, MessageKey key, Object arg0, Object arg1) {
+		display(player, MessageCatalog.forLocale(getLocale()).render(key, arg0, arg1));
+	}
+
+	/**
+	 * 템플릿 메시지를 전체 공지
+	 *
+	 * @param key  템플릿 ID
+	 * @param arg0 {0} 인자 (없으면 null)
+	 * @param arg1 {1} 인자 (없으면 null)
+	 */
+	default void announce(MessageKey key, Object arg0, Object arg1) {
+		announce(MessageCatalog.forLocale(getLocale()).render(key, arg0, arg1));
+	}
+
+	/**
+	 * 템플릿 안내 메시지로 한 줄 입력을 받음
+	 *
+	 * @param player 입력할 플레이어 (null이면 일반적인 입력 대기)
+	 * @param key    입력 안내 템플릿 ID
+	 * @return 앞뒤 공백이 제거된 입력 문자열
+	 */
+	default String readInput(Player player, MessageKey key) {
+		return readInput(player, MessageCatalog.forLocale(getLocale()).render(key, null, null));
+	}
+
+	/**
+	 * 입력 대기를 중단할 수 있는 마감 시간 하나를 시작 (GameManager가 마감 시간을 열 때 호출)
+	 * 대기를 중단할 수 없는 구현체(콘솔 등)는 아무것도 하지 않으며, GameManager는 다음 입력 전에 마감 여부를 다시 확인함
+	 *
+	 * @return 마감 시간 번호 (interruptInput(), endDeadline()에 넘김)
+	 */
+	default long beginDeadline() {
+		return 0;
+	}
+
+	/**
+	 * 마감 시간이 지나 입력 대기를 중단 (대기 중인 readInput은 빈 문자열을 반환하고, 같은 마감 시간 동안의 이후 입력 요청도 바로 빈 문자열을 반환)
+	 * 이미 끝난 마감 시간의 번호면 무시되므로 늦게 실행된 마감 콜백이 다음 입력에 영향을 주지 않음
+	 *
+	 * @param deadline beginDeadline()이 반환한 마감 시간 번호
+	 */
+	default void interruptInput(long deadline) {
+	}
+
+	/**
+	 * 마감 시간 종료 (마감 전에 모두 입력했거나 마감 후 페이즈가 끝남)
+	 *
+	 * @param deadline beginDeadline()이 반환한 마감 시간 번호
+	 */
+	default void endDeadline(long deadline) {
+	}
+
+	/**
+	 * 다음 플레이어가 이전 플레이어의 정보를 보지 못하도록 화면 전환
+	 */
+	void clearScreen();
+
+	/**
+	 * 쌓인 출력을 한 번에 내보냄 (GameManager가 페이즈 종료 시 호출)
+	 */
+	void flush();
+
+	/**
+	 * 입출력 자원 해제 (게임 종료 시 호출)
+	 */
+	default void close() {
+		flush();
+	}
+}
@@ -0,0 +1,186 @@
+package com.mafiagame.logic.io;
+
+import com.mafiagame.logic.game.Player;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 큐 기반 입출력 구현체 (게임 서버의 방 단위 입출력용)
+ * 입력은 방마다 별도의 큐에서 받고, 출력은 최대 개수가 정해진 보관함에 쌓아 두었다가 클라이언트가 가져감
+ *
+ * 마감 시간 경과와 방 닫힘은 스레드 인터럽트 대신 입력 큐에 깨우기 표시(WAKE_UP)를 넣어 대기 중인 스레드를 깨움.
+ * 마감 시간 중단은 마감 시간 번호로 구분하여, 이미 끝난 마감 시간의 늦은 콜백이나 남은 깨우기 표시는 다음 입력에 영향을 주지 않음
+ */
+public class QueuePlayerIO implements PlayerIO {
+
+	private static final String WAKE_UP = new String("");	// 대기 중인 입력을 깨우는 표시 (참조로 구분하므로 빈 입력과 섞이지 않음)
+
+	private final BlockingQueue<String> inputs = new LinkedBlockingQueue<>();	// 방 입력 큐
+	private final ArrayDeque<String> outbox = new ArrayDeque<>();			// 클라이언트가 가져갈 출력
+	private final int maxOutboxSize;										// 출력 보관함 최대 크기 (초과 시 오래된 것부터 버림)
+	private final Locale locale;											// 방 메시지 언어
+	private volatile boolean waitingForInput;								// 입력 대기 중 여부
+	private volatile boolean cancelled;										// 방이 닫혀 입력을 더 받지 않음
+	private final AtomicLong deadlineCounter = new AtomicLong();			// 마감 시간 번호 발급
+	private volatile long activeDeadline;									// 진행 중인 마감 시간 번호 (없으면 0)
+	private volatile long expiredDeadline;									// 마지막으로 경과한 마감 시간 번호
+
+	/**
+	 * 생성자
+	 *
+	 * @param maxOutboxSize 출력 보관함 최대 크기
+	 */
+	public QueuePlayerIO(int maxOutboxSize) {
+		this(maxOutboxSize, Locale.KOREAN);
+	}
+
+	/**
+	 * 생성자
+	 *
+	 * @param maxOutboxSize 출력 보관함 최대 크기
+	 * @param locale        방 메시지 언어
+	 */
+	public QueuePlayerIO(int maxOutboxSize, Locale locale) {
+		this.maxOutboxSize = maxOutboxSize;
+		this.locale = locale;
+	}
+
+	/**
+	 * 방 외부(클라이언트 연결 등)에서 입력을 넣음
+	 *
+	 * @param input 입력 문자열
+	 */
+	public void submitInput(String input) {
+		inputs.add(input);
+	}
+
+	/**
+	 * 쌓인 출력을 모두 꺼내 반환
+	 *
+	 * @return 출력 메시지 목록 (없으면 빈 목록)
+	 */
+	public List<String> drainOutput() {
+		synchronized (outbox) {
+			List<String> drained = new ArrayList<>(outbox);
+			outbox.clear();
+			return drained;
+		}
+	}
+
+	/**
+	 * 방이 닫혔을 때 호출: 입력 대기 중인 스레드를 깨우고 이후의 입력 요청도 바로 중단시킴
+	 * (게임 루프가 페이즈 사이에 스레드 없이 기다리는 경우에도 다음 입력 요청에서 종료됨)
+	 */
+	public void cancel() {
+		cancelled = true;
+		inputs.add(WAKE_UP);
+	}
+
+	@Override
+	public long beginDeadline() {
+		long deadline = deadlineCounter.incrementAndGet();
+		activeDeadline = deadline;
+		return deadline;
+	}
+
+	/**
+	 * 마감 시간 경과 (타이머 스레드에서 호출): 진행 중인 마감 시간이면 대기 중인 입력을 빈 문자열로 바로 반환시키고,
+	 * 대기 전이면 그 마감 시간이 끝날 때까지의 입력 요청을 빈 문자열로 끝냄
+	 */
+	@Override
+	public void interruptInput(long deadline) {
+		if (deadline == 0 || deadline != activeDeadline) return; // 이미 끝난 마감 시간
+		expiredDeadline = deadline;
+		inputs.add(WAKE_UP);
+	}
+
+	@Override
+	public void endDeadline(long deadline) {
+		if (activeDeadline == deadline) activeDeadline = 0;
+	}
+
+	public boolean isWaitingForInput() {
+		return waitingForInput;
+	}
+
+	@Override
+	public Locale getLocale() {
+		return locale;
+	}
+
+	@Override
+	public void display(Player player, String message) {
+		offer(player != null ? "[" + player.getName() + "님께] " + message : "[전체] " + message);
+	}
+
+	@Override
+	public void announce(String message) {
+		offer(message);
+	}
+
+	/**
+	 * 입력이 들어올 때까지 대기 (가상 스레드에서는 캐리어 스레드를 점유하지 않음)
+	 * 방 닫힘과 마감 시간 경과는 깨우기 표시로 알리고, 그 밖의 인터럽트(실행기 종료 등)는 방 닫힘과 같이 대기를 끝냄
+	 *
+	 * @return 입력 문자열, 진행 중인 마감 시간이 지났으면 빈 문자열 (GameManager가 기권 처리)
+	 * @throws CancellationException 방이 닫혔거나 대기 중 스레드가 인터럽트된 경우 (인터럽트 상태는 유지)
+	 */
+	@Override
+	public String readInput(Player player, String prompt) {
+		offer(player != null ? "[" + player.getName() + "님] " + prompt : prompt);
+		waitingForInput = true;
+		try {
+			while (true) {
+				if (cancelled) {
+					throw new CancellationException("방이 닫혀 입력 대기를 중단합니다.");
+				}
+				if (isDeadlineExpired()) {
+					return "";
+				}
+				String input;
+				try {
+					input = inputs.take();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt(); // 호출한 쪽이 인터럽트를 확인할 수 있도록 상태 복원
+					throw new CancellationException("입력 대기 중 스레드가 인터럽트되었습니다.");
+				}
+				if (input != WAKE_UP) {
+					return input.trim();
+				} // 깨우기 표시: 방 닫힘, 마감 시간을 다시 확인 (끝난 마감 시간의 표시면 계속 대기)
+			}
+		} finally {
+			waitingForInput = false;
+		}
+	}
+
+	private boolean isDeadlineExpired() {
+		long deadline = activeDeadline;
+		return deadline != 0 && expiredDeadline == deadline;
+	}
+
+	@Override
+	public void clearScreen() {
+		// 화면 전환은 클라이언트가 처리
+	}
+
+	@Override
+	public void flush() {
+		// 출력은 보관함에 바로 쌓이므로 별도 처리 없음
+	}
+
+	private void offer(String message) {
+		synchronized (outbox) {
+			if (outbox.size() >= maxOutboxSize) {
+				outbox.pollFirst();
+			}
+			outbox.addLast(message);
+		}
+	}
+}
@@ -1,5 +1,28 @@
 package com.mafiagame.logic.job;
 
-public class Citizen {
+import java.util.List;
+
+import com.mafiagame.logic.common.enums.JobType;
+import com.mafiagame.logic.game.GameManager;
+import com.mafiagame.logic.game.Player;
+
+/**
+ * 시민: 특별한 능력이 없음
+ */
+public class Citizen extends Job {
+
+	public Citizen() {
+		super(JobDefinition.of(JobType.CITIZEN));
+	}
+
+	@Override
+	public void performNightAction(Player self, List<Player> livingPlayers, GameManager gameManager) {
+		// 밤 능력 없음 (GameManager가 hasNightAbility()로 걸러 호출하지 않음)
+	}
+
+	@Override
+	public String getNightActionPrompt(Player self) {
+		return "밤에 사용하는 능력이 없습니다.";
+	}
 
 }
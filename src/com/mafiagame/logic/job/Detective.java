@@ -1,5 +1,28 @@
 package com.mafiagame.logic.job;
 
-public class Detective {
+import java.util.List;
+
+import com.mafiagame.logic.common.enums.JobType;
+import com.mafiagame.logic.game.GameManager;
+import com.mafiagame.logic.game.Player;
+
+/**
+ * 탐정: 밤마다 한 명을 지목해 그 플레이어의 능력 대상을 확인
+ */
+public class Detective extends Job {
+
+	public Detective() {
+		super(JobDefinition.of(JobType.DETECTIVE));
+	}
+
+	@Override
+	public void performNightAction(Player self, List<Player> livingPlayers, GameManager gameManager) {
+		chooseNightTarget(self, othersThan(self, livingPlayers), gameManager);
+	}
+
+	@Override
+	public String getNightActionPrompt(Player self) {
+		return "추리할 대상을 선택하세요.";
+	}
 
 }
@@ -1,5 +1,28 @@
 package com.mafiagame.logic.job;
 
-public class Doctor {
+import java.util.List;
+
+import com.mafiagame.logic.common.enums.JobType;
+import com.mafiagame.logic.game.GameManager;
+import com.mafiagame.logic.game.Player;
+
+/**
+ * 의사: 밤마다 한 명(자신 포함)을 치료해 마피아의 공격으로부터 살림 (판정은 GameManager.resolveHeals)
+ */
+public class Doctor extends Job {
+
+	public Doctor() {
+		super(JobDefinition.of(JobType.DOCTOR));
+	}
+
+	@Override
+	public void performNightAction(Player self, List<Player> livingPlayers, GameManager gameManager) {
+		chooseNightTarget(self, livingPlayers, gameManager);
+	}
+
+	@Override
+	public String getNightActionPrompt(Player self) {
+		return "치료할 대상을 선택하세요.";
+	}
 
 }
@@ -1,5 +1,28 @@
 package com.mafiagame.logic.job;
 
-public class Gangster {
+import java.util.List;
+
+import com.mafiagame.logic.common.enums.JobType;
+import com.mafiagame.logic.game.GameManager;
+import com.mafiagame.logic.game.Player;
+
+/**
+ * 건달: 밤마다 한 명을 협박해 다음 날 투표하지 못하게 함 (판정은 GameManager.resolveIntimidation)
+ */
+public class Gangster extends Job {
+
+	public Gangster() {
+		super(JobDefinition.of(JobType.GANGSTER));
+	}
+
+	@Override
+	public void performNightAction(Player self, List<Player> livingPlayers, GameManager gameManager) {
+		chooseNightTarget(self, livingPlayers, gameManager);
+	}
+
+	@Override
+	public String getNightActionPrompt(Player self) {
+		return "협박할 대상을 선택하세요.";
+	}
 
 }
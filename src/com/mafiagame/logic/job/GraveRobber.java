@@ -1,5 +1,28 @@
 package com.mafiagame.logic.job;
 
-public class GraveRobber {
+import java.util.List;
+
+import com.mafiagame.logic.common.enums.JobType;
+import com.mafiagame.logic.game.GameManager;
+import com.mafiagame.logic.game.Player;
+
+/**
+ * 도굴꾼: 첫날 밤 공격으로 사망한 플레이어의 직업을 얻음 (GameManager가 밤 결과 처리 시 발동)
+ */
+public class GraveRobber extends Job {
+
+	public GraveRobber() {
+		super(JobDefinition.of(JobType.GRAVEROBBER));
+	}
+
+	@Override
+	public void performNightAction(Player self, List<Player> livingPlayers, GameManager gameManager) {
+		// 밤 능력 없음 (GameManager가 hasNightAbility()로 걸러 호출하지 않음)
+	}
+
+	@Override
+	public String getNightActionPrompt(Player self) {
+		return "밤에 사용하는 능력이 없습니다.";
+	}
 
 }
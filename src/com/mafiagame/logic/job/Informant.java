@@ -1,5 +1,34 @@
 package com.mafiagame.logic.job;
 
-public class Informant {
+import java.util.List;
+
+import com.mafiagame.logic.common.enums.JobType;
+import com.mafiagame.logic.game.GameManager;
+import com.mafiagame.logic.game.Player;
+
+/**
+ * 정보원: 밤마다 한 명의 직업을 조사하며, 마피아를 찾으면 접선 (결과는 개인 결과 확인 페이즈에 전달)
+ */
+public class Informant extends Job {
+
+	public Informant() {
+		super(JobDefinition.of(JobType.INFORMANT));
+	}
+
+	@Override
+	public void performNightAction(Player self, List<Player> livingPlayers, GameManager gameManager) {
+		Player target = chooseNightTarget(self, othersThan(self, livingPlayers), gameManager);
+		if (target == null) return;
+		Job targetJob = target.getJob();
+		gameManager.recordPrivateNightResult(self, target.getName() + "의 직업은 " + targetJob.getJobName() + "입니다.");
+		if (targetJob.getJobType() == JobType.MAFIA) {
+			gameManager.recordPrivateNightResult(self, "마피아 " + target.getName() + "와(과) 접선했습니다.");
+		}
+	}
+
+	@Override
+	public String getNightActionPrompt(Player self) {
+		return "직업을 조사할 대상을 선택하세요.";
+	}
 
 }
@@ -4,79 +4,95 @@ import com.mafiagame.logic.common.enums.JobType;
 import com.mafiagame.logic.common.enums.Team;     
 import com.mafiagame.logic.game.GameManager;
 import com.mafiagame.logic.game.Player;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * 모든 직업의 기본이 되는 추상 클래스
  * 각 직업은 이 클래스를 상속받아 구체적인 능력과 특성을 구현
+ * 
+ * 직업 이름, 팀 등 변하지 않는 정보는 직업 종류별로 공유되는 JobDefinition에 두고,
+ * Job 객체는 플레이어 한 명의 능력 사용 상태만 가짐
  */
 public abstract class Job {
 
-    protected String jobName;				// 직업 이름
-    protected Team team;					// 해당 직업의 기본 소속 팀
-    protected JobType jobType;				// 해당 직업 종류
-    protected String description;			// 직업 설명 (UI 표시용)
+    protected final JobDefinition definition;	// 직업 종류별 공유 정의 (이름, 팀, 설명, 능력 특성)
     
-    // 능력 관련
-    protected boolean hasNightAbility;		// 밤 능력 사용 가능 여부
-    protected boolean isOneTimeAbility; 	// 이 직업의 주 능력이 1회성인지 여부
+    // 플레이어별 능력 사용 상태
     protected boolean oneTimeAbilityUsed;	// 1회성 능력을 사용했는지 여부
 
     /**
      * 생성자
      *
-     * @param jobName 직업 이름
-     * @param team 소속 팀
-     * @param jobType 직업 종류
-     * @param description 직업 설명
-     * @param hasNightAbility 밤 능력 사용 가능 여부
-     * @param isOneTimeAbility 주 능력이 1회성인지 여부
+     * @param definition 직업 종류별 공유 정의
      */
-    public Job(String jobName, Team team, JobType jobType, String description, boolean hasNightAbility, boolean isOneTimeAbility) {
-        this.jobName = jobName;
-        this.team = team;
-        this.jobType = jobType;
-        this.description = description;
-        this.hasNightAbility = hasNightAbility;
-        this.isOneTimeAbility = isOneTimeAbility;
+    protected Job(JobDefinition definition) {
+        this.definition = definition;
         this.oneTimeAbilityUsed = false; // 기본적으로 사용 안 함으로 초기화
     }
 
     // --- Getter 메서드들 ---
+    public JobDefinition getDefinition() {
+        return definition;
+    }
+
     public String getJobName() {
-        return jobName;
+        return definition.getJobName();
     }
 
     public Team getInitialTeam() { // 초기 팀 반환 (간첩 포섭 고려)
-        return team;
+        return definition.getTeam();
+    }
+
+    public JobType getJobType() {
+        return definition.getJobType();
     }
 
     public String getDescription() {
-        return description;
+        return definition.getDescription();
     }
 
     public boolean hasNightAbility() {
-        return hasNightAbility;
+        return definition.hasNightAbility();
     }
 
     public boolean isOneTimeAbility() {
-        return isOneTimeAbility;
+        return definition.isOneTimeAbility();
     }
 
     public boolean hasUsedOneTimeAbility() {
         return oneTimeAbilityUsed;
     }
 
+    /**
+     * 낮 투표 시 이 직업이 행사하는 표의 수
+     * 기본 1표, 투표력이 다른 직업(예: 정치인)은 재정의
+     *
+     * @return 투표 가중치
+     */
+    public int getVoteWeight() {
+        return 1;
+    }
+
     /**
      * 1회성 능력을 사용했음을 표시
      * 이 메서드는 1회성 능력을 사용하는 직업의 performNightAction 내부에서 호출될 수 있습니다.
      */
     protected void markOneTimeAbilityUsed() {
-        if (isOneTimeAbility) {
+        if (isOneTimeAbility()) {
             this.oneTimeAbilityUsed = true;
         }
     }
     
+    /**
+     * 1회성 능력 사용 여부를 직접 설정 (저장된 게임 상태 복원용)
+     *
+     * @param used 사용 여부
+     */
+    public void setOneTimeAbilityUsed(boolean used) {
+        this.oneTimeAbilityUsed = used;
+    }
+    
     /**
      * 특정 조건에서 1회성 능력을 사용을 시도
      * (예: 정치인의 처세, 군인의 방어 - 피격 시 발동)
@@ -110,10 +126,10 @@ public abstract class Job {
      * @return 능력 사용 가능 여부
      */
     public boolean canUseAbility(Player self, int dayCount, GameManager gameManager) {
-        if (!hasNightAbility) { // 밤 능력이 없는 직업
+        if (!hasNightAbility()) { // 밤 능력이 없는 직업
             return false;
         }
-        if (isOneTimeAbility && oneTimeAbilityUsed) { // 1회성 능력인데 이미 사용한 경우
+        if (isOneTimeAbility() && oneTimeAbilityUsed) { // 1회성 능력인데 이미 사용한 경우
             return false;
         }
         return true;
@@ -133,6 +149,37 @@ public abstract class Job {
      */
     public abstract void performNightAction(Player self, List<Player> livingPlayers, GameManager gameManager);
 
+    /**
+     * 후보 중 한 명을 골라 밤 능력 대상으로 기록 (후보가 없으면 고르지 않음)
+     * 대상 선택은 GameManager.selectPlayer()를 거치므로 결정자, 기록 수신자(리플레이, 저널)에 그대로 전달됨
+     *
+     * @param self        능력을 사용하는 플레이어 자신
+     * @param candidates  선택 가능한 대상
+     * @param gameManager 게임 매니저 객체
+     * @return 선택된 대상 (후보가 없으면 null)
+     */
+    protected Player chooseNightTarget(Player self, List<Player> candidates, GameManager gameManager) {
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        Player target = gameManager.selectPlayer(self, candidates, getNightActionPrompt(self));
+        gameManager.recordNightAbilityTarget(self, target);
+        return target;
+    }
+
+    /**
+     * 살아 있는 플레이어 중 자신을 뺀 목록
+     */
+    protected static List<Player> othersThan(Player self, List<Player> livingPlayers) {
+        List<Player> others = new ArrayList<>(livingPlayers.size());
+        for (Player player : livingPlayers) {
+            if (player != self) {
+                others.add(player);
+            }
+        }
+        return others;
+    }
+
     /**
      * 추상 메서드 -> 각 직업 클래스는 이 메서드 구현
      * 
@@ -164,8 +211,10 @@ public abstract class Job {
      * 
      * 밤 능력 사용 후, '비공개 확인' 페이즈에서 해당 플레이어에게 전달할 개인적인 결과 메시지를 생성
      * 
+     * 플레이어에게 쌓인 개인 결과 이벤트마다 한 번씩 호출되며, null을 반환하면 기본 문장이 표시됨
+     * 
      * @param self 능력을 사용한 플레이어 자신
-     * @param target 선택했던 대상 플레이어 (null일 수 있음)
+     * @param resultInfo 개인 결과 이벤트 (com.mafiagame.logic.event.GameEvent, NOTE 이벤트는 getPayload()에 기록한 정보)
      * @param gameManager 게임 매니저 객체
      * @return 개인 결과 메시지 문자열 (없으면 null 또는 빈 문자열 반환)
      */
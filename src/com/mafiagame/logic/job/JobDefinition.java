@@ -0,0 +1,84 @@
+package com.mafiagame.logic.job;
+
+import com.mafiagame.logic.common.enums.JobType;
+import com.mafiagame.logic.common.enums.Team;
+
+import java.util.EnumMap;
+
+/**
+ * 직업 종류별 변하지 않는 정보 (이름, 기본 팀, 설명, 능력 특성)
+ *
+ * 직업 종류마다 하나의 인스턴스를 모든 게임과 플레이어가 공유하고,
+ * 플레이어마다 달라지는 능력 사용 상태는 Job 객체가 가짐
+ */
+public final class JobDefinition {
+
+	private static final EnumMap<JobType, JobDefinition> DEFINITIONS = new EnumMap<>(JobType.class);
+
+	static {
+		// 마피아 팀
+		define(JobType.MAFIA, "마피아", Team.MAFIA, "밤마다 한 명을 지목해 제거합니다.", true, false);
+		define(JobType.INFORMANT, "정보원", Team.MAFIA, "밤마다 한 명의 직업을 조사하며, 마피아를 찾으면 접선합니다.", true, false);
+		define(JobType.WAREWOLF, "늑대인간", Team.MAFIA, "마피아와 접선 후 살육으로 치료를 무시하고 한 명을 제거합니다.", true, false);
+
+		// 시민 팀 필수 직업
+		define(JobType.POLICE, "경찰", Team.CITIZEN, "밤마다 한 명을 조사해 마피아인지 확인합니다.", true, false);
+		define(JobType.DOCTOR, "의사", Team.CITIZEN, "밤마다 한 명을 치료해 마피아의 공격으로부터 살립니다.", true, false);
+
+		// 시민 팀 특수 직업
+		define(JobType.SOLDIER, "군인", Team.CITIZEN, "공격을 한 번 버텨냅니다.", false, true);
+		define(JobType.POLITICIAN, "정치인", Team.CITIZEN, "투표 시 2표를 행사하며, 처세로 추방을 한 번 면합니다.", false, true);
+		define(JobType.UNDERTAKER, "장의사", Team.CITIZEN, "밤마다 사망자 한 명을 부검해 직업을 확인합니다.", true, false);
+		define(JobType.GANGSTER, "건달", Team.CITIZEN, "밤마다 한 명을 협박해 다음 날 투표하지 못하게 합니다.", true, false);
+		define(JobType.REPORTER, "기자", Team.CITIZEN, "둘째 밤부터 한 번, 한 명을 취재해 직업을 공개합니다.", true, true);
+		define(JobType.DETECTIVE, "탐정", Team.CITIZEN, "밤마다 한 명을 지목해 그 플레이어의 능력 대상을 확인합니다.", true, false);
+		define(JobType.GRAVEROBBER, "도굴꾼", Team.CITIZEN, "첫날 밤 공격으로 사망한 플레이어의 직업을 얻습니다.", false, true);
+		define(JobType.TERRORIST, "테러리스트", Team.CITIZEN, "추방될 때 한 명을 지목해 함께 탈락합니다.", false, false);
+		define(JobType.CITIZEN, "시민", Team.CITIZEN, "특별한 능력이 없습니다.", false, false);
+
+		// 간첩 팀
+		define(JobType.SPY, "간첩", Team.SPY, "밤마다 한 명을 포섭해 간첩 팀으로 만듭니다.", true, false);
+	}
+
+	private final JobType jobType;			// 직업 종류
+	private final String jobName;			// 직업 이름
+	private final Team team;				// 기본 소속 팀
+	private final String description;		// 직업 설명 (UI 표시용)
+	private final boolean hasNightAbility;	// 밤 능력 사용 가능 여부
+	private final boolean isOneTimeAbility;	// 주 능력이 1회성인지 여부
+
+	private JobDefinition(JobType jobType, String jobName, Team team, String description, boolean hasNightAbility, boolean isOneTimeAbility) {
+		this.jobType = jobType;
+		this.jobName = jobName;
+		this.team = team;
+		this.description = description;
+		this.hasNightAbility = hasNightAbility;
+		this.isOneTimeAbility = isOneTimeAbility;
+	}
+
+	private static void define(JobType jobType, String jobName, Team team, String description, boolean hasNightAbility, boolean isOneTimeAbility) {
+		DEFINITIONS.put(jobType, new JobDefinition(jobType, jobName, team, description, hasNightAbility, isOneTimeAbility));
+	}
+
+	/**
+	 * 직업 종류의 공유 정의 반환
+	 *
+	 * @param jobType 직업 종류
+	 * @return 공유 JobDefinition 인스턴스
+	 */
+	public static JobDefinition of(JobType jobType) {
+		return DEFINITIONS.get(jobType);
+	}
+
+	public JobType getJobType() { return jobType; }
+
+	public String getJobName() { return jobName; }
+
+	public Team getTeam() { return team; }
+
+	public String getDescription() { return description; }
+
+	public boolean hasNightAbility() { return hasNightAbility; }
+
+	public boolean isOneTimeAbility() { return isOneTimeAbility; }
+}
@@ -0,0 +1,38 @@
+package com.mafiagame.logic.job;
+
+import com.mafiagame.logic.common.enums.JobType;
+
+/**
+ * 직업 종류로 플레이어별 Job 객체를 생성
+ * 직업 정보는 공유 JobDefinition을 사용하므로 생성되는 객체에는 능력 사용 상태만 담김
+ */
+public final class JobFactory {
+
+	private JobFactory() {
+	}
+
+	/**
+	 * @param jobType 직업 종류
+	 * @return 새 Job 객체 (플레이어 한 명 전용)
+	 */
+	public static Job create(JobType jobType) {
+		switch (jobType) {
+		case MAFIA: return new Mafia();
+		case INFORMANT: return new Informant();
+		case WAREWOLF: return new Warewolf();
+		case POLICE: return new Police();
+		case DOCTOR: return new Doctor();
+		case SOLDIER: return new Soldier();
+		case POLITICIAN: return new Politician();
+		case UNDERTAKER: return new Undertaker();
+		case GANGSTER: return new Gangster();
+		case REPORTER: return new Reporter();
+		case DETECTIVE: return new Detective();
+		case GRAVEROBBER: return new GraveRobber();
+		case TERRORIST: return new Terrorist();
+		case CITIZEN: return new Citizen();
+		case SPY: return new Spy();
+		default: throw new IllegalArgumentException("알 수 없는 직업 종류입니다: " + jobType);
+		}
+	}
+}
@@ -1,28 +1,59 @@
 package com.mafiagame.logic.job;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import com.mafiagame.logic.common.enums.JobType;
 import com.mafiagame.logic.common.enums.Team;
 import com.mafiagame.logic.game.GameManager;
 import com.mafiagame.logic.game.Player;
 
+/**
+ * 마피아: 밤마다 한 명을 지목해 제거 (마피아가 여럿이면 공격 지휘자의 선택으로 공격)
+ */
 public class Mafia extends Job {
 
-	public Mafia(String jobName, Team team, String description, boolean hasNightAbility, boolean isOneTimeAbility) {
-		super(jobName, team, description, hasNightAbility, isOneTimeAbility);
-		// TODO Auto-generated constructor stub
+	public Mafia() {
+		super(JobDefinition.of(JobType.MAFIA));
 	}
 
 	@Override
 	public void performNightAction(Player self, List<Player> livingPlayers, GameManager gameManager) {
-		// TODO Auto-generated method stub
-		
+		chooseNightTarget(self, attackable(livingPlayers), gameManager);
 	}
 
 	@Override
 	public String getNightActionPrompt(Player self) {
-		// TODO Auto-generated method stub
-		return null;
+		return "제거할 대상을 선택하세요.";
+	}
+
+	/**
+	 * 공격 지휘자 여부: 살아 있는 마피아 중 번호가 가장 앞선 플레이어의 선택으로 공격
+	 *
+	 * @param self        확인할 마피아
+	 * @param gameManager 게임 매니저 객체
+	 * @return self가 공격 지휘자이면 true
+	 */
+	public boolean isAttackCommander(Player self, GameManager gameManager) {
+		for (Player player : gameManager.getLivingPlayers()) {
+			if (player.getJob().getJobType() == JobType.MAFIA) {
+				return player == self;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 공격 대상 후보: 마피아 팀 직업이 아닌 생존자 (GameTreeSolver와 같은 후보)
+	 */
+	static List<Player> attackable(List<Player> livingPlayers) {
+		List<Player> candidates = new ArrayList<>(livingPlayers.size());
+		for (Player player : livingPlayers) {
+			if (player.getJob().getInitialTeam() != Team.MAFIA) {
+				candidates.add(player);
+			}
+		}
+		return candidates;
 	}
 
 }
@@ -1,5 +1,31 @@
 package com.mafiagame.logic.job;
 
-public class Police {
+import java.util.List;
+
+import com.mafiagame.logic.common.enums.JobType;
+import com.mafiagame.logic.game.GameManager;
+import com.mafiagame.logic.game.Player;
+
+/**
+ * 경찰: 밤마다 한 명을 조사해 마피아인지 확인 (결과는 개인 결과 확인 페이즈에 전달)
+ */
+public class Police extends Job {
+
+	public Police() {
+		super(JobDefinition.of(JobType.POLICE));
+	}
+
+	@Override
+	public void performNightAction(Player self, List<Player> livingPlayers, GameManager gameManager) {
+		Player target = chooseNightTarget(self, othersThan(self, livingPlayers), gameManager);
+		if (target == null) return;
+		boolean mafia = target.getJob().getJobType() == JobType.MAFIA;
+		gameManager.recordPrivateNightResult(self, target.getName() + "은(는) 마피아" + (mafia ? "입니다." : "가 아닙니다."));
+	}
+
+	@Override
+	public String getNightActionPrompt(Player self) {
+		return "조사할 대상을 선택하세요.";
+	}
 
 }
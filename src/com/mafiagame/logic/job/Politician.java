@@ -2,28 +2,44 @@ package com.mafiagame.logic.job;
 
 import java.util.List;
 
-import com.mafiagame.logic.common.enums.Team;
+import com.mafiagame.logic.common.enums.JobType;
 import com.mafiagame.logic.game.GameManager;
 import com.mafiagame.logic.game.Player;
 
+/**
+ * 정치인: 투표 시 2표를 행사하며, 처세로 추방을 한 번 면함
+ */
 public class Politician extends Job {
 
-	public Politician(String jobName, Team team, String description, boolean hasNightAbility,
-			boolean isOneTimeAbility) {
-		super(jobName, team, description, hasNightAbility, isOneTimeAbility);
-		// TODO Auto-generated constructor stub
+	public Politician() {
+		super(JobDefinition.of(JobType.POLITICIAN));
 	}
 
 	@Override
 	public void performNightAction(Player self, List<Player> livingPlayers, GameManager gameManager) {
-		// TODO Auto-generated method stub
-		
+		// 밤 능력 없음 (GameManager가 hasNightAbility()로 걸러 호출하지 않음)
 	}
 
 	@Override
 	public String getNightActionPrompt(Player self) {
-		// TODO Auto-generated method stub
-		return null;
+		return "밤에 사용하는 능력이 없습니다.";
+	}
+
+	/**
+	 * 논객 능력: 투표 시 2표 행사
+	 */
+	@Override
+	public int getVoteWeight() {
+		return 2;
+	}
+
+	/**
+	 * 처세: 추방 대상이 되었을 때 한 번 추방을 면함 (사용하면 1회성 능력 사용으로 표시)
+	 *
+	 * @return 이번 추방을 면했으면 true
+	 */
+	public boolean canEvadeExecutionByInfluence() {
+		return tryActivateConditionalOneTimeAbility();
 	}
 
 }
@@ -2,27 +2,36 @@ package com.mafiagame.logic.job;
 
 import java.util.List;
 
-import com.mafiagame.logic.common.enums.Team;
+import com.mafiagame.logic.common.enums.JobType;
 import com.mafiagame.logic.game.GameManager;
 import com.mafiagame.logic.game.Player;
 
+/**
+ * 기자: 둘째 밤부터 한 번, 한 명을 취재해 다음 날 직업을 공개 (판정은 GameManager.resolveReport)
+ */
 public class Reporter extends Job {
 
-	public Reporter(String jobName, Team team, String description, boolean hasNightAbility, boolean isOneTimeAbility) {
-		super(jobName, team, description, hasNightAbility, isOneTimeAbility);
-		// TODO Auto-generated constructor stub
+	public Reporter() {
+		super(JobDefinition.of(JobType.REPORTER));
+	}
+
+	public static final int FIRST_REPORT_DAY = 2; // 취재할 수 있는 첫 일차 (첫날 밤은 엠바고)
+
+	@Override
+	public boolean canUseAbility(Player self, int dayCount, GameManager gameManager) {
+		return super.canUseAbility(self, dayCount, gameManager) && dayCount >= FIRST_REPORT_DAY;
 	}
 
 	@Override
 	public void performNightAction(Player self, List<Player> livingPlayers, GameManager gameManager) {
-		// TODO Auto-generated method stub
-		
+		if (chooseNightTarget(self, othersThan(self, livingPlayers), gameManager) != null) {
+			markOneTimeAbilityUsed();
+		}
 	}
 
 	@Override
 	public String getNightActionPrompt(Player self) {
-		// TODO Auto-generated method stub
-		return null;
+		return "취재할 대상을 선택하세요.";
 	}
 
 }
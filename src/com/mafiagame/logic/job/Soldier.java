@@ -1,5 +1,28 @@
 package com.mafiagame.logic.job;
 
-public class Soldier {
+import java.util.List;
+
+import com.mafiagame.logic.common.enums.JobType;
+import com.mafiagame.logic.game.GameManager;
+import com.mafiagame.logic.game.Player;
+
+/**
+ * 군인: 공격을 한 번 버텨냄 (공격받을 때 GameManager가 1회성 능력으로 발동)
+ */
+public class Soldier extends Job {
+
+	public Soldier() {
+		super(JobDefinition.of(JobType.SOLDIER));
+	}
+
+	@Override
+	public void performNightAction(Player self, List<Player> livingPlayers, GameManager gameManager) {
+		// 밤 능력 없음 (GameManager가 hasNightAbility()로 걸러 호출하지 않음)
+	}
+
+	@Override
+	public String getNightActionPrompt(Player self) {
+		return "밤에 사용하는 능력이 없습니다.";
+	}
 
 }
@@ -1,5 +1,28 @@
 package com.mafiagame.logic.job;
 
-public class Spy {
+import java.util.List;
+
+import com.mafiagame.logic.common.enums.JobType;
+import com.mafiagame.logic.game.GameManager;
+import com.mafiagame.logic.game.Player;
+
+/**
+ * 간첩: 밤마다 한 명을 포섭해 간첩 팀으로 만듦 (판정은 GameManager.resolveRecruitment)
+ */
+public class Spy extends Job {
+
+	public Spy() {
+		super(JobDefinition.of(JobType.SPY));
+	}
+
+	@Override
+	public void performNightAction(Player self, List<Player> livingPlayers, GameManager gameManager) {
+		chooseNightTarget(self, othersThan(self, livingPlayers), gameManager);
+	}
+
+	@Override
+	public String getNightActionPrompt(Player self) {
+		return "포섭할 대상을 선택하세요.";
+	}
 
 }
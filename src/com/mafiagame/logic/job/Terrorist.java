@@ -2,27 +2,27 @@ package com.mafiagame.logic.job;
 
 import java.util.List;
 
-import com.mafiagame.logic.common.enums.Team;
+import com.mafiagame.logic.common.enums.JobType;
 import com.mafiagame.logic.game.GameManager;
 import com.mafiagame.logic.game.Player;
 
+/**
+ * 테러리스트: 추방될 때 한 명을 지목해 함께 탈락 (GameManager의 추방 처리에서 발동)
+ */
 public class Terrorist extends Job {
 
-	public Terrorist(String jobName, Team team, String description, boolean hasNightAbility, boolean isOneTimeAbility) {
-		super(jobName, team, description, hasNightAbility, isOneTimeAbility);
-		// TODO Auto-generated constructor stub
+	public Terrorist() {
+		super(JobDefinition.of(JobType.TERRORIST));
 	}
 
 	@Override
 	public void performNightAction(Player self, List<Player> livingPlayers, GameManager gameManager) {
-		// TODO Auto-generated method stub
-		
+		// 밤 능력 없음 (GameManager가 hasNightAbility()로 걸러 호출하지 않음)
 	}
 
 	@Override
 	public String getNightActionPrompt(Player self) {
-		// TODO Auto-generated method stub
-		return null;
+		return "밤에 사용하는 능력이 없습니다.";
 	}
 
 }
@@ -1,5 +1,35 @@
 package com.mafiagame.logic.job;
 
-public class Undertaker {
+import java.util.ArrayList;
+import java.util.List;
+
+import com.mafiagame.logic.common.enums.JobType;
+import com.mafiagame.logic.game.GameManager;
+import com.mafiagame.logic.game.Player;
+
+/**
+ * 장의사: 밤마다 사망자 한 명을 부검해 직업을 확인
+ */
+public class Undertaker extends Job {
+
+	public Undertaker() {
+		super(JobDefinition.of(JobType.UNDERTAKER));
+	}
+
+	@Override
+	public void performNightAction(Player self, List<Player> livingPlayers, GameManager gameManager) {
+		List<Player> dead = new ArrayList<>();
+		for (Player player : gameManager.getAllPlayers()) {
+			if (!player.isAlive()) {
+				dead.add(player);
+			}
+		}
+		chooseNightTarget(self, dead, gameManager);
+	}
+
+	@Override
+	public String getNightActionPrompt(Player self) {
+		return "부검할 사망자를 선택하세요.";
+	}
 
 }
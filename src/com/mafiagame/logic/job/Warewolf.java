@@ -1,5 +1,42 @@
 package com.mafiagame.logic.job;
 
-public class Warewolf {
+import java.util.List;
+
+import com.mafiagame.logic.common.enums.JobType;
+import com.mafiagame.logic.game.GameManager;
+import com.mafiagame.logic.game.Player;
+
+/**
+ * 늑대인간: 첫날 밤 접선 후 둘째 밤부터 살육으로 치료를 무시하고 한 명을 제거
+ */
+public class Warewolf extends Job {
+
+	public Warewolf() {
+		super(JobDefinition.of(JobType.WAREWOLF));
+	}
+
+	public static final int FIRST_MASSACRE_DAY = 2; // 살육을 쓸 수 있는 첫 일차 (첫날 밤은 접선)
+
+	@Override
+	public boolean canUseAbility(Player self, int dayCount, GameManager gameManager) {
+		return super.canUseAbility(self, dayCount, gameManager) && canUseMassacre(gameManager);
+	}
+
+	@Override
+	public void performNightAction(Player self, List<Player> livingPlayers, GameManager gameManager) {
+		chooseNightTarget(self, Mafia.attackable(livingPlayers), gameManager);
+	}
+
+	@Override
+	public String getNightActionPrompt(Player self) {
+		return "살육할 대상을 선택하세요.";
+	}
+
+	/**
+	 * 살육 사용 가능 여부 (둘째 밤부터)
+	 */
+	public boolean canUseMassacre(GameManager gameManager) {
+		return gameManager.getDayCount() >= FIRST_MASSACRE_DAY;
+	}
 
 }
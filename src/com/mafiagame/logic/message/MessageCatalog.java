@@ -0,0 +1,80 @@
+package com.mafiagame.logic.message;
+
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로캘별 메시지 문장 카탈로그
+ *
+ * 로캘마다 하나만 만들어 공유하고, 각 키의 문장은 처음 표시될 때 한 번 해석(MessageTemplate)해 캐시함.
+ * 문장은 리소스 번들 com.mafiagame.logic.message.messages_[로캘].properties에서 키 이름으로 찾고, 없으면 MessageKey의 기본(한국어) 문장 사용
+ *
+ * 해석된 템플릿은 불변이므로 여러 스레드가 같은 카탈로그를 써도 안전 (같은 키를 동시에 처음 해석하면 한 번 더 해석될 뿐)
+ */
+public final class MessageCatalog {
+
+	private static final String BUNDLE_NAME = "com.mafiagame.logic.message.messages";
+	private static final ConcurrentHashMap<Locale, MessageCatalog> CATALOGS = new ConcurrentHashMap<>();
+
+	private final Locale locale;
+	private final ResourceBundle bundle;			// 번역 문장 (없으면 null)
+	private final MessageTemplate[] templates;		// 키 -> 해석된 템플릿 (처음 사용할 때 채움)
+
+	private MessageCatalog(Locale locale) {
+		this.locale = locale;
+		this.bundle = loadBundle(locale);
+		this.templates = new MessageTemplate[MessageKey.values().length];
+	}
+
+	private static ResourceBundle loadBundle(Locale locale) {
+		try {
+			return ResourceBundle.getBundle(BUNDLE_NAME, locale);
+		} catch (MissingResourceException e) {
+			return null; // 번역이 없으면 기본 문장 사용
+		}
+	}
+
+	/**
+	 * 로캘의 카탈로그 반환 (로캘마다 하나를 만들어 캐시)
+	 */
+	public static MessageCatalog forLocale(Locale locale) {
+		return CATALOGS.computeIfAbsent(locale, MessageCatalog::new);
+	}
+
+	/**
+	 * 키의 해석된 템플릿 반환
+	 */
+	public MessageTemplate template(MessageKey key) {
+		MessageTemplate template = templates[key.ordinal()];
+		if (template == null) {
+			template = MessageTemplate.compile(pattern(key));
+			templates[key.ordinal()] = template;
+		}
+		return template;
+	}
+
+	private String pattern(MessageKey key) {
+		if (bundle != null && bundle.containsKey(key.name())) {
+			return bundle.getString(key.name());
+		}
+		return key.getDefaultPattern();
+	}
+
+	/**
+	 * 메시지 문장 생성
+	 *
+	 * @param key  템플릿 ID
+	 * @param arg0 {0} 인자 (없으면 null)
+	 * @param arg1 {1} 인자 (없으면 null)
+	 * @return 완성된 문장
+	 */
+	public String render(MessageKey key, Object arg0, Object arg1) {
+		return template(key).render(this, arg0, arg1);
+	}
+
+	public Locale getLocale() {
+		return locale;
+	}
+}
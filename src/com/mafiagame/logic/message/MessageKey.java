@@ -0,0 +1,115 @@
+package com.mafiagame.logic.message;
+
+/**
+ * 화면에 표시하는 메시지의 템플릿 ID와 기본(한국어) 문장
+ *
+ * 문장 안의 {0}, {1}은 표시 시점에 인자로 치환됨. 다른 언어는 MessageCatalog가 리소스 번들에서 같은 이름의 키로 찾고,
+ * 없으면 여기의 기본 문장을 사용
+ */
+public enum MessageKey {
+	// 게임 진행
+	GAME_SETUP_DONE("게임 설정이 완료되었습니다. 총 {0}명의 플레이어, 모드: {1}"),
+	JOBS_ASSIGNED("모든 플레이어에게 직업이 성공적으로 배정되었습니다."),
+	GAME_START("\n마피아 게임을 시작합니다!"),
+	GAME_END("\n마피아 게임이 종료되었습니다."),
+	PHASE_START("\n--- {0}일차 {1} 시작 ---"),
+	UNKNOWN_PHASE("알 수 없는 게임 단계입니다. 게임을 종료합니다."),
+	WINNER("\n===================================\n         게임 종료! 승리: {0} 팀!\n==================================="),
+	NO_WINNER("\n===================================\n         게임 종료! (무승부 또는 오류)\n==================================="),
+
+	// 페이즈 이름
+	PHASE_NIGHT_JOB_CONFIRM_ABILITY("첫날 밤: 직업 확인 및 능력 사용"),
+	PHASE_NIGHT_ABILITY_USE("밤: 능력 사용"),
+	PHASE_NIGHT_PRIVATE_CONFIRM("밤: 개인 결과 확인"),
+	PHASE_DAY_PUBLIC_ANNOUNCEMENT("낮: 공개 결과 발표"),
+	PHASE_DAY_DISCUSSION("낮: 토론"),
+	PHASE_DAY_VOTE("낮: 투표"),
+	PHASE_DAY_EXECUTION("낮: 처형"),
+	PHASE_GAME_OVER("게임 종료"),
+	PHASE_UNKNOWN("알수없음"),
+
+	// 밤
+	FIRST_NIGHT("첫날 밤입니다. 각자 직업을 확인하고 직업 확인 후 바로 개인 능력을 사용합니다."),
+	NIGHT_START("밤입니다. 능력을 사용할 플레이어는 차례대로 진행합니다."),
+	YOUR_TURN("당신의 차례입니다. 화면을 확인하세요."),
+	YOUR_JOB("당신의 직업은 [{0}] 입니다."),
+	CONFIRM_AND_PASS("확인 후 Enter 키를 누르고 다음 사람에게 넘기세요."),
+	NIGHT_CHOICE_DONE("선택이 완료되었습니다. Enter 키를 누르고 다음 사람에게 넘기세요."),
+	ABILITY_UNAVAILABLE("{0}님은 이번 밤에 능력을 사용할 수 없습니다."),
+	ABILITY_UNAVAILABLE_USED("{0}님은 이번 밤에 능력을 사용할 수 없습니다. (이미 사용)"),
+	ABILITY_UNAVAILABLE_EMBARGO("{0}님은 이번 밤에 능력을 사용할 수 없습니다. (엠바고)"),
+	NO_NIGHT_ABILITY("사용할 수 있는 밤 능력이 없습니다."),
+	PRIVATE_RESULTS_START("밤 동안의 개인 결과를 확인합니다."),
+	NO_PRIVATE_RESULT("특별한 개인 결과가 없습니다."),
+
+	// 낮
+	DAY_START("낮이 밝았습니다. 밤 동안의 공개 결과입니다."),
+	QUIET_NIGHT("밤 사이 아무 일도 일어나지 않았습니다."),
+	DISCUSSION_START("토론 시간입니다. 자유롭게 토론하세요."),
+	DISCUSSION_END_PROMPT("토론이 끝나면 Enter 키를 누르세요."),
+	DISCUSSION_DEADLINE("토론 시간은 {0}초입니다. 모두 준비 완료하면 바로 투표로 넘어갑니다."),
+	VOTE_START("투표 시간입니다. 처형할 사람을 지목해주세요."),
+	VOTE_DEADLINE("투표 마감까지 {0}초 남았습니다."),
+	VOTE_DEADLINE_PASSED("투표 마감 시간이 지났습니다. 투표하지 않은 사람은 기권 처리됩니다."),
+	VOTE_BLOCKED("당신은 오늘 투표할 수 없습니다 (건달 협박)."),
+	CONFIRM_AND_PASS_SHORT("확인 후 Enter 키를 누르고 넘기세요."),
+	VOTE_CHOOSE("{0}님, 투표할 대상을 선택하세요."),
+	VOTED_FOR("{0}님에게 투표했습니다."),
+	VOTE_DONE("투표 완료. Enter 키를 누르고 넘기세요."),
+	NO_VOTES("투표가 진행되지 않았습니다."),
+	VOTE_RESULT_HEADER("\n--- 투표 결과 ---"),
+	VOTE_RESULT_LINE("{0}: {1}표"),
+	VOTE_TOP("\n투표 결과, {0}님이 최다 득표하였습니다."),
+	VOTE_TIE("\n최다 득표자가 {0}명으로 동점이므로, 아무도 추방되지 않습니다."),
+	NOBODY_EXECUTED("\n투표 결과, 아무도 추방되지 않았습니다."),
+	POLITICIAN_EVADED("{0}님은 정치인의 처세 능력으로 추방을 면했습니다! 직업은 [정치인] 입니다."),
+	EXECUTED("{0}님이 추방되어 게임에서 탈락합니다."),
+	TERRORIST_EXECUTED("{0}님은 테러리스트입니다! 동반 탈락할 대상을 선택합니다."),
+	TERROR_PROMPT("동반 탈락시킬 대상의 번호를 입력하세요: "),
+	TERROR_NOW("{0}님의 테러로 {1}님이 함께 탈락합니다!"),
+	NO_TERROR_TARGET("테러할 대상이 없습니다."),
+
+	// 대상 선택
+	CANDIDATE_LINE("{0}. {1}"),
+	ENTER_NUMBER("번호를 입력하세요: "),
+	INVALID_NUMBER("잘못된 번호입니다. 다시 입력하세요."),
+	NOT_A_NUMBER("숫자로 입력해주세요."),
+
+	// 게임 이벤트 (공개)
+	EVENT_DEATH_MAFIA("{0}님이 밤 사이 마피아의 공격으로 사망했습니다."),
+	EVENT_DEATH_WAREWOLF("{0}님이 밤 사이 늑대인간의 공격으로 사망했습니다. (치료 불가)"),
+	EVENT_DEATH_TERROR("{0}님의 테러로 {1}님이 함께 탈락했습니다."),
+	EVENT_SAVE("{0}님이 마피아의 공격을 받았지만, 의사의 치료로 생존했습니다!"),
+	EVENT_BLOCK_MAFIA("{0}님이 마피아의 공격을 받았으나, 군인의 방어 능력으로 막아냈습니다! 직업은 [군인]입니다."),
+	EVENT_BLOCK_WAREWOLF("{0}님이 늑대인간의 공격을 받았으나, 군인의 방어 능력으로 막아냈습니다! 직업은 [군인]입니다."),
+	EVENT_RECRUIT_SUCCESS("간첩이 포섭에 성공했습니다."),
+	EVENT_RECRUIT_FAIL("간첩이 포섭에 실패했습니다."),
+	EVENT_REPORT("기자의 취재 결과, {0}님의 직업은 [{1}] 입니다."),
+	EVENT_RULE_REVEAL("{0}님의 직업은 [{1}]였습니다."),
+	EVENT_REPORT_VOID("기자가 취재를 시도했으나, 밤 사이 사망하여 취재 결과가 무효화되었습니다."),
+	EVENT_GRAVE_ROB("도굴꾼이 밤 사이 누군가의 직업을 도굴한 것 같습니다..."),
+
+	// 게임 이벤트 (개인)
+	EVENT_HEALED("{0}님을 성공적으로 치료했습니다."),
+	EVENT_HEAL_FAILED("{0}님을 치료하려 했으나, 이미 사망했습니다."),
+	EVENT_NOT_ATTACKED("{0}님은 공격받지 않았습니다."),
+	EVENT_RECRUITED_BY_SPY("{0}님({1})을 성공적으로 포섭했습니다."),
+	EVENT_RECRUIT_REJECTED("{0}님({1}) 포섭에 실패했습니다."),
+	EVENT_YOU_WERE_RECRUITED("당신은 간첩에게 포섭되었습니다. 이제부터 간첩 팀 소속입니다. 당신을 포섭한 간첩은 {0} 입니다."),
+	EVENT_GRAVE_ROBBED("당신은 {0}님의 직업 [{1}]을 도굴했습니다."),
+	EVENT_INTIMIDATED_BY_YOU("{0}님을 협박했습니다."),
+	EVENT_YOU_WERE_INTIMIDATED("당신은 건달에게 협박당해 오늘 투표할 수 없습니다."),
+	EVENT_AUTOPSY("부검 결과, {0}님의 직업은 [{1}]입니다."),
+	EVENT_DETECTED("{0}님은 밤 사이 {1}님을 지목했습니다."),
+	EVENT_DETECTED_NONE("{0}님은 밤 사이 아무도 지목하지 않았습니다.");
+
+	private final String defaultPattern; // 기본(한국어) 문장
+
+	MessageKey(String defaultPattern) {
+		this.defaultPattern = defaultPattern;
+	}
+
+	public String getDefaultPattern() {
+		return defaultPattern;
+	}
+}
@@ -0,0 +1,91 @@
+package com.mafiagame.logic.message;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 미리 해석해 둔 메시지 문장 ({n} 자리 표시자를 고정 문자열 조각과 인자 번호로 분리)
+ *
+ * 해석은 로캘마다 키당 한 번만 하고, 표시할 때는 조각을 이어 붙이기만 함. 자리 표시자가 없는 문장은 문자열을 그대로 반환
+ */
+public final class MessageTemplate {
+
+	private final String[] literals;	// 고정 문자열 조각 (인자 수 + 1개)
+	private final int[] argIndices;		// 조각 사이에 들어갈 인자 번호
+	private final int literalLength;	// 고정 문자열 총 길이 (StringBuilder 초기 크기용)
+
+	private MessageTemplate(String[] literals, int[] argIndices) {
+		this.literals = literals;
+		this.argIndices = argIndices;
+		int length = 0;
+		for (String literal : literals) {
+			length += literal.length();
+		}
+		this.literalLength = length;
+	}
+
+	/**
+	 * 문장 해석 ({숫자}만 자리 표시자로 인식, 나머지 중괄호는 그대로 둠)
+	 */
+	static MessageTemplate compile(String pattern) {
+		List<String> literals = new ArrayList<>();
+		List<Integer> indices = new ArrayList<>();
+		StringBuilder literal = new StringBuilder();
+		int i = 0;
+		while (i < pattern.length()) {
+			char c = pattern.charAt(i);
+			int close = c == '{' ? pattern.indexOf('}', i) : -1;
+			if (close > i + 1 && isDigits(pattern, i + 1, close)) {
+				literals.add(literal.toString());
+				literal.setLength(0);
+				indices.add(Integer.parseInt(pattern.substring(i + 1, close)));
+				i = close + 1;
+			} else {
+				literal.append(c);
+				i++;
+			}
+		}
+		literals.add(literal.toString());
+
+		int[] argIndices = new int[indices.size()];
+		for (int j = 0; j < argIndices.length; j++) {
+			argIndices[j] = indices.get(j);
+		}
+		return new MessageTemplate(literals.toArray(new String[0]), argIndices);
+	}
+
+	private static boolean isDigits(String s, int from, int to) {
+		for (int i = from; i < to; i++) {
+			if (!Character.isDigit(s.charAt(i))) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * 인자를 채워 문장 생성
+	 *
+	 * @param catalog 인자가 MessageKey일 때 같은 로캘로 풀어 쓰기 위한 카탈로그
+	 * @param arg0    {0} 인자
+	 * @param arg1    {1} 인자
+	 * @return 완성된 문장
+	 */
+	String render(MessageCatalog catalog, Object arg0, Object arg1) {
+		if (argIndices.length == 0) return literals[0];
+		StringBuilder builder = new StringBuilder(literalLength + 16 * argIndices.length);
+		for (int i = 0; i < argIndices.length; i++) {
+			builder.append(literals[i]);
+			Object arg = argIndices[i] == 0 ? arg0 : argIndices[i] == 1 ? arg1 : null;
+			if (arg instanceof MessageKey) {
+				builder.append(catalog.render((MessageKey) arg, null, null)); // 페이즈 이름 등 번역 대상 인자
+			} else {
+				builder.append(arg);
+			}
+		}
+		builder.append(literals[argIndices.length]);
+		return builder.toString();
+	}
+
+	public int getArgumentCount() {
+		return argIndices.length;
+	}
+}
@@ -0,0 +1,27 @@
+package com.mafiagame.logic.metrics;
+
+/**
+ * GameManager가 세는 게임 결과 목록
+ */
+public enum EngineCounter {
+    // 의사 치료로 마피아 공격에서 살아남음
+    DOCTOR_SAVE,
+
+    // 군인이 공격을 막음 (마피아, 늑대인간)
+    SOLDIER_BLOCK,
+
+    // 늑대인간 살육으로 사망
+    WEREWOLF_KILL,
+
+    // 간첩 포섭 성공
+    RECRUIT_SUCCESS,
+
+    // 간첩 포섭 실패
+    RECRUIT_FAILURE,
+
+    // 투표 동점 (추방 없음)
+    TIED_VOTE,
+
+    // 정치인 처세로 추방을 피함
+    POLITICIAN_EVASION;
+}
@@ -0,0 +1,168 @@
+package com.mafiagame.logic.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * 게임 엔진 계측 (단계별 지연 시간 히스토그램, 게임 결과 카운터)
+ *
+ * 모든 방의 GameManager가 기본으로 global()을 공유하며, 기록은 잠금과 할당 없이 원자적 증가만 사용하므로
+ * 운영 중에도 켜 둘 수 있음. JMX(registerMBean())나 텍스트(dump())로 확인
+ *
+ * 시각 읽기(System.nanoTime())도 기록 비용이므로, 이어지는 단계는 앞 단계 record()가 돌려준 끝 시각을 다음 단계의 시작 시각으로 씀
+ *
+ * 사용 예: long start = System.nanoTime(); ... long end = metrics.record(EngineTimer.DAY_VOTE_PHASE, start); ... metrics.record(EngineTimer.PROCEED_TO_NEXT_PHASE, end);
+ */
+public final class EngineMetrics implements EngineMetricsMXBean {
+
+	public static final String OBJECT_NAME = "com.mafiagame:type=EngineMetrics";
+
+	private static final EngineTimer[] TIMERS = EngineTimer.values();
+	private static final EngineCounter[] COUNTERS = EngineCounter.values();
+	private static final EngineMetrics GLOBAL = new EngineMetrics();
+
+	private final LatencyHistogram[] histograms = new LatencyHistogram[TIMERS.length];
+	private final LongAdder[] counters = new LongAdder[COUNTERS.length];
+
+	public EngineMetrics() {
+		for (int i = 0; i < histograms.length; i++) {
+			histograms[i] = new LatencyHistogram();
+		}
+		for (int i = 0; i < counters.length; i++) {
+			counters[i] = new LongAdder();
+		}
+	}
+
+	/**
+	 * JVM 전체가 공유하는 계측 (GameManager 기본값)
+	 */
+	public static EngineMetrics global() {
+		return GLOBAL;
+	}
+
+	/**
+	 * 단계 하나의 지연 시간 기록 (끝 시각은 여기서 한 번 읽음)
+	 *
+	 * @param timer      단계
+	 * @param startNanos 단계 시작 시각 (System.nanoTime())
+	 * @return 단계 끝 시각 (바로 이어지는 단계의 시작 시각으로 쓰면 시각을 다시 읽지 않아도 됨)
+	 */
+	public long record(EngineTimer timer, long startNanos) {
+		long endNanos = System.nanoTime();
+		histograms[timer.ordinal()].record(endNanos - startNanos);
+		return endNanos;
+	}
+
+	/**
+	 * 게임 결과 하나 세기
+	 */
+	public void increment(EngineCounter counter) {
+		counters[counter.ordinal()].increment();
+	}
+
+	public LatencyHistogram getHistogram(EngineTimer timer) {
+		return histograms[timer.ordinal()];
+	}
+
+	public long getCount(EngineCounter counter) {
+		return counters[counter.ordinal()].sum();
+	}
+
+	// --- JMX ---
+
+	/**
+	 * 플랫폼 MBean 서버에 OBJECT_NAME으로 등록 (이미 등록되어 있으면 교체)
+	 */
+	public void registerMBean() throws JMException {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName(OBJECT_NAME);
+		if (server.isRegistered(name)) {
+			server.unregisterMBean(name);
+		}
+		server.registerMBean(this, name);
+	}
+
+	@Override
+	public Map<String, Long> getCounters() {
+		Map<String, Long> result = new LinkedHashMap<>();
+		for (EngineCounter counter : COUNTERS) {
+			result.put(counter.name(), getCount(counter));
+		}
+		return result;
+	}
+
+	@Override
+	public Map<String, LatencySummary> getLatencies() {
+		Map<String, LatencySummary> result = new LinkedHashMap<>();
+		for (EngineTimer timer : TIMERS) {
+			result.put(timer.name(), LatencySummary.of(histograms[timer.ordinal()]));
+		}
+		return result;
+	}
+
+	@Override
+	public String dump() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("[단계별 지연 시간 (us)]").append(System.lineSeparator());
+		sb.append(String.format("%-32s %10s %10s %10s %10s %10s%n", "단계", "횟수", "평균", "p50", "p99", "최대"));
+		for (EngineTimer timer : TIMERS) {
+			LatencyHistogram h = histograms[timer.ordinal()];
+			sb.append(String.format("%-32s %10d %10.1f %10.1f %10.1f %10.1f%n", timer.name(), h.getCount(),
+					h.getMean() / 1_000, h.getPercentile(50) / 1_000.0, h.getPercentile(99) / 1_000.0, h.getMax() / 1_000.0));
+		}
+		sb.append("[게임 결과]").append(System.lineSeparator());
+		for (EngineCounter counter : COUNTERS) {
+			sb.append(String.format("%-32s %10d%n", counter.name(), getCount(counter)));
+		}
+		return sb.toString();
+	}
+
+	@Override
+	public void reset() {
+		for (LatencyHistogram h : histograms) {
+			h.reset();
+		}
+		for (LongAdder counter : counters) {
+			counter.reset();
+		}
+	}
+
+	/**
+	 * 단계 하나의 지연 시간 요약 (JMX에서 CompositeData로 보임)
+	 */
+	public static final class LatencySummary {
+		private final long count;
+		private final double meanNanos;
+		private final long p50Nanos;
+		private final long p99Nanos;
+		private final long maxNanos;
+
+		LatencySummary(long count, double meanNanos, long p50Nanos, long p99Nanos, long maxNanos) {
+			this.count = count;
+			this.meanNanos = meanNanos;
+			this.p50Nanos = p50Nanos;
+			this.p99Nanos = p99Nanos;
+			this.maxNanos = maxNanos;
+		}
+
+		static LatencySummary of(LatencyHistogram h) {
+			return new LatencySummary(h.getCount(), h.getMean(), h.getPercentile(50), h.getPercentile(99), h.getMax());
+		}
+
+		public long getCount() { return count; }
+
+		public double getMeanNanos() { return meanNanos; }
+
+		public long getP50Nanos() { return p50Nanos; }
+
+		public long getP99Nanos() { return p99Nanos; }
+
+		public long getMaxNanos() { return maxNanos; }
+	}
+}
@@ -0,0 +1,29 @@
+package com.mafiagame.logic.metrics;
+
+import java.util.Map;
+
+/**
+ * 게임 엔진 계측 JMX 인터페이스 (jconsole 등에서 com.mafiagame:type=EngineMetrics로 확인)
+ */
+public interface EngineMetricsMXBean {
+
+	/**
+	 * 게임 결과 카운터 (EngineCounter 이름 -> 횟수)
+	 */
+	Map<String, Long> getCounters();
+
+	/**
+	 * 단계별 지연 시간 요약 (EngineTimer 이름 -> 횟수, 평균, p50, p99, 최대 나노초)
+	 */
+	Map<String, EngineMetrics.LatencySummary> getLatencies();
+
+	/**
+	 * 모든 계측의 텍스트 표
+	 */
+	String dump();
+
+	/**
+	 * 모든 계측 초기화
+	 */
+	void reset();
+}
@@ -0,0 +1,33 @@
+package com.mafiagame.logic.metrics;
+
+/**
+ * 지연 시간을 재는 GameManager 단계 목록
+ */
+public enum EngineTimer {
+    // 다음 페이즈 결정 (proceedToNextPhase)
+    PROCEED_TO_NEXT_PHASE,
+
+    // 첫날 밤 직업 확인 및 능력 사용 (processNightJobConfirmAbilityPhase)
+    NIGHT_JOB_CONFIRM_ABILITY_PHASE,
+
+    // 밤 능력 사용 (processNightAbilityUsePhase)
+    NIGHT_ABILITY_USE_PHASE,
+
+    // 밤 개인 결과 확인 (processNightPrivateConfirmPhase)
+    NIGHT_PRIVATE_CONFIRM_PHASE,
+
+    // 낮 공개 결과 발표 (processDayPublicAnnouncementPhase)
+    DAY_PUBLIC_ANNOUNCEMENT_PHASE,
+
+    // 낮 토론 (processDayDiscussionPhase)
+    DAY_DISCUSSION_PHASE,
+
+    // 낮 투표 (processDayVotePhase)
+    DAY_VOTE_PHASE,
+
+    // 낮 추방 결과 처리 (processDayExecutionPhase)
+    DAY_EXECUTION_PHASE,
+
+    // 밤 능력 결과 종합 (applyNightActionsAndResults)
+    APPLY_NIGHT_ACTIONS;
+}
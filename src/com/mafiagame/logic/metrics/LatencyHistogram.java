@@ -0,0 +1,119 @@
+package com.mafiagame.logic.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 잠금 없는 지연 시간 히스토그램 (나노초)
+ *
+ * 2의 거듭제곱 구간마다 8칸으로 나눈 로그-선형 버킷을 사용하므로 값 범위와 관계없이 오차는 구간 폭의 1/8(약 12.5%) 이내.
+ * 기록은 버킷 하나의 증가와 합계 누적뿐이라 할당이 없고, 여러 방의 스레드가 동시에 기록해도 잠그지 않음.
+ * 버킷마다 LongAdder를 두어 여러 스레드가 같은(또는 같은 캐시 라인의) 버킷에 기록해도 CAS 경합 대신 스레드별 셀로 나뉨
+ * (셀은 경합이 처음 생길 때만 할당).
+ * 읽기(백분위수, 평균)는 기록과 동시에 해도 되지만 그 순간의 근사값
+ */
+public final class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+	private final LongAdder[] counts = new LongAdder[BUCKET_COUNT];
+	private final LongAdder totalNanos = new LongAdder();
+	private final AtomicLong maxNanos = new AtomicLong();
+
+	public LatencyHistogram() {
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			counts[i] = new LongAdder();
+		}
+	}
+
+	/**
+	 * 지연 시간 하나 기록
+	 *
+	 * @param nanos 지연 시간 (음수는 0으로 기록)
+	 */
+	public void record(long nanos) {
+		if (nanos < 0) nanos = 0;
+		counts[bucketOf(nanos)].increment();
+		totalNanos.add(nanos);
+		long max = maxNanos.get();
+		while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+			max = maxNanos.get();
+		}
+	}
+
+	/**
+	 * 값이 들어갈 버킷 번호 (8 미만은 값 그대로, 이상은 [지수 - 2][상위 3비트 다음 비트] 순)
+	 */
+	static int bucketOf(long nanos) {
+		if (nanos < SUB_BUCKETS) return (int) nanos;
+		int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+		int sub = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+	}
+
+	/**
+	 * 버킷의 가장 작은 값
+	 */
+	static long lowerBoundOf(int bucket) {
+		if (bucket < SUB_BUCKETS) return bucket;
+		int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		long sub = bucket % SUB_BUCKETS;
+		return (SUB_BUCKETS + sub) << (exponent - SUB_BUCKET_BITS);
+	}
+
+	/**
+	 * 기록 횟수
+	 */
+	public long getCount() {
+		long count = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			count += counts[i].sum();
+		}
+		return count;
+	}
+
+	/**
+	 * 백분위수 (해당 버킷의 가장 큰 값, 기록이 없으면 0)
+	 *
+	 * @param percentile 0 ~ 100
+	 */
+	public long getPercentile(double percentile) {
+		long count = getCount();
+		if (count == 0) return 0;
+		long rank = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+		long seen = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			seen += counts[i].sum();
+			if (seen >= rank) {
+				return i + 1 < BUCKET_COUNT ? Math.min(lowerBoundOf(i + 1) - 1, maxNanos.get()) : maxNanos.get();
+			}
+		}
+		return maxNanos.get();
+	}
+
+	public double getMean() {
+		long count = getCount();
+		return count == 0 ? 0 : (double) totalNanos.sum() / count;
+	}
+
+	public long getMax() {
+		return maxNanos.get();
+	}
+
+	public long getTotalNanos() {
+		return totalNanos.sum();
+	}
+
+	/**
+	 * 모든 기록 지움 (기록과 동시에 호출하면 그 사이의 기록 일부가 남을 수 있음)
+	 */
+	public void reset() {
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			counts[i].reset();
+		}
+		totalNanos.reset();
+		maxNanos.set(0);
+	}
+}
@@ -0,0 +1,34 @@
+package com.mafiagame.logic.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR 이벤트: 밤 능력 결과 종합 (GameManager.applyNightActionsAndResults())
+ */
+@Name("com.mafiagame.NightResolution")
+@Label("밤 결과 종합")
+@Category({ "Mafia Game" })
+@Description("밤 동안 사용된 능력을 종합해 사망자와 결과를 결정")
+@Enabled(true)
+@Threshold("0 ms")
+@StackTrace(false)
+public final class NightResolutionEvent extends jdk.jfr.Event {
+
+	@Label("방 번호")
+	public long roomId;
+
+	@Label("일차")
+	public int day;
+
+	@Label("능력 사용 수")
+	public int actions;
+
+	@Label("사망자 수")
+	public int deaths;
+}
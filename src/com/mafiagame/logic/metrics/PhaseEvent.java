@@ -0,0 +1,33 @@
+package com.mafiagame.logic.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR 이벤트: 페이즈 하나의 시작과 끝 (GameManager.runNextPhase() 한 번)
+ *
+ * 기본으로 켜져 있고 1ms 이상 걸린 페이즈만 남기므로, 녹화 하나에서 GC 중단이나 CPU 급증과 겹친 방과 페이즈를 찾을 수 있음
+ */
+@Name("com.mafiagame.Phase")
+@Label("게임 페이즈")
+@Category({ "Mafia Game" })
+@Description("방 하나의 페이즈 처리 (시작부터 다음 페이즈 결정까지)")
+@Enabled(true)
+@Threshold("1 ms")
+@StackTrace(false)
+public final class PhaseEvent extends jdk.jfr.Event {
+
+	@Label("방 번호")
+	public long roomId;
+
+	@Label("페이즈")
+	public String phase;
+
+	@Label("일차")
+	public int day;
+}
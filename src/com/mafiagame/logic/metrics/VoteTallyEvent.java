@@ -0,0 +1,37 @@
+package com.mafiagame.logic.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR 이벤트: 낮 투표 집계 (GameManager.processDayExecutionPhase())
+ */
+@Name("com.mafiagame.VoteTally")
+@Label("투표 집계")
+@Category({ "Mafia Game" })
+@Description("낮 투표를 집계해 추방 대상 또는 동점을 결정")
+@Enabled(true)
+@Threshold("0 ms")
+@StackTrace(false)
+public final class VoteTallyEvent extends jdk.jfr.Event {
+
+	@Label("방 번호")
+	public long roomId;
+
+	@Label("일차")
+	public int day;
+
+	@Label("투표자 수")
+	public int voters;
+
+	@Label("득표자 수")
+	public int candidates;
+
+	@Label("동점 여부")
+	public boolean tie;
+}
@@ -0,0 +1,122 @@
+package com.mafiagame.logic.replay;
+
+/**
+ * 게임 기록 바이너리 읽기 도구
+ *
+ * 결정 이벤트는 객체를 만들지 않고 nextDecision() 호출 후 필드 getter로 읽음
+ */
+public class GameLogReader {
+
+	private final byte[] data;
+	private int position;
+
+	// 헤더
+	private long seed;
+	private int gameModeOrdinal;
+	private int playerCount;
+
+	// 마지막으로 읽은 결정 이벤트
+	private int decisionTypeOrdinal;
+	private int chooserNumber;
+	private int targetNumber;
+
+	// 종료 레코드
+	private boolean endReached;
+	private int endDayCount;
+	private int endWinningTeamOrdinal; // -1 = 승리 팀 없음
+	private long endFingerprint;
+
+	public GameLogReader(byte[] data) {
+		this.data = data;
+		readHeader();
+	}
+
+	private void readHeader() {
+		for (byte b : GameLogWriter.MAGIC) {
+			if (position >= data.length || data[position++] != b) {
+				throw new IllegalArgumentException("게임 기록 형식이 아닙니다.");
+			}
+		}
+		int version = readVarint();
+		if (version != GameLogWriter.VERSION) {
+			throw new IllegalArgumentException("지원하지 않는 게임 기록 버전입니다: " + version);
+		}
+		long zigZag = readVarlong();
+		this.seed = (zigZag >>> 1) ^ -(zigZag & 1);
+		this.gameModeOrdinal = readVarint();
+		this.playerCount = readVarint();
+	}
+
+	/**
+	 * 다음 결정 이벤트를 읽음
+	 *
+	 * @return 결정 이벤트를 읽었으면 true, 종료 레코드에 도달했으면 false
+	 */
+	public boolean nextDecision() {
+		if (isAtEnd()) return false;
+		int tag = readVarint();
+		decisionTypeOrdinal = tag & 3;
+		chooserNumber = tag >>> 2;
+		targetNumber = readVarint();
+		return true;
+	}
+
+	/**
+	 * 다음 레코드가 종료 레코드인지 확인 (종료 레코드면 내용을 읽어 둠)
+	 */
+	public boolean isAtEnd() {
+		if (endReached) return true;
+		if (position >= data.length) {
+			throw new IllegalStateException("게임 기록이 종료 레코드 없이 끝났습니다.");
+		}
+		if (data[position] != GameLogWriter.END_TAG) return false;
+		position++;
+		endDayCount = readVarint();
+		endWinningTeamOrdinal = readVarint() - 1;
+		endFingerprint = readVarlong();
+		endReached = true;
+		return true;
+	}
+
+	public long getSeed() { return seed; }
+
+	public int getGameModeOrdinal() { return gameModeOrdinal; }
+
+	public int getPlayerCount() { return playerCount; }
+
+	public int getDecisionTypeOrdinal() { return decisionTypeOrdinal; }
+
+	public int getChooserNumber() { return chooserNumber; }
+
+	public int getTargetNumber() { return targetNumber; }
+
+	public int getEndDayCount() { return endDayCount; }
+
+	public int getEndWinningTeamOrdinal() { return endWinningTeamOrdinal; }
+
+	public long getEndFingerprint() { return endFingerprint; }
+
+	private int readVarint() {
+		int b = data[position++];
+		if (b >= 0) return b; // 1바이트 (대부분의 경우)
+		int result = b & 0x7F;
+		int shift = 7;
+		while (true) {
+			b = data[position++];
+			result |= (b & 0x7F) << shift;
+			if (b >= 0) return result;
+			shift += 7;
+		}
+	}
+
+	private long readVarlong() {
+		long result = 0;
+		int shift = 0;
+		while (true) {
+			byte b = data[position++];
+			result |= (long) (b & 0x7F) << shift;
+			if (b >= 0) return result;
+			shift += 7;
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package com.mafiagame.logic.replay;
+
+import java.util.Arrays;
+
+/**
+ * 게임 기록 바이너리 쓰기 도구 (가변 길이 정수 인코딩)
+ *
+ * 형식: 헤더("MGL", 버전, 시드, 모드, 인원) + 결정 이벤트(태그 = 선택자 번호 << 2 | 결정 종류, 대상 번호) + 종료 레코드
+ * 플레이어 번호가 작으므로 결정 이벤트 하나는 보통 2바이트
+ */
+public class GameLogWriter {
+
+	static final byte[] MAGIC = { 'M', 'G', 'L' };
+	static final int VERSION = 2; // 2: 특수 시민 직업 선택 방식 변경으로 같은 시드의 직업 배정이 1과 다름
+	static final int END_TAG = 3; // 결정 종류 비트가 3이면 종료 레코드
+
+	private byte[] buffer;
+	private int size;
+
+	public GameLogWriter(int initialCapacity) {
+		this.buffer = new byte[Math.max(16, initialCapacity)];
+	}
+
+	void writeHeader(long seed, int gameModeOrdinal, int playerCount) {
+		for (byte b : MAGIC) {
+			writeByte(b);
+		}
+		writeVarint(VERSION);
+		writeVarlong(zigZag(seed));
+		writeVarint(gameModeOrdinal);
+		writeVarint(playerCount);
+	}
+
+	void writeDecision(int decisionTypeOrdinal, int chooserNumber, int targetNumber) {
+		writeVarint((chooserNumber << 2) | decisionTypeOrdinal);
+		writeVarint(targetNumber);
+	}
+
+	void writeEnd(int dayCount, int winningTeamOrdinal, long fingerprint) {
+		writeVarint(END_TAG);
+		writeVarint(dayCount);
+		writeVarint(winningTeamOrdinal + 1); // 0 = 승리 팀 없음
+		writeVarlong(fingerprint);
+	}
+
+	public byte[] toByteArray() {
+		return Arrays.copyOf(buffer, size);
+	}
+
+	public int size() {
+		return size;
+	}
+
+	private void writeVarint(int value) {
+		writeVarlong(value & 0xFFFFFFFFL);
+	}
+
+	private void writeVarlong(long value) {
+		ensureCapacity(10);
+		while ((value & ~0x7FL) != 0) {
+			buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		buffer[size++] = (byte) value;
+	}
+
+	private void writeByte(byte b) {
+		ensureCapacity(1);
+		buffer[size++] = b;
+	}
+
+	private void ensureCapacity(int extra) {
+		if (size + extra > buffer.length) {
+			buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+		}
+	}
+
+	static long zigZag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+}
@@ -0,0 +1,77 @@
+package com.mafiagame.logic.replay;
+
+import com.mafiagame.logic.common.enums.DecisionType;
+import com.mafiagame.logic.common.enums.GameMode;
+import com.mafiagame.logic.common.enums.Team;
+import com.mafiagame.logic.game.GameManager;
+import com.mafiagame.logic.game.GameRecordListener;
+import com.mafiagame.logic.game.Player;
+
+/**
+ * 게임 기록기
+ * GameManager에 기록 수신자로 설정하면 Random 시드와 모든 결정(밤 능력 대상, 투표, 테러)을 바이너리로 기록
+ *
+ * 사용 예: gameManager.setRecordListener(recorder); gameManager.setupGame(...); ... recorder.toByteArray();
+ */
+public class GameRecorder implements GameRecordListener {
+
+	private final GameLogWriter writer = new GameLogWriter(256);
+	private boolean started;
+	private boolean complete;
+
+	@Override
+	public void onGameSetup(long seed, GameMode gameMode, int playerCount) {
+		if (seed == GameManager.NO_SEED) {
+			throw new IllegalStateException("시드를 알 수 없는 게임은 기록할 수 없습니다. 시드를 지정해 GameManager를 생성하세요.");
+		}
+		if (started) {
+			throw new IllegalStateException("이미 기록 중인 게임이 있습니다.");
+		}
+		started = true;
+		writer.writeHeader(seed, gameMode.ordinal(), playerCount);
+	}
+
+	@Override
+	public void onDecision(DecisionType type, Player chooser, Player chosen) {
+		writer.writeDecision(type.ordinal(), chooser != null ? chooser.getPlayerNumber() : 0, chosen != null ? chosen.getPlayerNumber() : 0); // 0 = 기권
+	}
+
+	@Override
+	public void onGameOver(GameManager gameManager, Team winningTeam) {
+		writer.writeEnd(gameManager.getDayCount(), winningTeam != null ? winningTeam.ordinal() : -1, fingerprint(gameManager));
+		complete = true;
+	}
+
+	public boolean isComplete() {
+		return complete;
+	}
+
+	/**
+	 * 기록된 게임 바이너리 반환
+	 */
+	public byte[] toByteArray() {
+		if (!complete) {
+			throw new IllegalStateException("게임이 아직 끝나지 않았습니다.");
+		}
+		return writer.toByteArray();
+	}
+
+	/**
+	 * 게임 최종 상태 지문 (플레이어별 번호, 생존 여부, 직업, 현재 팀의 FNV-1a 해시)
+	 * 리플레이 결과가 원본과 같은지 비교하는 데 사용
+	 */
+	static long fingerprint(GameManager gameManager) {
+		long hash = 0xcbf29ce484222325L;
+		for (Player p : gameManager.getAllPlayers()) {
+			hash = mix(hash, p.getPlayerNumber());
+			hash = mix(hash, p.isAlive() ? 1 : 0);
+			hash = mix(hash, p.getJob() != null ? p.getJob().getJobType().ordinal() + 1 : 0);
+			hash = mix(hash, p.getCurrentTeam() != null ? p.getCurrentTeam().ordinal() + 1 : 0);
+		}
+		return hash;
+	}
+
+	private static long mix(long hash, int value) {
+		return (hash ^ value) * 0x100000001b3L;
+	}
+}
@@ -0,0 +1,122 @@
+package com.mafiagame.logic.replay;
+
+import com.mafiagame.logic.common.enums.DecisionType;
+import com.mafiagame.logic.common.enums.GameMode;
+import com.mafiagame.logic.common.enums.Team;
+import com.mafiagame.logic.game.DecisionMaker;
+import com.mafiagame.logic.game.GameManager;
+import com.mafiagame.logic.game.Player;
+import com.mafiagame.logic.io.NoOpPlayerIO;
+
+import java.util.List;
+
+/**
+ * 게임 기록 재현기
+ * 기록된 시드로 같은 직업 배정을 만들고, 모든 결정을 기록에서 읽어 입출력 없이 최고 속도로 게임을 다시 진행.
+ * 종료 시점의 일차, 승리 팀, 상태 지문이 기록과 모두 같아야 재현 성공
+ */
+public class GameReplayer {
+
+	private static final DecisionType[] DECISION_TYPES = DecisionType.values();
+	private static final Team[] TEAMS = Team.values();
+
+	private GameReplayer() {
+	}
+
+	/**
+	 * 기록된 게임을 재현
+	 *
+	 * @param log GameRecorder가 만든 게임 기록
+	 * @return 재현 결과
+	 * @throws IllegalStateException 재현 중 결정이 기록과 맞지 않는 경우 (규칙 변경 등)
+	 */
+	public static ReplayResult replay(byte[] log) {
+		GameLogReader reader = new GameLogReader(log);
+		GameManager gameManager = new GameManager(NoOpPlayerIO.INSTANCE, true, reader.getSeed());
+		LoggedDecisions decisions = new LoggedDecisions(reader);
+		gameManager.setDecisionMaker(decisions);
+		gameManager.setupGame(reader.getPlayerCount(), GameMode.values()[reader.getGameModeOrdinal()]);
+		gameManager.beginGame();
+
+		while (gameManager.runNextPhase()) {
+			// 최대 일차 초과로 끝난 게임(승리 팀 없음)은 기록된 일차에 도달하면 종료
+			if (reader.isAtEnd() && reader.getEndWinningTeamOrdinal() < 0
+					&& gameManager.getDayCount() >= reader.getEndDayCount()) {
+				break;
+			}
+		}
+
+		boolean identical = reader.isAtEnd()
+				&& gameManager.getDayCount() == reader.getEndDayCount()
+				&& ordinalOf(gameManager.getWinningTeam()) == reader.getEndWinningTeamOrdinal()
+				&& GameRecorder.fingerprint(gameManager) == reader.getEndFingerprint();
+		return new ReplayResult(identical, gameManager.getWinningTeam(), gameManager.getDayCount(), decisions.count);
+	}
+
+	private static int ordinalOf(Team team) {
+		return team != null ? team.ordinal() : -1;
+	}
+
+	/**
+	 * 기록에서 결정을 순서대로 읽어 돌려주는 결정자
+	 */
+	private static class LoggedDecisions implements DecisionMaker {
+		private final GameLogReader reader;
+		private int count;
+
+		LoggedDecisions(GameLogReader reader) {
+			this.reader = reader;
+		}
+
+		@Override
+		public Player choose(DecisionType type, Player chooser, List<Player> candidates, GameManager gameManager) {
+			if (!reader.nextDecision()) {
+				throw new IllegalStateException("기록된 결정보다 많은 결정이 요청되었습니다: " + type);
+			}
+			int chooserNumber = chooser != null ? chooser.getPlayerNumber() : 0;
+			if (DECISION_TYPES[reader.getDecisionTypeOrdinal()] != type || reader.getChooserNumber() != chooserNumber) {
+				throw new IllegalStateException("기록과 다른 결정 요청입니다: " + type + ", 선택자 " + chooserNumber);
+			}
+			if (reader.getTargetNumber() == 0) { // 투표 마감 시간 경과로 기권
+				count++;
+				return null;
+			}
+			for (int i = 0; i < candidates.size(); i++) {
+				Player candidate = candidates.get(i);
+				if (candidate.getPlayerNumber() == reader.getTargetNumber()) {
+					count++;
+					return candidate;
+				}
+			}
+			throw new IllegalStateException("기록된 대상 " + reader.getTargetNumber() + "번이 선택 가능한 후보에 없습니다.");
+		}
+	}
+
+	/**
+	 * 재현 결과
+	 */
+	public static class ReplayResult {
+		private final boolean identical;
+		private final Team winningTeam;
+		private final int dayCount;
+		private final int decisionCount;
+
+		ReplayResult(boolean identical, Team winningTeam, int dayCount, int decisionCount) {
+			this.identical = identical;
+			this.winningTeam = winningTeam;
+			this.dayCount = dayCount;
+			this.decisionCount = decisionCount;
+		}
+
+		/**
+		 * 종료 일차, 승리 팀, 최종 상태 지문이 기록과 모두 같은지 여부
+		 */
+		public boolean isIdentical() { return identical; }
+
+		public Team getWinningTeam() { return winningTeam; }
+
+		public int getDayCount() { return dayCount; }
+
+		public int getDecisionCount() { return decisionCount; }
+	}
+}
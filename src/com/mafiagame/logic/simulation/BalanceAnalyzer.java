@@ -0,0 +1,307 @@
+package com.mafiagame.logic.simulation;
+
+import com.mafiagame.logic.common.enums.GameMode;
+import com.mafiagame.logic.common.enums.Team;
+import com.mafiagame.logic.game.GameManager;
+import com.mafiagame.logic.io.NoOpPlayerIO;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 직업 구성 밸런스 분석기
+ *
+ * 모든 (게임 모드, 플레이어 수) 조합을 ForkJoinPool에서 병렬로 시뮬레이션하여 팀별 승률과 95% 신뢰구간을 계산.
+ * 조합마다 모든 팀의 신뢰구간 폭이 목표보다 좁아지면 조기 종료하고, 끝난 조합부터 CSV 한 줄씩 바로 출력
+ */
+public class BalanceAnalyzer {
+
+	private static final double Z_95 = 1.959964;	// 95% 신뢰수준 z값
+	private static final int MAX_DAYS = GameSimulator.DEFAULT_MAX_DAYS;
+	private static final Team[] TEAMS = Team.values();
+
+	private final double targetWidth;	// 목표 신뢰구간 폭 (예: 0.01 = ±0.5%p)
+	private final int batchSize;		// 병렬 작업 하나가 진행하는 게임 수
+	private final int maxGamesPerCell;	// 조합당 최대 게임 수
+	private final long baseSeed;		// 조합/배치별 시드를 만들 기준 시드
+	private final ForkJoinPool pool;
+	private final PrintWriter csv;
+
+	/**
+	 * 생성자
+	 *
+	 * @param targetWidth     목표 신뢰구간 폭
+	 * @param batchSize       병렬 작업 하나가 진행하는 게임 수
+	 * @param maxGamesPerCell 조합당 최대 게임 수
+	 * @param baseSeed        기준 시드 (같은 시드면 같은 결과)
+	 * @param pool            작업을 실행할 ForkJoinPool
+	 * @param csvOut          CSV 출력 대상
+	 * @throws IllegalArgumentException 폭, 배치 크기, 최대 게임 수가 0 이하이거나 풀/출력 대상이 없는 경우
+	 */
+	public BalanceAnalyzer(double targetWidth, int batchSize, int maxGamesPerCell, long baseSeed, ForkJoinPool pool, Writer csvOut) {
+		if (!(targetWidth > 0) || batchSize <= 0 || maxGamesPerCell <= 0) {
+			throw new IllegalArgumentException("목표 신뢰구간 폭, 배치 크기, 조합당 최대 게임 수는 0보다 커야 합니다: "
+					+ targetWidth + ", " + batchSize + ", " + maxGamesPerCell);
+		}
+		if (pool == null || csvOut == null) {
+			throw new IllegalArgumentException("ForkJoinPool과 CSV 출력 대상이 필요합니다.");
+		}
+		this.targetWidth = targetWidth;
+		this.batchSize = batchSize;
+		this.maxGamesPerCell = maxGamesPerCell;
+		this.baseSeed = baseSeed;
+		this.pool = pool;
+		this.csv = new PrintWriter(csvOut);
+	}
+
+	/**
+	 * 모든 조합을 분석하고 결과 반환 (CSV는 조합이 끝날 때마다 출력)
+	 */
+	public List<CellResult> analyzeAll() {
+		List<CellTask> cells = new ArrayList<>();
+		int cellId = 0;
+		for (GameMode mode : GameMode.values()) {
+			int min = mode == GameMode.SPY ? 9 : 4; // 간첩 모드는 9명부터
+			for (int count = min; count <= 12; count++) {
+				cells.add(new CellTask(cellId++, mode, count));
+			}
+		}
+
+		writeCsvHeader();
+		pool.invoke(new RecursiveAction() {
+			@Override
+			protected void compute() {
+				invokeAll(cells);
+			}
+		});
+
+		List<CellResult> results = new ArrayList<>(cells.size());
+		for (CellTask cell : cells) {
+			results.add(cell.result);
+		}
+		return results;
+	}
+
+	private void writeCsvHeader() {
+		StringBuilder sb = new StringBuilder("mode,players,games,draws");
+		for (Team team : TEAMS) {
+			String t = team.name().toLowerCase(Locale.ROOT);
+			sb.append(',').append(t).append("_wins,").append(t).append("_rate,")
+					.append(t).append("_ci_low,").append(t).append("_ci_high");
+		}
+		sb.append(",elapsed_ms");
+		synchronized (csv) {
+			csv.println(sb);
+			csv.flush();
+		}
+	}
+
+	private void writeCsvRow(CellResult r) {
+		StringBuilder sb = new StringBuilder();
+		sb.append(r.gameMode).append(',').append(r.playerCount).append(',').append(r.games).append(',').append(r.draws);
+		for (Team team : TEAMS) {
+			double[] ci = wilson(r.wins[team.ordinal()], r.games);
+			sb.append(',').append(r.wins[team.ordinal()])
+					.append(',').append(String.format(Locale.ROOT, "%.5f", (double) r.wins[team.ordinal()] / r.games))
+					.append(',').append(String.format(Locale.ROOT, "%.5f", ci[0]))
+					.append(',').append(String.format(Locale.ROOT, "%.5f", ci[1]));
+		}
+		sb.append(',').append(r.elapsedMillis);
+		synchronized (csv) {
+			csv.println(sb);
+			csv.flush();
+		}
+	}
+
+	/**
+	 * Wilson 점수 신뢰구간 (95%)
+	 *
+	 * @return {하한, 상한}
+	 */
+	static double[] wilson(long successes, long n) {
+		if (n == 0) return new double[] { 0, 1 };
+		double p = (double) successes / n;
+		double z2 = Z_95 * Z_95;
+		double denominator = 1 + z2 / n;
+		double center = (p + z2 / (2.0 * n)) / denominator;
+		double half = Z_95 * Math.sqrt(p * (1 - p) / n + z2 / (4.0 * n * n)) / denominator;
+		return new double[] { Math.max(0, center - half), Math.min(1, center + half) };
+	}
+
+	/**
+	 * (조합 번호, 게임 번호)로부터 게임 시드 생성 (SplitMix64)
+	 */
+	private long seedFor(int cellId, long gameIndex) {
+		long z = baseSeed + cellId * 0x9E3779B97F4A7C15L + gameIndex * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+	/**
+	 * (게임 모드, 플레이어 수) 조합 하나의 분석 작업
+	 * 풀의 병렬도만큼 배치를 동시에 돌리고, 매 라운드 후 신뢰구간 폭을 확인하여 조기 종료
+	 */
+	@SuppressWarnings("serial") // ForkJoinTask가 Serializable이지만 직렬화하지 않음
+	private class CellTask extends RecursiveAction {
+		private final int cellId;
+		private final GameMode gameMode;
+		private final int playerCount;
+		private CellResult result;
+
+		CellTask(int cellId, GameMode gameMode, int playerCount) {
+			this.cellId = cellId;
+			this.gameMode = gameMode;
+			this.playerCount = playerCount;
+		}
+
+		@Override
+		protected void compute() {
+			long start = System.nanoTime();
+			long[] wins = new long[TEAMS.length];
+			long draws = 0;
+			long games = 0;
+			int batchesPerRound = Math.max(1, pool.getParallelism());
+
+			while (games < maxGamesPerCell) {
+				List<BatchTask> batches = new ArrayList<>(batchesPerRound);
+				for (int b = 0; b < batchesPerRound && games + (long) b * batchSize < maxGamesPerCell; b++) {
+					long firstGame = games + (long) b * batchSize;
+					int size = (int) Math.min(batchSize, maxGamesPerCell - firstGame);
+					batches.add(new BatchTask(cellId, gameMode, playerCount, firstGame, size));
+				}
+				invokeAll(batches);
+				for (BatchTask batch : batches) {
+					long[] counts = batch.join();
+					for (int t = 0; t < TEAMS.length; t++) {
+						wins[t] += counts[t];
+					}
+					draws += counts[TEAMS.length];
+					games += batch.size;
+				}
+				if (isNarrowEnough(wins, games)) break;
+			}
+
+			result = new CellResult(gameMode, playerCount, games, wins, draws, (System.nanoTime() - start) / 1_000_000);
+			writeCsvRow(result);
+		}
+
+		private boolean isNarrowEnough(long[] wins, long games) {
+			for (int t = 0; t < TEAMS.length; t++) {
+				double[] ci = wilson(wins[t], games);
+				if (ci[1] - ci[0] > targetWidth) return false;
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * 게임 size판을 진행하는 배치 작업
+	 *
+	 * 결과: 팀별 승리 수 + 마지막 칸에 무승부 수
+	 */
+	@SuppressWarnings("serial") // ForkJoinTask가 Serializable이지만 직렬화하지 않음
+	private class BatchTask extends RecursiveTask<long[]> {
+		private final int cellId;
+		private final GameMode gameMode;
+		private final int playerCount;
+		private final long firstGame;
+		private final int size;
+
+		BatchTask(int cellId, GameMode gameMode, int playerCount, long firstGame, int size) {
+			this.cellId = cellId;
+			this.gameMode = gameMode;
+			this.playerCount = playerCount;
+			this.firstGame = firstGame;
+			this.size = size;
+		}
+
+		@Override
+		protected long[] compute() {
+			long[] counts = new long[TEAMS.length + 1];
+			for (int i = 0; i < size; i++) {
+				GameManager gameManager = new GameManager(NoOpPlayerIO.INSTANCE, true, seedFor(cellId, firstGame + i));
+				gameManager.setupGame(playerCount, gameMode);
+				Team winner = gameManager.playHeadless(MAX_DAYS);
+				counts[winner != null ? winner.ordinal() : TEAMS.length]++;
+			}
+			return counts;
+		}
+	}
+
+	/**
+	 * 조합 하나의 분석 결과
+	 */
+	public static class CellResult {
+		private final GameMode gameMode;
+		private final int playerCount;
+		private final long games;
+		private final long[] wins;	// Team ordinal 순서
+		private final long draws;
+		private final long elapsedMillis;
+
+		CellResult(GameMode gameMode, int playerCount, long games, long[] wins, long draws, long elapsedMillis) {
+			this.gameMode = gameMode;
+			this.playerCount = playerCount;
+			this.games = games;
+			this.wins = wins;
+			this.draws = draws;
+			this.elapsedMillis = elapsedMillis;
+		}
+
+		public GameMode getGameMode() { return gameMode; }
+
+		public int getPlayerCount() { return playerCount; }
+
+		public long getGames() { return games; }
+
+		public long getWins(Team team) { return wins[team.ordinal()]; }
+
+		public long getDraws() { return draws; }
+
+		public long getElapsedMillis() { return elapsedMillis; }
+
+		public double getWinRate(Team team) {
+			return games == 0 ? 0 : (double) wins[team.ordinal()] / games;
+		}
+
+		/**
+		 * 팀 승률의 95% 신뢰구간 {하한, 상한}
+		 */
+		public double[] getConfidenceInterval(Team team) {
+			return wilson(wins[team.ordinal()], games);
+		}
+	}
+
+	/**
+	 * 사용법: BalanceAnalyzer [CSV 파일=표준 출력] [목표 신뢰구간 폭=0.01] [조합당 최대 게임 수=2000000] [배치 크기=2000] [시드=42]
+	 */
+	public static void main(String[] args) throws IOException {
+		Writer out = args.length > 0 && !args[0].equals("-")
+				? Files.newBufferedWriter(Paths.get(args[0]), StandardCharsets.UTF_8)
+				: new PrintWriter(System.out);
+		double width = args.length > 1 ? Double.parseDouble(args[1]) : 0.01;
+		int maxGames = args.length > 2 ? Integer.parseInt(args[2]) : 2_000_000;
+		int batch = args.length > 3 ? Integer.parseInt(args[3]) : 2_000;
+		long seed = args.length > 4 ? Long.parseLong(args[4]) : 42L;
+
+		long start = System.nanoTime();
+		try {
+			new BalanceAnalyzer(width, batch, maxGames, seed, ForkJoinPool.commonPool(), out).analyzeAll();
+		} finally {
+			out.flush();
+			if (args.length > 0 && !args[0].equals("-")) out.close();
+		}
+		System.err.printf("전체 분석 완료: %.1f초%n", (System.nanoTime() - start) / 1e9);
+	}
+}
@@ -0,0 +1,130 @@
+package com.mafiagame.logic.simulation;
+
+import com.mafiagame.logic.common.enums.GameMode;
+import com.mafiagame.logic.common.enums.Team;
+import com.mafiagame.logic.game.GameManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 헤드리스 모드로 게임을 대량 반복 실행하는 시뮬레이터
+ * 콘솔 입출력과 페이즈 딜레이 없이 GameManager의 페이즈 진행을 그대로 사용하여 밸런스 통계를 수집
+ */
+public class GameSimulator {
+
+	public static final int DEFAULT_MAX_DAYS = 30; // 끝나지 않는 게임 방지용 최대 일차
+
+	private final GameMode gameMode;	// 시뮬레이션할 게임 모드
+	private final int playerCount;		// 플레이어 수
+	private final int maxDays;			// 게임당 최대 진행 일차
+	private final Random random;		// 모든 게임이 공유하는 Random (시드 고정 시 재현 가능)
+
+	/**
+	 * 생성자
+	 *
+	 * @param gameMode    게임 모드
+	 * @param playerCount 플레이어 수
+	 * @param maxDays     게임당 최대 진행 일차 (초과 시 무승부 처리)
+	 * @param seed        Random 시드
+	 */
+	public GameSimulator(GameMode gameMode, int playerCount, int maxDays, long seed) {
+		this.gameMode = gameMode;
+		this.playerCount = playerCount;
+		this.maxDays = maxDays;
+		this.random = new Random(seed);
+	}
+
+	/**
+	 * 헤드리스 게임 한 판을 끝까지 진행
+	 *
+	 * @return 승리 팀 (무승부면 null)
+	 */
+	public Team playOneGame() {
+		GameManager gameManager = new GameManager(true, random);
+		gameManager.setupGame(playerCount, gameMode);
+		return gameManager.playHeadless(maxDays);
+	}
+
+	/**
+	 * 지정한 판 수만큼 게임을 진행하고 결과를 집계
+	 *
+	 * @param games 진행할 게임 수
+	 * @return 시뮬레이션 결과
+	 */
+	public SimulationResult run(int games) {
+		Map<Team, Integer> wins = new EnumMap<>(Team.class);
+		int draws = 0;
+		long start = System.nanoTime();
+		for (int i = 0; i < games; i++) {
+			Team winner = playOneGame();
+			if (winner == null) {
+				draws++;
+			} else {
+				wins.merge(winner, 1, Integer::sum);
+			}
+		}
+		long elapsedNanos = System.nanoTime() - start;
+		return new SimulationResult(gameMode, playerCount, games, wins, draws, elapsedNanos);
+	}
+
+	/**
+	 * 시뮬레이션 결과 (팀별 승리 수, 무승부 수, 처리량)
+	 */
+	public static class SimulationResult {
+		private final GameMode gameMode;
+		private final int playerCount;
+		private final int games;
+		private final Map<Team, Integer> wins;
+		private final int draws;
+		private final long elapsedNanos;
+
+		SimulationResult(GameMode gameMode, int playerCount, int games, Map<Team, Integer> wins, int draws, long elapsedNanos) {
+			this.gameMode = gameMode;
+			this.playerCount = playerCount;
+			this.games = games;
+			this.wins = wins;
+			this.draws = draws;
+			this.elapsedNanos = elapsedNanos;
+		}
+
+		public int getGames() { return games; }
+
+		public int getWins(Team team) { return wins.getOrDefault(team, 0); }
+
+		public int getDraws() { return draws; }
+
+		public long getElapsedNanos() { return elapsedNanos; }
+
+		public double getGamesPerSecond() {
+			return elapsedNanos == 0 ? 0 : games * 1_000_000_000.0 / elapsedNanos;
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder sb = new StringBuilder();
+			sb.append(String.format("모드: %s, 인원: %d, 게임 수: %d, 처리량: %.0f games/sec%n",
+					gameMode, playerCount, games, getGamesPerSecond()));
+			for (Team team : Team.values()) {
+				sb.append(String.format("  %s 팀 승리: %d (%.2f%%)%n", team, getWins(team), 100.0 * getWins(team) / games));
+			}
+			sb.append(String.format("  무승부(최대 일차 초과): %d", draws));
+			return sb.toString();
+		}
+	}
+
+	/**
+	 * 사용법: GameSimulator [모드=CLASSIC] [인원=8] [게임 수=1000000] [시드]
+	 */
+	public static void main(String[] args) {
+		GameMode mode = args.length > 0 ? GameMode.valueOf(args[0]) : GameMode.CLASSIC;
+		int players = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+		int games = args.length > 2 ? Integer.parseInt(args[2]) : 1_000_000;
+		long seed = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+
+		GameSimulator simulator = new GameSimulator(mode, players, DEFAULT_MAX_DAYS, seed);
+		simulator.run(Math.min(games, 10_000)); // JIT 워밍업
+		System.out.println(simulator.run(games));
+	}
+}
@@ -0,0 +1,709 @@
+package com.mafiagame.logic.solver;
+
+import com.mafiagame.logic.common.enums.JobType;
+import com.mafiagame.logic.common.enums.Team;
+import com.mafiagame.logic.game.GameManager;
+import com.mafiagame.logic.game.PackedGameState;
+import com.mafiagame.logic.job.JobDefinition;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 소규모(4~6명) 클래식 모드 게임의 정확한 승률 계산기
+ *
+ * (생존 플레이어 직업, 1회성 능력 사용 여부, 투표 금지, 일차, 페이즈) 상태 공간 전체를 깊이 우선으로 탐색하며,
+ * 직업과 상태가 같은 플레이어를 구분하지 않는 정규화 상태(SolverState)를 키로 전치표에 결과를 저장.
+ * 최대 일차를 넘기면 GameManager.playHeadless()와 같이 무승부 처리
+ *
+ * GameManager를 직접 진행하지 않고 자체 규칙 모델로 계산함. 규칙 모델은 GameManager의 밤 결과 처리(보호 -> 공격 -> 상태 변경 -> 도굴)와
+ * 투표/추방/승리 조건 판정 순서를 옮긴 것이며, 직업의 밤 능력(performNightAction 등)은 이 트리에서 아직 구현되지 않았으므로 다음과 같이 가정
+ * - 마피아, 늑대인간은 마피아 팀이 아닌 생존자를 대상으로 함 (의사, 건달, 투표는 모든 생존자가 대상)
+ * - 늑대인간 살육은 첫날 밤 접선 후 둘째 밤부터 사용 (WAREWOLF_FIRST_MASSACRE_DAY)
+ * - 정치인 처세는 1회 발동하고 이후에는 추방됨
+ * - 도굴꾼은 첫날 밤 공격으로 사망한 플레이어의 직업(능력 사용 상태 포함)을 얻음
+ * - 경찰, 정보원, 기자, 장의사, 탐정의 정보 능력은 승패에 영향을 주지 않음
+ *
+ * 진행 방식
+ * - RANDOM: 모든 선택을 위 가정의 후보 중 균등 무작위로 함 (헤드리스 GameManager는 직업 구현이 고르는 후보를 따르므로 결과가 같다는 보장은 없음)
+ * - OPTIMAL: 모든 직업이 공개된 상태에서 양 팀이 최적으로 선택 (보수 = 마피아 승률 - 시민 승률).
+ *   밤에는 양 팀이 동시에 선택하므로 행렬 게임의 혼합 전략 균형을 사용하고,
+ *   투표는 팀별 표를 합산해 더 많은 쪽이 추방 대상(또는 추방 없음)을 정하며 같으면 추방 없음
+ *
+ * 밤 규칙 모델이 GameManager와 어긋나지 않는지는 nightOutcome()과 voteState()로 같은 위치를 GameManager에서 진행한 결과와 비교하여 확인
+ * (test의 GameTreeSolverCrossCheckTest)
+ */
+public class GameTreeSolver {
+
+	public enum PlayPolicy {
+		RANDOM,
+		OPTIMAL;
+	}
+
+	public static final int MIN_PLAYERS = 4;
+	public static final int MAX_PLAYERS = SolverState.MAX_PLAYERS;
+
+	private static final int WAREWOLF_FIRST_MASSACRE_DAY = 2; // 첫날 밤 접선 후 둘째 밤부터 살육
+
+	private static final int MAFIA = JobType.MAFIA.ordinal();
+	private static final int WAREWOLF = JobType.WAREWOLF.ordinal();
+	private static final int DOCTOR = JobType.DOCTOR.ordinal();
+	private static final int SOLDIER = JobType.SOLDIER.ordinal();
+	private static final int POLITICIAN = JobType.POLITICIAN.ordinal();
+	private static final int GANGSTER = JobType.GANGSTER.ordinal();
+	private static final int GRAVEROBBER = JobType.GRAVEROBBER.ordinal();
+	private static final int TERRORIST = JobType.TERRORIST.ordinal();
+
+	private static final boolean[] IS_MAFIA_TEAM = new boolean[JobType.values().length]; // 직업 종류 -> 마피아 팀 여부 (클래식 모드)
+
+	static {
+		for (JobType jobType : JobType.values()) {
+			IS_MAFIA_TEAM[jobType.ordinal()] = JobDefinition.of(jobType).getTeam() == Team.MAFIA;
+		}
+	}
+
+	private static final int ONGOING = 0;
+	private static final int MAFIA_WIN = 1;
+	private static final int CITIZEN_WIN = 2;
+	private static final int NO_WINNER = 3;
+
+	private final PlayPolicy policy;	// 선택 방식
+	private final int maxDays;			// 최대 진행 일차 (초과 시 무승부)
+	private final TranspositionTable table = new TranspositionTable(1 << 16);
+	private final Map<Integer, double[]> voteOutcomeCache = new HashMap<>(); // (생존자 수, 투표 가중치) -> 추방 대상 분포 (RANDOM)
+	private long expandedStates;		// 전치표에 없어 직접 계산한 비종료 상태 수
+
+	/**
+	 * 생성자
+	 *
+	 * @param policy  선택 방식
+	 * @param maxDays 최대 진행 일차 (1 ~ 30)
+	 */
+	public GameTreeSolver(PlayPolicy policy, int maxDays) {
+		if (maxDays < 1 || maxDays >= SolverState.MAX_DAY) {
+			throw new IllegalArgumentException("최대 일차는 1 ~ " + (SolverState.MAX_DAY - 1) + " 사이여야 합니다: " + maxDays);
+		}
+		this.policy = policy;
+		this.maxDays = maxDays;
+	}
+
+	/**
+	 * 인원수에 따른 직업 구성 전체(보조 직업, 특수 시민 조합)의 배정 확률로 가중 평균한 승률 계산
+	 *
+	 * @param playerCount 플레이어 수 (4 ~ 6)
+	 * @return 계산 결과 (직업 구성별 결과 포함)
+	 */
+	public Result solve(int playerCount) {
+		if (playerCount < MIN_PLAYERS || playerCount > MAX_PLAYERS) {
+			throw new IllegalArgumentException("정확 계산은 " + MIN_PLAYERS + " ~ " + MAX_PLAYERS + "명만 지원합니다: " + playerCount);
+		}
+		long start = System.nanoTime();
+
+		// 룰 3.1.(3): 4명 = 마피아 1, 특수 1 / 5명 = 마피아 1, 특수 2 / 6명 = 마피아 1, 보조 1, 특수 2 (+ 경찰, 의사)
+		int specialCount = playerCount == 4 ? 1 : 2;
+		JobType[] supporters = playerCount == 6 ? new JobType[] { JobType.INFORMANT, JobType.WAREWOLF } : new JobType[] { null };
+		JobType[] specials = GameManager.getSpecialCitizenJobTypes();
+
+		List<JobType[]> combos = new ArrayList<>();
+		collectCombos(specials, specialCount, 0, new JobType[specialCount], 0, combos);
+
+		Result result = new Result(playerCount, policy);
+		double weight = 1.0 / (supporters.length * combos.size()); // 보조 직업 50:50, 특수 시민 조합은 균등
+		for (JobType supporter : supporters) {
+			for (JobType[] combo : combos) {
+				List<JobType> roles = new ArrayList<>(playerCount);
+				roles.add(JobType.POLICE);
+				roles.add(JobType.DOCTOR);
+				roles.add(JobType.MAFIA);
+				if (supporter != null) roles.add(supporter);
+				for (JobType special : combo) {
+					roles.add(special);
+				}
+				double[] outcome = solveComposition(roles);
+				result.compositions.add(new CompositionResult(roles, weight, outcome[0], outcome[1]));
+				result.mafiaWin += weight * outcome[0];
+				result.citizenWin += weight * outcome[1];
+			}
+		}
+		result.expandedStates = expandedStates;
+		result.tableSize = table.size();
+		result.elapsedNanos = System.nanoTime() - start;
+		return result;
+	}
+
+	/**
+	 * 직업 구성 하나의 승률 계산 (모두 생존, 첫날 밤부터)
+	 *
+	 * @param roles 플레이어별 직업 종류 (순서 무관)
+	 * @return {마피아 승률, 시민 승률} (나머지는 무승부)
+	 */
+	public double[] solveComposition(List<JobType> roles) {
+		if (roles.size() > MAX_PLAYERS) {
+			throw new IllegalArgumentException("정확 계산은 최대 " + MAX_PLAYERS + "명까지 지원합니다: " + roles.size());
+		}
+		int[] descriptors = new int[MAX_PLAYERS];
+		for (int i = 0; i < roles.size(); i++) {
+			descriptors[i] = roles.get(i).ordinal();
+		}
+		double[] out = new double[2];
+		value(SolverState.encode(descriptors, roles.size(), 1, SolverState.PHASE_NIGHT), out);
+		return out;
+	}
+
+	/**
+	 * 상태의 (마피아 승률, 시민 승률)을 out에 계산 (전치표 사용)
+	 */
+	private void value(long state, double[] out) {
+		if (table.get(state, out)) return;
+
+		int[] d = new int[MAX_PLAYERS];
+		int n = SolverState.decode(state, d);
+		int day = SolverState.day(state);
+		int winner = winner(d, n);
+
+		if (winner == MAFIA_WIN) {
+			out[0] = 1;
+			out[1] = 0;
+		} else if (winner == CITIZEN_WIN) {
+			out[0] = 0;
+			out[1] = 1;
+		} else if (winner == NO_WINNER || (SolverState.phase(state) == SolverState.PHASE_NIGHT && day > maxDays)) {
+			out[0] = 0; // 모두 사망 또는 최대 일차 초과: 무승부
+			out[1] = 0;
+		} else {
+			expandedStates++;
+			if (SolverState.phase(state) == SolverState.PHASE_NIGHT) {
+				solveNight(d, n, day, out);
+			} else {
+				solveVote(d, n, day, out);
+			}
+		}
+		table.put(state, out[0], out[1]);
+	}
+
+	/**
+	 * GameManager.checkWinConditions()의 클래식 모드 판정
+	 */
+	private static int winner(int[] d, int n) {
+		int mafia = 0;
+		int citizenStrength = 0;
+		int citizens = 0;
+		for (int i = 0; i < n; i++) {
+			int job = SolverState.job(d[i]);
+			if (IS_MAFIA_TEAM[job]) {
+				mafia++;
+			} else {
+				citizens++;
+				citizenStrength += (job == POLITICIAN || job == GANGSTER) ? 2 : 1;
+			}
+		}
+		if (mafia > 0 && mafia >= citizenStrength) return MAFIA_WIN;
+		if (mafia == 0 && citizens > 0) return CITIZEN_WIN;
+		if (mafia == 0) return NO_WINNER;
+		return ONGOING;
+	}
+
+	// --- 밤 ---
+
+	private void solveNight(int[] d, int n, int day, double[] out) {
+		boolean mafiaActs = false;
+		boolean warewolfActs = false;
+		boolean doctorActs = false;
+		boolean gangsterActs = false;
+		int nonMafiaCount = 0;
+		for (int i = 0; i < n; i++) {
+			int job = SolverState.job(d[i]);
+			if (job == MAFIA) mafiaActs = true;
+			if (job == WAREWOLF && day >= WAREWOLF_FIRST_MASSACRE_DAY) warewolfActs = true;
+			if (job == DOCTOR) doctorActs = true;
+			if (job == GANGSTER) gangsterActs = true;
+			if (!IS_MAFIA_TEAM[job]) nonMafiaCount++;
+		}
+		int[] attackTargets = new int[Math.max(1, nonMafiaCount)];
+		int attackCount = 0;
+		for (int i = 0; i < n; i++) {
+			if (!IS_MAFIA_TEAM[SolverState.job(d[i])]) attackTargets[attackCount++] = i;
+		}
+		int[] anyTargets = new int[n];
+		for (int i = 0; i < n; i++) {
+			anyTargets[i] = i;
+		}
+		int[] none = { -1 };
+
+		// 능력을 쓸 수 없으면 대상 없음(-1) 하나만 선택지로 둠
+		int[] kills = mafiaActs && attackCount > 0 ? trim(attackTargets, attackCount) : none;
+		int[] massacres = warewolfActs && attackCount > 0 ? trim(attackTargets, attackCount) : none;
+		int[] heals = doctorActs ? anyTargets : none;
+		int[] threats = gangsterActs ? anyTargets : none;
+
+		double[] child = new double[2];
+		if (policy == PlayPolicy.RANDOM) {
+			double p = 1.0 / ((double) kills.length * massacres.length * heals.length * threats.length);
+			double mafiaWin = 0;
+			double citizenWin = 0;
+			for (int k : kills) {
+				for (int w : massacres) {
+					for (int h : heals) {
+						for (int g : threats) {
+							value(resolveNight(d, n, day, k, w, h, g), child);
+							mafiaWin += p * child[0];
+							citizenWin += p * child[1];
+						}
+					}
+				}
+			}
+			out[0] = mafiaWin;
+			out[1] = citizenWin;
+			return;
+		}
+
+		// OPTIMAL: 행 = 마피아 팀 (공격, 살육), 열 = 시민 팀 (치료, 협박)
+		int rows = kills.length * massacres.length;
+		int cols = heals.length * threats.length;
+		double[][] payoff = new double[rows][cols];
+		double[][] mafiaWins = new double[rows][cols];
+		double[][] citizenWins = new double[rows][cols];
+		for (int r = 0; r < rows; r++) {
+			int k = kills[r / massacres.length];
+			int w = massacres[r % massacres.length];
+			for (int c = 0; c < cols; c++) {
+				int h = heals[c / threats.length];
+				int g = threats[c % threats.length];
+				value(resolveNight(d, n, day, k, w, h, g), child);
+				mafiaWins[r][c] = child[0];
+				citizenWins[r][c] = child[1];
+				payoff[r][c] = child[0] - child[1];
+			}
+		}
+		double[] rowStrategy = new double[rows];
+		double[] colStrategy = new double[cols];
+		MatrixGameSolver.solve(payoff, rows, cols, rowStrategy, colStrategy);
+		double mafiaWin = 0;
+		double citizenWin = 0;
+		for (int r = 0; r < rows; r++) {
+			if (rowStrategy[r] == 0) continue;
+			for (int c = 0; c < cols; c++) {
+				double p = rowStrategy[r] * colStrategy[c];
+				mafiaWin += p * mafiaWins[r][c];
+				citizenWin += p * citizenWins[r][c];
+			}
+		}
+		out[0] = mafiaWin;
+		out[1] = citizenWin;
+	}
+
+	/**
+	 * 밤 능력 결과 적용 후 낮 투표 상태 반환 (GameManager.applyNightActionsAndResults() 순서)
+	 *
+	 * @param k 마피아 공격 대상 (-1이면 없음)
+	 * @param w 늑대인간 살육 대상
+	 * @param h 의사 치료 대상
+	 * @param g 건달 협박 대상
+	 */
+	private static long resolveNight(int[] d, int n, int day, int k, int w, int h, int g) {
+		int[] next = d.clone();
+		int deadMask = 0;
+		int firstDied = -1;
+
+		// 1. 방어: 마피아 공격 대상이 군인이면 방어 능력 소모 (치료 여부와 무관)
+		int soldierProtected = -1;
+		if (k >= 0 && SolverState.job(next[k]) == SOLDIER && (next[k] & SolverState.USED) == 0) {
+			next[k] |= SolverState.USED;
+			soldierProtected = k;
+		}
+
+		// 2. 마피아 공격: 치료 또는 군인 방어 시 생존
+		if (k >= 0 && h != k && soldierProtected != k) {
+			deadMask |= 1 << k;
+			firstDied = k;
+		}
+
+		// 3. 늑대인간 살육: 치료 무시, 군인 방어는 이번 밤에 아직 쓰지 않았을 때만
+		if (w >= 0 && (deadMask & (1 << w)) == 0) {
+			if (SolverState.job(next[w]) == SOLDIER && soldierProtected != w && (next[w] & SolverState.USED) == 0) {
+				next[w] |= SolverState.USED;
+			} else {
+				deadMask |= 1 << w;
+				if (firstDied < 0) firstDied = w;
+			}
+		}
+
+		// 4. 건달 협박: 살아남은 대상은 다음 날 투표 금지
+		if (g >= 0 && (deadMask & (1 << g)) == 0) {
+			next[g] |= SolverState.MUTED;
+		}
+
+		// 5. 도굴: 첫날 밤 공격으로 사망한 플레이어의 직업을 얻음
+		if (day == 1 && firstDied >= 0) {
+			for (int i = 0; i < n; i++) {
+				if (SolverState.job(next[i]) == GRAVEROBBER && (deadMask & (1 << i)) == 0) {
+					next[i] = (next[i] & SolverState.MUTED) | (next[firstDied] & (SolverState.JOB_MASK | SolverState.USED));
+					break;
+				}
+			}
+		}
+
+		return compact(next, n, deadMask, day, SolverState.PHASE_VOTE, false);
+	}
+
+	// --- 낮 ---
+
+	private void solveVote(int[] d, int n, int day, double[] out) {
+		int[] weights = new int[n];
+		int mafiaVotes = 0;
+		int citizenVotes = 0;
+		for (int i = 0; i < n; i++) {
+			if ((d[i] & SolverState.MUTED) != 0) continue;
+			int job = SolverState.job(d[i]);
+			weights[i] = job == POLITICIAN ? 2 : 1;
+			if (IS_MAFIA_TEAM[job]) {
+				mafiaVotes += weights[i];
+			} else {
+				citizenVotes += weights[i];
+			}
+		}
+
+		double[] child = new double[2];
+		if (policy == PlayPolicy.RANDOM) {
+			double[] distribution = voteOutcomes(weights, n);
+			double mafiaWin = 0;
+			double citizenWin = 0;
+			for (int e = 0; e <= n; e++) {
+				if (distribution[e] == 0) continue;
+				execute(d, n, day, e < n ? e : -1, child);
+				mafiaWin += distribution[e] * child[0];
+				citizenWin += distribution[e] * child[1];
+			}
+			out[0] = mafiaWin;
+			out[1] = citizenWin;
+			return;
+		}
+
+		// OPTIMAL: 표가 더 많은 팀이 추방 대상(또는 추방 없음)을 정하고, 같으면 추방 없음
+		execute(d, n, day, -1, out);
+		if (mafiaVotes == citizenVotes) return;
+		boolean mafiaChooses = mafiaVotes > citizenVotes;
+		for (int e = 0; e < n; e++) {
+			execute(d, n, day, e, child);
+			if (isBetter(mafiaChooses, child, out)) {
+				out[0] = child[0];
+				out[1] = child[1];
+			}
+		}
+	}
+
+	/**
+	 * 추방 처리 후 다음 밤 상태의 값 계산 (정치인 처세, 테러리스트 동반 탈락 포함)
+	 *
+	 * @param e 최다 득표자 (-1이면 추방 없음)
+	 */
+	private void execute(int[] d, int n, int day, int e, double[] out) {
+		if (e < 0) {
+			value(compact(d, n, 0, day + 1, SolverState.PHASE_NIGHT, true), out);
+			return;
+		}
+		int job = SolverState.job(d[e]);
+		if (job == POLITICIAN && (d[e] & SolverState.USED) == 0) {
+			int[] next = d.clone();
+			next[e] |= SolverState.USED; // 처세로 추방 면함
+			value(compact(next, n, 0, day + 1, SolverState.PHASE_NIGHT, true), out);
+			return;
+		}
+		if (job != TERRORIST || n == 1) {
+			value(compact(d, n, 1 << e, day + 1, SolverState.PHASE_NIGHT, true), out);
+			return;
+		}
+
+		// 테러리스트: 자신을 제외한 생존자 한 명을 지목해 함께 탈락
+		double[] child = new double[2];
+		boolean first = true;
+		double mafiaWin = 0;
+		double citizenWin = 0;
+		for (int t = 0; t < n; t++) {
+			if (t == e) continue;
+			value(compact(d, n, (1 << e) | (1 << t), day + 1, SolverState.PHASE_NIGHT, true), child);
+			if (policy == PlayPolicy.RANDOM) {
+				mafiaWin += child[0] / (n - 1);
+				citizenWin += child[1] / (n - 1);
+			} else if (first || isBetter(IS_MAFIA_TEAM[job], child, new double[] { mafiaWin, citizenWin })) {
+				mafiaWin = child[0];
+				citizenWin = child[1];
+			}
+			first = false;
+		}
+		out[0] = mafiaWin;
+		out[1] = citizenWin;
+	}
+
+	/**
+	 * 선택하는 팀 입장에서 candidate가 current보다 나은지 (보수 = 마피아 승률 - 시민 승률)
+	 */
+	private static boolean isBetter(boolean mafiaChooses, double[] candidate, double[] current) {
+		double diff = (candidate[0] - candidate[1]) - (current[0] - current[1]);
+		return mafiaChooses ? diff > 1e-12 : diff < -1e-12;
+	}
+
+	/**
+	 * 모든 투표자가 생존자 중 한 명을 균등 무작위로 지목할 때 추방 대상 분포 (VoteTally와 같은 단독 최다 득표 규칙)
+	 *
+	 * @return 길이 n + 1 배열, [n]은 추방 없음 (동점 또는 투표 없음)
+	 */
+	private double[] voteOutcomes(int[] weights, int n) {
+		int key = n;
+		for (int i = 0; i < n; i++) {
+			key = key * 3 + weights[i];
+		}
+		double[] cached = voteOutcomeCache.get(key);
+		if (cached != null) return cached;
+
+		int[] voters = new int[n];
+		int voterCount = 0;
+		for (int i = 0; i < n; i++) {
+			if (weights[i] > 0) voters[voterCount++] = i;
+		}
+		double[] distribution = new double[n + 1];
+		int[] choice = new int[voterCount];
+		int[] tally = new int[n];
+		long combinations = 0;
+		while (true) {
+			Arrays.fill(tally, 0);
+			for (int v = 0; v < voterCount; v++) {
+				tally[choice[v]] += weights[voters[v]];
+			}
+			int max = 0;
+			int leader = -1;
+			boolean tied = false;
+			for (int i = 0; i < n; i++) {
+				if (tally[i] > max) {
+					max = tally[i];
+					leader = i;
+					tied = false;
+				} else if (tally[i] == max && max > 0) {
+					tied = true;
+				}
+			}
+			distribution[leader >= 0 && !tied ? leader : n]++;
+			combinations++;
+
+			int v = 0; // 다음 조합 (n진 카운터)
+			while (v < voterCount && ++choice[v] == n) {
+				choice[v++] = 0;
+			}
+			if (v == voterCount) break;
+		}
+		for (int i = 0; i <= n; i++) {
+			distribution[i] /= combinations;
+		}
+		voteOutcomeCache.put(key, distribution);
+		return distribution;
+	}
+
+	/**
+	 * 사망자를 제외하고 정규화한 상태 값 생성
+	 *
+	 * @param deadMask   제외할 플레이어 비트
+	 * @param clearMuted 투표 금지 표시를 지울지 (새 밤 시작 시)
+	 */
+	private static long compact(int[] d, int n, int deadMask, int day, int phase, boolean clearMuted) {
+		int[] living = new int[MAX_PLAYERS];
+		int count = 0;
+		for (int i = 0; i < n; i++) {
+			if ((deadMask & (1 << i)) != 0) continue;
+			living[count++] = clearMuted ? d[i] & ~SolverState.MUTED : d[i];
+		}
+		return SolverState.encode(living, count, Math.min(day, SolverState.MAX_DAY), phase);
+	}
+
+	// --- GameManager 대조용 ---
+
+	/**
+	 * GameManager의 밤 상태에서 이 계산기의 규칙 모델로 밤 결과를 판정한 낮 투표 상태
+	 * 같은 대상을 골라 GameManager로 밤을 진행한 결과의 voteState()와 같아야 함
+	 *
+	 * @param night    밤 능력 사용 직전의 클래식 모드 상태 (생존자 최대 6명)
+	 * @param kill     마피아 공격 대상 인덱스 (플레이어 번호 - 1, -1이면 없음)
+	 * @param massacre 늑대인간 살육 대상 인덱스
+	 * @param heal     의사 치료 대상 인덱스
+	 * @param threat   건달 협박 대상 인덱스
+	 * @return 정규화 상태 값
+	 */
+	public static long nightOutcome(PackedGameState night, int kill, int massacre, int heal, int threat) {
+		int[] d = new int[MAX_PLAYERS];
+		int[] slot = new int[night.getPlayerCount()];
+		int n = describeLiving(night, d, slot, false);
+		return resolveNight(d, n, night.getDayCount(), slotOf(slot, kill), slotOf(slot, massacre), slotOf(slot, heal), slotOf(slot, threat));
+	}
+
+	/**
+	 * GameManager의 밤 결과 처리 후 상태를 이 계산기의 낮 투표 상태로 정규화
+	 *
+	 * @param day 밤 결과가 반영된 클래식 모드 상태 (생존자 최대 6명)
+	 * @return 정규화 상태 값
+	 */
+	public static long voteState(PackedGameState day) {
+		int[] d = new int[MAX_PLAYERS];
+		int n = describeLiving(day, d, new int[day.getPlayerCount()], true);
+		return SolverState.encode(d, n, Math.min(day.getDayCount(), SolverState.MAX_DAY), SolverState.PHASE_VOTE);
+	}
+
+	/**
+	 * 정규화 상태를 읽을 수 있는 문자열로 (예: "2일차 투표 [MAFIA, SOLDIER(사용), DOCTOR(투표 금지)]")
+	 */
+	public static String describe(long state) {
+		int[] d = new int[MAX_PLAYERS];
+		int n = SolverState.decode(state, d);
+		StringBuilder sb = new StringBuilder();
+		sb.append(SolverState.day(state)).append(SolverState.phase(state) == SolverState.PHASE_NIGHT ? "일차 밤 [" : "일차 투표 [");
+		for (int i = 0; i < n; i++) {
+			if (i > 0) sb.append(", ");
+			sb.append(JobType.values()[SolverState.job(d[i])]);
+			if ((d[i] & SolverState.USED) != 0) sb.append("(사용)");
+			if ((d[i] & SolverState.MUTED) != 0) sb.append("(투표 금지)");
+		}
+		return sb.append(']').toString();
+	}
+
+	/**
+	 * 생존자의 직업 서술자를 d에 채우고 플레이어 인덱스 -> 서술자 위치를 slot에 기록 (사망자는 -1)
+	 * 능력 사용 여부는 승패에 영향을 주는 군인 방어, 정치인 처세만 담음
+	 *
+	 * @return 생존자 수
+	 */
+	private static int describeLiving(PackedGameState state, int[] d, int[] slot, boolean withMuted) {
+		int n = 0;
+		for (int i = 0; i < state.getPlayerCount(); i++) {
+			slot[i] = -1;
+			if (!state.isAlive(i)) continue;
+			if (n == MAX_PLAYERS) {
+				throw new IllegalArgumentException("정확 계산은 생존자 최대 " + MAX_PLAYERS + "명까지 지원합니다.");
+			}
+			int job = state.getJobType(i).ordinal();
+			d[n] = job;
+			if ((job == SOLDIER || job == POLITICIAN) && state.isAbilityUsed(i)) d[n] |= SolverState.USED;
+			if (withMuted && !state.canVoteToday(i)) d[n] |= SolverState.MUTED;
+			slot[i] = n++;
+		}
+		return n;
+	}
+
+	private static int slotOf(int[] slot, int index) {
+		return index < 0 ? -1 : slot[index];
+	}
+
+	private static int[] trim(int[] a, int length) {
+		return length == a.length ? a : Arrays.copyOf(a, length);
+	}
+
+	private static void collectCombos(JobType[] pool, int size, int from, JobType[] current, int depth, List<JobType[]> out) {
+		if (depth == size) {
+			out.add(current.clone());
+			return;
+		}
+		for (int i = from; i < pool.length; i++) {
+			current[depth] = pool[i];
+			collectCombos(pool, size, i + 1, current, depth + 1, out);
+		}
+	}
+
+	/**
+	 * 직업 구성 하나의 계산 결과
+	 */
+	public static class CompositionResult {
+		private final List<JobType> roles;
+		private final double probability;	// 이 구성이 배정될 확률
+		private final double mafiaWin;
+		private final double citizenWin;
+
+		CompositionResult(List<JobType> roles, double probability, double mafiaWin, double citizenWin) {
+			this.roles = roles;
+			this.probability = probability;
+			this.mafiaWin = mafiaWin;
+			this.citizenWin = citizenWin;
+		}
+
+		public List<JobType> getRoles() { return roles; }
+
+		public double getProbability() { return probability; }
+
+		public double getMafiaWin() { return mafiaWin; }
+
+		public double getCitizenWin() { return citizenWin; }
+
+		public double getDraw() { return Math.max(0, 1 - mafiaWin - citizenWin); }
+
+		@Override
+		public String toString() {
+			return String.format("  %-60s 확률 %.4f  마피아 %.4f  시민 %.4f  무승부 %.4f",
+					roles, probability, mafiaWin, citizenWin, getDraw());
+		}
+	}
+
+	/**
+	 * 인원수 하나의 계산 결과
+	 */
+	public static class Result {
+		private final int playerCount;
+		private final PlayPolicy policy;
+		private final List<CompositionResult> compositions = new ArrayList<>();
+		private double mafiaWin;
+		private double citizenWin;
+		private long expandedStates;
+		private int tableSize;
+		private long elapsedNanos;
+
+		Result(int playerCount, PlayPolicy policy) {
+			this.playerCount = playerCount;
+			this.policy = policy;
+		}
+
+		public int getPlayerCount() { return playerCount; }
+
+		public PlayPolicy getPolicy() { return policy; }
+
+		public List<CompositionResult> getCompositions() { return compositions; }
+
+		public double getMafiaWin() { return mafiaWin; }
+
+		public double getCitizenWin() { return citizenWin; }
+
+		public double getDraw() { return Math.max(0, 1 - mafiaWin - citizenWin); }
+
+		public long getExpandedStates() { return expandedStates; }
+
+		public int getTableSize() { return tableSize; }
+
+		public long getElapsedNanos() { return elapsedNanos; }
+
+		@Override
+		public String toString() {
+			return String.format("%s %d명: 마피아 %.5f, 시민 %.5f, 무승부 %.5f (계산 상태 %,d, 전치표 %,d, %.1f ms)",
+					policy, playerCount, mafiaWin, citizenWin, getDraw(), expandedStates, tableSize, elapsedNanos / 1e6);
+		}
+	}
+
+	/**
+	 * 사용법: GameTreeSolver [RANDOM|OPTIMAL|ALL=ALL] [최대 일차=30] [구성별 출력=false]
+	 */
+	public static void main(String[] args) {
+		String which = args.length > 0 ? args[0] : "ALL";
+		int maxDays = args.length > 1 ? Integer.parseInt(args[1]) : 30;
+		boolean detail = args.length > 2 && Boolean.parseBoolean(args[2]);
+
+		for (PlayPolicy policy : PlayPolicy.values()) {
+			if (!which.equals("ALL") && !which.equals(policy.name())) continue;
+			GameTreeSolver solver = new GameTreeSolver(policy, maxDays); // 인원수끼리 전치표 공유
+			for (int players = MIN_PLAYERS; players <= MAX_PLAYERS; players++) {
+				Result result = solver.solve(players);
+				System.out.println(result);
+				if (detail) {
+					for (CompositionResult composition : result.getCompositions()) {
+						System.out.println(composition);
+					}
+				}
+			}
+		}
+	}
+}
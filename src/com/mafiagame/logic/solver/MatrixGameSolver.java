@@ -0,0 +1,138 @@
+package com.mafiagame.logic.solver;
+
+import java.util.Arrays;
+
+/**
+ * 2인 영합 행렬 게임의 혼합 전략 균형 계산 (밤 능력처럼 양 팀이 동시에 선택하는 경우)
+ *
+ * 행 플레이어는 보수를 최대화, 열 플레이어는 최소화. 순수 전략 안장점이 있으면 바로 반환하고,
+ * 없으면 보수를 양수로 옮긴 뒤 선형계획(단체법, Bland 규칙)으로 양쪽 전략을 구함
+ */
+final class MatrixGameSolver {
+
+	private static final double EPSILON = 1e-12;
+
+	private MatrixGameSolver() {
+	}
+
+	/**
+	 * 균형 전략 계산
+	 *
+	 * @param payoff      보수 행렬 [행][열] (행 플레이어 기준)
+	 * @param rows        행 수
+	 * @param cols        열 수
+	 * @param rowStrategy 행 플레이어 균형 전략 (길이 rows 이상, 결과 저장)
+	 * @param colStrategy 열 플레이어 균형 전략 (길이 cols 이상, 결과 저장)
+	 * @return 게임 값
+	 */
+	static double solve(double[][] payoff, int rows, int cols, double[] rowStrategy, double[] colStrategy) {
+		Arrays.fill(rowStrategy, 0, rows, 0);
+		Arrays.fill(colStrategy, 0, cols, 0);
+
+		// 1. 순수 전략 안장점 확인 (maximin == minimax)
+		int bestRow = 0;
+		double maximin = Double.NEGATIVE_INFINITY;
+		double min = Double.POSITIVE_INFINITY;
+		for (int i = 0; i < rows; i++) {
+			double rowMin = Double.POSITIVE_INFINITY;
+			for (int j = 0; j < cols; j++) {
+				rowMin = Math.min(rowMin, payoff[i][j]);
+			}
+			if (rowMin > maximin) {
+				maximin = rowMin;
+				bestRow = i;
+			}
+			min = Math.min(min, rowMin);
+		}
+		int bestCol = 0;
+		double minimax = Double.POSITIVE_INFINITY;
+		for (int j = 0; j < cols; j++) {
+			double colMax = Double.NEGATIVE_INFINITY;
+			for (int i = 0; i < rows; i++) {
+				colMax = Math.max(colMax, payoff[i][j]);
+			}
+			if (colMax < minimax) {
+				minimax = colMax;
+				bestCol = j;
+			}
+		}
+		if (minimax - maximin <= EPSILON) {
+			rowStrategy[bestRow] = 1;
+			colStrategy[bestCol] = 1;
+			return maximin;
+		}
+
+		// 2. 단체법: max sum(y) s.t. B y <= 1, y >= 0 (B = payoff - min + 1 > 0)
+		// 열 전략 = y / sum(y), 행 전략 = 쌍대 변수 / sum, 값 = 1 / sum(y) + min - 1
+		double shift = 1 - min;
+		int width = cols + rows + 1;
+		double[][] tableau = new double[rows + 1][width];
+		int[] basis = new int[rows];
+		for (int i = 0; i < rows; i++) {
+			for (int j = 0; j < cols; j++) {
+				tableau[i][j] = payoff[i][j] + shift;
+			}
+			tableau[i][cols + i] = 1;
+			tableau[i][width - 1] = 1;
+			basis[i] = cols + i;
+		}
+		double[] objective = tableau[rows];
+		for (int j = 0; j < cols; j++) {
+			objective[j] = -1;
+		}
+
+		while (true) {
+			int entering = -1;
+			for (int j = 0; j < width - 1; j++) {
+				if (objective[j] < -EPSILON) {
+					entering = j; // Bland 규칙: 가장 작은 번호의 진입 변수
+					break;
+				}
+			}
+			if (entering < 0) break;
+
+			int leaving = -1;
+			double bestRatio = Double.POSITIVE_INFINITY;
+			for (int i = 0; i < rows; i++) {
+				double a = tableau[i][entering];
+				if (a > EPSILON) {
+					double ratio = tableau[i][width - 1] / a;
+					if (ratio < bestRatio - EPSILON || (Math.abs(ratio - bestRatio) <= EPSILON && basis[i] < basis[leaving])) {
+						bestRatio = ratio;
+						leaving = i;
+					}
+				}
+			}
+			if (leaving < 0) break; // 보수가 양수이므로 발생하지 않음 (유계)
+
+			pivot(tableau, leaving, entering);
+			basis[leaving] = entering;
+		}
+
+		double sum = objective[width - 1];
+		for (int i = 0; i < rows; i++) {
+			if (basis[i] < cols) {
+				colStrategy[basis[i]] = tableau[i][width - 1] / sum;
+			}
+			rowStrategy[i] = objective[cols + i] / sum;
+		}
+		return 1 / sum - shift;
+	}
+
+	private static void pivot(double[][] tableau, int pivotRow, int pivotCol) {
+		double[] row = tableau[pivotRow];
+		double p = row[pivotCol];
+		for (int j = 0; j < row.length; j++) {
+			row[j] /= p;
+		}
+		for (int i = 0; i < tableau.length; i++) {
+			if (i == pivotRow) continue;
+			double[] other = tableau[i];
+			double factor = other[pivotCol];
+			if (factor == 0) continue;
+			for (int j = 0; j < other.length; j++) {
+				other[j] -= factor * row[j];
+			}
+		}
+	}
+}
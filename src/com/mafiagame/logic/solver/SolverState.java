@@ -0,0 +1,92 @@
+package com.mafiagame.logic.solver;
+
+/**
+ * 게임 트리 탐색용 정규화 상태 인코딩 (long 하나)
+ *
+ * 생존 플레이어마다 6비트 설명자(직업 종류 4비트, 1회성 능력 사용 1비트, 투표 금지 1비트)를 두고,
+ * 설명자를 정렬하여 저장하므로 직업과 상태가 같은 플레이어끼리 자리만 바꾼 상태는 같은 값이 됨.
+ * 사망자는 이후 진행에 영향이 없으므로 저장하지 않음
+ *
+ * 비트 배치: [0..35] 설명자 최대 6개, [36..38] 생존자 수, [39..43] 일차, [44] 페이즈
+ * 일차는 1 이상이므로 상태 값은 0이 될 수 없음 (전치표의 빈 칸 표시로 사용)
+ */
+final class SolverState {
+
+	static final int MAX_PLAYERS = 6;
+	static final int MAX_DAY = 31;
+
+	static final int PHASE_NIGHT = 0;	// 밤 능력 사용 직전
+	static final int PHASE_VOTE = 1;	// 밤 결과 반영 후 낮 투표 직전
+
+	static final int JOB_MASK = 0xF;	// 직업 종류 ordinal
+	static final int USED = 1 << 4;		// 1회성 능력 사용 (군인 방어, 정치인 처세)
+	static final int MUTED = 1 << 5;	// 오늘 투표 금지 (건달 협박)
+
+	private static final int DESCRIPTOR_BITS = 6;
+	private static final int DESCRIPTOR_MASK = (1 << DESCRIPTOR_BITS) - 1;
+	private static final int COUNT_SHIFT = 36;
+	private static final int DAY_SHIFT = 39;
+	private static final int DAY_MASK = 0x1F;
+	private static final int PHASE_SHIFT = 44;
+
+	private SolverState() {
+	}
+
+	/**
+	 * 설명자 배열을 정렬하여 상태 값으로 인코딩 (descriptors 앞쪽 count개가 정렬됨)
+	 *
+	 * @param descriptors 생존 플레이어 설명자
+	 * @param count       생존자 수
+	 * @param day         일차 (1 ~ MAX_DAY)
+	 * @param phase       PHASE_NIGHT 또는 PHASE_VOTE
+	 */
+	static long encode(int[] descriptors, int count, int day, int phase) {
+		sort(descriptors, count);
+		long state = 0;
+		for (int i = 0; i < count; i++) {
+			state |= (long) descriptors[i] << (i * DESCRIPTOR_BITS);
+		}
+		return state | (long) count << COUNT_SHIFT | (long) day << DAY_SHIFT | (long) phase << PHASE_SHIFT;
+	}
+
+	/**
+	 * 상태 값의 설명자를 out에 풀어 넣음
+	 *
+	 * @return 생존자 수
+	 */
+	static int decode(long state, int[] out) {
+		int count = count(state);
+		for (int i = 0; i < count; i++) {
+			out[i] = (int) (state >>> (i * DESCRIPTOR_BITS)) & DESCRIPTOR_MASK;
+		}
+		return count;
+	}
+
+	static int count(long state) {
+		return (int) (state >>> COUNT_SHIFT) & 0x7;
+	}
+
+	static int day(long state) {
+		return (int) (state >>> DAY_SHIFT) & DAY_MASK;
+	}
+
+	static int phase(long state) {
+		return (int) (state >>> PHASE_SHIFT) & 0x1;
+	}
+
+	static int job(int descriptor) {
+		return descriptor & JOB_MASK;
+	}
+
+	private static void sort(int[] a, int n) {
+		for (int i = 1; i < n; i++) {
+			int v = a[i];
+			int j = i - 1;
+			while (j >= 0 && a[j] > v) {
+				a[j + 1] = a[j];
+				j--;
+			}
+			a[j + 1] = v;
+		}
+	}
+}
@@ -0,0 +1,83 @@
+package com.mafiagame.logic.solver;
+
+/**
+ * 정규화 상태 값 -> (마피아 승률, 시민 승률) 전치표
+ *
+ * 상태 값 자체가 충돌 없는 키이므로 long 배열 개방 주소법(선형 탐사)으로 저장하고, 절반이 차면 두 배로 확장.
+ * 키 0은 빈 칸 표시 (SolverState 값은 0이 될 수 없음)
+ */
+final class TranspositionTable {
+
+	private long[] keys;
+	private double[] mafiaWins;
+	private double[] citizenWins;
+	private int mask;
+	private int size;
+
+	TranspositionTable(int initialCapacity) {
+		int capacity = Integer.highestOneBit(Math.max(16, initialCapacity - 1)) << 1;
+		allocate(capacity);
+	}
+
+	/**
+	 * 저장된 결과를 out[0](마피아 승률), out[1](시민 승률)에 채움
+	 *
+	 * @return 저장된 상태면 true
+	 */
+	boolean get(long key, double[] out) {
+		int i = slot(key);
+		while (true) {
+			long k = keys[i];
+			if (k == key) {
+				out[0] = mafiaWins[i];
+				out[1] = citizenWins[i];
+				return true;
+			}
+			if (k == 0) return false;
+			i = (i + 1) & mask;
+		}
+	}
+
+	void put(long key, double mafiaWin, double citizenWin) {
+		if ((size + 1) * 2 > keys.length) {
+			resize();
+		}
+		int i = slot(key);
+		while (keys[i] != 0 && keys[i] != key) {
+			i = (i + 1) & mask;
+		}
+		if (keys[i] == 0) size++;
+		keys[i] = key;
+		mafiaWins[i] = mafiaWin;
+		citizenWins[i] = citizenWin;
+	}
+
+	int size() {
+		return size;
+	}
+
+	private int slot(long key) {
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32)) & mask;
+	}
+
+	private void allocate(int capacity) {
+		keys = new long[capacity];
+		mafiaWins = new double[capacity];
+		citizenWins = new double[capacity];
+		mask = capacity - 1;
+		size = 0;
+	}
+
+	private void resize() {
+		long[] oldKeys = keys;
+		double[] oldMafia = mafiaWins;
+		double[] oldCitizen = citizenWins;
+		allocate(oldKeys.length << 1);
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] != 0) {
+				put(oldKeys[i], oldMafia[i], oldCitizen[i]);
+			}
+		}
+	}
+}
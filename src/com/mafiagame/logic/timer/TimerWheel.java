@@ -0,0 +1,337 @@
+package com.mafiagame.logic.timer;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 계층형 타이머 휠 (여러 방이 공유하는 지연 실행기)
+ *
+ * 시간을 tick 단위로 나누고, 칸(버킷) 수가 같은 휠 여러 단을 둠. 0단의 한 칸은 1 tick, 1단의 한 칸은 0단 한 바퀴, ... 를 나타내며
+ * 타이머는 남은 시간에 맞는 단의 칸에 들어감. 전용 스레드 하나가 tick마다 0단의 한 칸을 만료시키고,
+ * 아래 단이 한 바퀴 돌 때마다 위 단의 다음 칸을 아래 단으로 내려 보냄(cascade)
+ *
+ * - 등록/취소: 호출 스레드에서는 큐에 넣기만 하고(O(1)), 버킷 이중 연결 리스트 조작은 휠 스레드가 다음 tick에 처리(O(1))
+ * - tick 처리 비용은 만료되거나 내려가는 타이머 수에만 비례하므로, 먼 마감 시간이 수만 개 쌓여 있어도 늦어지지 않음
+ *   (타이머 하나는 최대 단 수 - 1번만 옮겨짐)
+ * - 정확도: 만료는 최대 1 tick 늦게 일어남 (이르게 실행되지는 않음)
+ * - 만료된 작업은 휠 스레드가 아닌 실행기에서 실행하므로 입력 대기 등으로 오래 걸려도 다른 타이머를 막지 않음
+ *
+ * 기본 설정(10ms tick, 64칸 x 4단)의 범위는 약 46시간이며, 더 먼 타이머는 맨 위 단의 마지막 칸에서 기다렸다가 다시 배치됨.
+ * 휠 스레드는 첫 타이머가 등록될 때 시작하는 데몬 스레드
+ */
+public final class TimerWheel implements AutoCloseable {
+
+	public static final long DEFAULT_TICK_MILLIS = 10;
+	public static final int DEFAULT_SLOTS_PER_LEVEL = 64;
+	public static final int LEVELS = 4;
+
+	private static final int STATE_PENDING = 0;
+	private static final int STATE_CANCELLED = 1;
+	private static final int STATE_EXPIRED = 2;
+
+	private final String name;
+	private final long tickNanos;
+	private final Bucket[][] levels;			// [단][칸] (칸 수는 2의 거듭제곱)
+	private final int slotBits;					// 한 단의 칸 수 = 1 << slotBits
+	private final int slotMask;					// 칸 수 - 1
+	private final long span;					// 휠 전체가 나타내는 tick 수 (칸 수 ^ 단 수)
+	private final Executor executor;			// 만료된 작업 실행기
+	private final ExecutorService ownedExecutor; // 직접 만든 실행기 (close 시 종료, 외부 실행기면 null)
+
+	private final ConcurrentLinkedQueue<Timeout> additions = new ConcurrentLinkedQueue<>();	// 휠에 넣을 타이머
+	private final ConcurrentLinkedQueue<Timeout> cancellations = new ConcurrentLinkedQueue<>(); // 버킷에서 뺄 타이머
+	private final AtomicInteger pendingCount = new AtomicInteger();	// 만료/취소되지 않은 타이머 수
+
+	private final Object lifecycleLock = new Object();
+	private volatile Thread worker;				// 휠 스레드 (시작 전이면 null)
+	private volatile boolean closed;
+	private volatile long startNanos;			// tick 0의 기준 시각
+	private long tick;							// 다음에 처리할 tick (휠 스레드 전용)
+
+	/**
+	 * 기본 설정(10ms tick, 64칸 x 4단)과 가상 스레드 실행기로 생성
+	 *
+	 * @param name 휠 스레드 이름
+	 */
+	public TimerWheel(String name) {
+		this(name, DEFAULT_TICK_MILLIS, DEFAULT_SLOTS_PER_LEVEL, null);
+	}
+
+	/**
+	 * 생성자
+	 *
+	 * @param name          휠 스레드 이름
+	 * @param tickMillis    0단 한 칸의 시간 (밀리초)
+	 * @param slotsPerLevel 한 단의 칸 수 (2의 거듭제곱으로 올림)
+	 * @param executor      만료된 작업 실행기 (null이면 작업마다 가상 스레드를 만드는 실행기를 직접 만들어 사용)
+	 */
+	public TimerWheel(String name, long tickMillis, int slotsPerLevel, Executor executor) {
+		if (tickMillis <= 0) throw new IllegalArgumentException("tickMillis는 1 이상이어야 합니다: " + tickMillis);
+		int slots = Integer.highestOneBit(Math.max(2, slotsPerLevel - 1)) << 1;
+		this.name = name;
+		this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+		this.slotBits = Integer.numberOfTrailingZeros(slots);
+		this.slotMask = slots - 1;
+		this.span = 1L << Math.min(62, slotBits * LEVELS);
+		this.levels = new Bucket[LEVELS][slots];
+		for (Bucket[] level : levels) {
+			for (int i = 0; i < slots; i++) {
+				level[i] = new Bucket();
+			}
+		}
+		if (executor == null) {
+			this.ownedExecutor = Executors.newVirtualThreadPerTaskExecutor();
+			this.executor = ownedExecutor;
+		} else {
+			this.ownedExecutor = null;
+			this.executor = executor;
+		}
+	}
+
+	/**
+	 * 프로세스 전체가 공유하는 타이머 휠
+	 */
+	public static TimerWheel shared() {
+		return SharedHolder.INSTANCE;
+	}
+
+	private static final class SharedHolder {
+		static final TimerWheel INSTANCE = new TimerWheel("timer-wheel");
+	}
+
+	/**
+	 * 지연 후 작업 실행 예약
+	 *
+	 * @param task        실행할 작업 (실행기에서 실행)
+	 * @param delayMillis 지연 시간 (밀리초, 0 이하면 다음 tick)
+	 * @return 취소에 사용할 타이머
+	 * @throws IllegalStateException 휠이 닫힌 경우
+	 */
+	public Timeout schedule(Runnable task, long delayMillis) {
+		if (closed) throw new IllegalStateException("타이머 휠이 닫혔습니다: " + name);
+		startIfNeeded();
+		long deadline = System.nanoTime() - startNanos + TimeUnit.MILLISECONDS.toNanos(Math.max(0, delayMillis));
+		Timeout timeout = new Timeout(this, task, deadline);
+		pendingCount.incrementAndGet();
+		additions.add(timeout);
+		return timeout;
+	}
+
+	/**
+	 * 만료/취소되지 않은 타이머 수
+	 */
+	public int pendingCount() {
+		return pendingCount.get();
+	}
+
+	private void startIfNeeded() {
+		if (worker != null) return;
+		synchronized (lifecycleLock) {
+			if (worker != null) return;
+			startNanos = System.nanoTime();
+			Thread thread = new Thread(this::run, name);
+			thread.setDaemon(true);
+			worker = thread;
+			thread.start();
+		}
+	}
+
+	/**
+	 * 휠 스레드를 멈추고 남은 타이머를 버림 (직접 만든 실행기도 종료)
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		Thread thread = worker;
+		if (thread != null) {
+			thread.interrupt();
+		}
+		if (ownedExecutor != null) {
+			ownedExecutor.shutdown();
+		}
+	}
+
+	// --- 휠 스레드 ---
+
+	private void run() {
+		while (!closed) {
+			if (!waitForNextTick()) break;
+			transferCancellations();
+			cascade();
+			transferAdditions();
+			levels[0][(int) (tick & slotMask)].expire();
+			tick++;
+		}
+	}
+
+	/**
+	 * 처리할 tick의 시작 시각까지 대기
+	 *
+	 * @return 닫혀서 중단되었으면 false
+	 */
+	private boolean waitForNextTick() {
+		long deadline = tickNanos * tick;
+		while (true) {
+			long sleepNanos = deadline - (System.nanoTime() - startNanos);
+			if (sleepNanos <= 0) return true;
+			try {
+				TimeUnit.NANOSECONDS.sleep(sleepNanos);
+			} catch (InterruptedException e) {
+				if (closed) return false;
+			}
+		}
+	}
+
+	/**
+	 * 아래 단이 한 바퀴를 돈 시점이면 위 단의 이번 칸을 비우고 남은 시간에 맞게 다시 배치
+	 */
+	private void cascade() {
+		for (int level = 1; level < LEVELS; level++) {
+			int shift = slotBits * level;
+			if ((tick & ((1L << shift) - 1)) != 0) break; // 아래 단이 아직 한 바퀴를 돌지 않음
+			Bucket bucket = levels[level][(int) ((tick >>> shift) & slotMask)];
+			Timeout timeout = bucket.head;
+			while (timeout != null) {
+				Timeout next = timeout.next;
+				bucket.remove(timeout);
+				place(timeout);
+				timeout = next;
+			}
+		}
+	}
+
+	private void transferAdditions() {
+		Timeout timeout;
+		while ((timeout = additions.poll()) != null) {
+			if (timeout.state.get() != STATE_PENDING) continue; // 넣기 전에 취소됨
+			place(timeout);
+		}
+	}
+
+	/**
+	 * 남은 tick 수에 맞는 단의 칸에 타이머 배치 (이미 지난 타이머는 이번 tick에 실행)
+	 */
+	private void place(Timeout timeout) {
+		long expireTick = Math.max(tick, (timeout.deadline + tickNanos - 1) / tickNanos);
+		long delta = expireTick - tick;
+		if (delta >= span) {
+			expireTick = tick + span - 1; // 범위 밖: 맨 위 단에서 기다렸다가 다시 배치
+			delta = span - 1;
+		}
+		int level = 0;
+		while (level < LEVELS - 1 && delta >= (1L << (slotBits * (level + 1)))) {
+			level++;
+		}
+		levels[level][(int) ((expireTick >>> (slotBits * level)) & slotMask)].add(timeout);
+	}
+
+	private void transferCancellations() {
+		Timeout timeout;
+		while ((timeout = cancellations.poll()) != null) {
+			if (timeout.bucket != null) timeout.bucket.remove(timeout);
+		}
+	}
+
+	private void execute(Timeout timeout) {
+		try {
+			executor.execute(timeout.task);
+		} catch (RejectedExecutionException e) {
+			System.err.println("오류: 타이머 작업을 실행할 수 없습니다 (" + name + ") - " + e.getMessage());
+		}
+	}
+
+	/**
+	 * 예약된 타이머 하나 (휠 버킷의 이중 연결 리스트 노드)
+	 */
+	public static final class Timeout {
+		private final TimerWheel owner;
+		private final Runnable task;
+		private final long deadline;		// 만료 시각 (startNanos 기준 나노초)
+		private final AtomicInteger state = new AtomicInteger(STATE_PENDING);
+		private Bucket bucket;				// 들어 있는 버킷 (휠 스레드 전용)
+		private Timeout prev;
+		private Timeout next;
+
+		private Timeout(TimerWheel owner, Runnable task, long deadline) {
+			this.owner = owner;
+			this.task = task;
+			this.deadline = deadline;
+		}
+
+		/**
+		 * 타이머 취소 (O(1), 버킷에서는 다음 tick에 제거)
+		 *
+		 * @return 실행 전에 취소했으면 true, 이미 만료/취소되었으면 false
+		 */
+		public boolean cancel() {
+			if (!state.compareAndSet(STATE_PENDING, STATE_CANCELLED)) return false;
+			owner.pendingCount.decrementAndGet();
+			owner.cancellations.add(this);
+			return true;
+		}
+
+		public boolean isCancelled() {
+			return state.get() == STATE_CANCELLED;
+		}
+
+		public boolean isExpired() {
+			return state.get() == STATE_EXPIRED;
+		}
+	}
+
+	/**
+	 * 휠의 한 칸 (휠 스레드만 접근)
+	 */
+	private final class Bucket {
+		private Timeout head;
+		private Timeout tail;
+
+		void add(Timeout timeout) {
+			timeout.bucket = this;
+			if (head == null) {
+				head = tail = timeout;
+			} else {
+				tail.next = timeout;
+				timeout.prev = tail;
+				tail = timeout;
+			}
+		}
+
+		void remove(Timeout timeout) {
+			if (timeout.prev != null) {
+				timeout.prev.next = timeout.next;
+			} else {
+				head = timeout.next;
+			}
+			if (timeout.next != null) {
+				timeout.next.prev = timeout.prev;
+			} else {
+				tail = timeout.prev;
+			}
+			timeout.prev = null;
+			timeout.next = null;
+			timeout.bucket = null;
+		}
+
+		/**
+		 * 0단의 칸: 들어 있는 타이머는 모두 이번 tick에 만료되므로 실행기에 넘김
+		 */
+		void expire() {
+			Timeout timeout = head;
+			while (timeout != null) {
+				Timeout next = timeout.next;
+				remove(timeout);
+				if (timeout.state.compareAndSet(STATE_PENDING, STATE_EXPIRED)) {
+					pendingCount.decrementAndGet();
+					execute(timeout);
+				}
+				timeout = next;
+			}
+		}
+	}
+}
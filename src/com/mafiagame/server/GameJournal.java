@@ -0,0 +1,448 @@
+package com.mafiagame.server;
+
+import com.mafiagame.logic.common.enums.GameMode;
+import com.mafiagame.logic.common.enums.GamePhase;
+import com.mafiagame.logic.game.GameManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+
+/**
+ * 방 게임 진행 저널 (메모리 매핑 세그먼트 파일에 추가만 하는 기록)
+ *
+ * 방마다 시작(시드, 모드, 인원, 기본 이름이 아닌 플레이어의 이름), 결정(밤 능력 대상, 투표, 테러), 페이즈 전환, 종료를 기록하고,
+ * JVM이 비정상 종료된 뒤 다시 열면 끝나지 않은 방의 기록을 RecoveredGame으로 돌려줌
+ *
+ * - 기록 형식: [길이 int][CRC32C int][종류 byte][방 번호 long][내용]. 길이는 마지막에 써서 커밋 표시로 사용하고,
+ *   복구 시 길이가 0이거나 CRC가 맞지 않는 레코드에서 해당 세그먼트 읽기를 멈춤 (쓰다 만 꼬리 무시)
+ * - 추가: 잠금 안에서 미리 할당한 버퍼에 인코딩해 매핑된 영역에 복사만 하므로 할당 없이 수 마이크로초 이내
+ * - 동기화: 매핑된 페이지는 JVM이 죽어도 OS 페이지 캐시에 남고, 전원/OS 장애 대비 force()는 전용 스레드가
+ *   syncIntervalMillis마다 모아서 호출 (fsync 배치)
+ * - 세그먼트가 가득 차면 다음 파일로 넘어가며, 그 세그먼트까지 시작한 방이 모두 끝나면 오래된 파일부터 삭제
+ *   (삭제할 파일은 잠금 안에서 고르기만 하고, 파일 삭제는 동기화 스레드가 잠금 밖에서 처리)
+ */
+public final class GameJournal implements AutoCloseable {
+
+	public static final int DEFAULT_SEGMENT_BYTES = 16 * 1024 * 1024;
+	public static final long DEFAULT_SYNC_INTERVAL_MILLIS = 20;
+
+	private static final int MAGIC = 0x4D474A31; // "MGJ1"
+	private static final int HEADER_BYTES = 16;	// magic, 세그먼트 번호, 예약
+	private static final int RECORD_HEADER_BYTES = 8; // 길이, CRC
+	private static final int MAX_BODY_BYTES = 64;
+	private static final int MAX_NAME_BYTES = MAX_BODY_BYTES - 2; // 이름 레코드의 UTF-8 이름 (플레이어 번호 short 제외, 넘치면 글자 경계에서 자름)
+
+	static final byte TYPE_SETUP = 1;
+	static final byte TYPE_DECISION = 2;
+	static final byte TYPE_PHASE = 3;
+	static final byte TYPE_END = 4;
+	static final byte TYPE_NAME = 5;
+
+	private final Path directory;
+	private final int segmentBytes;
+	private final long syncIntervalMillis;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final byte[] scratch = new byte[MAX_BODY_BYTES];	// 레코드 인코딩 버퍼 (lock)
+	private final CRC32C crc = new CRC32C();					// (lock)
+	private MappedByteBuffer segment;			// 현재 세그먼트 (lock)
+	private int segmentIndex;					// 현재 세그먼트 번호 (lock)
+	private int position;						// 현재 세그먼트의 다음 기록 위치 (lock)
+	private volatile boolean dirty;				// 마지막 force 이후 기록 여부
+
+	private final Map<Long, Integer> roomSegments = new HashMap<>();			// 진행 중인 방 -> 시작 기록이 있는 세그먼트 (lock)
+	private final TreeMap<Integer, Integer> openRoomsBySegment = new TreeMap<>(); // 세그먼트 -> 그 세그먼트에서 시작해 진행 중인 방 수 (lock)
+	private final ConcurrentLinkedQueue<MappedByteBuffer> retired = new ConcurrentLinkedQueue<>(); // 다 쓴 세그먼트 (동기화 스레드가 force)
+	private final ConcurrentLinkedQueue<Path> finished = new ConcurrentLinkedQueue<>(); // 모든 방이 끝난 세그먼트 파일 (동기화 스레드가 삭제)
+
+	private final List<RecoveredGame> recovered;	// 열 때 찾은 끝나지 않은 방
+	private final List<Path> recoveredFiles;		// 복구에 사용한 이전 세그먼트 파일
+	private final Thread syncThread;
+	private volatile boolean closed;
+
+	private GameJournal(Path directory, int segmentBytes, long syncIntervalMillis) throws IOException {
+		this.directory = directory;
+		this.segmentBytes = segmentBytes;
+		this.syncIntervalMillis = syncIntervalMillis;
+		Files.createDirectories(directory);
+
+		this.recoveredFiles = listSegments(directory);
+		this.recovered = readSegments(recoveredFiles);
+		int lastIndex = recoveredFiles.isEmpty() ? -1 : segmentIndexOf(recoveredFiles.get(recoveredFiles.size() - 1));
+		openSegment(lastIndex + 1);
+
+		this.syncThread = new Thread(this::syncLoop, "journal-sync");
+		this.syncThread.setDaemon(true);
+		this.syncThread.start();
+	}
+
+	/**
+	 * 기본 설정(16MB 세그먼트, 20ms마다 동기화)으로 저널 열기
+	 *
+	 * @param directory 세그먼트 파일 디렉터리 (없으면 생성)
+	 */
+	public static GameJournal open(Path directory) throws IOException {
+		return open(directory, DEFAULT_SEGMENT_BYTES, DEFAULT_SYNC_INTERVAL_MILLIS);
+	}
+
+	/**
+	 * 저널 열기 (기존 세그먼트를 읽어 끝나지 않은 방을 찾고, 새 세그먼트에 이어서 기록)
+	 *
+	 * @param directory          세그먼트 파일 디렉터리 (없으면 생성)
+	 * @param segmentBytes       세그먼트 파일 크기
+	 * @param syncIntervalMillis force() 주기 (밀리초)
+	 */
+	public static GameJournal open(Path directory, int segmentBytes, long syncIntervalMillis) throws IOException {
+		return new GameJournal(directory, segmentBytes, syncIntervalMillis);
+	}
+
+	/**
+	 * 열 때 찾은 끝나지 않은 방 (방 번호 순)
+	 */
+	public List<RecoveredGame> getRecoveredGames() {
+		return Collections.unmodifiableList(recovered);
+	}
+
+	/**
+	 * 방 하나의 기록 수신자 (GameManager.setRecordListener()에 설정, 복구한 방은 RecoveredGame.rebuild()에도 넘김)
+	 */
+	public RoomJournal forRoom(long roomId) {
+		return new RoomJournal(this, roomId);
+	}
+
+	/**
+	 * 복구한 방을 모두 다시 기록한 뒤 호출: 이전 세그먼트 파일 삭제
+	 */
+	public void discardRecoveredSegments() throws IOException {
+		sync();
+		for (Path file : recoveredFiles) {
+			Files.deleteIfExists(file);
+		}
+		recoveredFiles.clear();
+	}
+
+	// --- 기록 ---
+
+	/**
+	 * 시작 기록과, 기본 이름("플레이어 N")이 아닌 플레이어마다 이름 기록을 한 번의 잠금 안에서 추가
+	 */
+	void appendSetup(long roomId, long seed, GameMode gameMode, List<String> playerNames) {
+		byte[][] names = new byte[playerNames.size()][]; // 잠금 밖에서 인코딩 (기본 이름은 null)
+		for (int i = 0; i < names.length; i++) {
+			String name = playerNames.get(i);
+			if (!name.equals(GameManager.defaultPlayerName(i + 1))) {
+				names[i] = name.getBytes(StandardCharsets.UTF_8);
+			}
+		}
+		lock.lock();
+		try {
+			int n = putLong(0, seed);
+			scratch[n++] = (byte) gameMode.ordinal();
+			n = putShort(n, names.length);
+			append(TYPE_SETUP, roomId, n);
+			if (roomSegments.put(roomId, segmentIndex) == null) {
+				openRoomsBySegment.merge(segmentIndex, 1, Integer::sum);
+			}
+			for (int i = 0; i < names.length; i++) {
+				if (names[i] == null) continue;
+				int length = names[i].length;
+				if (length > MAX_NAME_BYTES) {
+					length = MAX_NAME_BYTES;
+					while (length > 0 && (names[i][length] & 0xC0) == 0x80) length--; // 자른 위치가 글자 중간이면 앞 글자 경계로
+				}
+				n = putShort(0, i + 1);
+				System.arraycopy(names[i], 0, scratch, n, length);
+				append(TYPE_NAME, roomId, n + length);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	void appendDecision(long roomId, int decisionTypeOrdinal, int chooserNumber, int targetNumber) {
+		lock.lock();
+		try {
+			scratch[0] = (byte) decisionTypeOrdinal;
+			int n = putShort(1, chooserNumber);
+			n = putShort(n, targetNumber);
+			append(TYPE_DECISION, roomId, n);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	void appendPhase(long roomId, GamePhase phase, int dayCount) {
+		lock.lock();
+		try {
+			scratch[0] = (byte) phase.ordinal();
+			int n = putShort(1, dayCount);
+			append(TYPE_PHASE, roomId, n);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	void appendEnd(long roomId, int winningTeamOrdinal) {
+		lock.lock();
+		try {
+			scratch[0] = (byte) (winningTeamOrdinal + 1); // 0 = 승리 팀 없음
+			append(TYPE_END, roomId, 1);
+			Integer setupSegment = roomSegments.remove(roomId);
+			if (setupSegment != null) {
+				openRoomsBySegment.merge(setupSegment, -1, Integer::sum);
+				collectFinishedSegments();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 레코드 하나 기록 (lock 보유 상태, 내용은 scratch[0..contentBytes))
+	 */
+	private void append(byte type, long roomId, int contentBytes) {
+		if (closed) throw new IllegalStateException("저널이 닫혔습니다.");
+		int bodyBytes = 1 + 8 + contentBytes;
+		if (position + RECORD_HEADER_BYTES + bodyBytes > segmentBytes) {
+			rollSegment();
+		}
+		// 본문: 종류, 방 번호, 내용
+		int bodyStart = position + RECORD_HEADER_BYTES;
+		segment.put(bodyStart, type);
+		segment.putLong(bodyStart + 1, roomId);
+		segment.put(bodyStart + 9, scratch, 0, contentBytes);
+
+		crc.reset();
+		crc.update(type);
+		for (int shift = 56; shift >= 0; shift -= 8) {
+			crc.update((int) (roomId >>> shift));
+		}
+		crc.update(scratch, 0, contentBytes);
+		segment.putInt(position + 4, (int) crc.getValue());
+		segment.putInt(position, bodyBytes); // 커밋 표시
+		position += RECORD_HEADER_BYTES + bodyBytes;
+		dirty = true;
+	}
+
+	private int putLong(int offset, long value) {
+		for (int shift = 56; shift >= 0; shift -= 8) {
+			scratch[offset++] = (byte) (value >>> shift);
+		}
+		return offset;
+	}
+
+	private int putShort(int offset, int value) {
+		scratch[offset++] = (byte) (value >>> 8);
+		scratch[offset++] = (byte) value;
+		return offset;
+	}
+
+	// --- 세그먼트 ---
+
+	private void openSegment(int index) throws IOException {
+		Path file = directory.resolve(segmentFileName(index));
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+			buffer.putInt(0, MAGIC);
+			buffer.putInt(4, index);
+			this.segment = buffer;
+		}
+		this.segmentIndex = index;
+		this.position = HEADER_BYTES;
+		openRoomsBySegment.putIfAbsent(index, 0);
+	}
+
+	private void rollSegment() {
+		retired.add(segment); // 동기화 스레드가 force
+		try {
+			openSegment(segmentIndex + 1);
+		} catch (IOException e) {
+			throw new UncheckedIOException("저널 세그먼트를 만들 수 없습니다.", e);
+		}
+		collectFinishedSegments();
+	}
+
+	/**
+	 * 현재 세그먼트 이전에서, 그 세그먼트까지 시작한 방이 모두 끝난 세그먼트 파일을 삭제 대기열에 넣음 (lock 보유 상태)
+	 * 파일 삭제는 디스크 I/O라 기록을 막지 않도록 동기화 스레드가 deleteFinishedSegments()로 처리
+	 */
+	private void collectFinishedSegments() {
+		while (!openRoomsBySegment.isEmpty()) {
+			Map.Entry<Integer, Integer> oldest = openRoomsBySegment.firstEntry();
+			if (oldest.getKey() >= segmentIndex || oldest.getValue() > 0) break;
+			openRoomsBySegment.pollFirstEntry();
+			finished.add(directory.resolve(segmentFileName(oldest.getKey())));
+		}
+	}
+
+	/**
+	 * 삭제 대기열의 세그먼트 파일 삭제 (잠금 밖, 동기화 스레드나 close()에서 호출)
+	 */
+	private void deleteFinishedSegments() {
+		Path file;
+		while ((file = finished.poll()) != null) {
+			try {
+				Files.deleteIfExists(file);
+			} catch (IOException e) {
+				System.err.println("오류: 저널 세그먼트를 삭제할 수 없습니다 - " + e.getMessage());
+			}
+		}
+	}
+
+	private static String segmentFileName(int index) {
+		return String.format("journal-%08d.seg", index);
+	}
+
+	private static int segmentIndexOf(Path file) {
+		String name = file.getFileName().toString();
+		return Integer.parseInt(name.substring("journal-".length(), name.length() - ".seg".length()));
+	}
+
+	private static List<Path> listSegments(Path directory) throws IOException {
+		List<Path> files = new ArrayList<>();
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "journal-*.seg")) {
+			for (Path file : stream) {
+				files.add(file);
+			}
+		}
+		files.sort((a, b) -> Integer.compare(segmentIndexOf(a), segmentIndexOf(b)));
+		return files;
+	}
+
+	// --- 동기화 ---
+
+	/**
+	 * 지금까지 기록한 내용을 디스크에 반영 (force)
+	 */
+	public void sync() {
+		MappedByteBuffer buffer;
+		while ((buffer = retired.poll()) != null) {
+			buffer.force();
+		}
+		lock.lock();
+		try {
+			buffer = segment;
+			dirty = false;
+		} finally {
+			lock.unlock();
+		}
+		buffer.force(); // 잠금 밖에서 force하여 기록을 막지 않음
+	}
+
+	private void syncLoop() {
+		while (!closed) {
+			try {
+				Thread.sleep(syncIntervalMillis);
+			} catch (InterruptedException e) {
+				if (closed) break;
+			}
+			if (dirty || !retired.isEmpty()) {
+				sync();
+			}
+			deleteFinishedSegments();
+		}
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+		syncThread.interrupt();
+		try {
+			syncThread.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		sync();
+		deleteFinishedSegments();
+	}
+
+	// --- 복구 ---
+
+	/**
+	 * 세그먼트를 순서대로 읽어 끝나지 않은 방의 기록을 모음
+	 */
+	private static List<RecoveredGame> readSegments(List<Path> files) throws IOException {
+		Map<Long, RecoveredGame> games = new LinkedHashMap<>();
+		CRC32C crc = new CRC32C();
+		byte[] body = new byte[MAX_BODY_BYTES + 9];
+		for (Path file : files) {
+			try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+				MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+				if (buffer.limit() < HEADER_BYTES || buffer.getInt(0) != MAGIC) continue;
+				int position = HEADER_BYTES;
+				while (position + RECORD_HEADER_BYTES <= buffer.limit()) {
+					int bodyBytes = buffer.getInt(position);
+					if (bodyBytes <= 9 || bodyBytes > body.length || position + RECORD_HEADER_BYTES + bodyBytes > buffer.limit()) break;
+					buffer.get(position + RECORD_HEADER_BYTES, body, 0, bodyBytes);
+					crc.reset();
+					crc.update(body, 0, bodyBytes);
+					if ((int) crc.getValue() != buffer.getInt(position + 4)) break; // 쓰다 만 레코드
+					apply(games, body, bodyBytes);
+					position += RECORD_HEADER_BYTES + bodyBytes;
+				}
+			}
+		}
+		List<RecoveredGame> result = new ArrayList<>(games.values());
+		result.sort((a, b) -> Long.compare(a.getRoomId(), b.getRoomId()));
+		return result;
+	}
+
+	private static void apply(Map<Long, RecoveredGame> games, byte[] body, int bodyBytes) {
+		byte type = body[0];
+		long roomId = getLong(body, 1);
+		switch (type) {
+		case TYPE_SETUP:
+			games.put(roomId, new RecoveredGame(roomId, getLong(body, 9), GameMode.values()[body[17]], getShort(body, 18)));
+			break;
+		case TYPE_DECISION: {
+			RecoveredGame game = games.get(roomId);
+			if (game != null) game.addDecision(body[9], getShort(body, 10), getShort(body, 12));
+			break;
+		}
+		case TYPE_PHASE: {
+			RecoveredGame game = games.get(roomId);
+			if (game != null) game.addPhase(GamePhase.values()[body[9]], getShort(body, 10));
+			break;
+		}
+		case TYPE_NAME: {
+			RecoveredGame game = games.get(roomId);
+			if (game != null) game.setPlayerName(getShort(body, 9), new String(body, 11, bodyBytes - 11, StandardCharsets.UTF_8));
+			break;
+		}
+		case TYPE_END:
+			games.remove(roomId);
+			break;
+		default:
+			break;
+		}
+	}
+
+	private static long getLong(byte[] b, int offset) {
+		long value = 0;
+		for (int i = 0; i < 8; i++) {
+			value = (value << 8) | (b[offset + i] & 0xFF);
+		}
+		return value;
+	}
+
+	private static int getShort(byte[] b, int offset) {
+		return ((b[offset] & 0xFF) << 8) | (b[offset + 1] & 0xFF);
+	}
+}
@@ -0,0 +1,168 @@
+package com.mafiagame.server;
+
+import com.mafiagame.logic.archive.GameArchiveRecorder;
+import com.mafiagame.logic.archive.GameArchiveWriter;
+import com.mafiagame.logic.common.enums.GameMode;
+import com.mafiagame.logic.common.enums.Team;
+import com.mafiagame.logic.game.GameManager;
+import com.mafiagame.logic.game.GameRecordListener;
+import com.mafiagame.logic.game.GameSnapshot;
+import com.mafiagame.logic.game.PhaseDeadlineService;
+import com.mafiagame.logic.game.PhasePacer;
+import com.mafiagame.logic.io.QueuePlayerIO;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 게임 서버의 방 하나
+ * 독립된 GameManager와 입력 큐를 가지며, 페이즈는 공유 타이머 휠이 간격(PhasePacer)에 맞춰 가상 스레드에서 이어서 실행
+ * (페이즈 사이에는 방이 스레드를 점유하지 않음)
+ */
+public class GameRoom {
+
+	private static final int MAX_OUTBOX_SIZE = 256; // 방마다 보관할 최대 출력 줄 수
+
+	private final long roomId;				// 방 고유 번호
+	private final GameMode gameMode;		// 게임 모드
+	private final int playerCount;			// 플레이어 수
+	private final QueuePlayerIO io;			// 방 입출력
+	private final GameManager gameManager;	// 방의 게임 진행
+	private final PhaseDeadlineService deadlineService; // 토론/투표 마감 시간 (모든 방 공유)
+	private final RoomJournal journal;		// 진행 기록 (저널이 없으면 null)
+	private final GameSnapshot resumeFrom;	// 저널에서 복구한 상태 (새 게임이면 null)
+	private volatile CompletableFuture<Void> completion; // 게임 루프 종료 (콜백까지 끝나면 완료)
+	private volatile boolean finished;		// 게임 루프 종료 여부
+
+	/**
+	 * @param seed       게임 Random 시드
+	 * @param journal    진행 기록 (없으면 null)
+	 * @param archive    끝난 게임을 보관할 기록기 (없으면 null)
+	 * @param resumeFrom 이어서 진행할 상태 (새 게임이면 null)
+	 */
+	GameRoom(long roomId, GameMode gameMode, int playerCount, long seed, PhasePacer phasePacer, PhaseDeadlineService deadlineService,
+			RoomJournal journal, GameArchiveWriter archive, GameSnapshot resumeFrom) {
+		this.roomId = roomId;
+		this.gameMode = gameMode;
+		this.playerCount = playerCount;
+		this.io = new QueuePlayerIO(MAX_OUTBOX_SIZE);
+		this.gameManager = new GameManager(io, false, seed);
+		this.gameManager.setPhasePacer(phasePacer);
+		this.gameManager.setPhaseDeadlines(deadlineService, roomId);
+		GameRecordListener recordListener = journal;
+		if (archive != null) {
+			GameArchiveRecorder recorder = new GameArchiveRecorder(archive, gameManager);
+			recordListener = journal != null ? journal.andThen(recorder) : recorder;
+		}
+		this.gameManager.setRecordListener(recordListener);
+		this.deadlineService = deadlineService;
+		this.journal = journal;
+		this.resumeFrom = resumeFrom;
+	}
+
+	/**
+	 * 게임 루프 시작 (첫 페이즈부터, 복구한 방이면 중단된 페이즈부터 타이머 휠의 가상 스레드에서 실행)
+	 *
+	 * @param onFinish 게임 루프가 끝나면(정상 종료, 방 닫힘 모두) 호출할 콜백
+	 */
+	void start(Runnable onFinish) {
+		CompletableFuture<Void> done;
+		try {
+			CompletableFuture<Team> game;
+			if (resumeFrom == null) {
+				gameManager.setupGame(playerCount, gameMode);
+				game = gameManager.startGameAsync();
+			} else {
+				gameManager.restore(resumeFrom);
+				game = gameManager.resumeGameAsync();
+			}
+			done = game.handle((winner, error) -> {
+				Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+				if (cause != null && !(cause instanceof CancellationException)) {
+					System.err.println("오류: 방 " + roomId + " 게임 진행 중 예외 - " + cause);
+				} // CancellationException: 방이 닫혀 입력 대기가 중단됨 -> 정상 종료로 처리
+				return null;
+			});
+		} catch (RuntimeException e) {
+			done = CompletableFuture.failedFuture(e);
+		}
+		completion = done.whenComplete((ignored, error) -> {
+			finished = true;
+			onFinish.run();
+		});
+	}
+
+	/**
+	 * 방을 닫음 (입력 대기 중이면 바로, 페이즈 간격 대기 중이면 다음 입력 요청에서 게임 루프가 끝남)
+	 */
+	void close() {
+		io.cancel();
+		deadlineService.finish(roomId); // 토론 마감을 기다리는 중이면 바로 진행시켜 종료
+	}
+
+	/**
+	 * 방을 닫고 저널에서도 종료 처리 (재시작해도 복구하지 않음)
+	 */
+	void discard() {
+		if (journal != null && !finished) journal.onClosed();
+		close();
+	}
+
+	/**
+	 * 게임 루프가 끝날 때까지 대기
+	 *
+	 * @param timeoutMillis 최대 대기 시간 (밀리초)
+	 * @return 시간 안에 종료되었으면 true
+	 */
+	boolean join(long timeoutMillis) throws InterruptedException {
+		CompletableFuture<Void> c = completion;
+		if (c == null) return true;
+		try {
+			c.get(timeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (ExecutionException | CancellationException e) {
+			// 종료됨
+		} catch (TimeoutException e) {
+			return false;
+		}
+		return true;
+	}
+
+	public void submitInput(String input) {
+		io.submitInput(input);
+	}
+
+	/**
+	 * 토론 준비 완료 (참여자 전원이 준비되면 마감 시간 전에 투표로 넘어감)
+	 *
+	 * @param playerNumber 플레이어 번호 (1부터)
+	 * @return 진행 중인 마감 시간이 있고 새로 준비 완료 처리되었으면 true
+	 */
+	public boolean markReady(int playerNumber) {
+		return deadlineService.markReady(roomId, playerNumber - 1);
+	}
+
+	public List<String> drainOutput() {
+		return io.drainOutput();
+	}
+
+	public long getRoomId() { return roomId; }
+
+	public GameMode getGameMode() { return gameMode; }
+
+	public int getPlayerCount() { return playerCount; }
+
+	public boolean isWaitingForInput() { return io.isWaitingForInput(); }
+
+	public boolean isFinished() { return finished; }
+
+	public boolean isResumed() { return resumeFrom != null; }
+
+	public PhasePacer getPhasePacer() { return gameManager.getPhasePacer(); }
+
+	public GameManager getGameManager() { return gameManager; }
+}
@@ -0,0 +1,169 @@
+package com.mafiagame.server;
+
+import com.mafiagame.logic.common.enums.DecisionType;
+import com.mafiagame.logic.common.enums.GameMode;
+import com.mafiagame.logic.common.enums.GamePhase;
+import com.mafiagame.logic.game.DecisionMaker;
+import com.mafiagame.logic.game.GameManager;
+import com.mafiagame.logic.game.GameRecordListener;
+import com.mafiagame.logic.game.GameSnapshot;
+import com.mafiagame.logic.game.Player;
+import com.mafiagame.logic.io.NoOpPlayerIO;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 저널에서 찾은 끝나지 않은 방 하나의 기록
+ *
+ * 마지막으로 끝난 페이즈까지의 결정만 보관하며 (진행 중이던 페이즈의 결정은 버림),
+ * rebuild()는 같은 시드와 결정으로 게임을 헤드리스로 다시 진행해 그 페이즈가 시작되는 시점의 스냅숏을 만듦
+ */
+public final class RecoveredGame {
+
+	private static final DecisionType[] DECISION_TYPES = DecisionType.values();
+
+	private final long roomId;
+	private final long seed;
+	private final GameMode gameMode;
+	private final int playerCount;
+	private final String[] playerNames;		// 이름 기록이 있는 플레이어의 이름 (번호 - 1, 없으면 null = 기본 이름)
+
+	private int[] decisions = new int[48];	// [종류, 선택자, 대상] 반복 (대상 0 = 기권)
+	private int decisionCount;				// 기록된 결정 수 (진행 중인 페이즈 포함)
+	private int committedDecisions;			// 마지막 페이즈 전환까지의 결정 수
+	private int phaseSteps;					// 끝난 페이즈 수
+	private GamePhase phase;				// 이어서 진행할 페이즈 (전환 기록이 없으면 null)
+	private int dayCount;					// 이어서 진행할 페이즈의 일차
+
+	RecoveredGame(long roomId, long seed, GameMode gameMode, int playerCount) {
+		this.roomId = roomId;
+		this.seed = seed;
+		this.gameMode = gameMode;
+		this.playerCount = playerCount;
+		this.playerNames = new String[playerCount];
+	}
+
+	void setPlayerName(int playerNumber, String name) {
+		if (playerNumber >= 1 && playerNumber <= playerCount) {
+			playerNames[playerNumber - 1] = name;
+		}
+	}
+
+	void addDecision(int typeOrdinal, int chooserNumber, int targetNumber) {
+		if ((decisionCount + 1) * 3 > decisions.length) {
+			decisions = Arrays.copyOf(decisions, decisions.length * 2);
+		}
+		int i = decisionCount++ * 3;
+		decisions[i] = typeOrdinal;
+		decisions[i + 1] = chooserNumber;
+		decisions[i + 2] = targetNumber;
+	}
+
+	void addPhase(GamePhase nextPhase, int day) {
+		this.phase = nextPhase;
+		this.dayCount = day;
+		this.phaseSteps++;
+		this.committedDecisions = decisionCount;
+	}
+
+	/**
+	 * 기록된 결정으로 게임을 다시 진행해 이어서 진행할 페이즈가 시작되는 시점의 상태를 만듦
+	 *
+	 * @param listener 다시 진행하는 동안의 시작/결정/페이즈 전환을 받을 수신자
+	 *                 (새 세그먼트에 기록을 옮겨 이전 세그먼트를 지울 수 있도록 RoomJournal을 넘김, 없으면 null)
+	 * @return 살아 있는 GameManager에 restore()할 스냅숏
+	 * @throws IllegalStateException 다시 진행한 결과가 기록과 맞지 않는 경우 (규칙 변경 등)
+	 */
+	public GameSnapshot rebuild(GameRecordListener listener) {
+		GameManager replay = new GameManager(NoOpPlayerIO.INSTANCE, true, seed);
+		replay.setDecisionMaker(new JournalDecisions(this));
+		replay.setRecordListener(listener);
+		replay.setupGame(getPlayerNames(), gameMode);
+		replay.beginGame();
+		for (int i = 0; i < phaseSteps; i++) {
+			if (!replay.runNextPhase()) {
+				throw new IllegalStateException("방 " + roomId + ": 기록된 페이즈 전에 게임이 끝났습니다.");
+			}
+		}
+		if (phase != null && (replay.getCurrentPhase() != phase || replay.getDayCount() != dayCount)) {
+			throw new IllegalStateException("방 " + roomId + ": 기록과 다른 페이즈입니다 - " + replay.getCurrentPhase() + " " + replay.getDayCount() + "일차");
+		}
+		return replay.snapshot();
+	}
+
+	public long getRoomId() {
+		return roomId;
+	}
+
+	public long getSeed() {
+		return seed;
+	}
+
+	public GameMode getGameMode() {
+		return gameMode;
+	}
+
+	public int getPlayerCount() {
+		return playerCount;
+	}
+
+	/**
+	 * 플레이어 이름 (번호 순, 이름 기록이 없는 플레이어는 기본 이름)
+	 */
+	public List<String> getPlayerNames() {
+		String[] names = new String[playerCount];
+		for (int i = 0; i < playerCount; i++) {
+			names[i] = playerNames[i] != null ? playerNames[i] : GameManager.defaultPlayerName(i + 1);
+		}
+		return List.of(names);
+	}
+
+	/**
+	 * 이어서 진행할 페이즈 (첫 페이즈 도중 중단되었으면 null)
+	 */
+	public GamePhase getPhase() {
+		return phase;
+	}
+
+	public int getDayCount() {
+		return dayCount;
+	}
+
+	/**
+	 * 복구에 사용할 결정 수 (진행 중이던 페이즈의 결정 제외)
+	 */
+	public int getDecisionCount() {
+		return committedDecisions;
+	}
+
+	/**
+	 * 저널의 결정을 순서대로 돌려주는 결정자 (끝난 페이즈까지만)
+	 */
+	private static class JournalDecisions implements DecisionMaker {
+		private final RecoveredGame game;
+		private int next;
+
+		JournalDecisions(RecoveredGame game) {
+			this.game = game;
+		}
+
+		@Override
+		public Player choose(DecisionType type, Player chooser, List<Player> candidates, GameManager gameManager) {
+			if (next >= game.committedDecisions) {
+				throw new IllegalStateException("방 " + game.roomId + ": 기록된 결정보다 많은 결정이 요청되었습니다: " + type);
+			}
+			int i = next++ * 3;
+			int chooserNumber = chooser != null ? chooser.getPlayerNumber() : 0;
+			if (DECISION_TYPES[game.decisions[i]] != type || game.decisions[i + 1] != chooserNumber) {
+				throw new IllegalStateException("방 " + game.roomId + ": 기록과 다른 결정 요청입니다: " + type + ", 선택자 " + chooserNumber);
+			}
+			int target = game.decisions[i + 2];
+			if (target == 0) return null; // 투표 마감 시간 경과로 기권
+			for (Player candidate : candidates) {
+				if (candidate.getPlayerNumber() == target) return candidate;
+			}
+			throw new IllegalStateException("방 " + game.roomId + ": 기록된 대상 " + target + "번이 선택 가능한 후보에 없습니다.");
+		}
+	}
+}
@@ -0,0 +1,65 @@
+package com.mafiagame.server;
+
+import com.mafiagame.logic.common.enums.DecisionType;
+import com.mafiagame.logic.common.enums.GameMode;
+import com.mafiagame.logic.common.enums.GamePhase;
+import com.mafiagame.logic.common.enums.Team;
+import com.mafiagame.logic.game.GameManager;
+import com.mafiagame.logic.game.GameRecordListener;
+import com.mafiagame.logic.game.Player;
+
+import java.util.List;
+
+/**
+ * 방 하나의 진행을 GameJournal에 기록하는 수신자
+ * 시작(플레이어 이름 포함), 모든 결정(기권 포함), 페이즈 전환, 종료를 방 번호와 함께 저널에 추가
+ */
+public class RoomJournal implements GameRecordListener {
+
+	private final GameJournal journal;
+	private final long roomId;
+
+	RoomJournal(GameJournal journal, long roomId) {
+		this.journal = journal;
+		this.roomId = roomId;
+	}
+
+	@Override
+	public void onGameSetup(long seed, GameMode gameMode, int playerCount) {
+		onGameSetup(seed, gameMode, GameManager.defaultPlayerNames(playerCount));
+	}
+
+	@Override
+	public void onGameSetup(long seed, GameMode gameMode, List<String> playerNames) {
+		if (seed == GameManager.NO_SEED) {
+			throw new IllegalStateException("시드를 알 수 없는 게임은 저널에 기록할 수 없습니다. 시드를 지정해 GameManager를 생성하세요.");
+		}
+		journal.appendSetup(roomId, seed, gameMode, playerNames);
+	}
+
+	@Override
+	public void onDecision(DecisionType type, Player chooser, Player chosen) {
+		journal.appendDecision(roomId, type.ordinal(), chooser != null ? chooser.getPlayerNumber() : 0, chosen != null ? chosen.getPlayerNumber() : 0); // 0 = 기권
+	}
+
+	@Override
+	public void onPhaseTransition(GamePhase nextPhase, int dayCount) {
+		journal.appendPhase(roomId, nextPhase, dayCount);
+	}
+
+	@Override
+	public void onGameOver(GameManager gameManager, Team winningTeam) {
+		journal.appendEnd(roomId, winningTeam != null ? winningTeam.ordinal() : -1);
+	}
+
+	/**
+	 * 방이 게임 종료 없이 닫힐 때 호출 (복구 대상에서 제외)
+	 */
+	void onClosed() {
+		journal.appendEnd(roomId, -1);
+	}
+
+	public long getRoomId() {
+		return roomId;
+	}
+}
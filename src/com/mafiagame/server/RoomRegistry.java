@@ -0,0 +1,223 @@
+package com.mafiagame.server;
+
+import com.mafiagame.logic.archive.GameArchiveWriter;
+import com.mafiagame.logic.common.enums.GameMode;
+import com.mafiagame.logic.common.enums.GamePhase;
+import com.mafiagame.logic.game.GameSnapshot;
+import com.mafiagame.logic.game.PhaseDeadlineService;
+import com.mafiagame.logic.game.PhasePacer;
+import com.mafiagame.logic.metrics.EngineMetrics;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.JMException;
+
+/**
+ * 게임 서버의 방 목록을 관리하는 클래스
+ * 방 생성, 입력 전달, 방 닫기를 담당하며 게임이 끝난 방은 목록에서 자동으로 제거
+ * 저널(GameJournal)을 지정하면 모든 방의 진행을 기록하고, 재시작 후 recover()로 끝나지 않은 방을 이어서 진행
+ * 보관 기록기(GameArchiveWriter)를 지정하면 끝난 게임을 분석용 열 단위 파일로 보관
+ */
+public class RoomRegistry {
+
+	private static final long DEFAULT_DISCUSSION_MILLIS = 120_000;	// 기본 토론 시간
+	private static final long DEFAULT_VOTE_MILLIS = 60_000;			// 기본 투표 시간
+
+	private final Map<Long, GameRoom> rooms = new ConcurrentHashMap<>();	// 방 번호 -> 방
+	private final AtomicLong nextRoomId = new AtomicLong(1);				// 다음에 배정할 방 번호
+	private final PhaseDeadlineService deadlineService;					// 모든 방의 토론/투표 마감 시간
+	private final GameJournal journal;									// 모든 방의 진행 기록 (없으면 null)
+	private final GameArchiveWriter archive;							// 끝난 게임 보관 (없으면 null)
+
+	/**
+	 * 기본 토론/투표 시간으로 생성
+	 */
+	public RoomRegistry() {
+		this(new PhaseDeadlineService());
+		deadlineService.setDeadline(GamePhase.DAY_DISCUSSION, DEFAULT_DISCUSSION_MILLIS);
+		deadlineService.setDeadline(GamePhase.DAY_VOTE, DEFAULT_VOTE_MILLIS);
+	}
+
+	/**
+	 * @param deadlineService 방들이 공유할 마감 시간 서비스 (페이즈별 시간은 서비스에 설정)
+	 */
+	public RoomRegistry(PhaseDeadlineService deadlineService) {
+		this(deadlineService, null);
+	}
+
+	/**
+	 * @param deadlineService 방들이 공유할 마감 시간 서비스 (페이즈별 시간은 서비스에 설정)
+	 * @param journal         방들의 진행을 기록할 저널 (없으면 null). 복구할 방이 있으면 방을 만들기 전에 recover() 호출
+	 */
+	public RoomRegistry(PhaseDeadlineService deadlineService, GameJournal journal) {
+		this(deadlineService, journal, null);
+	}
+
+	/**
+	 * @param deadlineService 방들이 공유할 마감 시간 서비스 (페이즈별 시간은 서비스에 설정)
+	 * @param journal         방들의 진행을 기록할 저널 (없으면 null)
+	 * @param archive         끝난 게임을 열 단위 파일로 보관할 기록기 (없으면 null)
+	 */
+	public RoomRegistry(PhaseDeadlineService deadlineService, GameJournal journal, GameArchiveWriter archive) {
+		this.deadlineService = deadlineService;
+		this.journal = journal;
+		this.archive = archive;
+		try {
+			EngineMetrics.global().registerMBean(); // 모든 방이 공유하는 엔진 계측을 JMX로 공개
+		} catch (JMException e) {
+			System.err.println("오류: 엔진 계측을 JMX에 등록할 수 없습니다 - " + e.getMessage());
+		}
+		if (journal != null) {
+			for (RecoveredGame game : journal.getRecoveredGames()) {
+				nextRoomId.accumulateAndGet(game.getRoomId() + 1, Math::max); // 복구할 방과 번호가 겹치지 않게 함
+			}
+		}
+	}
+
+	/**
+	 * 새 방을 만들고 게임 루프를 시작
+	 *
+	 * @param gameMode    게임 모드
+	 * @param playerCount 플레이어 수
+	 * @return 생성된 방
+	 */
+	public GameRoom createRoom(GameMode gameMode, int playerCount) {
+		return createRoom(gameMode, playerCount, PhasePacer.of(PhasePacer.DEFAULT_DELAY_MILLIS));
+	}
+
+	/**
+	 * 새 방을 만들고 게임 루프를 시작 (페이즈 간격 지정)
+	 *
+	 * @param gameMode    게임 모드
+	 * @param playerCount 플레이어 수
+	 * @param phasePacer  페이즈 사이 간격 (모든 방이 공유 타이머 휠을 사용)
+	 * @return 생성된 방
+	 */
+	public GameRoom createRoom(GameMode gameMode, int playerCount, PhasePacer phasePacer) {
+		long roomId = nextRoomId.getAndIncrement();
+		RoomJournal roomJournal = journal != null ? journal.forRoom(roomId) : null;
+		return startRoom(new GameRoom(roomId, gameMode, playerCount, new Random().nextLong(), phasePacer, deadlineService,
+				roomJournal, archive, null)); // 시드를 남겨 재현 가능하게 함
+	}
+
+	/**
+	 * 저널에서 찾은 끝나지 않은 방을 중단된 페이즈부터 이어서 진행
+	 * 기록을 새 세그먼트로 옮긴 뒤 이전 세그먼트 파일을 지우며, 기록과 맞지 않아 되살릴 수 없는 방은 종료 처리
+	 *
+	 * @param phasePacer 복구한 방의 페이즈 사이 간격
+	 * @return 이어서 진행하는 방 (방 번호 순)
+	 */
+	public List<GameRoom> recover(PhasePacer phasePacer) throws IOException {
+		if (journal == null) return List.of();
+		List<GameRoom> recovered = new ArrayList<>();
+		for (RecoveredGame game : journal.getRecoveredGames()) {
+			RoomJournal roomJournal = journal.forRoom(game.getRoomId());
+			GameSnapshot snapshot;
+			try {
+				snapshot = game.rebuild(roomJournal); // 다시 진행하면서 새 세그먼트에 기록
+			} catch (RuntimeException e) {
+				System.err.println("오류: 방 " + game.getRoomId() + "을 복구할 수 없습니다 - " + e.getMessage());
+				roomJournal.onClosed();
+				continue;
+			}
+			recovered.add(startRoom(new GameRoom(game.getRoomId(), game.getGameMode(), game.getPlayerCount(), game.getSeed(),
+					phasePacer, deadlineService, roomJournal, archive, snapshot)));
+		}
+		journal.discardRecoveredSegments();
+		return recovered;
+	}
+
+	private GameRoom startRoom(GameRoom room) {
+		long roomId = room.getRoomId();
+		rooms.put(roomId, room);
+		room.start(() -> rooms.remove(roomId, room));
+		return room;
+	}
+
+	/**
+	 * 방에 입력을 전달
+	 *
+	 * @param roomId 방 번호
+	 * @param input  입력 문자열
+	 * @return 방이 존재하면 true
+	 */
+	public boolean submitInput(long roomId, String input) {
+		GameRoom room = rooms.get(roomId);
+		if (room == null) return false;
+		room.submitInput(input);
+		return true;
+	}
+
+	/**
+	 * 방의 토론 준비 완료 전달
+	 *
+	 * @param roomId       방 번호
+	 * @param playerNumber 플레이어 번호 (1부터)
+	 * @return 진행 중인 마감 시간이 있고 새로 준비 완료 처리되었으면 true
+	 */
+	public boolean markReady(long roomId, int playerNumber) {
+		return deadlineService.markReady(roomId, playerNumber - 1);
+	}
+
+	public GameJournal getJournal() {
+		return journal;
+	}
+
+	public GameArchiveWriter getArchive() {
+		return archive;
+	}
+
+	public PhaseDeadlineService getDeadlineService() {
+		return deadlineService;
+	}
+
+	public GameRoom getRoom(long roomId) {
+		return rooms.get(roomId);
+	}
+
+	public int getRoomCount() {
+		return rooms.size();
+	}
+
+	public Collection<GameRoom> getRooms() {
+		return rooms.values();
+	}
+
+	/**
+	 * 방을 닫음 (게임 루프가 끝나면 목록에서 제거되고, 저널에서도 종료 처리되어 재시작 후 복구하지 않음)
+	 *
+	 * @param roomId 방 번호
+	 * @return 방이 존재하면 true
+	 */
+	public boolean closeRoom(long roomId) {
+		GameRoom room = rooms.get(roomId);
+		if (room == null) return false;
+		room.discard();
+		return true;
+	}
+
+	/**
+	 * 모든 방을 닫고 게임 루프가 끝날 때까지 대기 (서버 종료용, 끝나지 않은 방은 저널에 남아 재시작 후 recover()로 이어서 진행)
+	 *
+	 * @param timeoutMillis 방 하나당 최대 대기 시간 (밀리초)
+	 * @return 모든 방이 시간 안에 종료되었으면 true
+	 */
+	public boolean closeAll(long timeoutMillis) throws InterruptedException {
+		List<GameRoom> snapshot = new ArrayList<>(rooms.values());
+		for (GameRoom room : snapshot) {
+			room.close();
+		}
+		boolean allClosed = true;
+		for (GameRoom room : snapshot) {
+			allClosed &= room.join(timeoutMillis);
+		}
+		return allClosed;
+	}
+}
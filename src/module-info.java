@@ -5,4 +5,9 @@
  * 
  */
 module MafiaGameAlgorithm {
+	requires java.management;
+	requires jdk.management;
+	requires jdk.jfr;
+
+	exports com.mafiagame.logic.metrics to java.management; // EngineMetricsMXBean
 }
\ No newline at end of file
@@ -0,0 +1,77 @@
+package com.mafiagame.logic.archive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mafiagame.logic.common.enums.GameMode;
+import com.mafiagame.logic.common.enums.JobType;
+import com.mafiagame.logic.common.enums.Team;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * 게임 보관 파일 질의 확인
+ * 모드, 인원, 직업 구성이 섞인 가상의 끝난 게임을 열 단위 파일로 쓴 뒤
+ * "스파이 모드 10인, 도굴꾼 포함" 팀별 승률 질의 결과가 직접 센 값과 같은지, 색인으로 건너뛴 그룹이 있는지 확인
+ * (처리량은 jmh 모듈의 ArchiveQueryBenchmark에서 잼)
+ */
+class GameArchiveQueryTest {
+
+	private static final int GAMES = 300_000;
+	private static final Team[] TEAMS = Team.values();
+	private static final GameMode[] MODES = GameMode.values();
+	private static final JobType[] JOBS = JobType.values();
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void queryMatchesDirectCount() throws IOException {
+		Random random = new Random(42);
+		long[] expected = new long[TEAMS.length + 1]; // 질의 조건에 맞는 게임의 승리 팀별 수 (직접 센 값)
+		byte[] votes = new byte[3 * 12 * 4];
+		try (GameArchiveWriter writer = new GameArchiveWriter(directory)) {
+			for (int g = 0; g < GAMES; g++) {
+				// 서버 방 생성 순서처럼 모드/인원이 구간별로 몰리도록 함 (색인으로 건너뛸 수 있는 그룹이 생김)
+				GameMode mode = MODES[(g / 50_000) % MODES.length];
+				int players = 8 + (g / 20_000) % 5;
+				byte[] roles = new byte[players];
+				byte[] deathDays = new byte[players];
+				boolean hasGraveRobber = false;
+				for (int p = 0; p < players; p++) {
+					JobType job = JOBS[random.nextInt(JOBS.length)];
+					roles[p] = (byte) job.ordinal();
+					hasGraveRobber |= job == JobType.GRAVEROBBER;
+					deathDays[p] = random.nextInt(3) == 0 ? (byte) (1 + random.nextInt(4)) : 0;
+				}
+				int days = 1 + random.nextInt(4);
+				int voteLength = 0;
+				for (int d = 1; d <= days; d++) {
+					for (int p = 1; p <= players && voteLength + 3 <= votes.length; p++) {
+						votes[voteLength++] = (byte) d;
+						votes[voteLength++] = (byte) p;
+						votes[voteLength++] = (byte) random.nextInt(players + 1);
+					}
+				}
+				int winner = random.nextInt(TEAMS.length + 1); // 0 = 승리 팀 없음
+				writer.append(mode, winner == 0 ? null : TEAMS[winner - 1], days, roles, deathDays, votes, voteLength);
+				if (mode == GameMode.SPY && players == 10 && hasGraveRobber) {
+					expected[winner]++;
+				}
+			}
+		}
+
+		GameArchiveQuery.QueryResult result = new GameArchiveQuery(GameMode.SPY, 10, JobType.GRAVEROBBER).run(directory);
+		assertEquals(expected[0], result.getDraws(), "무승부");
+		for (Team team : TEAMS) {
+			assertEquals(expected[team.ordinal() + 1], result.getWins(team), team + " 승리");
+		}
+		assertTrue(result.getGamesSkipped() > 0, "색인으로 건너뛴 게임이 없음");
+		assertEquals(GAMES, result.getGamesScanned() + result.getGamesSkipped());
+	}
+}
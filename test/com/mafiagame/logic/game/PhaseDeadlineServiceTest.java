@@ -0,0 +1,75 @@
+package com.mafiagame.logic.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mafiagame.logic.common.enums.GamePhase;
+import com.mafiagame.logic.timer.TimerWheel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 페이즈 마감 시간 확인
+ * 방 여러 개의 토론 마감 시간을 계층형 타이머 휠 하나에 동시에 올려 두고
+ * 1/3은 전원 준비 완료로, 1/3은 조기 종료로 끝내고 나머지는 마감 시간까지 기다려
+ * 남은 마감 시간이 모두 만료되는지, 마감 시간 전이나 먼저 끝난 방에서 실행된 것이 없는지 확인
+ * (등록/취소 비용은 jmh 모듈의 DeadlineWheelBenchmark에서 잼)
+ */
+class PhaseDeadlineServiceTest {
+
+	private static final int ROOMS = 3_000;
+	private static final int PLAYERS_PER_ROOM = 8;
+	private static final long MIN_MILLIS = 200;
+	private static final long MAX_MILLIS = 1_000;
+
+	@Test
+	void remainingDeadlinesExpireOnTime() throws InterruptedException {
+		List<Player> participants = new ArrayList<>(PLAYERS_PER_ROOM);
+		for (int i = 0; i < PLAYERS_PER_ROOM; i++) {
+			participants.add(new Player("플레이어 " + (i + 1), i + 1, null));
+		}
+
+		try (TimerWheel wheel = new TimerWheel("deadline-test")) {
+			PhaseDeadlineService service = new PhaseDeadlineService(wheel);
+			Random random = new Random(42);
+
+			int expiringCount = ROOMS / 3; // room % 3 == 2
+			AtomicInteger earlyFired = new AtomicInteger(); // 마감 시간 전에 실행되었거나, 먼저 끝났는데 실행된 수
+			CountDownLatch expired = new CountDownLatch(expiringCount);
+			for (int room = 0; room < ROOMS; room++) {
+				long durationMillis = MIN_MILLIS + (long) (random.nextDouble() * (MAX_MILLIS - MIN_MILLIS));
+				boolean expiring = room % 3 == 2;
+				long dueNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(durationMillis);
+				service.setDeadline(GamePhase.DAY_DISCUSSION, durationMillis);
+				service.open(room, GamePhase.DAY_DISCUSSION, participants, () -> {
+					if (!expiring || System.nanoTime() < dueNanos) earlyFired.incrementAndGet();
+					if (expiring) expired.countDown();
+				});
+			}
+
+			for (int room = 0; room < ROOMS; room++) {
+				if (room % 3 == 2) continue;
+				if (room % 3 == 0) {
+					for (int p = 0; p < PLAYERS_PER_ROOM; p++) {
+						service.markReady(room, p); // 전원 준비 완료
+					}
+					assertNull(service.getActive(room), "방 " + room + " 전원 준비 완료로 닫히지 않음");
+				} else {
+					assertTrue(service.finish(room), "방 " + room + " 조기 종료 실패");
+				}
+			}
+			assertEquals(expiringCount, service.activeCount());
+
+			assertTrue(expired.await(MAX_MILLIS + 5_000, TimeUnit.MILLISECONDS), "남은 만료 " + expired.getCount() + "개");
+			assertEquals(0, earlyFired.get(), "잘못된 실행");
+		}
+	}
+}
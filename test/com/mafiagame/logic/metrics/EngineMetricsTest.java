@@ -0,0 +1,107 @@
+package com.mafiagame.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 엔진 계측 기록 확인
+ * 단계 기록과 카운터 증가가 한 스레드에서 할당 없이 모두 집계되는지, 여러 스레드에서 빠짐없이 합산되는지,
+ * JMX로 등록해 속성을 읽을 수 있는지 확인 (호출당 시간은 jmh 모듈의 MetricsBenchmark에서 잼)
+ */
+class EngineMetricsTest {
+
+	private static final com.sun.management.ThreadMXBean THREADS =
+			(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+	private static final EngineTimer[] TIMERS = EngineTimer.values();
+	private static final EngineCounter[] COUNTERS = EngineCounter.values();
+	private static final int ITERATIONS = 200_000;
+	private static final int THREADS_COUNT = 4;
+
+	@Test
+	void singleThreadRecordsWithoutAllocation() {
+		EngineMetrics metrics = new EngineMetrics();
+		recordAll(metrics, 0, ITERATIONS); // 워밍업
+		metrics.reset();
+
+		long threadId = Thread.currentThread().threadId();
+		long bytesBefore = THREADS.getThreadAllocatedBytes(threadId);
+		recordAll(metrics, 0, ITERATIONS);
+		long allocated = THREADS.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+		assertEquals(0, allocated, "할당 바이트");
+		assertEquals(ITERATIONS, recorded(metrics));
+		assertEquals(ITERATIONS, counted(metrics));
+	}
+
+	@Test
+	void concurrentRecordsAreSummed() throws InterruptedException {
+		EngineMetrics metrics = new EngineMetrics();
+		Thread[] threads = new Thread[THREADS_COUNT];
+		for (int t = 0; t < THREADS_COUNT; t++) {
+			int offset = t;
+			threads[t] = new Thread(() -> recordAll(metrics, offset, ITERATIONS));
+			threads[t].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals((long) ITERATIONS * THREADS_COUNT, recorded(metrics));
+		assertEquals((long) ITERATIONS * THREADS_COUNT, counted(metrics));
+	}
+
+	@Test
+	void attributesReadableThroughJmx() throws JMException {
+		EngineMetrics metrics = new EngineMetrics();
+		recordAll(metrics, 0, TIMERS.length);
+		metrics.registerMBean();
+
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName(EngineMetrics.OBJECT_NAME);
+		TabularData counters = (TabularData) server.getAttribute(name, "Counters");
+		TabularData latencies = (TabularData) server.getAttribute(name, "Latencies");
+		CompositeData vote = (CompositeData) latencies.get(new Object[] { EngineTimer.DAY_VOTE_PHASE.name() }).get("value");
+
+		assertEquals(COUNTERS.length, counters.size());
+		assertEquals(TIMERS.length, latencies.size());
+		assertEquals(1L, vote.get("count"));
+		assertTrue(((String) server.invoke(name, "dump", null, null)).contains(EngineTimer.DAY_VOTE_PHASE.name()));
+		server.unregisterMBean(name);
+	}
+
+	/**
+	 * GameManager처럼 앞 기록이 돌려준 끝 시각을 다음 기록의 시작 시각으로 쓰며 단계 기록과 카운터 증가를 번갈아 호출
+	 */
+	private static void recordAll(EngineMetrics metrics, int offset, int iterations) {
+		long now = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			now = metrics.record(TIMERS[(i + offset) % TIMERS.length], now);
+			metrics.increment(COUNTERS[(i + offset) % COUNTERS.length]);
+		}
+	}
+
+	private static long recorded(EngineMetrics metrics) {
+		long recorded = 0;
+		for (EngineTimer timer : TIMERS) {
+			recorded += metrics.getHistogram(timer).getCount();
+		}
+		return recorded;
+	}
+
+	private static long counted(EngineMetrics metrics) {
+		long counted = 0;
+		for (EngineCounter counter : COUNTERS) {
+			counted += metrics.getCount(counter);
+		}
+		return counted;
+	}
+}
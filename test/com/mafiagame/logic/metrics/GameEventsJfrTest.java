@@ -0,0 +1,132 @@
+package com.mafiagame.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * 게임 엔진 JFR 이벤트 확인
+ * 기본 설정 녹화 중에 보낸 단계/밤 결과/투표 집계 이벤트가 파일에 필드와 함께 남는지,
+ * 녹화가 꺼져 있을 때 GameManager처럼 다시 쓰는 이벤트 객체가 할당하지 않는지 확인
+ * (단계 이벤트는 1 ms 이상 걸린 것만 남으므로 한 객체를 다시 써서 2 ms짜리와 0 ms짜리를 차례로 보냄)
+ */
+class GameEventsJfrTest {
+
+	private static final com.sun.management.ThreadMXBean THREADS =
+			(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void recordedEventsKeepFields() throws IOException, InterruptedException {
+		Path file = directory.resolve("mafia-events.jfr");
+		try (Recording recording = new Recording()) {
+			recording.start();
+			PhaseEvent phase = new PhaseEvent();
+			emitPhase(phase, "NIGHT", 2);
+			emitPhase(phase, "DAY_DISCUSSION", 0); // 기준(1 ms) 미만이라 남지 않아야 함 (앞 이벤트의 시간이 남지 않음)
+			NightResolutionEvent night = new NightResolutionEvent();
+			night.begin();
+			night.roomId = 7;
+			night.day = 2;
+			night.actions = 5;
+			night.deaths = 1;
+			night.commit();
+			VoteTallyEvent vote = new VoteTallyEvent();
+			vote.begin();
+			vote.roomId = 7;
+			vote.day = 2;
+			vote.voters = 8;
+			vote.candidates = 3;
+			vote.tie = true;
+			vote.commit();
+			recording.stop();
+			recording.dump(file);
+		}
+
+		Map<String, RecordedEvent> events = new HashMap<>();
+		Map<String, Integer> counts = new HashMap<>();
+		List<RecordedEvent> recorded = RecordingFile.readAllEvents(file);
+		for (RecordedEvent event : recorded) {
+			String name = event.getEventType().getName();
+			if (!name.startsWith("com.mafiagame.")) continue;
+			counts.merge(name, 1, Integer::sum);
+			events.put(name, event);
+		}
+		assertEquals(Map.of("com.mafiagame.Phase", 1, "com.mafiagame.NightResolution", 1, "com.mafiagame.VoteTally", 1), counts);
+		for (RecordedEvent event : events.values()) {
+			assertEquals(7, event.getLong("roomId"));
+			assertEquals(2, event.getInt("day"));
+		}
+		assertEquals("NIGHT", events.get("com.mafiagame.Phase").getString("phase"));
+		RecordedEvent night = events.get("com.mafiagame.NightResolution");
+		assertEquals(5, night.getInt("actions"));
+		assertEquals(1, night.getInt("deaths"));
+		RecordedEvent vote = events.get("com.mafiagame.VoteTally");
+		assertEquals(8, vote.getInt("voters"));
+		assertEquals(3, vote.getInt("candidates"));
+		assertTrue(vote.getBoolean("tie"));
+	}
+
+	@Test
+	void reusedEventDoesNotAllocateWhenDisabled() {
+		VoteTallyEvent event = new VoteTallyEvent();
+		emitDisabled(event, 10_000); // 워밍업
+		long threadId = Thread.currentThread().threadId();
+		long bytesBefore = THREADS.getThreadAllocatedBytes(threadId);
+		boolean committed = emitDisabled(event, 100_000);
+		long allocated = THREADS.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+		assertFalse(committed, "녹화가 꺼져 있는데 기록됨");
+		assertEquals(0, allocated, "할당 바이트");
+	}
+
+	/**
+	 * GameManager.runNextPhase()와 같은 순서로 다시 쓰는 단계 이벤트 객체로 이벤트 하나를 보냄
+	 */
+	private static void emitPhase(PhaseEvent event, String phase, long sleepMillis) throws InterruptedException {
+		event.begin();
+		if (sleepMillis > 0) Thread.sleep(sleepMillis);
+		event.end();
+		if (event.shouldCommit()) {
+			event.roomId = 7;
+			event.phase = phase;
+			event.day = 2;
+			event.commit();
+		}
+	}
+
+	/**
+	 * 녹화가 꺼진 상태에서 GameManager와 같은 순서로 이벤트 객체 하나를 iterations번 다시 씀
+	 *
+	 * @return 한 번이라도 기록되었는지 여부
+	 */
+	private static boolean emitDisabled(VoteTallyEvent event, int iterations) {
+		boolean committed = false;
+		for (int i = 0; i < iterations; i++) {
+			event.begin();
+			event.end();
+			if (event.shouldCommit()) {
+				event.voters = i;
+				event.commit();
+				committed = true;
+			}
+		}
+		return committed;
+	}
+}
@@ -0,0 +1,50 @@
+package com.mafiagame.logic.replay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mafiagame.logic.common.enums.GameMode;
+import com.mafiagame.logic.game.GameManager;
+import com.mafiagame.logic.io.NoOpPlayerIO;
+
+import java.util.Random;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * 게임 기록/재현 확인
+ * 헤드리스 게임을 기록한 뒤 모든 재현이 원본과 같은 승리 팀, 일차, 결정 수로 끝나는지 확인
+ * (해석/재현 속도는 jmh 모듈의 ReplayBenchmark에서 잼)
+ */
+class GameReplayerTest {
+
+	private static final int GAMES = 500;
+	private static final int MAX_DAYS = 30;
+
+	@ParameterizedTest
+	@CsvSource({ "CLASSIC, 4", "CLASSIC, 8", "CLASSIC, 12", "SPY, 9", "SPY, 12" })
+	void replayMatchesRecordedGame(GameMode mode, int playerCount) {
+		Random seeds = new Random(42);
+		for (int i = 0; i < GAMES; i++) {
+			GameManager gameManager = new GameManager(NoOpPlayerIO.INSTANCE, true, seeds.nextLong());
+			GameRecorder recorder = new GameRecorder();
+			gameManager.setRecordListener(recorder);
+			gameManager.setupGame(playerCount, mode);
+			gameManager.playHeadless(MAX_DAYS);
+			byte[] log = recorder.toByteArray();
+
+			int decisions = 0;
+			GameLogReader reader = new GameLogReader(log);
+			while (reader.nextDecision()) {
+				decisions++;
+			}
+			GameReplayer.ReplayResult result = GameReplayer.replay(log);
+			String game = "게임 " + i;
+			assertTrue(result.isIdentical(), game);
+			assertEquals(gameManager.getWinningTeam(), result.getWinningTeam(), game + " 승리 팀");
+			assertEquals(gameManager.getDayCount(), result.getDayCount(), game + " 일차");
+			assertEquals(decisions, result.getDecisionCount(), game + " 결정 수");
+		}
+	}
+}
@@ -0,0 +1,180 @@
+package com.mafiagame.logic.solver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.mafiagame.logic.common.enums.DecisionType;
+import com.mafiagame.logic.common.enums.GameMode;
+import com.mafiagame.logic.common.enums.GamePhase;
+import com.mafiagame.logic.common.enums.JobType;
+import com.mafiagame.logic.common.enums.Team;
+import com.mafiagame.logic.game.GameManager;
+import com.mafiagame.logic.game.GameSnapshot;
+import com.mafiagame.logic.game.PackedGameState;
+import com.mafiagame.logic.game.Player;
+import com.mafiagame.logic.job.JobDefinition;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 정확 승률 계산기(GameTreeSolver)의 밤 규칙 모델과 GameManager의 밤 결과 처리 대조
+ *
+ * 클래식 모드 4~6명 위치(직업 구성, 생존자, 군인/정치인 능력 사용 여부, 일차)와 밤 대상(공격, 살육, 치료, 협박)을 무작위로 뽑아,
+ * 그 위치를 복원한 GameManager에서 결정자(DecisionMaker)가 같은 대상을 고르게 하여 밤 능력 사용 페이즈를 한 번 진행하고,
+ * 결과 상태를 계산기의 판정(GameTreeSolver.nightOutcome)과 비교.
+ * 직업의 밤 능력이 대상을 고르지 않거나 후보가 계산기의 가정과 다르면 불일치로 보고됨
+ */
+class GameTreeSolverCrossCheckTest {
+
+	private static final int POSITIONS = 2_000;
+	private static final int MAX_REPORTED = 10; // 실패 메시지에 자세히 넣을 불일치 수
+	private static final int WAREWOLF_FIRST_MASSACRE_DAY = 2; // GameTreeSolver와 같은 가정
+
+	@Test
+	void nightOutcomeMatchesGameManager() {
+		Random random = new Random(42);
+		int mismatched = 0;
+		int notOffered = 0; // 계산기가 고른 대상이 직업 구현의 후보에 없었던 위치 수
+		StringBuilder report = new StringBuilder();
+		for (int p = 0; p < POSITIONS; p++) {
+			int playerCount = GameTreeSolver.MIN_PLAYERS + random.nextInt(GameTreeSolver.MAX_PLAYERS - GameTreeSolver.MIN_PLAYERS + 1);
+			PackedGameState night = samplePosition(playerCount, random);
+			int[] targets = sampleTargets(night, random); // 공격, 살육, 치료, 협박
+
+			GameManager game = restore(night, random.nextLong());
+			boolean[] offered = { true };
+			game.setDecisionMaker((type, chooser, candidates, gm) -> chooseTarget(type, chooser, candidates, gm, targets, offered));
+			game.runNextPhase();
+
+			long expected = GameTreeSolver.nightOutcome(night, targets[0], targets[1], targets[2], targets[3]);
+			long actual = GameTreeSolver.voteState(PackedGameState.capture(game));
+			if (!offered[0]) notOffered++;
+			if (expected != actual) {
+				if (mismatched < MAX_REPORTED) {
+					report.append(String.format("%n%s, 대상(공격 %d, 살육 %d, 치료 %d, 협박 %d)%n  계산기     %s%n  GameManager %s",
+							night, targets[0], targets[1], targets[2], targets[3],
+							GameTreeSolver.describe(expected), GameTreeSolver.describe(actual)));
+				}
+				mismatched++;
+			}
+		}
+		assertEquals(0, mismatched, "불일치 (대상이 후보에 없음 " + notOffered + "개)" + report);
+	}
+
+	/**
+	 * GameTreeSolver.solve()와 같은 방식으로 직업 구성을 뽑고 생존자, 능력 사용 여부, 일차를 무작위로 정한 밤 상태
+	 * 마피아는 항상 살아 있고 마피아 팀이 아닌 생존자가 둘 이상 (밤 결과가 있는 진행 중 위치)
+	 */
+	private static PackedGameState samplePosition(int playerCount, Random random) {
+		List<JobType> roles = new ArrayList<>();
+		roles.add(JobType.POLICE);
+		roles.add(JobType.DOCTOR);
+		roles.add(JobType.MAFIA);
+		if (playerCount == 6) roles.add(random.nextBoolean() ? JobType.INFORMANT : JobType.WAREWOLF);
+		List<JobType> specials = new ArrayList<>(List.of(GameManager.getSpecialCitizenJobTypes()));
+		Collections.shuffle(specials, random);
+		roles.addAll(specials.subList(0, playerCount - roles.size()));
+		Collections.shuffle(roles, random);
+
+		PackedGameState state = new PackedGameState(playerCount, GameMode.CLASSIC);
+		int day = 1 + random.nextInt(3);
+		state.setDayCount(day);
+		state.setPhase(day == 1 ? GamePhase.NIGHT_JOB_CONFIRM_ABILITY : GamePhase.NIGHT_ABILITY_USE);
+		int citizensAlive = 0;
+		for (int i = 0; i < playerCount; i++) {
+			JobType jobType = roles.get(i);
+			Team team = JobDefinition.of(jobType).getTeam();
+			boolean alive = day == 1 || jobType == JobType.MAFIA || random.nextInt(4) != 0;
+			state.setJobType(i, jobType);
+			state.setTeam(i, team);
+			state.setAlive(i, alive);
+			state.setCanVoteToday(i, true);
+			state.setAbilityUsed(i, day > 1 && (jobType == JobType.SOLDIER || jobType == JobType.POLITICIAN) && random.nextBoolean());
+			state.setVoteTarget(i, -1);
+			if (alive && team != Team.MAFIA) citizensAlive++;
+		}
+		if (citizensAlive < 2) { // 사망 처리한 시민을 모두 되살림
+			for (int i = 0; i < playerCount; i++) {
+				state.setAlive(i, true);
+			}
+		}
+		return state;
+	}
+
+	/**
+	 * 계산기가 두는 후보 범위 안에서 밤 대상을 뽑음 (능력을 쓸 수 없으면 -1)
+	 * 공격, 살육은 마피아 팀이 아닌 생존자, 치료, 협박은 모든 생존자가 대상
+	 */
+	private static int[] sampleTargets(PackedGameState night, Random random) {
+		List<Integer> living = new ArrayList<>();
+		List<Integer> attackable = new ArrayList<>();
+		boolean mafia = false, warewolf = false, doctor = false, gangster = false;
+		for (int i = 0; i < night.getPlayerCount(); i++) {
+			if (!night.isAlive(i)) continue;
+			living.add(i);
+			if (night.getTeam(i) != Team.MAFIA) attackable.add(i);
+			JobType jobType = night.getJobType(i);
+			mafia |= jobType == JobType.MAFIA;
+			warewolf |= jobType == JobType.WAREWOLF && night.getDayCount() >= WAREWOLF_FIRST_MASSACRE_DAY;
+			doctor |= jobType == JobType.DOCTOR;
+			gangster |= jobType == JobType.GANGSTER;
+		}
+		return new int[] {
+				mafia ? pick(attackable, random) : -1,
+				warewolf ? pick(attackable, random) : -1,
+				doctor ? pick(living, random) : -1,
+				gangster ? pick(living, random) : -1,
+		};
+	}
+
+	private static int pick(List<Integer> candidates, Random random) {
+		return candidates.get(random.nextInt(candidates.size()));
+	}
+
+	/**
+	 * 밤 상태를 복원한 헤드리스 GameManager (같은 인원으로 설정한 게임의 스냅숏에 상태만 바꿔 넣음)
+	 */
+	private static GameManager restore(PackedGameState night, long seed) {
+		GameManager base = new GameManager(true, new Random(seed));
+		base.setupGame(night.getPlayerCount(), GameMode.CLASSIC);
+		GameSnapshot snapshot = base.snapshot().withState(night);
+		return GameManager.fromSnapshot(snapshot, seed);
+	}
+
+	/**
+	 * 공격, 살육, 치료, 협박 능력은 뽑아 둔 대상을, 그 외 선택은 첫 후보를 고르는 결정자
+	 * 대상이 후보에 없으면 offered[0]을 false로 하고 첫 후보를 고름
+	 */
+	private static Player chooseTarget(DecisionType type, Player chooser, List<Player> candidates, GameManager gameManager,
+			int[] targets, boolean[] offered) {
+		int target = -1;
+		if (type == DecisionType.NIGHT_TARGET) {
+			switch (chooser.getJob().getJobType()) {
+			case MAFIA:
+				target = targets[0];
+				break;
+			case WAREWOLF:
+				target = targets[1];
+				break;
+			case DOCTOR:
+				target = targets[2];
+				break;
+			case GANGSTER:
+				target = targets[3];
+				break;
+			default:
+				break;
+			}
+		}
+		if (target >= 0) {
+			Player player = gameManager.getPlayerByNumber(target + 1);
+			if (candidates.contains(player)) return player;
+			offered[0] = false;
+		}
+		return candidates.get(0);
+	}
+}
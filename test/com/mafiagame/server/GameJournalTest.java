@@ -0,0 +1,74 @@
+package com.mafiagame.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.mafiagame.logic.common.enums.DecisionType;
+import com.mafiagame.logic.common.enums.GameMode;
+import com.mafiagame.logic.common.enums.GamePhase;
+import com.mafiagame.logic.game.Player;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * 게임 저널 복구 확인
+ * 방 여러 개의 시작/결정/페이즈 전환을 작은 세그먼트에 섞어서 기록하고, 절반의 방만 종료한 채 저널을 닫았다가 다시 열어
+ * 끝나지 않은 방과 결정 수, 시드, 일차가 그대로 복구되는지 확인 (세그먼트 넘김과 끝난 세그먼트 삭제가 함께 일어남)
+ */
+class GameJournalTest {
+
+	private static final int ROOMS = 2_000;
+	private static final int PHASES_PER_ROOM = 12;
+	private static final int PLAYERS_PER_ROOM = 8;
+	private static final int SEGMENT_BYTES = 256 * 1024; // 세그먼트 넘김과 삭제가 일어나도록 작게
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void recoversUnfinishedRooms() throws IOException {
+		Player[] players = new Player[PLAYERS_PER_ROOM];
+		for (int i = 0; i < PLAYERS_PER_ROOM; i++) {
+			players[i] = new Player("플레이어 " + (i + 1), i + 1, null);
+		}
+		int decisionsPerPhase = PLAYERS_PER_ROOM / 2;
+
+		try (GameJournal journal = GameJournal.open(directory, SEGMENT_BYTES, GameJournal.DEFAULT_SYNC_INTERVAL_MILLIS)) {
+			RoomJournal[] rooms = new RoomJournal[ROOMS];
+			for (int room = 0; room < ROOMS; room++) {
+				rooms[room] = journal.forRoom(room + 1);
+				rooms[room].onGameSetup(room * 31L, GameMode.SPY, PLAYERS_PER_ROOM);
+			}
+			// 방들의 페이즈가 섞여서 기록되도록 페이즈 단위로 돌아가며 기록
+			for (int phase = 0; phase < PHASES_PER_ROOM; phase++) {
+				boolean vote = phase % 2 == 1;
+				for (int room = 0; room < ROOMS; room++) {
+					for (int d = 0; d < decisionsPerPhase; d++) {
+						Player target = (room + d) % 7 == 0 ? null : players[(room + phase + d) % PLAYERS_PER_ROOM]; // 가끔 기권
+						rooms[room].onDecision(vote ? DecisionType.VOTE : DecisionType.NIGHT_TARGET, players[d], target);
+					}
+					rooms[room].onPhaseTransition(vote ? GamePhase.NIGHT_JOB_CONFIRM_ABILITY : GamePhase.DAY_DISCUSSION, phase / 2 + 1);
+				}
+			}
+			for (int room = 0; room < ROOMS; room += 2) {
+				rooms[room].onGameOver(null, null); // 짝수 번째 방만 종료
+			}
+		}
+
+		try (GameJournal journal = GameJournal.open(directory, SEGMENT_BYTES, GameJournal.DEFAULT_SYNC_INTERVAL_MILLIS)) {
+			List<RecoveredGame> games = journal.getRecoveredGames();
+			assertEquals(ROOMS / 2, games.size(), "끝나지 않은 방 수");
+			for (RecoveredGame game : games) {
+				String room = "방 " + game.getRoomId();
+				assertEquals(0, game.getRoomId() % 2, room);
+				assertEquals(PHASES_PER_ROOM * decisionsPerPhase, game.getDecisionCount(), room + " 결정 수");
+				assertEquals((game.getRoomId() - 1) * 31L, game.getSeed(), room + " 시드");
+				assertEquals((PHASES_PER_ROOM - 1) / 2 + 1, game.getDayCount(), room + " 일차");
+			}
+		}
+	}
+}
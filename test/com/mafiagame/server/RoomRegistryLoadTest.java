@@ -0,0 +1,58 @@
+package com.mafiagame.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mafiagame.logic.common.enums.GameMode;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 방 부하 테스트
+ * 입력을 기다리는 방을 많이 만들어 한 JVM에서 모두 입력 대기 상태로 유지되는지, 방 하나당 힙 사용량이 허용 범위 안인지 확인
+ */
+class RoomRegistryLoadTest {
+
+	private static final int ROOMS = 1_000;
+	private static final int PLAYERS = 8;
+	private static final long MAX_BYTES_PER_ROOM = 64 * 1024;
+
+	@Test
+	void waitingRoomsFitInHeap() throws InterruptedException {
+		MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+		RoomRegistry registry = new RoomRegistry();
+
+		long heapBefore = usedHeapAfterGc(memory);
+		for (int i = 0; i < ROOMS; i++) {
+			registry.createRoom(GameMode.CLASSIC, PLAYERS);
+		}
+
+		// 모든 방이 첫 입력 대기 상태가 될 때까지 대기
+		int waiting = 0;
+		for (int attempt = 0; attempt < 600 && waiting < ROOMS; attempt++) {
+			Thread.sleep(100);
+			waiting = 0;
+			for (GameRoom room : registry.getRooms()) {
+				if (room.isWaitingForInput()) waiting++;
+			}
+		}
+		long bytesPerRoom = (usedHeapAfterGc(memory) - heapBefore) / ROOMS;
+		boolean allClosed = registry.closeAll(5_000);
+
+		assertEquals(ROOMS, waiting, "입력 대기 방 수");
+		assertTrue(bytesPerRoom <= MAX_BYTES_PER_ROOM, "방당 힙 " + bytesPerRoom + " 바이트");
+		assertTrue(allClosed, "방 닫기 시간 초과");
+		assertEquals(0, registry.getRoomCount());
+	}
+
+	private static long usedHeapAfterGc(MemoryMXBean memory) throws InterruptedException {
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+			Thread.sleep(50);
+		}
+		return memory.getHeapMemoryUsage().getUsed();
+	}
+}
@@ -0,0 +1,132 @@
+package com.mafiagame.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mafiagame.logic.common.enums.DecisionType;
+import com.mafiagame.logic.common.enums.GameMode;
+import com.mafiagame.logic.common.enums.GamePhase;
+import com.mafiagame.logic.game.GameManager;
+import com.mafiagame.logic.game.PackedGameState;
+import com.mafiagame.logic.game.PhaseDeadlineService;
+import com.mafiagame.logic.game.Player;
+import com.mafiagame.logic.io.NoOpPlayerIO;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * 투표 마감 시간 경과가 섞인 게임의 저널 복구 왕복 확인
+ *
+ * 투표 마감 시간을 짧게 두고 투표마다 시간이 걸리는 결정자로 방 여러 개를 진행하여, 투표 차례 사이에 마감 시간이 지나
+ * 남은 사람이 기권하는 낮을 만듦. LAST_DAY 일차의 추방 페이즈 직전에서 저널을 닫고 다시 열어 RecoveredGame.rebuild()로
+ * 다시 진행한 상태가 원래 게임의 상태(투표 기록 포함), 플레이어 이름과 같은지 확인
+ * (짝수 번호 플레이어는 기본 이름이 아닌 이름으로, 2번은 저널의 이름 길이 제한을 넘는 이름으로 설정)
+ */
+class VoteDeadlineRecoveryTest {
+
+	private static final int ROOMS = 20;
+	private static final int PLAYERS = 8;
+	private static final long VOTE_MILLIS = 40;
+	private static final long CHOICE_MILLIS = 12;
+	private static final String LONG_NAME_PREFIX = "x".repeat(60); // 60바이트 + 3바이트 글자 = 62바이트 제한에서 한 바이트 넘침
+	private static final int LAST_DAY = 3; // 이 일차의 추방 페이즈 직전까지 진행 (그 전에 끝나면 복구 대상이 아님)
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void rebuildMatchesGamesWithClosedVotes() throws IOException {
+		PhaseDeadlineService deadlines = new PhaseDeadlineService();
+		deadlines.setDeadline(GamePhase.DAY_VOTE, VOTE_MILLIS);
+
+		Map<Long, PackedGameState> expected = new HashMap<>(); // 끝나지 않은 방 -> 저널을 닫을 때의 상태
+		Map<Long, List<String>> expectedNames = new HashMap<>(); // 끝나지 않은 방 -> 저널에 남는 이름 (긴 이름은 잘린 뒤)
+		int closedVotes = 0; // 마감 시간 경과로 일부만 투표한 낮 수
+		try (GameJournal journal = GameJournal.open(directory)) {
+			for (int room = 1; room <= ROOMS; room++) {
+				GameManager game = new GameManager(NoOpPlayerIO.INSTANCE, true, room * 7919L);
+				game.setPhaseDeadlines(deadlines, room);
+				game.setRecordListener(journal.forRoom(room));
+				int[] votes = new int[1];
+				Random random = new Random(room);
+				game.setDecisionMaker((type, chooser, candidates, gm) -> {
+					if (type == DecisionType.VOTE) {
+						votes[0]++;
+						sleep(CHOICE_MILLIS); // 기권(null)은 돌려주지 않으므로 마감 시간은 투표 차례 사이에서만 확인됨
+					}
+					return candidates.get(random.nextInt(candidates.size()));
+				});
+				List<String> names = playerNames(room);
+				game.setupGame(names, GameMode.CLASSIC);
+				game.beginGame();
+				boolean running = true;
+				while (running && !(game.getCurrentPhase() == GamePhase.DAY_EXECUTION && game.getDayCount() >= LAST_DAY)) {
+					boolean voting = game.getCurrentPhase() == GamePhase.DAY_VOTE;
+					int voters = voting ? countVoters(game) : 0;
+					votes[0] = 0;
+					running = game.runNextPhase();
+					if (voting && votes[0] < voters) closedVotes++;
+				}
+				if (running) {
+					expected.put((long) room, PackedGameState.capture(game)); // 종료 기록 없이 닫아 복구 대상으로 남김
+					List<String> journaled = new ArrayList<>(names);
+					journaled.set(1, LONG_NAME_PREFIX); // 접두어 뒤의 3바이트 글자는 길이 제한에 걸려 통째로 잘림
+					expectedNames.put((long) room, journaled);
+				}
+			}
+		}
+		assertTrue(closedVotes > 0, "마감 시간으로 끊긴 투표가 없음");
+		assertFalse(expected.isEmpty(), "끝나지 않은 방이 없음");
+
+		try (GameJournal journal = GameJournal.open(directory)) {
+			List<RecoveredGame> games = journal.getRecoveredGames();
+			assertEquals(expected.size(), games.size(), "복구된 방 수");
+			for (RecoveredGame game : games) {
+				PackedGameState rebuilt = game.rebuild(null).getState();
+				assertEquals(expectedNames.get(game.getRoomId()), game.getPlayerNames(), "방 " + game.getRoomId() + " 이름");
+				assertEquals(expected.get(game.getRoomId()), rebuilt, "방 " + game.getRoomId() + " 상태");
+			}
+		}
+	}
+
+	/**
+	 * 4번부터 짝수 번호는 "방N-번호" 이름, 2번은 저널의 이름 길이 제한(62바이트)을 넘는 이름, 나머지는 기본 이름
+	 */
+	private static List<String> playerNames(int room) {
+		List<String> names = new ArrayList<>(GameManager.defaultPlayerNames(PLAYERS));
+		for (int number = 4; number <= PLAYERS; number += 2) {
+			names.set(number - 1, "방" + room + "-" + number + "번");
+		}
+		names.set(1, LONG_NAME_PREFIX + "한");
+		return names;
+	}
+
+	/**
+	 * 오늘 투표할 수 있는 생존자 수
+	 */
+	private static int countVoters(GameManager game) {
+		int count = 0;
+		for (Player player : game.getLivingPlayers()) {
+			if (player.canVoteToday()) count++;
+		}
+		return count;
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}